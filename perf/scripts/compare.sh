@@ -16,9 +16,21 @@ API_DELTA_CSV="${BASE_DIR}/comparison-api-delta.csv"
 RUNTIME_DELTA_CSV="${BASE_DIR}/comparison-runtime-delta.csv"
 BEFORE_METRICS_TSV="${BASE_DIR}/before/runtime-metrics-summary.tsv"
 AFTER_METRICS_TSV="${BASE_DIR}/after/runtime-metrics-summary.tsv"
+BEFORE_JMH_JSON="${BASE_DIR}/before/jmh-result.json"
+AFTER_JMH_JSON="${BASE_DIR}/after/jmh-result.json"
+JMH_DELTA_CSV="${BASE_DIR}/comparison-jmh-delta.csv"
 
-if [[ ! -f "${BEFORE_JTL}" || ! -f "${AFTER_JTL}" ]]; then
-  echo "before/after JTL not found under ${BASE_DIR}"
+HAS_JTL=false
+HAS_JMH=false
+if [[ -f "${BEFORE_JTL}" && -f "${AFTER_JTL}" ]]; then
+  HAS_JTL=true
+fi
+if [[ -f "${BEFORE_JMH_JSON}" && -f "${AFTER_JMH_JSON}" ]]; then
+  HAS_JMH=true
+fi
+
+if [[ "${HAS_JTL}" != "true" && "${HAS_JMH}" != "true" ]]; then
+  echo "before/after JTL or JMH result not found under ${BASE_DIR}"
   exit 1
 fi
 
@@ -79,6 +91,46 @@ summarize_jtl() {
   ' "${jtl_file}" | sort -k1,1
 }
 
+# JMH JSON 결과에서 벤치마크(파라미터 포함)별 primaryMetric 점수를 추출한다.
+summarize_jmh() {
+  local json_file="$1"
+  awk '
+    function flush() {
+      if (name != "" && score != "") {
+        printf "%s%s\t%s\t%s\t%s\n", name, (params == "" ? "" : "[" params "]"), score, scoreError, unit
+      }
+      name = ""; params = ""; score = ""; scoreError = ""; unit = ""
+      inParams = 0; inPrimary = 0; inSecondary = 0
+    }
+    function value(line) {
+      sub(/^[^:]*:[ \t]*/, "", line)
+      sub(/,[ \t]*$/, "", line)
+      gsub(/"/, "", line)
+      return line
+    }
+    /"benchmark"[ \t]*:/ { flush(); name = value($0); sub(/^com\.aivle\.project\./, "", name); next }
+    /"params"[ \t]*:/ { inParams = 1; next }
+    inParams && /}/ { inParams = 0; next }
+    inParams {
+      key = $0
+      sub(/^[ \t]*"/, "", key)
+      sub(/".*$/, "", key)
+      params = params (params == "" ? "" : ",") key "=" value($0)
+      next
+    }
+    /"primaryMetric"[ \t]*:/ { inPrimary = 1; next }
+    /"secondaryMetrics"[ \t]*:/ { inPrimary = 0; inSecondary = 1; next }
+    inPrimary && !inSecondary && /"score"[ \t]*:/ && score == "" { score = value($0); next }
+    inPrimary && !inSecondary && /"scoreError"[ \t]*:/ && scoreError == "" { scoreError = value($0); next }
+    inPrimary && !inSecondary && /"scoreUnit"[ \t]*:/ && unit == "" { unit = value($0); next }
+    END { flush() }
+  ' "${json_file}" | sort -k1,1
+}
+
+BEFORE_SUMMARY=""
+AFTER_SUMMARY=""
+API_DIFF=""
+if [[ "${HAS_JTL}" == "true" ]]; then
 BEFORE_SUMMARY="$(summarize_jtl "${BEFORE_JTL}")"
 AFTER_SUMMARY="$(summarize_jtl "${AFTER_JTL}")"
 API_DIFF="$(
@@ -120,6 +172,29 @@ API_DIFF="$(
     }
   ' <(printf '%s\n' "${BEFORE_SUMMARY}") <(printf '%s\n' "${AFTER_SUMMARY}") | sort -k1,1
 )"
+fi
+
+JMH_DIFF=""
+if [[ "${HAS_JMH}" == "true" ]]; then
+  # 점수 단위가 시간(ns/op 등)이면 낮을수록 좋고, 처리량(ops/s 등)이면 높을수록 좋다.
+  JMH_DIFF="$(
+    awk -F'\t' '
+      NR==FNR { bScore[$1]=$2; bError[$1]=$3; next }
+      {
+        name=$1
+        aScore=$2
+        aError=$3
+        unit=$4
+        bs=(name in bScore) ? bScore[name] : "NaN"
+        be=(name in bError) ? bError[name] : "NaN"
+        delta="NaN"
+        if (bs != "NaN" && bs != 0) delta=((aScore - bs) / bs) * 100.0
+        printf "%s\t%s\t%s\t%s\t%s\t%s\t", name, unit, bs, be, aScore, aError
+        if (delta == "NaN") printf "NaN\n"; else printf "%.2f\n", delta
+      }
+    ' <(summarize_jmh "${BEFORE_JMH_JSON}") <(summarize_jmh "${AFTER_JMH_JSON}") | sort -k1,1
+  )"
+fi
 
 METRICS_DIFF=""
 if [[ -f "${BEFORE_METRICS_TSV}" && -f "${AFTER_METRICS_TSV}" ]]; then
@@ -163,6 +238,7 @@ fi
   echo
   echo "- run_id: ${RUN_ID}"
   echo "- generated_at: $(date '+%Y-%m-%d %H:%M:%S')"
+  if [[ "${HAS_JTL}" == "true" ]]; then
   echo
   echo "## Before"
   echo
@@ -204,8 +280,22 @@ fi
     printf "| %s | %s | %s | %s | %s | %s | %s | %s | %s | %s | %s | %s | %s |\n" \
       "$label" "$bAvg" "$aAvg" "$dAvg" "$bP95" "$aP95" "$dP95" "$bError" "$aError" "$dErr" "$bTps" "$aTps" "$dTps"
   done <<< "${API_DIFF}"
+  fi
+
+  if [[ -n "${JMH_DIFF}" ]]; then
+    echo
+    echo "## JMH Micro-benchmark (Before vs After)"
+    echo
+    echo "| benchmark | unit | before_score | before_error | after_score | after_error | delta(%) |"
+    echo "|---|---|---:|---:|---:|---:|---:|"
+    while IFS=$'\t' read -r name unit bScore bError aScore aError delta; do
+      [[ -z "${name:-}" ]] && continue
+      printf "| %s | %s | %s | %s | %s | %s | %s |\n" "$name" "$unit" "$bScore" "$bError" "$aScore" "$aError" "$delta"
+    done <<< "${JMH_DIFF}"
+  fi
 } > "${SUMMARY_MD}"
 
+if [[ "${HAS_JTL}" == "true" ]]; then
 {
   echo "label,before_samples,after_samples,before_error_pct,after_error_pct,before_avg_ms,after_avg_ms,before_p95_ms,after_p95_ms,delta_avg_pct,delta_p95_pct,delta_error_point,delta_tps_pct,before_tps,after_tps"
   while IFS=$'\t' read -r label bSamples aSamples bError aError bAvg aAvg bP95 aP95 dAvg dP95 dErr dTps bTps aTps; do
@@ -222,7 +312,23 @@ fi
     printf "%s,%s,%s,%s,%s,%s,%s\n" "$metric" "$bAvg" "$aAvg" "$bMax" "$aMax" "$dAvg" "$dMax"
   done <<< "${METRICS_DIFF}"
 } > "${RUNTIME_DELTA_CSV}"
+fi
+
+if [[ "${HAS_JMH}" == "true" ]]; then
+{
+  echo "benchmark,unit,before_score,before_error,after_score,after_error,delta_pct"
+  while IFS=$'\t' read -r name unit bScore bError aScore aError delta; do
+    [[ -z "${name:-}" ]] && continue
+    printf "\"%s\",%s,%s,%s,%s,%s,%s\n" "$name" "$unit" "$bScore" "$bError" "$aScore" "$aError" "$delta"
+  done <<< "${JMH_DIFF}"
+} > "${JMH_DELTA_CSV}"
+fi
 
 echo "comparison summary generated: ${SUMMARY_MD}"
-echo "api delta csv generated: ${API_DELTA_CSV}"
-echo "runtime delta csv generated: ${RUNTIME_DELTA_CSV}"
+if [[ "${HAS_JTL}" == "true" ]]; then
+  echo "api delta csv generated: ${API_DELTA_CSV}"
+  echo "runtime delta csv generated: ${RUNTIME_DELTA_CSV}"
+fi
+if [[ "${HAS_JMH}" == "true" ]]; then
+  echo "jmh delta csv generated: ${JMH_DELTA_CSV}"
+fi
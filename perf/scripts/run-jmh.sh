@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+if [[ $# -lt 1 ]]; then
+  echo "Usage: $0 <before|after> [run_id] [includes]"
+  exit 1
+fi
+
+MODE="$1"
+RUN_ID="${2:-$(date +%Y%m%d-%H%M%S)}"
+INCLUDES="${3:-${JMH_INCLUDES:-}}"
+
+if [[ "$MODE" != "before" && "$MODE" != "after" ]]; then
+  echo "MODE must be before or after"
+  exit 1
+fi
+
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/../.." && pwd)"
+RESULT_DIR="${ROOT_DIR}/perf/results/${RUN_ID}/${MODE}"
+mkdir -p "${RESULT_DIR}"
+RESULT_JSON="${RESULT_DIR}/jmh-result.json"
+
+GRADLE_ARGS=(jmh --no-daemon "-PjmhResultsFile=${RESULT_JSON}")
+if [[ -n "${INCLUDES}" ]]; then
+  GRADLE_ARGS+=("-PjmhIncludes=${INCLUDES}")
+fi
+
+pushd "${ROOT_DIR}" >/dev/null
+echo "[${MODE}] running JMH benchmarks (includes=${INCLUDES:-all})..."
+./gradlew "${GRADLE_ARGS[@]}" | tee "${RESULT_DIR}/jmh.log"
+popd >/dev/null
+
+echo "jmh result generated: ${RESULT_JSON}"
@@ -0,0 +1,111 @@
+package com.aivle.project.auth.service;
+
+import static org.mockito.Mockito.mock;
+
+import com.aivle.project.auth.repository.RefreshTokenRepository;
+import com.aivle.project.auth.token.JwtTokenService;
+import com.aivle.project.common.security.TokenHashProperties;
+import com.aivle.project.common.security.TokenHashService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Refresh Token 전체 폐기 벤치마크.
+ *
+ * <p>컨테이너 Redis 에 기기 수만큼 세션을 채운 뒤, 스크립트 한 번으로 지우는 방식과 키마다 명령을 보내는 이전 방식을 비교한다.
+ * 왕복 지연이 대부분이므로 로컬 Docker 기준 전/후 비교에만 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenRevokeAllBenchmark {
+
+	private static final Long USER_ID = 42L;
+	private static final String SESSION_KEY = "sessions:" + USER_ID;
+
+	@Param({"10", "200"})
+	private int sessionCount;
+
+	private GenericContainer<?> redis;
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RefreshTokenService refreshTokenService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		redis = new GenericContainer<>(DockerImageName.parse("redis:7.0")).withExposedPorts(6379);
+		redis.start();
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379))
+		);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+
+		TokenHashProperties properties = new TokenHashProperties();
+		properties.setPepperBase64("dGVzdC1wZXBwZXI=");
+		refreshTokenService = new RefreshTokenService(
+			redisTemplate,
+			new ObjectMapper(),
+			mock(RefreshTokenRepository.class),
+			mock(JwtTokenService.class),
+			new TokenHashService(properties)
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		connectionFactory.destroy();
+		redis.stop();
+	}
+
+	/**
+	 * 폐기할 세션을 매 호출 전에 다시 채운다. 채우는 시간은 측정에 포함되지 않는다.
+	 */
+	@Setup(Level.Invocation)
+	public void seedSessions() {
+		Map<String, String> tokens = new HashMap<>();
+		String[] members = new String[sessionCount];
+		for (int i = 0; i < sessionCount; i++) {
+			members[i] = "rt-" + i;
+			tokens.put("refresh:" + members[i], "{}");
+		}
+		redisTemplate.opsForValue().multiSet(tokens);
+		redisTemplate.opsForSet().add(SESSION_KEY, members);
+	}
+
+	@Benchmark
+	public void revokeAllWithScript() {
+		refreshTokenService.revokeAllByUserId(USER_ID);
+	}
+
+	/**
+	 * 비교 기준: 세션 목록을 읽고 키마다 삭제 명령을 보낸다.
+	 */
+	@Benchmark
+	public void revokeAllPerKey() {
+		Set<String> members = redisTemplate.opsForSet().members(SESSION_KEY);
+		for (String member : members) {
+			redisTemplate.delete("refresh:" + member);
+		}
+		redisTemplate.delete(SESSION_KEY);
+	}
+}
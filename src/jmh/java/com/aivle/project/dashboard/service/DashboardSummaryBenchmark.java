@@ -0,0 +1,162 @@
+package com.aivle.project.dashboard.service;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
+import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
+import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
+import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository.CompanyRiskHistoryProjection;
+import com.aivle.project.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.industry.entity.IndustryEntity;
+import com.aivle.project.quarter.entity.QuartersEntity;
+import com.aivle.project.quarter.support.QuarterCalculator;
+import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.report.service.LatestActualQuarterCache;
+import com.aivle.project.watchlist.entity.CompanyWatchlistEntity;
+import com.aivle.project.watchlist.repository.CompanyWatchlistRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 대시보드 요약 KPI 조립 벤치마크.
+ *
+ * <p>저장소는 미리 만든 엔티티 목록을 돌려주는 스텁으로 대체해 KPI/분포/추세/체류 기간 계산 비용만 측정한다.
+ * 스텁 호출 비용이 함께 잡히므로 절대값보다 전/후 비교에 사용한다. {@code historyQuarters} 를 늘리면
+ * 리스크 체류 기간 계산이 읽는 이력 행 수(관심 기업 수 x 분기 수)가 수천 건 단위로 커진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DashboardSummaryBenchmark {
+
+	private static final int LATEST_QUARTER_KEY = 20254;
+	private static final String[] SECTORS = {"반도체", "자동차", "화학", "금융", "유통"};
+	private static final CompanyKeyMetricRiskLevel[] LEVELS = CompanyKeyMetricRiskLevel.values();
+
+	@Param({"20", "200"})
+	private int watchlistSize;
+
+	@Param({"12", "40"})
+	private int historyQuarters;
+
+	private DashboardSummaryService service;
+
+	@Setup
+	public void setUp() {
+		List<CompanyWatchlistEntity> watchlists = new ArrayList<>(watchlistSize);
+		List<CompaniesEntity> companies = new ArrayList<>(watchlistSize);
+		for (int i = 0; i < watchlistSize; i++) {
+			IndustryEntity industry = IndustryEntity.create("C" + (i % SECTORS.length), SECTORS[i % SECTORS.length]);
+			CompaniesEntity company = CompaniesEntity.create(
+				String.format("%08d", i),
+				"기업" + i,
+				"Company" + i,
+				String.format("%06d", i + 1),
+				LocalDate.of(2025, 1, 1),
+				industry
+			);
+			ReflectionTestUtils.setField(company, "id", (long) i + 1);
+			companies.add(company);
+			watchlists.add(CompanyWatchlistEntity.create(null, company, null));
+		}
+
+		YearQuarter latest = QuarterCalculator.parseQuarterKey(LATEST_QUARTER_KEY);
+		List<CompanyKeyMetricEntity> latestMetrics = new ArrayList<>();
+		List<CompanyKeyMetricEntity> windowMetrics = new ArrayList<>();
+		List<CompanyRiskHistoryProjection> history = new ArrayList<>();
+		for (int back = historyQuarters - 1; back >= -1; back--) {
+			int quarterKey = QuarterCalculator.offset(latest, -back).toQuarterKey();
+			QuartersEntity quarter = quarterOf(quarterKey);
+			for (int i = 0; i < companies.size(); i++) {
+				CompanyKeyMetricRiskLevel level = LEVELS[Math.floorMod(i + back, LEVELS.length)];
+				CompanyKeyMetricEntity metric = CompanyKeyMetricEntity.create(
+					companies.get(i),
+					quarter,
+					null,
+					BigDecimal.valueOf(40 + (i * 7 + back) % 60),
+					null,
+					null,
+					level,
+					1,
+					LocalDateTime.of(2026, 1, 1, 0, 0)
+				);
+				if (back == 0) {
+					latestMetrics.add(metric);
+				}
+				if (back <= 3) {
+					windowMetrics.add(metric);
+				}
+				if (back >= 0) {
+					history.add(new RiskHistory((long) i + 1, quarterKey, level));
+				}
+			}
+		}
+
+		CompanyWatchlistRepository watchlistRepository = mock(CompanyWatchlistRepository.class);
+		LatestActualQuarterCache latestActualQuarterCache = mock(LatestActualQuarterCache.class);
+		CompanyKeyMetricRepository keyMetricRepository = mock(CompanyKeyMetricRepository.class);
+		when(watchlistRepository.findActiveByUserId(anyLong())).thenReturn(watchlists);
+		when(latestActualQuarterCache.findMaxActualQuarterKeyByStockCodes(anyCollection()))
+			.thenReturn(Optional.of(LATEST_QUARTER_KEY));
+		when(keyMetricRepository.findByCompanyIdInAndQuarter_QuarterKey(anyList(), anyInt())).thenReturn(latestMetrics);
+		when(keyMetricRepository.findByCompanyIdInAndQuarterKeyIn(anyList(), anyList())).thenReturn(windowMetrics);
+		when(keyMetricRepository.findRiskHistoryByCompanyIds(anyList(), anyInt())).thenReturn(history);
+
+		service = new DashboardSummaryService(watchlistRepository, latestActualQuarterCache, keyMetricRepository);
+	}
+
+	@Benchmark
+	public DashboardSummaryResponse getSummary() {
+		return service.getSummary(1L);
+	}
+
+	private static QuartersEntity quarterOf(int quarterKey) {
+		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
+		return QuartersEntity.create(
+			yearQuarter.year(),
+			yearQuarter.quarter(),
+			quarterKey,
+			QuarterCalculator.startDate(yearQuarter),
+			QuarterCalculator.endDate(yearQuarter)
+		);
+	}
+
+	private record RiskHistory(Long companyId, Integer quarterKey, CompanyKeyMetricRiskLevel riskLevel)
+		implements CompanyRiskHistoryProjection {
+
+		@Override
+		public Long getCompanyId() {
+			return companyId;
+		}
+
+		@Override
+		public Integer getQuarterKey() {
+			return quarterKey;
+		}
+
+		@Override
+		public CompanyKeyMetricRiskLevel getRiskLevel() {
+			return riskLevel;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.aivle.project.metricaverage.service;
+
+import com.aivle.project.metricaverage.dto.MetricAverageResult;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 분기 지표 통계(평균/중앙값/표준편차) 계산 벤치마크.
+ *
+ * <p>저장소는 호출하지 않는 {@code calculate} 만 측정하며, 표본 수는 지표 하나에 대한 상장사 수 수준으로 잡는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MetricAverageCalculationBenchmark {
+
+	@Param({"100", "2500"})
+	private int sampleSize;
+
+	private MetricAverageCalculationService service;
+	private List<BigDecimal> values;
+	private double[] primitiveValues;
+
+	@Setup
+	public void setUp() {
+		service = new MetricAverageCalculationService(null, null);
+		SplittableRandom random = new SplittableRandom(42L);
+		values = new ArrayList<>(sampleSize);
+		for (int i = 0; i < sampleSize; i++) {
+			// 원본 지표와 같이 소수 넷째 자리까지의 비율 값을 사용한다.
+			values.add(BigDecimal.valueOf(random.nextDouble(-50.0, 150.0)).setScale(4, RoundingMode.HALF_UP));
+		}
+		primitiveValues = values.stream().mapToDouble(BigDecimal::doubleValue).toArray();
+	}
+
+	@Benchmark
+	public MetricAverageResult calculate() {
+		return service.calculate(1L, values);
+	}
+
+	/**
+	 * 배치 경로와 같이 이미 {@code double[]} 로 모인 표본을 계산한다. 중앙값 선택이 배열을 재배치하므로 복사본을 넘긴다.
+	 */
+	@Benchmark
+	public MetricAverageResult computePrimitive() {
+		return MetricStatistics.compute(1L, primitiveValues.clone(), primitiveValues.length);
+	}
+}
@@ -0,0 +1,90 @@
+package com.aivle.project.quarter.support;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 분기 키 파싱/이동 벤치마크.
+ *
+ * <p>대시보드 추세와 리스크 체류 기간 계산에서 기업 수 x 분기 수만큼 반복 호출된다.
+ * {@code codec*} 는 같은 작업을 {@link QuarterCodec} 의 정수 연산과 미리 만든 라벨로 수행한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuarterCalculatorBenchmark {
+
+	private static final int KEY_COUNT = 64;
+
+	private int[] quarterKeys;
+	private YearQuarter[] quarters;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		quarterKeys = new int[KEY_COUNT];
+		quarters = new YearQuarter[KEY_COUNT];
+		for (int i = 0; i < KEY_COUNT; i++) {
+			int key = (2010 + i / 4) * 10 + (i % 4) + 1;
+			quarterKeys[i] = key;
+			quarters[i] = QuarterCalculator.parseQuarterKey(key);
+		}
+	}
+
+	@Benchmark
+	public YearQuarter parseQuarterKey() {
+		return QuarterCalculator.parseQuarterKey(quarterKeys[next()]);
+	}
+
+	@Benchmark
+	public void offsetWindow(Blackhole blackhole) {
+		// 대시보드 추세 구간(-3 ~ +1 분기)과 같은 이동 폭을 사용한다.
+		YearQuarter base = quarters[next()];
+		for (int offset = -3; offset <= 1; offset++) {
+			blackhole.consume(QuarterCalculator.offset(base, offset));
+		}
+	}
+
+	@Benchmark
+	public int parseAndStepBack() {
+		// 리스크 체류 기간 계산 루프처럼 키 -> 분기 -> 직전 분기 키로 왕복한다.
+		return QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(quarterKeys[next()]), -1).toQuarterKey();
+	}
+
+	@Benchmark
+	public void codecOffsetWindow(Blackhole blackhole) {
+		int base = quarterKeys[next()];
+		for (int offset = -3; offset <= 1; offset++) {
+			blackhole.consume(QuarterCodec.offset(base, offset));
+		}
+	}
+
+	@Benchmark
+	public int codecStepBack() {
+		return QuarterCodec.previous(quarterKeys[next()]);
+	}
+
+	@Benchmark
+	public String formatLabel() {
+		// 기존 서비스의 라벨 생성 방식.
+		YearQuarter quarter = QuarterCalculator.parseQuarterKey(quarterKeys[next()]);
+		return quarter.year() + "Q" + quarter.quarter();
+	}
+
+	@Benchmark
+	public String codecLabel() {
+		return QuarterCodec.label(quarterKeys[next()]);
+	}
+
+	private int next() {
+		cursor = (cursor + 1) & (KEY_COUNT - 1);
+		return cursor;
+	}
+}
@@ -0,0 +1,85 @@
+package com.aivle.project.report.importer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 엑셀 지표 파일 파싱 벤치마크.
+ *
+ * <p>실제 적재 파일과 같은 시트/헤더 구조의 합성 워크북을 한 번 만들어 두고 파싱 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExcelMetricParserBenchmark {
+
+	private static final String[] METRIC_HEADERS = {
+		"ROA", "ROE", "매출액영업이익률", "부채비율", "유동비율", "이자보상배율"
+	};
+	private static final String[] PERIOD_SUFFIXES = {"현재", "분기-1", "분기-2", "분기-3"};
+
+	@Param({"500", "5000"})
+	private int companyRows;
+
+	private ExcelMetricParser parser;
+	private Path workbookFile;
+
+	@Setup
+	public void setUp() throws IOException {
+		parser = new ExcelMetricParser();
+		workbookFile = Files.createTempFile("metric-benchmark-", ".xlsx");
+		writeWorkbook(workbookFile, companyRows);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(workbookFile);
+	}
+
+	@Benchmark
+	public ExcelMetricParseSummary parseInChunks() throws IOException {
+		return parser.parse(workbookFile, ExcelMetricParser.DEFAULT_CHUNK_ROWS, chunk -> {
+		});
+	}
+
+	private static void writeWorkbook(Path target, int rows) throws IOException {
+		try (Workbook workbook = new XSSFWorkbook(); OutputStream output = Files.newOutputStream(target)) {
+			Sheet sheet = workbook.createSheet("in");
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("기업코드");
+			header.createCell(1).setCellValue("기업명");
+			int column = 2;
+			for (String metric : METRIC_HEADERS) {
+				for (String suffix : PERIOD_SUFFIXES) {
+					header.createCell(column++).setCellValue(metric + "_" + suffix);
+				}
+			}
+
+			for (int i = 1; i <= rows; i++) {
+				Row row = sheet.createRow(i);
+				row.createCell(0).setCellValue(String.format("%06d", i));
+				row.createCell(1).setCellValue("기업" + i);
+				for (int c = 2; c < column; c++) {
+					row.createCell(c).setCellValue((i * 31 + c * 7) % 1000 / 10.0);
+				}
+			}
+			workbook.write(output);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package com.aivle.project.auth.config;
+
+import com.aivle.project.auth.service.AccessTokenRevocationNearCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Access Token 폐기 전파용 Redis pub/sub 구독 설정.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.auth.revocation-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessTokenRevocationCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer accessTokenRevocationListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		AccessTokenRevocationNearCache accessTokenRevocationNearCache,
+		AccessTokenRevocationCacheProperties properties
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(accessTokenRevocationNearCache, new ChannelTopic(properties.getChannel()));
+		return container;
+	}
+}
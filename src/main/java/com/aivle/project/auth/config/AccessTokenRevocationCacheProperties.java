@@ -0,0 +1,77 @@
+package com.aivle.project.auth.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 여부 로컬 캐시 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.auth.revocation-cache")
+public class AccessTokenRevocationCacheProperties {
+
+	private boolean enabled = true;
+	private String channel = "auth:access-token-revocation";
+	private int expectedInsertions = 100_000;
+	private double falsePositiveRate = 0.01;
+	private Duration rebuildInterval = Duration.ofMinutes(1);
+	private Duration logoutAllTtl = Duration.ofSeconds(10);
+	private int logoutAllMaxEntries = 10_000;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public String getChannel() {
+		return channel;
+	}
+
+	public void setChannel(String channel) {
+		this.channel = channel;
+	}
+
+	public int getExpectedInsertions() {
+		return expectedInsertions;
+	}
+
+	public void setExpectedInsertions(int expectedInsertions) {
+		this.expectedInsertions = expectedInsertions;
+	}
+
+	public double getFalsePositiveRate() {
+		return falsePositiveRate;
+	}
+
+	public void setFalsePositiveRate(double falsePositiveRate) {
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	public Duration getRebuildInterval() {
+		return rebuildInterval;
+	}
+
+	public void setRebuildInterval(Duration rebuildInterval) {
+		this.rebuildInterval = rebuildInterval;
+	}
+
+	public Duration getLogoutAllTtl() {
+		return logoutAllTtl;
+	}
+
+	public void setLogoutAllTtl(Duration logoutAllTtl) {
+		this.logoutAllTtl = logoutAllTtl;
+	}
+
+	public int getLogoutAllMaxEntries() {
+		return logoutAllMaxEntries;
+	}
+
+	public void setLogoutAllMaxEntries(int logoutAllMaxEntries) {
+		this.logoutAllMaxEntries = logoutAllMaxEntries;
+	}
+}
@@ -4,15 +4,17 @@ import com.aivle.project.auth.token.JwtProperties;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 /**
  * Access Token 블랙리스트 및 전체 로그아웃 기준 시각 관리.
+ *
+ * <p>로컬 캐시({@link AccessTokenRevocationNearCache})가 있으면 "폐기되지 않음" 응답은 Redis 조회 없이 처리한다.
  */
 @Service
-@RequiredArgsConstructor
 public class AccessTokenBlacklistService {
 
 	private static final String BLACKLIST_KEY = "blacklist:access:%s";
@@ -20,8 +22,32 @@ public class AccessTokenBlacklistService {
 
 	private final StringRedisTemplate redisTemplate;
 	private final JwtProperties jwtProperties;
+	private final AccessTokenRevocationNearCache nearCache;
 	private final Clock clock = Clock.systemUTC();
 
+	public AccessTokenBlacklistService(StringRedisTemplate redisTemplate, JwtProperties jwtProperties) {
+		this(redisTemplate, jwtProperties, (AccessTokenRevocationNearCache) null);
+	}
+
+	@Autowired
+	public AccessTokenBlacklistService(
+		StringRedisTemplate redisTemplate,
+		JwtProperties jwtProperties,
+		ObjectProvider<AccessTokenRevocationNearCache> nearCacheProvider
+	) {
+		this(redisTemplate, jwtProperties, nearCacheProvider.getIfAvailable());
+	}
+
+	AccessTokenBlacklistService(
+		StringRedisTemplate redisTemplate,
+		JwtProperties jwtProperties,
+		AccessTokenRevocationNearCache nearCache
+	) {
+		this.redisTemplate = redisTemplate;
+		this.jwtProperties = jwtProperties;
+		this.nearCache = nearCache;
+	}
+
 	public void blacklist(String jti, Instant expiresAt) {
 		if (jti == null || jti.isBlank() || expiresAt == null) {
 			return;
@@ -32,6 +58,9 @@ public class AccessTokenBlacklistService {
 			return;
 		}
 		redisTemplate.opsForValue().set(blacklistKey(jti), "1", ttl);
+		if (nearCache != null) {
+			nearCache.recordBlacklisted(jti);
+		}
 	}
 
 	public void markLogoutAll(String userId, Instant logoutAt) {
@@ -47,12 +76,18 @@ public class AccessTokenBlacklistService {
 			String.valueOf(logoutAt.toEpochMilli()),
 			Duration.ofSeconds(ttlSeconds)
 		);
+		if (nearCache != null) {
+			nearCache.recordLogoutAll(userId, logoutAt);
+		}
 	}
 
 	public boolean isBlacklisted(String jti) {
 		if (jti == null || jti.isBlank()) {
 			return false;
 		}
+		if (nearCache != null && !nearCache.mightBeBlacklisted(jti)) {
+			return false;
+		}
 		return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(jti)));
 	}
 
@@ -60,6 +95,13 @@ public class AccessTokenBlacklistService {
 		if (userId == null || userId.isBlank()) {
 			return null;
 		}
+		if (nearCache != null) {
+			return nearCache.getLogoutAllAt(userId, this::loadLogoutAllAt);
+		}
+		return loadLogoutAllAt(userId);
+	}
+
+	private Instant loadLogoutAllAt(String userId) {
 		String value = redisTemplate.opsForValue().get(logoutAllKey(userId));
 		if (value == null || value.isBlank()) {
 			return null;
@@ -0,0 +1,270 @@
+package com.aivle.project.auth.service;
+
+import com.aivle.project.auth.config.AccessTokenRevocationCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Access Token 폐기 여부 인프로세스 캐시.
+ *
+ * <p>블랙리스트 jti 는 Bloom filter 로, 전체 로그아웃 시각은 짧은 TTL 맵으로 보관한다.
+ * 인스턴스 간 일관성은 Redis pub/sub 채널로 맞추고, 유실된 메시지는 주기적 재구성과 TTL 로 따라잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.auth.revocation-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AccessTokenRevocationNearCache implements MessageListener {
+
+	static final String BLACKLIST_KEY_PATTERN = "blacklist:access:*";
+	private static final String BLACKLIST_KEY_PREFIX = "blacklist:access:";
+	private static final String BLACKLISTED = "B";
+	private static final String LOGOUT_ALL = "L";
+	private static final String SEPARATOR = "|";
+
+	private final StringRedisTemplate redisTemplate;
+	private final AccessTokenRevocationCacheProperties properties;
+	private final Clock clock;
+	private final Map<String, LogoutAllEntry> logoutAllEntries = new ConcurrentHashMap<>();
+	private final AtomicLong blacklistLocalHits = new AtomicLong();
+	private final AtomicLong blacklistRemoteChecks = new AtomicLong();
+	private final AtomicLong logoutAllLocalHits = new AtomicLong();
+	private final AtomicLong logoutAllRemoteChecks = new AtomicLong();
+	private final AtomicLong bloomEntries = new AtomicLong();
+	private final Object rebuildLock = new Object();
+
+	// 최초 재구성 전에는 Bloom filter 가 비어 있으므로 항상 Redis 로 확인한다.
+	private volatile TokenIdBloomFilter bloomFilter;
+	private volatile TokenIdBloomFilter rebuildingFilter;
+
+	@Autowired
+	public AccessTokenRevocationNearCache(
+		StringRedisTemplate redisTemplate,
+		AccessTokenRevocationCacheProperties properties,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this(redisTemplate, properties, meterRegistryProvider.getIfAvailable(), Clock.systemUTC());
+	}
+
+	AccessTokenRevocationNearCache(
+		StringRedisTemplate redisTemplate,
+		AccessTokenRevocationCacheProperties properties,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.clock = clock;
+		if (meterRegistry != null) {
+			registerGauges(meterRegistry);
+		}
+	}
+
+	/**
+	 * 블랙리스트에 없음이 확실하면 false, Redis 확인이 필요하면 true 를 반환한다.
+	 */
+	public boolean mightBeBlacklisted(String jti) {
+		TokenIdBloomFilter filter = bloomFilter;
+		if (filter != null && !filter.mightContain(jti)) {
+			blacklistLocalHits.incrementAndGet();
+			return false;
+		}
+		blacklistRemoteChecks.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * 캐시된 전체 로그아웃 시각을 반환하고, 없거나 만료됐으면 loader 로 조회해 적재한다.
+	 */
+	public Instant getLogoutAllAt(String userId, Function<String, Instant> loader) {
+		long now = clock.millis();
+		LogoutAllEntry cached = logoutAllEntries.get(userId);
+		if (cached != null && cached.expiresAt() > now) {
+			logoutAllLocalHits.incrementAndGet();
+			return cached.logoutAllAt();
+		}
+
+		logoutAllRemoteChecks.incrementAndGet();
+		Instant loaded = loader.apply(userId);
+		LogoutAllEntry loadedEntry = new LogoutAllEntry(loaded, now + properties.getLogoutAllTtl().toMillis());
+		// 조회 도중 pub/sub 로 더 새로운 값이 들어왔다면 그 값을 유지한다.
+		logoutAllEntries.compute(userId, (key, existing) ->
+			existing != null && existing.expiresAt() > now ? existing : loadedEntry);
+		trimLogoutAllEntries(now);
+		return loaded;
+	}
+
+	/**
+	 * 현재 인스턴스에 즉시 반영하고 다른 인스턴스에 폐기 사실을 전파한다.
+	 */
+	public void recordBlacklisted(String jti) {
+		applyBlacklisted(jti);
+		publish(BLACKLISTED + SEPARATOR + jti);
+	}
+
+	public void recordLogoutAll(String userId, Instant logoutAt) {
+		applyLogoutAll(userId, logoutAt);
+		publish(LOGOUT_ALL + SEPARATOR + userId + SEPARATOR + logoutAt.toEpochMilli());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		handleMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	void handleMessage(String payload) {
+		String[] parts = payload.split("\\" + SEPARATOR);
+		try {
+			if (parts.length == 2 && BLACKLISTED.equals(parts[0])) {
+				applyBlacklisted(parts[1]);
+			} else if (parts.length == 3 && LOGOUT_ALL.equals(parts[0])) {
+				applyLogoutAll(parts[1], Instant.ofEpochMilli(Long.parseLong(parts[2])));
+			} else {
+				log.debug("알 수 없는 토큰 폐기 메시지 무시: {}", payload);
+			}
+		} catch (NumberFormatException ex) {
+			log.debug("잘못된 토큰 폐기 메시지 무시: {}", payload);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	/**
+	 * Redis 의 블랙리스트 키로 Bloom filter 를 다시 만든다. 만료된 jti 가 빠지면서 오탐률도 함께 회복된다.
+	 */
+	@Scheduled(
+		fixedDelayString = "${app.auth.revocation-cache.rebuild-interval:1m}",
+		initialDelayString = "${app.auth.revocation-cache.rebuild-interval:1m}"
+	)
+	public void rebuild() {
+		synchronized (rebuildLock) {
+			TokenIdBloomFilter next = TokenIdBloomFilter.create(
+				properties.getExpectedInsertions(),
+				properties.getFalsePositiveRate()
+			);
+			rebuildingFilter = next;
+			try {
+				long count = scanBlacklistedTokenIds(next);
+				bloomFilter = next;
+				bloomEntries.set(count);
+				log.debug("토큰 블랙리스트 Bloom filter 재구성: entries={}", count);
+			} catch (RuntimeException ex) {
+				// 재구성에 실패하면 오래된 필터를 믿지 않고 Redis 조회로 돌아간다.
+				bloomFilter = null;
+				log.warn("토큰 블랙리스트 Bloom filter 재구성 실패, Redis 조회로 대체: {}", ex.getMessage());
+			} finally {
+				rebuildingFilter = null;
+			}
+		}
+	}
+
+	private long scanBlacklistedTokenIds(TokenIdBloomFilter target) {
+		ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PATTERN).count(1000).build();
+		Long scanned = redisTemplate.execute((RedisCallback<Long>) connection -> {
+			long count = 0;
+			try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+				while (cursor.hasNext()) {
+					String key = new String(cursor.next(), StandardCharsets.UTF_8);
+					target.put(key.substring(BLACKLIST_KEY_PREFIX.length()));
+					count++;
+				}
+			}
+			return count;
+		});
+		return scanned == null ? 0 : scanned;
+	}
+
+	private void applyBlacklisted(String jti) {
+		if (jti == null || jti.isBlank()) {
+			return;
+		}
+		// 재구성 중인 필터에도 넣어, 스캔 이후 들어온 폐기가 교체 시 사라지지 않도록 한다.
+		// 교체 직후와 겹쳐도 새 필터에 들어가도록 재구성 필터를 먼저 읽는다.
+		TokenIdBloomFilter rebuilding = rebuildingFilter;
+		TokenIdBloomFilter filter = bloomFilter;
+		if (rebuilding != null) {
+			rebuilding.put(jti);
+		}
+		if (filter != null && filter != rebuilding) {
+			filter.put(jti);
+		}
+		bloomEntries.incrementAndGet();
+	}
+
+	private void applyLogoutAll(String userId, Instant logoutAt) {
+		if (userId == null || userId.isBlank() || logoutAt == null) {
+			return;
+		}
+		long expiresAt = clock.millis() + properties.getLogoutAllTtl().toMillis();
+		logoutAllEntries.merge(userId, new LogoutAllEntry(logoutAt, expiresAt), (existing, incoming) ->
+			existing.logoutAllAt() != null && existing.logoutAllAt().isAfter(logoutAt)
+				? new LogoutAllEntry(existing.logoutAllAt(), expiresAt)
+				: incoming);
+	}
+
+	private void trimLogoutAllEntries(long now) {
+		if (logoutAllEntries.size() <= properties.getLogoutAllMaxEntries()) {
+			return;
+		}
+		logoutAllEntries.values().removeIf(entry -> entry.expiresAt() <= now);
+		if (logoutAllEntries.size() > properties.getLogoutAllMaxEntries()) {
+			logoutAllEntries.clear();
+		}
+	}
+
+	private void publish(String payload) {
+		try {
+			redisTemplate.convertAndSend(properties.getChannel(), payload);
+		} catch (RuntimeException ex) {
+			// 전파 실패 시 다른 인스턴스는 다음 재구성 또는 TTL 만료 시점에 반영된다.
+			log.warn("토큰 폐기 메시지 발행 실패: {}", ex.getMessage());
+		}
+	}
+
+	private void registerGauges(MeterRegistry meterRegistry) {
+		Gauge.builder("auth.revocation.cache.hit.ratio", this, cache -> ratio(cache.blacklistLocalHits, cache.blacklistRemoteChecks))
+			.tag("check", "blacklist")
+			.description("Redis 조회 없이 로컬에서 응답한 블랙리스트 확인 비율")
+			.register(meterRegistry);
+		Gauge.builder("auth.revocation.cache.hit.ratio", this, cache -> ratio(cache.logoutAllLocalHits, cache.logoutAllRemoteChecks))
+			.tag("check", "logout_all")
+			.description("Redis 조회 없이 로컬에서 응답한 전체 로그아웃 확인 비율")
+			.register(meterRegistry);
+		Gauge.builder("auth.revocation.cache.bloom.entries", this, cache -> cache.bloomEntries.get())
+			.register(meterRegistry);
+		Gauge.builder("auth.revocation.cache.logout_all.entries", logoutAllEntries, Map::size)
+			.register(meterRegistry);
+	}
+
+	private static double ratio(AtomicLong local, AtomicLong remote) {
+		long hits = local.get();
+		long total = hits + remote.get();
+		return total == 0 ? 0.0 : (double) hits / total;
+	}
+
+	private record LogoutAllEntry(Instant logoutAllAt, long expiresAt) {
+	}
+}
@@ -14,16 +14,20 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Refresh Token 저장 및 검증 처리.
+ *
+ * <p>토큰 키와 사용자 세션 집합을 함께 바꾸는 저장/회전/폐기는 Lua 스크립트로 한 번에 실행해
+ * 왕복 한 번으로 끝내고, 중간 상태가 다른 요청에 보이지 않게 한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -34,6 +38,66 @@ public class RefreshTokenService {
 	private static final String SESSION_KEY = "sessions:%s";
 	private static final String DEFAULT_DEVICE_ID = "default";
 
+	/**
+	 * KEYS[1]=세션 집합, KEYS[2]=새 토큰 키, KEYS[3..]=지울 토큰 키.
+	 * ARGV[1]=새 식별자, ARGV[2]=캐시 JSON, ARGV[3]=TTL(ms), ARGV[4..]=세션에서 뺄 식별자.
+	 * 지운 토큰 키 수를 돌려준다. 지울 키를 넘겼는데 하나도 지우지 못했으면 다른 요청이 먼저 회전한 것이므로
+	 * 새 키와 세션 항목을 쓰지 않고 0 을 돌려준다.
+	 */
+	static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local removed = 0
+			for i = 3, #KEYS do
+				removed = removed + redis.call('del', KEYS[i])
+			end
+			if #KEYS > 2 and removed == 0 then
+				return 0
+			end
+			for i = 4, #ARGV do
+				redis.call('srem', KEYS[1], ARGV[i])
+			end
+			if tonumber(ARGV[3]) > 0 then
+				redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3])
+			end
+			redis.call('sadd', KEYS[1], ARGV[1])
+			return removed
+			""",
+		Long.class
+	);
+
+	/**
+	 * KEYS[1]=세션 집합, KEYS[2..]=지울 토큰 키, ARGV=세션에서 뺄 식별자.
+	 */
+	static final DefaultRedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local removed = 0
+			for i = 2, #KEYS do
+				removed = removed + redis.call('del', KEYS[i])
+			end
+			for i = 1, #ARGV do
+				redis.call('srem', KEYS[1], ARGV[i])
+			end
+			return removed
+			""",
+		Long.class
+	);
+
+	/**
+	 * KEYS[1]=세션 집합, ARGV[1]=토큰 키 접두사. 세션의 모든 토큰 키와 세션 집합을 지운다.
+	 * 토큰 키를 스크립트 안에서 만들므로 단일 노드(비클러스터) Redis 를 전제로 한다.
+	 */
+	static final DefaultRedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"""
+			local members = redis.call('smembers', KEYS[1])
+			for _, member in ipairs(members) do
+				redis.call('del', ARGV[1] .. member)
+			end
+			redis.call('del', KEYS[1])
+			return #members
+			""",
+		Long.class
+	);
+
 	private final StringRedisTemplate redisTemplate;
 	private final ObjectMapper objectMapper;
 	private final RefreshTokenRepository refreshTokenRepository;
@@ -65,8 +129,7 @@ public class RefreshTokenService {
 			now
 		);
 
-		storeRedis(cache);
-		storeSession(cache.userId(), tokenHash);
+		replaceRedis(cache, List.of());
 		storeEntity(cache);
 		return cache;
 	}
@@ -74,16 +137,17 @@ public class RefreshTokenService {
 	@Transactional
 	public RefreshTokenCache rotateToken(String oldToken, String newToken) {
 		RefreshTokenCache current = loadValidToken(oldToken);
-		revokeRedis(oldToken, current.userId());
-		revokeEntity(oldToken);
 
 		long now = Instant.now(clock).toEpochMilli();
 		long expiresAt = now + (jwtTokenService.getRefreshTokenExpirationSeconds() * 1000);
 		String newTokenHash = tokenHashService.hash(newToken);
 		RefreshTokenCache rotated = current.rotate(newTokenHash, now, expiresAt);
 
-		storeRedis(rotated);
-		storeSession(rotated.userId(), newTokenHash);
+		// 동시에 같은 토큰으로 회전한 요청이 먼저 지웠다면 재사용으로 보고 거절한다.
+		if (replaceRedis(rotated, tokenIdentifiers(oldToken)) == 0) {
+			throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+		}
+		revokeEntity(oldToken);
 		storeEntity(rotated);
 		return rotated;
 	}
@@ -117,14 +181,7 @@ public class RefreshTokenService {
 			return;
 		}
 
-		String key = sessionKey(userId);
-		Set<String> tokens = redisTemplate.opsForSet().members(key);
-		if (tokens != null) {
-			for (String token : tokens) {
-				redisTemplate.delete(redisKey(token));
-			}
-		}
-		redisTemplate.delete(key);
+		redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(sessionKey(userId)), redisKey(""));
 
 		List<RefreshTokenEntity> activeTokens = refreshTokenRepository.findAllByUserIdAndRevokedFalse(userId);
 		for (RefreshTokenEntity entity : activeTokens) {
@@ -135,18 +192,32 @@ public class RefreshTokenService {
 		}
 	}
 
-	private void storeRedis(RefreshTokenCache cache) {
+	/**
+	 * 새 캐시를 저장하고 세션에 등록하면서 이전 식별자들을 한 번에 지운다. 지운 토큰 키 수를 돌려준다.
+	 */
+	private long replaceRedis(RefreshTokenCache cache, List<String> previousIdentifiers) {
+		String json;
 		try {
-			String json = objectMapper.writeValueAsString(cache);
-			long expiresAtMillis = normalizeEpochMillis(cache.expiresAt());
-			long ttlMillis = expiresAtMillis - Instant.now(clock).toEpochMilli();
-			if (ttlMillis <= 0) {
-				return;
-			}
-			redisTemplate.opsForValue().set(redisKey(cache.token()), json, java.time.Duration.ofMillis(ttlMillis));
+			json = objectMapper.writeValueAsString(cache);
 		} catch (JsonProcessingException ex) {
 			throw new IllegalStateException("Refresh Token 캐시 직렬화에 실패했습니다", ex);
 		}
+		long expiresAtMillis = normalizeEpochMillis(cache.expiresAt());
+		long ttlMillis = expiresAtMillis - Instant.now(clock).toEpochMilli();
+
+		List<String> keys = new ArrayList<>(previousIdentifiers.size() + 2);
+		keys.add(sessionKey(cache.userId()));
+		keys.add(redisKey(cache.token()));
+		Object[] args = new Object[previousIdentifiers.size() + 3];
+		args[0] = cache.token();
+		args[1] = json;
+		args[2] = String.valueOf(Math.max(0, ttlMillis));
+		for (int i = 0; i < previousIdentifiers.size(); i++) {
+			keys.add(redisKey(previousIdentifiers.get(i)));
+			args[i + 3] = previousIdentifiers.get(i);
+		}
+		Long removed = redisTemplate.execute(REPLACE_SCRIPT, keys, args);
+		return removed == null ? 0 : removed;
 	}
 
 	private Optional<RefreshTokenCache> loadRedis(String tokenIdentifier) {
@@ -176,10 +247,7 @@ public class RefreshTokenService {
 			legacyCache.expiresAt(),
 			legacyCache.lastUsedAt()
 		);
-		storeRedis(migratedCache);
-		storeSession(migratedCache.userId(), tokenHash);
-		redisTemplate.delete(redisKey(legacyIdentifier));
-		redisTemplate.opsForSet().remove(sessionKey(migratedCache.userId()), legacyIdentifier);
+		replaceRedis(migratedCache, List.of(legacyIdentifier));
 		return migratedCache;
 	}
 
@@ -213,20 +281,25 @@ public class RefreshTokenService {
 			expiresAtEpoch,
 			issuedAt
 		);
-		storeRedis(cache);
-		storeSession(cache.userId(), cache.token());
+		replaceRedis(cache, List.of());
 		return cache;
 	}
 
 	private void revokeRedis(String refreshToken, Long userId) {
-		String tokenHash = tokenHashService.hash(refreshToken);
-		String legacyTokenHash = tokenHashService.legacyHash(refreshToken);
-		redisTemplate.delete(redisKey(tokenHash));
-		redisTemplate.delete(redisKey(legacyTokenHash));
-		redisTemplate.delete(redisKey(refreshToken));
-		redisTemplate.opsForSet().remove(sessionKey(userId), tokenHash);
-		redisTemplate.opsForSet().remove(sessionKey(userId), legacyTokenHash);
-		redisTemplate.opsForSet().remove(sessionKey(userId), refreshToken);
+		List<String> identifiers = tokenIdentifiers(refreshToken);
+		List<String> keys = new ArrayList<>(identifiers.size() + 1);
+		keys.add(sessionKey(userId));
+		for (String identifier : identifiers) {
+			keys.add(redisKey(identifier));
+		}
+		redisTemplate.execute(REVOKE_SCRIPT, keys, identifiers.toArray());
+	}
+
+	/**
+	 * 현재 해시, 레거시 해시, 평문 순서의 Redis 식별자.
+	 */
+	private List<String> tokenIdentifiers(String refreshToken) {
+		return List.of(tokenHashService.hash(refreshToken), tokenHashService.legacyHash(refreshToken), refreshToken);
 	}
 
 	private void revokeEntity(String refreshToken) {
@@ -254,10 +327,6 @@ public class RefreshTokenService {
 		refreshTokenRepository.save(entity);
 	}
 
-	private void storeSession(Long userId, String tokenIdentifier) {
-		redisTemplate.opsForSet().add(sessionKey(userId), tokenIdentifier);
-	}
-
 	private String redisKey(String refreshToken) {
 		return String.format(REFRESH_TOKEN_KEY, refreshToken);
 	}
@@ -0,0 +1,84 @@
+package com.aivle.project.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 식별자(jti)용 Bloom filter.
+ *
+ * <p>"없음" 응답은 확실하고 "있을 수 있음" 응답만 원격 확인이 필요하다. 삭제는 지원하지 않으므로 주기적으로 새로 만든다.
+ */
+final class TokenIdBloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	private TokenIdBloomFilter(long bitCount, int hashCount) {
+		int wordCount = (int) ((bitCount + 63) >>> 6);
+		this.words = new AtomicLongArray(wordCount);
+		this.bitCount = (long) wordCount << 6;
+		this.hashCount = hashCount;
+	}
+
+	static TokenIdBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+		int insertions = Math.max(1, expectedInsertions);
+		double fpp = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+		long bits = (long) Math.ceil(-insertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+		bits = Math.min(Math.max(bits, 64), (long) Integer.MAX_VALUE * 64);
+		int hashes = Math.max(1, (int) Math.round((double) bits / insertions * Math.log(2)));
+		return new TokenIdBloomFilter(bits, hashes);
+	}
+
+	void put(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+			setBit(index);
+		}
+	}
+
+	boolean mightContain(String value) {
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+			if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void setBit(long index) {
+		int wordIndex = (int) (index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = words.get(wordIndex);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!words.compareAndSet(wordIndex, current, current | mask));
+	}
+
+	/**
+	 * FNV-1a 64비트 해시에 finalizer 를 적용해 상하위 비트를 고르게 섞는다.
+	 */
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,47 @@
+package com.aivle.project.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 댓글 순번 카운터(comment_sequences) JDBC 저장소.
+ *
+ * <p>최상위 댓글은 {@code parent_id = 0} 행을 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentSequenceJdbcRepository {
+
+	public static final long ROOT_PARENT_ID = 0L;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 카운터를 1 올린다. 카운터 행이 없으면 첫 순번 0 으로 만든다.
+	 *
+	 * <p>한 문장으로 행을 만들거나 올리므로, 없는 행을 UPDATE 한 뒤 INSERT 할 때처럼 InnoDB 갭 잠금이 엇갈려
+	 * 교착 상태가 나지 않는다. 올린 값은 같은 트랜잭션에서 {@link #findLastSequence} 로 읽는다.
+	 */
+	public void increment(long postId, long parentId) {
+		jdbcTemplate.update(
+			"""
+				INSERT INTO comment_sequences (post_id, parent_id, last_sequence)
+				VALUES (?, ?, 0)
+				ON DUPLICATE KEY UPDATE last_sequence = last_sequence + 1
+				""",
+			postId,
+			parentId
+		);
+	}
+
+	public int findLastSequence(long postId, long parentId) {
+		Integer last = jdbcTemplate.queryForObject(
+			"SELECT last_sequence FROM comment_sequences WHERE post_id = ? AND parent_id = ?",
+			Integer.class,
+			postId,
+			parentId
+		);
+		return last == null ? 0 : last;
+	}
+}
@@ -0,0 +1,30 @@
+package com.aivle.project.comment.service;
+
+import com.aivle.project.comment.repository.CommentSequenceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글/부모 댓글 단위 댓글 순번 발급기.
+ *
+ * <p>카운터 행 하나만 원자적으로 올리므로 댓글 범위를 스캔하거나 잠그지 않는다. 카운터 행 잠금은 댓글 저장
+ * 트랜잭션이 끝날 때 풀리며, 저장이 롤백되면 순번도 함께 되돌아가 빈 번호가 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentSequenceAllocator {
+
+	private final CommentSequenceJdbcRepository commentSequenceJdbcRepository;
+
+	/**
+	 * 다음 순번을 발급한다. 기존 댓글의 카운터는 V30 마이그레이션이 채워 두었으므로 댓글 테이블을 다시 보지 않는다.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public int next(Long postId, Long parentId) {
+		long parentKey = parentId == null ? CommentSequenceJdbcRepository.ROOT_PARENT_ID : parentId;
+		commentSequenceJdbcRepository.increment(postId, parentKey);
+		return commentSequenceJdbcRepository.findLastSequence(postId, parentKey);
+	}
+}
@@ -25,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentsService {
 
 	private final CommentsRepository commentsRepository;
+	private final CommentSequenceAllocator commentSequenceAllocator;
 	private final PostsRepository postsRepository;
 	private final PostReadAccessPolicy postReadAccessPolicy;
 	private final com.aivle.project.comment.mapper.CommentMapper commentMapper;
@@ -54,9 +55,9 @@ public class CommentsService {
 				throw new CommonException(CommonErrorCode.COMMON_400); // 부모 댓글이 같은 게시글이 아님
 			}
 			depth = parent.getDepth() + 1;
-			sequence = commentsRepository.findMaxSequenceByParentId(parent.getId()) + 1;
+			sequence = commentSequenceAllocator.next(post.getId(), parent.getId());
 		} else {
-			sequence = commentsRepository.findMaxSequenceByPostIdAndParentIsNull(post.getId()) + 1;
+			sequence = commentSequenceAllocator.next(post.getId(), null);
 		}
 
 		CommentsEntity comment = CommentsEntity.create(
@@ -85,7 +86,7 @@ public class CommentsService {
 
 		// 관리자 답변은 항상 최상위 댓글(depth 0)로 작성되거나, 비즈니스 요구에 따라 조정 가능.
 		// 여기서는 일반적인 '댓글' 형태로 저장하되 depth 0으로 생성.
-		int sequence = commentsRepository.findMaxSequenceByPostIdAndParentIsNull(post.getId()) + 1;
+		int sequence = commentSequenceAllocator.next(post.getId(), null);
 
 		CommentsEntity comment = CommentsEntity.create(
 			post,
@@ -0,0 +1,90 @@
+package com.aivle.project.common.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.backoff.FixedBackOff;
+
+/**
+ * AI 작업 배치 컨슈머 설정.
+ *
+ * <p>파티션 수만큼 컨슈머 스레드를 두고, 한 번에 가져오는 레코드 수를 파티션당 동시 처리 한도로 제한한다.
+ * 오프셋은 배치 처리가 끝난 뒤 수동으로 커밋하고, 재시도를 다 쓴 레코드는 {@code <topic>.DLT} 로 보낸다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.ai.job.consumer", name = "mode", havingValue = "batch", matchIfMissing = true)
+public class AiJobKafkaConsumerConfig {
+
+	public static final String BATCH_CONTAINER_FACTORY = "aiJobBatchListenerContainerFactory";
+	public static final String WORKER_EXECUTOR = "aiJobWorkerExecutor";
+
+	@Bean(name = BATCH_CONTAINER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<String, String> aiJobBatchListenerContainerFactory(
+		ConsumerFactory<String, String> consumerFactory,
+		KafkaTemplate<String, String> kafkaTemplate,
+		@Value("${app.ai.job.consumer.concurrency:3}") int concurrency,
+		@Value("${app.ai.job.consumer.max-in-flight-per-partition:4}") int maxInFlightPerPartition,
+		@Value("${app.ai.job.consumer.max-poll-interval:10m}") Duration maxPollInterval,
+		@Value("${app.ai.job.consumer.retry.interval:2s}") Duration retryInterval,
+		@Value("${app.ai.job.consumer.retry.max-retries:2}") long maxRetries
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setBatchListener(true);
+		factory.setConcurrency(concurrency);
+
+		ContainerProperties containerProperties = factory.getContainerProperties();
+		containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+		// 배치 하나가 작업 한 건 남짓한 시간 안에 끝나도록 poll 크기를 동시 처리 한도에 맞춘다.
+		Properties consumerProperties = new Properties();
+		consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(Math.max(1, maxInFlightPerPartition)));
+		consumerProperties.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, String.valueOf(maxPollInterval.toMillis()));
+		containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+		DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+			new DeadLetterPublishingRecoverer(kafkaTemplate),
+			new FixedBackOff(retryInterval.toMillis(), maxRetries)
+		);
+		// 역직렬화 실패는 다시 시도해도 같으므로 바로 DLT 로 보낸다.
+		errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+		factory.setCommonErrorHandler(errorHandler);
+		return factory;
+	}
+
+	/**
+	 * 파티션당 한도 × 컨슈머 수만큼만 작업이 들어오므로 큐가 넘치지 않는다.
+	 */
+	@Bean(name = WORKER_EXECUTOR)
+	public Executor aiJobWorkerExecutor(
+		VirtualThreadProperties virtualThreadProperties,
+		@Value("${app.ai.job.consumer.concurrency:3}") int concurrency,
+		@Value("${app.ai.job.consumer.max-in-flight-per-partition:4}") int maxInFlightPerPartition
+	) {
+		if (virtualThreadProperties.isEnabled()) {
+			return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ai-job-vt-", 1).factory());
+		}
+		int poolSize = Math.max(1, concurrency * maxInFlightPerPartition);
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize);
+		executor.setThreadNamePrefix("ai-job-");
+		executor.initialize();
+		return executor;
+	}
+}
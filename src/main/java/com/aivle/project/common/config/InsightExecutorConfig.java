@@ -1,9 +1,15 @@
 package com.aivle.project.common.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -12,22 +18,38 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * 비동기 실행기 설정.
+ *
+ * <p>실행기마다 대기 작업 수({@value #QUEUED_GAUGE})와 실행 중인 작업 수({@value #ACTIVE_GAUGE})를 같은 이름으로 노출한다.
+ * Virtual Thread 실행기는 대기열이 없으므로 대기 작업 수는 항상 0이다.
  */
 @Configuration
 @EnableAsync
 @EnableConfigurationProperties(VirtualThreadProperties.class)
 public class InsightExecutorConfig {
 
+	static final String QUEUED_GAUGE = "executor.async.queued";
+	static final String ACTIVE_GAUGE = "executor.async.active";
+
 	private final VirtualThreadProperties virtualThreadProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public InsightExecutorConfig(
+		VirtualThreadProperties virtualThreadProperties,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this(virtualThreadProperties, meterRegistryProvider.getIfAvailable());
+	}
 
-	public InsightExecutorConfig(VirtualThreadProperties virtualThreadProperties) {
+	InsightExecutorConfig(VirtualThreadProperties virtualThreadProperties, MeterRegistry meterRegistry) {
 		this.virtualThreadProperties = virtualThreadProperties;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Bean(name = "insightExecutor")
 	public Executor insightExecutor() {
 		if (isInsightVirtualThreadEnabled()) {
-			return newVirtualThreadExecutor("insight-vt-");
+			return newVirtualThreadExecutor("insight", "insight-vt-");
 		}
 
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -36,13 +58,34 @@ public class InsightExecutorConfig {
 		executor.setQueueCapacity(100);
 		executor.setThreadNamePrefix("insight-");
 		executor.initialize();
+		bindPoolGauges("insight", executor);
+		return executor;
+	}
+
+	/**
+	 * 워치리스트 선행 적재 단계를 동시에 돌리는 실행기.
+	 * insightExecutor 위에서 기다리는 핸들러와 스레드를 나눠 쓰지 않도록 분리한다.
+	 */
+	@Bean(name = "warmupStageExecutor")
+	public Executor warmupStageExecutor() {
+		if (isInsightVirtualThreadEnabled()) {
+			return newVirtualThreadExecutor("warmup-stage", "warmup-vt-");
+		}
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(8);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("warmup-");
+		executor.initialize();
+		bindPoolGauges("warmup-stage", executor);
 		return executor;
 	}
 
 	@Bean(name = "emailExecutor")
 	public Executor emailExecutor() {
 		if (isEmailVirtualThreadEnabled()) {
-			return newVirtualThreadExecutor("email-vt-");
+			return newVirtualThreadExecutor("email", "email-vt-");
 		}
 
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -51,6 +94,7 @@ public class InsightExecutorConfig {
 		executor.setQueueCapacity(100);
 		executor.setThreadNamePrefix("email-");
 		executor.initialize();
+		bindPoolGauges("email", executor);
 		return executor;
 	}
 
@@ -62,10 +106,50 @@ public class InsightExecutorConfig {
 		return virtualThreadProperties.isEnabled() || virtualThreadProperties.isEmailEnabled();
 	}
 
-	private ExecutorService newVirtualThreadExecutor(String namePrefix) {
+	private ExecutorService newVirtualThreadExecutor(String name, String namePrefix) {
 		ThreadFactory factory = Thread.ofVirtual()
 			.name(namePrefix, 1)
 			.factory();
-		return Executors.newThreadPerTaskExecutor(factory);
+		if (meterRegistry == null) {
+			return Executors.newThreadPerTaskExecutor(factory);
+		}
+		// 작업마다 스레드를 새로 만들므로 살아 있는 스레드 수가 곧 실행 중인 작업 수다.
+		AtomicInteger active = new AtomicInteger();
+		ThreadFactory counting = task -> factory.newThread(() -> {
+			active.incrementAndGet();
+			try {
+				task.run();
+			} finally {
+				active.decrementAndGet();
+			}
+		});
+		bindGauges(name, "virtual", active, ignored -> 0, AtomicInteger::get);
+		return Executors.newThreadPerTaskExecutor(counting);
+	}
+
+	private void bindPoolGauges(String name, ThreadPoolTaskExecutor executor) {
+		bindGauges(name, "pool", executor, ThreadPoolTaskExecutor::getQueueSize, ThreadPoolTaskExecutor::getActiveCount);
+	}
+
+	private <T> void bindGauges(
+		String name,
+		String mode,
+		T target,
+		ToDoubleFunction<T> queued,
+		ToDoubleFunction<T> active
+	) {
+		if (meterRegistry == null) {
+			return;
+		}
+		Gauge.builder(QUEUED_GAUGE, target, queued)
+			.description("비동기 실행기 대기 작업 수")
+			.tag("name", name)
+			.tag("mode", mode)
+			.register(meterRegistry);
+		Gauge.builder(ACTIVE_GAUGE, target, active)
+			.description("비동기 실행기 실행 중인 작업 수")
+			.tag("name", name)
+			.tag("mode", mode)
+			.register(meterRegistry);
 	}
 }
@@ -19,4 +19,15 @@ public class KafkaTopicConfig {
 			.replicas(1)
 			.build();
 	}
+
+	/**
+	 * 배치 컨슈머가 재시도를 다 쓴 레코드를 원래 파티션 번호로 보내므로 파티션 수를 맞춘다.
+	 */
+	@Bean
+	public NewTopic aiJobRequestDltTopic(@Value("${app.ai.job.request-topic:ai-job-request}") String requestTopic) {
+		return TopicBuilder.name(requestTopic + ".DLT")
+			.partitions(3)
+			.replicas(1)
+			.build();
+	}
 }
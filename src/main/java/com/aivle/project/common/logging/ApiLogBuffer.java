@@ -0,0 +1,126 @@
+package com.aivle.project.common.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 로그를 고정 크기 링 버퍼에 모았다가 전용 스레드 하나가 순서대로 기록한다.
+ *
+ * <p>요청 스레드는 {@link #offer(ApiLogEvent)} 로 넣기만 하고 기다리지 않는다. 버퍼가 가득 차면 새 로그를 버리고
+ * 버린 건수만 주기적으로 경고한다.
+ */
+@Slf4j
+@Component
+public class ApiLogBuffer {
+
+	private static final int DRAIN_BATCH_SIZE = 256;
+	private static final long POLL_TIMEOUT_MILLIS = 500;
+	private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private final ApiLogProcessor apiLogProcessor;
+	private final ArrayBlockingQueue<ApiLogEvent> queue;
+	private final LongAdder dropped = new LongAdder();
+	private volatile boolean running;
+	private Thread worker;
+	private long lastDropReportNanos;
+
+	@Autowired
+	public ApiLogBuffer(ApiLogProcessor apiLogProcessor, ApiLogProperties properties) {
+		this(apiLogProcessor, properties.getBufferCapacity());
+	}
+
+	ApiLogBuffer(ApiLogProcessor apiLogProcessor, int capacity) {
+		this.apiLogProcessor = apiLogProcessor;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+	}
+
+	/**
+	 * 버퍼에 여유가 있으면 넣고 {@code true}, 가득 차 버렸으면 {@code false} 를 돌려준다.
+	 */
+	public boolean offer(ApiLogEvent event) {
+		if (queue.offer(event)) {
+			return true;
+		}
+		dropped.increment();
+		return false;
+	}
+
+	public int pending() {
+		return queue.size();
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		worker = Thread.ofPlatform().name("api-log-writer").daemon(true).start(this::drainLoop);
+	}
+
+	/**
+	 * 작업 스레드를 멈추고 남은 로그를 호출 스레드에서 마저 기록한다.
+	 */
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		if (worker != null) {
+			worker.join(TimeUnit.SECONDS.toMillis(2));
+		}
+		drainRemaining();
+	}
+
+	void drainRemaining() {
+		ApiLogEvent event;
+		while ((event = queue.poll()) != null) {
+			write(event);
+		}
+		reportDropped(true);
+	}
+
+	private void drainLoop() {
+		List<ApiLogEvent> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+		while (running) {
+			try {
+				ApiLogEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+				if (first != null) {
+					batch.add(first);
+					queue.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+					for (ApiLogEvent event : batch) {
+						write(event);
+					}
+					batch.clear();
+				}
+				reportDropped(false);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void write(ApiLogEvent event) {
+		try {
+			apiLogProcessor.process(event);
+		} catch (RuntimeException ex) {
+			log.debug("API 로그 기록 실패: uri={}, reason={}", event.uri(), ex.getMessage());
+		}
+	}
+
+	private void reportDropped(boolean force) {
+		long now = System.nanoTime();
+		if (!force && now - lastDropReportNanos < DROP_REPORT_INTERVAL_NANOS) {
+			return;
+		}
+		lastDropReportNanos = now;
+		long count = dropped.sumThenReset();
+		if (count > 0) {
+			log.warn("API 로그 버퍼가 가득 차 로그를 버렸습니다: dropped={}, capacity={}", count, queue.remainingCapacity() + queue.size());
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.aivle.project.common.logging;
+
+import java.util.Map;
+
+/**
+ * 버퍼에 쌓아 두었다가 기록할 API 호출 한 건.
+ *
+ * @param result 정상 응답 객체 또는 발생한 예외
+ */
+public record ApiLogEvent(
+	String method,
+	String uri,
+	String className,
+	String methodName,
+	Object[] args,
+	Object result,
+	long time,
+	Map<String, String> contextMap
+) {
+}
@@ -1,54 +1,71 @@
 package com.aivle.project.common.logging;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
- * 무거운 마스킹 및 로깅 작업을 비동기로 처리하는 프로세서.
+ * 마스킹 및 로깅 작업을 처리하는 프로세서. {@link ApiLogBuffer} 의 작업 스레드에서 호출된다.
+ *
+ * <p>DTO 는 문자열로 만든 뒤 정규식으로 고치지 않고, Jackson 생성기에 값을 쓰는 시점에 필드 이름을 보고 가린다.
+ * 출력은 인자 크기 제한이 걸린 하나의 {@link StringBuilder} 에 바로 쓴다.
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class ApiLogProcessor {
 
     private static final String MASKED_VALUE = "\"****\"";
     private static final String COOKIE_MASKED_VALUE = "\"[COOKIE_MASKED]\"";
+    private static final String MASKED_TEXT = "****";
     private static final Pattern JWT_PATTERN = Pattern.compile("^[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+$");
     private static final Pattern BEARER_PATTERN = Pattern.compile("(?i)^Bearer\\s+.+$");
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
     private static final Pattern COOKIE_PAIR_PATTERN = Pattern.compile("(?i)\\b([a-z0-9_-]+)\\s*=\\s*[^;]+");
-    private static final Pattern SENSITIVE_COOKIE_KEY_PATTERN = Pattern.compile("(?i).*(token|session|auth|jwt|csrf|cookie).*");
-    private static final Pattern SENSITIVE_JSON_PATTERN = Pattern.compile(
-        "\"(?i)([^\"\\\\]*(password|token|secret|credential|authorization|cookie|session|jwt|csrf|name|phone|ssn|creditcard)[^\"\\\\]*)\"\\s*:\\s*\"[^\"]*\""
-    );
+    private static final String[] SENSITIVE_COOKIE_KEYWORDS = {"token", "session", "auth", "jwt", "csrf", "cookie"};
+    private static final String[] SENSITIVE_FIELD_KEYWORDS = {
+        "password", "token", "secret", "credential", "authorization", "cookie", "session", "jwt", "csrf",
+        "name", "phone", "ssn", "creditcard"
+    };
 
     private final ObjectMapper objectMapper;
+    private final int maxArgLength;
 
-    @Async
-    public void processLog(String method, String uri, String className, String methodName, 
-                           Object[] args, Object result, long time, Map<String, String> contextMap) {
-        if (contextMap != null) {
-            MDC.setContextMap(contextMap);
+    @Autowired
+    public ApiLogProcessor(ObjectMapper objectMapper, ApiLogProperties properties) {
+        this.objectMapper = objectMapper;
+        this.maxArgLength = Math.max(16, properties.getMaxArgLength());
+    }
+
+    public ApiLogProcessor(ObjectMapper objectMapper) {
+        this(objectMapper, new ApiLogProperties());
+    }
+
+    public void process(ApiLogEvent event) {
+        if (event.contextMap() != null) {
+            MDC.setContextMap(event.contextMap());
         }
 
         try {
-            String maskedArgs = maskArgs(args);
-            
-            if (result instanceof Throwable e) {
+            if (event.result() instanceof Throwable e) {
                 log.error("API Error: [{} {}] | Method: {}.{} | Error: {} | Time: {}ms | RequestId: {}",
-                    method, uri, className, methodName, e.getMessage(), time, MDC.get("requestId"));
+                    event.method(), event.uri(), event.className(), event.methodName(), e.getMessage(), event.time(),
+                    MDC.get("requestId"));
             } else {
                 log.info("API Request: [{} {}] | Method: {}.{} | Args: {} | Time: {}ms | RequestId: {}",
-                    method, uri, className, methodName, maskedArgs, time, MDC.get("requestId"));
+                    event.method(), event.uri(), event.className(), event.methodName(), maskArgs(event.args()),
+                    event.time(), MDC.get("requestId"));
             }
         } finally {
             MDC.clear();
@@ -59,103 +76,244 @@ public class ApiLogProcessor {
         if (args == null || args.length == 0) {
             return "[]";
         }
-        return IntStream.range(0, args.length)
-            .mapToObj(index -> mask(args[index]))
-            .collect(Collectors.joining(", ", "[", "]"));
+        StringBuilder out = new StringBuilder(64 * args.length);
+        out.append('[');
+        for (int index = 0; index < args.length; index++) {
+            if (index > 0) {
+                out.append(", ");
+            }
+            mask(args[index], out);
+        }
+        return out.append(']').toString();
     }
 
-    private String mask(Object arg) {
-        if (arg == null) return "null";
+    private void mask(Object arg, StringBuilder out) {
+        if (arg == null) {
+            out.append("null");
+            return;
+        }
 
         // HTTP 관련 객체 처리
         if (arg instanceof jakarta.servlet.http.HttpServletRequest || arg instanceof jakarta.servlet.http.HttpServletResponse) {
-            return arg.getClass().getSimpleName();
+            out.append(arg.getClass().getSimpleName());
+            return;
         }
 
         // MultipartFile 처리
         if (arg instanceof org.springframework.web.multipart.MultipartFile file) {
-            return String.format("MultipartFile(name=%s, size=%d)", file.getOriginalFilename(), file.getSize());
+            out.append("MultipartFile(name=").append(file.getOriginalFilename()).append(", size=").append(file.getSize()).append(')');
+            return;
         }
 
         // 대용량 데이터 타입 처리
         if (arg instanceof java.util.Collection<?> col) {
-            return String.format("Collection(size=%d)", col.size());
+            out.append("Collection(size=").append(col.size()).append(')');
+            return;
         }
         if (arg instanceof java.util.Map<?, ?> map) {
-            return String.format("Map(size=%d)", map.size());
+            out.append("Map(size=").append(map.size()).append(')');
+            return;
         }
         if (arg.getClass().getName().contains("org.springframework.data.domain.Page")) {
-            return "PageObject";
+            out.append("PageObject");
+            return;
         }
 
         // String 타입 처리
         if (arg instanceof String str) {
-            return maskString(str);
+            maskString(str, out);
+            return;
         }
 
         // 숫자 타입 처리
         if (arg instanceof Number) {
-            return arg.toString();
+            out.append(arg);
+            return;
         }
 
         // 일반 DTO 객체
-        try {
-            String json = objectMapper.writeValueAsString(arg);
-            if (json.length() > 2048) {
-                return String.format("%s(large_json, size=%d)", arg.getClass().getSimpleName(), json.length());
-            }
-            return maskJson(json);
+        int mark = out.length();
+        BoundedWriter writer = new BoundedWriter(out, maxArgLength);
+        try (JsonGenerator generator = new MaskingJsonGenerator(objectMapper.getFactory().createGenerator(writer))) {
+            objectMapper.writeValue(generator, arg);
         } catch (Exception e) {
-            return "[COMPLEX_OBJECT]";
+            out.setLength(mark);
+            if (writer.exceeded()) {
+                out.append(arg.getClass().getSimpleName()).append("(large_json, size>").append(maxArgLength).append(')');
+            } else {
+                out.append("[COMPLEX_OBJECT]");
+            }
         }
     }
 
-    private String maskString(String str) {
+    private void maskString(String str, StringBuilder out) {
         String normalized = str.trim();
-        if (BEARER_PATTERN.matcher(normalized).matches()) return "\"Bearer ****\"";
-        if (JWT_PATTERN.matcher(normalized).matches()) return MASKED_VALUE;
-        if (containsSensitiveCookiePair(normalized)) return COOKIE_MASKED_VALUE;
-        if (normalized.matches("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$")) {
-            return "\"" + maskEmail(normalized) + "\"";
+        if (BEARER_PATTERN.matcher(normalized).matches()) {
+            out.append("\"Bearer ****\"");
+            return;
         }
-        try {
-            return objectMapper.writeValueAsString(str);
-        } catch (Exception e) {
-            return "\"[MASKED]\"";
+        if (JWT_PATTERN.matcher(normalized).matches()) {
+            out.append(MASKED_VALUE);
+            return;
         }
+        if (containsSensitiveCookiePair(normalized)) {
+            out.append(COOKIE_MASKED_VALUE);
+            return;
+        }
+        if (EMAIL_PATTERN.matcher(normalized).matches()) {
+            out.append('"').append(maskEmail(normalized)).append('"');
+            return;
+        }
+        if (str.length() > maxArgLength) {
+            out.append("String(size=").append(str.length()).append(')');
+            return;
+        }
+        out.append('"');
+        JsonStringEncoder.getInstance().quoteAsString(str, out);
+        out.append('"');
     }
 
-    private String maskEmail(String email) {
+    private static String maskEmail(String email) {
         int atIndex = email.indexOf('@');
         if (atIndex > 2) return email.substring(0, 2) + "***" + email.substring(atIndex);
         return "***@***";
     }
 
-    private String maskJson(String json) {
-        Pattern emailPattern = Pattern.compile("\"(?i)email\"\\s*:\\s*\"([^\"]+)\"");
-        Matcher emailMatcher = emailPattern.matcher(json);
-        StringBuffer sb = new StringBuffer();
-        while (emailMatcher.find()) {
-            emailMatcher.appendReplacement(sb, "\"email\":\"" + maskEmail(emailMatcher.group(1)) + "\"");
+    private boolean containsSensitiveCookiePair(String value) {
+        if (value.indexOf('=') < 0) {
+            return false;
         }
-        emailMatcher.appendTail(sb);
-        json = sb.toString();
-
-        Matcher sensitiveMatcher = SENSITIVE_JSON_PATTERN.matcher(json);
-        StringBuffer result = new StringBuffer();
-        while (sensitiveMatcher.find()) {
-            String replacement = "\"" + sensitiveMatcher.group(1) + "\":\"****\"";
-            sensitiveMatcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        Matcher matcher = COOKIE_PAIR_PATTERN.matcher(value);
+        while (matcher.find()) {
+            if (containsAnyIgnoreCase(value, matcher.start(1), matcher.end(1), SENSITIVE_COOKIE_KEYWORDS)) return true;
         }
-        sensitiveMatcher.appendTail(result);
-        return result.toString();
+        return false;
     }
 
-    private boolean containsSensitiveCookiePair(String value) {
-        Matcher matcher = COOKIE_PAIR_PATTERN.matcher(value);
-        while (matcher.find()) {
-            if (SENSITIVE_COOKIE_KEY_PATTERN.matcher(matcher.group(1)).matches()) return true;
+    private static boolean isSensitiveField(String name) {
+        return containsAnyIgnoreCase(name, 0, name.length(), SENSITIVE_FIELD_KEYWORDS);
+    }
+
+    private static boolean isEmailField(String name) {
+        return name.length() >= 5 && name.regionMatches(true, name.length() - 5, "email", 0, 5);
+    }
+
+    /**
+     * {@code text[from, to)} 구간에 키워드 중 하나라도 대소문자 무시로 들어 있는지 확인한다. 소문자 사본을 만들지 않는다.
+     */
+    private static boolean containsAnyIgnoreCase(String text, int from, int to, String[] keywords) {
+        for (String keyword : keywords) {
+            int last = to - keyword.length();
+            for (int i = from; i <= last; i++) {
+                if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                    return true;
+                }
+            }
         }
         return false;
     }
+
+    /**
+     * 문자열 값을 쓸 때 현재 필드 이름(배열 원소면 배열의 필드 이름)을 보고 가린다.
+     */
+    private static final class MaskingJsonGenerator extends JsonGeneratorDelegate {
+
+        MaskingJsonGenerator(JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        @Override
+        public void writeString(String text) throws IOException {
+            String field = currentFieldName();
+            if (field == null || text == null) {
+                super.writeString(text);
+            } else if (isEmailField(field)) {
+                super.writeString(maskEmail(text));
+            } else if (isSensitiveField(field)) {
+                super.writeString(MASKED_TEXT);
+            } else {
+                super.writeString(text);
+            }
+        }
+
+        @Override
+        public void writeString(char[] text, int offset, int len) throws IOException {
+            if (currentFieldName() == null) {
+                super.writeString(text, offset, len);
+            } else {
+                writeString(new String(text, offset, len));
+            }
+        }
+
+        @Override
+        public void writeString(SerializableString text) throws IOException {
+            if (currentFieldName() == null) {
+                super.writeString(text);
+            } else {
+                writeString(text.getValue());
+            }
+        }
+
+        private String currentFieldName() {
+            JsonStreamContext context = getOutputContext();
+            if (context.inArray()) {
+                context = context.getParent();
+            }
+            return context != null && context.inObject() ? context.getCurrentName() : null;
+        }
+    }
+
+    /**
+     * 정해진 문자 수를 넘으면 더 쓰지 않고 예외로 직렬화를 멈추는 출력.
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private final StringBuilder out;
+        private final int limit;
+        private int written;
+        private boolean exceeded;
+
+        BoundedWriter(StringBuilder out, int limit) {
+            this.out = out;
+            this.limit = limit;
+        }
+
+        boolean exceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            ensureCapacity(length);
+            out.append(buffer, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            ensureCapacity(length);
+            out.append(text, offset, offset + length);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            ensureCapacity(1);
+            out.append((char) c);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void ensureCapacity(int length) throws IOException {
+            written += length;
+            if (written > limit) {
+                exceeded = true;
+                throw new IOException("API 로그 인자 크기 제한 초과");
+            }
+        }
+    }
 }
@@ -0,0 +1,38 @@
+package com.aivle.project.common.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 요청 로그 버퍼, 인자 크기 제한, 샘플링 설정.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.logging.api")
+public class ApiLogProperties {
+
+	/**
+	 * 인자 하나를 직렬화할 때 허용하는 최대 문자 수. 넘으면 크기 요약으로 대체한다.
+	 */
+	private int maxArgLength = 2048;
+
+	/**
+	 * 기록 대기 버퍼 크기. 가득 차면 새 로그를 버린다.
+	 */
+	private int bufferCapacity = 4096;
+
+	/**
+	 * 별도 지정이 없는 엔드포인트의 정상 응답 기록 비율(0.0~1.0). 오류 응답은 항상 기록한다.
+	 */
+	private double defaultSampleRate = 1.0;
+
+	/**
+	 * 경로 패턴(Ant 스타일, 예: {@code /api/posts/**})별 정상 응답 기록 비율.
+	 */
+	private Map<String, Double> sampleRates = new LinkedHashMap<>();
+}
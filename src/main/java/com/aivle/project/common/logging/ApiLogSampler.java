@@ -0,0 +1,63 @@
+package com.aivle.project.common.logging;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * 엔드포인트별 API 로그 샘플링 판단.
+ *
+ * <p>매핑된 경로 템플릿({@code /api/posts/{postId}})이 있으면 그 기준으로 비율을 한 번만 찾아 캐시한다.
+ * 템플릿 수는 컨트롤러 매핑 수로 제한되므로 캐시가 커지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiLogSampler {
+
+	private final ApiLogProperties properties;
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final Map<String, Double> rateByRoute = new ConcurrentHashMap<>();
+
+	/**
+	 * 실패한 호출은 항상 기록하고, 정상 호출은 설정된 비율로 기록한다.
+	 */
+	public boolean shouldLog(String routePattern, String uri, boolean failed) {
+		if (failed) {
+			return true;
+		}
+		double rate = rateOf(routePattern, uri);
+		if (rate >= 1.0) {
+			return true;
+		}
+		if (rate <= 0.0) {
+			return false;
+		}
+		return ThreadLocalRandom.current().nextDouble() < rate;
+	}
+
+	double rateOf(String routePattern, String uri) {
+		if (properties.getSampleRates().isEmpty()) {
+			return properties.getDefaultSampleRate();
+		}
+		if (routePattern != null) {
+			return rateByRoute.computeIfAbsent(routePattern, this::resolveRate);
+		}
+		// 매핑 정보가 없는 요청은 경로가 제각각일 수 있으므로 캐시하지 않는다.
+		return uri == null ? properties.getDefaultSampleRate() : resolveRate(uri);
+	}
+
+	private double resolveRate(String path) {
+		Comparator<String> specificity = pathMatcher.getPatternComparator(path);
+		String best = null;
+		for (String pattern : properties.getSampleRates().keySet()) {
+			if (pathMatcher.match(pattern, path) && (best == null || specificity.compare(pattern, best) < 0)) {
+				best = pattern;
+			}
+		}
+		return best == null ? properties.getDefaultSampleRate() : properties.getSampleRates().get(best);
+	}
+}
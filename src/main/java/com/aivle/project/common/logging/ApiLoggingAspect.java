@@ -8,6 +8,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -16,7 +17,7 @@ import java.util.UUID;
 
 /**
  * API 요청/응답 로깅을 위한 Aspect.
- * 포인트컷 정의 및 비동기 로깅 프로세서 호출을 담당함.
+ * 포인트컷 정의, 샘플링 판단, 로그 버퍼 적재를 담당함.
  */
 @Aspect
 @Component
@@ -24,7 +25,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ApiLoggingAspect {
 
-	private final ApiLogProcessor apiLogProcessor;
+	private final ApiLogBuffer apiLogBuffer;
+	private final ApiLogSampler apiLogSampler;
 
 	@Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
 	public void restController() {}
@@ -51,19 +53,23 @@ public class ApiLoggingAspect {
 			throw e;
 		} finally {
 			long time = System.currentTimeMillis() - start;
-			
-			// 비동기로 로깅 위임
-			apiLogProcessor.processLog(
-				request.getMethod(),
-				request.getRequestURI(),
-				joinPoint.getSignature().getDeclaringTypeName(),
-				joinPoint.getSignature().getName(),
-				joinPoint.getArgs(),
-				(exception != null ? exception : result),
-				time,
-				MDC.getCopyOfContextMap()
-			);
-			
+			String uri = request.getRequestURI();
+			Object routePattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+			// 샘플링에 걸린 호출만 버퍼에 넣고, 기록은 버퍼 작업 스레드에 맡김
+			if (apiLogSampler.shouldLog(routePattern instanceof String route ? route : null, uri, exception != null)) {
+				apiLogBuffer.offer(new ApiLogEvent(
+					request.getMethod(),
+					uri,
+					joinPoint.getSignature().getDeclaringTypeName(),
+					joinPoint.getSignature().getName(),
+					joinPoint.getArgs(),
+					(exception != null ? exception : result),
+					time,
+					MDC.getCopyOfContextMap()
+				));
+			}
+
 			MDC.remove("requestId");
 		}
 	}
@@ -4,8 +4,10 @@ import com.aivle.project.common.error.CommonErrorCode;
 import com.aivle.project.common.error.CommonException;
 import com.aivle.project.user.entity.UserEntity;
 import com.aivle.project.user.repository.UserRepository;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,6 +27,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
 	private final UserRepository userRepository;
+	private final ObjectProvider<CurrentUserCache> currentUserCacheProvider;
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
@@ -63,8 +66,7 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 		}
 
 		UUID userUuid = parseUserUuid(jwt.getSubject());
-		UserEntity user = userRepository.findByUuidAndDeletedAtIsNull(userUuid)
-			.orElse(null);
+		UserEntity user = findUser(userUuid).orElse(null);
 		if (user == null) {
 			return null;
 		}
@@ -74,6 +76,14 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
 		return user.getId();
 	}
 
+	private Optional<UserEntity> findUser(UUID userUuid) {
+		CurrentUserCache cache = currentUserCacheProvider.getIfAvailable();
+		if (cache == null) {
+			return userRepository.findByUuidAndDeletedAtIsNull(userUuid);
+		}
+		return cache.get(userUuid, userRepository::findByUuidAndDeletedAtIsNull);
+	}
+
 	private Jwt extractJwt(Authentication authentication) {
 		if (authentication instanceof JwtAuthenticationToken token) {
 			return token.getToken();
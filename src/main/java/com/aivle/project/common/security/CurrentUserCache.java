@@ -0,0 +1,130 @@
+package com.aivle.project.common.security;
+
+import com.aivle.project.user.entity.UserEntity;
+import com.aivle.project.user.event.UserChangedEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 인증 사용자 엔티티 캐시.
+ *
+ * <p>같은 요청 안에서는 요청 속성에 보관한 엔티티를 재사용하고, 요청 간에는 짧은 TTL 동안 재사용한다.
+ * 사용자 변경 이벤트가 커밋되면 해당 UUID 항목을 무효화한다.
+ */
+@Slf4j
+@Component
+public class CurrentUserCache {
+
+	private static final String REQUEST_ATTRIBUTE_PREFIX = CurrentUserCache.class.getName() + ".";
+
+	private final boolean enabled;
+	private final Duration ttl;
+	private final int maxSize;
+	private final Clock clock;
+	private final Map<UUID, CacheEntry> entries = new ConcurrentHashMap<>();
+	// 무효화가 일어날 때마다 증가시켜, 무효화 이전에 읽은 엔티티가 다시 적재되지 않도록 한다.
+	private final AtomicLong generation = new AtomicLong();
+
+	@Autowired
+	public CurrentUserCache(
+		@Value("${app.security.current-user-cache.enabled:true}") boolean enabled,
+		@Value("${app.security.current-user-cache.ttl:30s}") Duration ttl,
+		@Value("${app.security.current-user-cache.max-size:10000}") int maxSize
+	) {
+		this(enabled, ttl, maxSize, Clock.systemUTC());
+	}
+
+	CurrentUserCache(boolean enabled, Duration ttl, int maxSize, Clock clock) {
+		this.enabled = enabled && maxSize > 0;
+		this.ttl = ttl;
+		this.maxSize = maxSize;
+		this.clock = clock;
+	}
+
+	public Optional<UserEntity> get(UUID uuid, Function<UUID, Optional<UserEntity>> loader) {
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		String attributeName = REQUEST_ATTRIBUTE_PREFIX + uuid;
+		if (request != null
+			&& request.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST) instanceof UserEntity cached) {
+			return Optional.of(cached);
+		}
+
+		Optional<UserEntity> user = getShared(uuid, loader);
+		if (request != null && user.isPresent()) {
+			request.setAttribute(attributeName, user.get(), RequestAttributes.SCOPE_REQUEST);
+		}
+		return user;
+	}
+
+	/**
+	 * 사용자 변경 커밋 이후 해당 사용자의 항목을 무효화한다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		if (event.uuid() == null) {
+			return;
+		}
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.remove(event.uuid());
+		}
+		log.debug("인증 사용자 캐시 무효화: userId={}", event.userId());
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private Optional<UserEntity> getShared(UUID uuid, Function<UUID, Optional<UserEntity>> loader) {
+		if (!enabled) {
+			return loader.apply(uuid);
+		}
+		long now = clock.millis();
+		CacheEntry cached = entries.get(uuid);
+		if (cached != null && cached.expiresAt() > now) {
+			return Optional.of(cached.user());
+		}
+
+		long observedGeneration = generation.get();
+		Optional<UserEntity> loaded = loader.apply(uuid);
+		// 조회 도중 무효화가 있었다면 변경 이전 엔티티일 수 있으므로 적재하지 않는다.
+		if (loaded.isEmpty()) {
+			entries.remove(uuid);
+			return loaded;
+		}
+		synchronized (entries) {
+			if (generation.get() == observedGeneration) {
+				entries.put(uuid, new CacheEntry(loaded.get(), now + ttl.toMillis()));
+			}
+		}
+		trim(now);
+		return loaded;
+	}
+
+	private void trim(long now) {
+		if (entries.size() <= maxSize) {
+			return;
+		}
+		entries.values().removeIf(entry -> entry.expiresAt() <= now);
+		if (entries.size() > maxSize) {
+			entries.clear();
+		}
+	}
+
+	private record CacheEntry(UserEntity user, long expiresAt) {
+	}
+}
@@ -0,0 +1,39 @@
+package com.aivle.project.company.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/**
+ * Spring Batch 작업 전체 시간을 스케줄 작업과 같은 {@code batch.job.duration} 지표로 남긴다.
+ *
+ * <p>기본 {@code spring.batch.job} 지표와 달리 태그를 작업 이름과 결과로만 제한해 대시보드에서 다른 배치와 함께 본다.
+ */
+public class BatchJobMetricsListener implements JobExecutionListener {
+
+	static final String JOB_TIMER = "batch.job.duration";
+
+	private final MeterRegistry meterRegistry;
+
+	public BatchJobMetricsListener(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void afterJob(JobExecution jobExecution) {
+		LocalDateTime startTime = jobExecution.getStartTime();
+		if (meterRegistry == null || startTime == null) {
+			return;
+		}
+		Timer.builder(JOB_TIMER)
+			.description("배치 작업 전체 실행 시간")
+			.tag("job", jobExecution.getJobInstance().getJobName())
+			.tag("outcome", jobExecution.getStatus().name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.record(Duration.between(startTime, LocalDateTime.now()));
+	}
+}
@@ -0,0 +1,70 @@
+package com.aivle.project.company.batch;
+
+import com.aivle.project.company.repository.CompaniesJdbcRepository;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * 파티션 워커용 Processor.
+ *
+ * <p>정규화 후, 파티션에 속한 기업의 기존 수정일을 한 번에 불러 두고 변경되지 않은 행을 걸러낸다.
+ * 걸러낸 행은 Writer 에 도달하지 않고 스텝의 filterCount 로 집계된다.
+ */
+@Slf4j
+public class DartCorpCodeChangeFilterProcessor implements ItemProcessor<DartCorpCodeItem, DartCorpCodeItem> {
+
+	private final DartCorpCodeItemProcessor normalizer;
+	private final CompaniesJdbcRepository companiesJdbcRepository;
+	private final int partitionIndex;
+	private final int partitionCount;
+
+	private Map<String, LocalDate> existingDates;
+
+	public DartCorpCodeChangeFilterProcessor(
+		DartCorpCodeItemProcessor normalizer,
+		CompaniesJdbcRepository companiesJdbcRepository,
+		int partitionIndex,
+		int partitionCount
+	) {
+		this.normalizer = normalizer;
+		this.companiesJdbcRepository = companiesJdbcRepository;
+		this.partitionIndex = partitionIndex;
+		this.partitionCount = partitionCount;
+	}
+
+	@Override
+	public DartCorpCodeItem process(DartCorpCodeItem item) {
+		DartCorpCodeItem normalized = normalizer.process(item);
+		if (normalized == null) {
+			return null;
+		}
+		// DartCorpCodeItemWriter 와 같은 기준: 신규이거나 수정일이 더 최신인 경우만 적재한다.
+		LocalDate existingDate = existingDates().get(normalized.corpCode());
+		if (existingDate == null) {
+			return normalized;
+		}
+		LocalDate incomingDate = normalized.modifyDate();
+		if (incomingDate != null && incomingDate.isAfter(existingDate)) {
+			return normalized;
+		}
+		return null;
+	}
+
+	private Map<String, LocalDate> existingDates() {
+		if (existingDates == null) {
+			Map<String, LocalDate> loaded = new HashMap<>();
+			companiesJdbcRepository.forEachModifyDate((corpCode, modifyDate) -> {
+				if (DartCorpCodePartitioner.partitionOf(corpCode, partitionCount) == partitionIndex) {
+					loaded.put(corpCode, modifyDate);
+				}
+			});
+			existingDates = loaded;
+			log.info("DART 기업 코드 파티션 수정일 적재: partition={}/{}, companies={}",
+				partitionIndex, partitionCount, loaded.size());
+		}
+		return existingDates;
+	}
+}
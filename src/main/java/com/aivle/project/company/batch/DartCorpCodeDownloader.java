@@ -0,0 +1,62 @@
+package com.aivle.project.company.batch;
+
+import com.aivle.project.company.config.DartProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * DART 기업 코드 ZIP 을 메모리에 모으지 않고 임시 파일로 스트리밍 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DartCorpCodeDownloader {
+
+	private final DartProperties dartProperties;
+	private final WebClient dartWebClient;
+
+	public Path download() throws IOException {
+		String apiKey = dartProperties.getApiKey();
+		if (!StringUtils.hasText(apiKey)) {
+			throw new ItemStreamException("DART_API_KEY가 설정되지 않았습니다.");
+		}
+		Path target = Files.createTempFile("dart-corp-code-", ".zip");
+		DartProperties.Http http = dartProperties.getHttp();
+		try {
+			Flux<DataBuffer> body = dartWebClient.get()
+				.uri(uriBuilder -> uriBuilder
+					.path("/api/corpCode.xml")
+					.queryParam("crtfc_key", apiKey)
+					.build())
+				.accept(MediaType.APPLICATION_OCTET_STREAM)
+				.retrieve()
+				.bodyToFlux(DataBuffer.class);
+			// 재시도는 파일을 처음부터 다시 쓰도록 쓰기 전체를 다시 구독한다.
+			DataBufferUtils.write(body, target, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+				.retryWhen(Retry.backoff(http.getRetryCount(), Duration.ofMillis(http.getRetryBackoffMs())))
+				.block();
+			if (Files.size(target) == 0) {
+				throw new ItemStreamException("DART 기업 코드 ZIP 응답이 비어 있습니다.");
+			}
+			log.info("DART 기업 코드 ZIP 다운로드 완료: path={}, bytes={}", target, Files.size(target));
+			return target;
+		} catch (RuntimeException | IOException ex) {
+			Files.deleteIfExists(target);
+			throw ex;
+		}
+	}
+}
@@ -1,85 +1,223 @@
 package com.aivle.project.company.batch;
 
 import com.aivle.project.company.config.DartProperties;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Enumeration;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.XMLEvent;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemStreamException;
-import org.springframework.batch.item.ItemStreamReader;
-import org.springframework.http.MediaType;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.util.retry.Retry;
 
 /**
  * DART 기업 코드 Reader.
+ *
+ * <p>ZIP 응답은 메모리에 모으지 않고 임시 파일로 스트리밍 저장한 뒤 XML 을 StAX 로 점진적으로 읽는다.
+ * 읽은 건수와 임시 파일 경로를 {@link ExecutionContext} 에 남겨, 실패한 실행을 재시작하면
+ * 다운로드 없이 마지막 커밋 지점부터 이어서 읽는다.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
-public class DartCorpCodeItemReader implements ItemStreamReader<DartCorpCodeItem> {
+public class DartCorpCodeItemReader extends AbstractItemCountingItemStreamItemReader<DartCorpCodeItem> {
 
-private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+	static final String NAME = "dartCorpCodeItemReader";
+	private static final String DOWNLOAD_PATH_KEY = "download.path";
+	/**
+	 * 파티션 없이 실행한 스텝이 내려받은 ZIP 경로를 남기는 스텝 실행 컨텍스트 키.
+	 */
+	static final String STEP_DOWNLOAD_PATH_KEY = NAME + "." + DOWNLOAD_PATH_KEY;
 
-	private final DartProperties dartProperties;
-	private final WebClient dartWebClient;
+	private final DartCorpCodeDownloader downloader;
 
-	private ZipInputStream zipInputStream;
+	private int partitionIndex = 0;
+	private int partitionCount = 1;
+	private boolean sharedDownload;
+	private Path downloadPath;
+	private ZipFile zipFile;
 	private InputStream xmlInputStream;
 	private XMLEventReader eventReader;
 	private boolean statusChecked;
+	private boolean exhausted;
+
+	@Autowired
+	public DartCorpCodeItemReader(DartCorpCodeDownloader downloader) {
+		this.downloader = downloader;
+		setName(NAME);
+	}
+
+	public DartCorpCodeItemReader(DartProperties dartProperties, WebClient dartWebClient) {
+		this(new DartCorpCodeDownloader(dartProperties, dartWebClient));
+	}
+
+	/**
+	 * 파티션 워커용으로 설정한다. 다운로드 스텝이 받아 둔 파일을 공유하므로 직접 받거나 지우지 않고,
+	 * 해시가 {@code partitionIndex} 에 해당하는 기업 코드만 읽는다.
+	 */
+	public void assignPartition(int partitionIndex, int partitionCount, Path sharedDownloadPath) {
+		this.partitionIndex = partitionIndex;
+		this.partitionCount = Math.max(1, partitionCount);
+		this.sharedDownload = true;
+		this.downloadPath = sharedDownloadPath;
+	}
 
 	@Override
 	public void open(ExecutionContext executionContext) throws ItemStreamException {
-		String apiKey = dartProperties.getApiKey();
-		if (!StringUtils.hasText(apiKey)) {
-			throw new ItemStreamException("DART_API_KEY가 설정되지 않았습니다.");
+		if (sharedDownload) {
+			super.open(executionContext);
+			return;
+		}
+		Path restored = restoreDownloadPath(executionContext);
+		discardStaleDownload(restored);
+		downloadPath = restored;
+		super.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		super.update(executionContext);
+		if (downloadPath != null && !sharedDownload) {
+			executionContext.putString(getExecutionContextKey(DOWNLOAD_PATH_KEY), downloadPath.toString());
+		}
+	}
+
+	@Override
+	protected void doOpen() throws Exception {
+		if (downloadPath == null && sharedDownload) {
+			throw new ItemStreamException("공유 DART 기업 코드 ZIP 경로가 없습니다.");
+		}
+		if (downloadPath == null) {
+			downloadPath = downloader.download();
+		} else {
+			log.info("DART 기업 코드 ZIP 재사용: path={}", downloadPath);
 		}
 		try {
-			DartProperties.Http http = dartProperties.getHttp();
-			byte[] zipBytes = dartWebClient.get()
-				.uri(uriBuilder -> uriBuilder
-					.path("/api/corpCode.xml")
-					.queryParam("crtfc_key", apiKey)
-					.build())
-				.accept(MediaType.APPLICATION_OCTET_STREAM)
-				.retrieve()
-				.bodyToMono(byte[].class)
-				.retryWhen(Retry.backoff(http.getRetryCount(), Duration.ofMillis(http.getRetryBackoffMs())))
-				.block();
-			if (zipBytes == null || zipBytes.length == 0) {
-				throw new ItemStreamException("DART 기업 코드 ZIP 응답이 비어 있습니다.");
-			}
-			zipInputStream = new ZipInputStream(new ByteArrayInputStream(zipBytes), StandardCharsets.UTF_8);
-			ZipEntry entry = nextXmlEntry(zipInputStream);
+			zipFile = new ZipFile(downloadPath.toFile(), StandardCharsets.UTF_8);
+			ZipEntry entry = findXmlEntry(zipFile);
 			if (entry == null) {
 				throw new ItemStreamException("DART 기업 코드 ZIP에서 XML 파일을 찾지 못했습니다.");
 			}
-			xmlInputStream = zipInputStream;
+			xmlInputStream = zipFile.getInputStream(entry);
 			eventReader = XMLInputFactory.newFactory().createXMLEventReader(xmlInputStream, StandardCharsets.UTF_8.name());
 			statusChecked = false;
+			exhausted = false;
 		} catch (IOException | XMLStreamException ex) {
 			throw new ItemStreamException("DART 기업 코드 ZIP 파싱에 실패했습니다.", ex);
 		}
 	}
 
 	@Override
-	public DartCorpCodeItem read() throws Exception {
-		if (eventReader == null) {
+	protected DartCorpCodeItem doRead() throws Exception {
+		while (advanceToNextList()) {
+			DartCorpCodeItem item = readListElement();
+			if (inPartition(item)) {
+				return item;
+			}
+		}
+		exhausted = true;
+		return null;
+	}
+
+	/**
+	 * 재시작 시 이미 커밋된 항목은 건너뛴다. 파티션이 없으면 매핑 없이 {@code list} 요소 단위로 넘긴다.
+	 */
+	@Override
+	protected void jumpToItem(int itemIndex) throws Exception {
+		int skipped = 0;
+		while (skipped < itemIndex) {
+			if (!advanceToNextList()) {
+				exhausted = true;
+				return;
+			}
+			if (partitionCount == 1) {
+				skipListElement();
+				skipped++;
+			} else if (inPartition(readListElement())) {
+				skipped++;
+			}
+		}
+		log.info("DART 기업 코드 재시작 위치로 이동: skipped={}", itemIndex);
+	}
+
+	@Override
+	protected void doClose() throws Exception {
+		try {
+			if (eventReader != null) {
+				eventReader.close();
+			}
+			if (xmlInputStream != null) {
+				xmlInputStream.close();
+			}
+			if (zipFile != null) {
+				zipFile.close();
+			}
+		} catch (IOException | XMLStreamException ex) {
+			throw new ItemStreamException("DART 기업 코드 리더 종료 중 오류가 발생했습니다.", ex);
+		} finally {
+			eventReader = null;
+			xmlInputStream = null;
+			zipFile = null;
+			// 끝까지 읽지 못했다면 재시작에서 재사용하도록 임시 파일을 남긴다.
+			if (exhausted && downloadPath != null && !sharedDownload) {
+				Files.deleteIfExists(downloadPath);
+				downloadPath = null;
+			}
+		}
+	}
+
+	private Path restoreDownloadPath(ExecutionContext executionContext) {
+		String key = getExecutionContextKey(DOWNLOAD_PATH_KEY);
+		if (!executionContext.containsKey(key)) {
+			return null;
+		}
+		Path path = Path.of(executionContext.getString(key));
+		if (!Files.isReadable(path)) {
+			log.info("DART 기업 코드 임시 파일이 없어 다시 다운로드합니다: path={}", path);
 			return null;
 		}
+		return path;
+	}
+
+	private boolean inPartition(DartCorpCodeItem item) {
+		return partitionCount == 1 || DartCorpCodePartitioner.partitionOf(item.corpCode(), partitionCount) == partitionIndex;
+	}
+
+	/**
+	 * 재시작되지 않은 이전 실행이 남긴 임시 파일을 정리한다.
+	 */
+	private void discardStaleDownload(Path restored) {
+		if (downloadPath == null || downloadPath.equals(restored)) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(downloadPath);
+		} catch (IOException ex) {
+			log.warn("DART 기업 코드 임시 파일 삭제 실패: path={}", downloadPath, ex);
+		}
+	}
+
+	/**
+	 * 다음 {@code list} 시작 요소까지 이동한다. 도중에 만나는 {@code status} 는 한 번만 검사한다.
+	 */
+	private boolean advanceToNextList() throws XMLStreamException {
+		if (eventReader == null) {
+			return false;
+		}
 		while (eventReader.hasNext()) {
 			XMLEvent event = eventReader.nextEvent();
 			if (!event.isStartElement()) {
@@ -95,34 +233,21 @@ private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_
 				continue;
 			}
 			if ("list".equals(localName)) {
-				return readListElement();
+				return true;
 			}
 		}
-		return null;
+		return false;
 	}
 
-	@Override
-	public void close() throws ItemStreamException {
-		try {
-			if (eventReader != null) {
-				eventReader.close();
-			}
-			if (xmlInputStream != null) {
-				xmlInputStream.close();
-			}
-			if (zipInputStream != null) {
-				zipInputStream.close();
+	private void skipListElement() throws XMLStreamException {
+		while (eventReader.hasNext()) {
+			XMLEvent event = eventReader.nextEvent();
+			if (event.isEndElement() && "list".equals(event.asEndElement().getName().getLocalPart())) {
+				return;
 			}
-		} catch (IOException | XMLStreamException ex) {
-			throw new ItemStreamException("DART 기업 코드 리더 종료 중 오류가 발생했습니다.", ex);
 		}
 	}
 
-	@Override
-	public void update(ExecutionContext executionContext) {
-		// 현재는 체크포인트 저장이 필요하지 않습니다.
-	}
-
 	private DartCorpCodeItem readListElement() throws XMLStreamException {
 		String corpCode = null;
 		String corpName = null;
@@ -167,9 +292,10 @@ private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.BASIC_
 		return LocalDate.parse(value.trim(), DATE_FORMATTER);
 	}
 
-	private ZipEntry nextXmlEntry(ZipInputStream zipStream) throws IOException {
-		ZipEntry entry;
-		while ((entry = zipStream.getNextEntry()) != null) {
+	private ZipEntry findXmlEntry(ZipFile zip) {
+		Enumeration<? extends ZipEntry> entries = zip.entries();
+		while (entries.hasMoreElements()) {
+			ZipEntry entry = entries.nextElement();
 			if (!entry.isDirectory() && entry.getName().endsWith(".xml")) {
 				return entry;
 			}
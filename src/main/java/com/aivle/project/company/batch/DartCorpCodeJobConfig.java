@@ -1,35 +1,78 @@
 package com.aivle.project.company.batch;
 
+import com.aivle.project.common.config.VirtualThreadProperties;
 import com.aivle.project.company.config.DartProperties;
+import com.aivle.project.company.repository.CompaniesJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.batch.core.repository.JobRepository;
 
 /**
  * DART 기업 목록 동기화 배치 설정.
+ *
+ * <p>{@code dart.corp-sync.partition.enabled} 가 켜져 있으면 ZIP 을 한 번 받은 뒤
+ * 기업 코드 해시 구간별 워커 스텝을 병렬로 실행한다.
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class DartCorpCodeJobConfig {
 
 	public static final String JOB_NAME = "dartCorpCodeSyncJob";
 	public static final String STEP_NAME = "dartCorpCodeSyncStep";
+	public static final String DOWNLOAD_STEP_NAME = "dartCorpCodeDownloadStep";
+	public static final String PARTITION_STEP_NAME = "dartCorpCodePartitionStep";
+	public static final String WORKER_STEP_NAME = "dartCorpCodePartitionWorkerStep";
 
 	private final DartProperties dartProperties;
+	private final VirtualThreadProperties virtualThreadProperties;
 
 	@Bean
-	public Job dartCorpCodeSyncJob(JobRepository jobRepository, Step dartCorpCodeSyncStep) {
-		return new JobBuilder(JOB_NAME, jobRepository)
-			.start(dartCorpCodeSyncStep)
+	public Job dartCorpCodeSyncJob(
+		JobRepository jobRepository,
+		Step dartCorpCodeSyncStep,
+		Step dartCorpCodeDownloadStep,
+		Step dartCorpCodePartitionStep,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		JobBuilder builder = new JobBuilder(JOB_NAME, jobRepository)
+			.listener(new BatchJobMetricsListener(meterRegistryProvider.getIfAvailable()));
+		if (!dartProperties.getCorpSync().getPartition().isEnabled()) {
+			return builder
+				.start(dartCorpCodeSyncStep)
+				.build();
+		}
+		return builder
+			.listener(downloadCleanupListener())
+			.start(dartCorpCodeDownloadStep)
+			.next(dartCorpCodePartitionStep)
 			.build();
 	}
 
@@ -37,9 +80,9 @@ public class DartCorpCodeJobConfig {
 	public Step dartCorpCodeSyncStep(
 		JobRepository jobRepository,
 		PlatformTransactionManager transactionManager,
-		ItemReader<DartCorpCodeItem> reader,
-		ItemProcessor<DartCorpCodeItem, DartCorpCodeItem> processor,
-		ItemWriter<DartCorpCodeItem> writer
+		@Qualifier("dartCorpCodeItemReader") ItemReader<DartCorpCodeItem> reader,
+		@Qualifier("dartCorpCodeItemProcessor") ItemProcessor<DartCorpCodeItem, DartCorpCodeItem> processor,
+		@Qualifier("dartCorpCodeItemWriter") ItemWriter<DartCorpCodeItem> writer
 	) {
 		int chunkSize = dartProperties.getCorpSync().getChunkSize();
 		return new StepBuilder(STEP_NAME, jobRepository)
@@ -49,4 +92,128 @@ public class DartCorpCodeJobConfig {
 			.writer(writer)
 			.build();
 	}
+
+	/**
+	 * ZIP 을 한 번만 받아 경로를 Job ExecutionContext 에 남긴다. 재시작 시 완료된 이 스텝은 다시 실행되지 않는다.
+	 */
+	@Bean
+	public Step dartCorpCodeDownloadStep(
+		JobRepository jobRepository,
+		PlatformTransactionManager transactionManager,
+		DartCorpCodeDownloader downloader
+	) {
+		Tasklet tasklet = (contribution, chunkContext) -> {
+			Path downloaded = downloader.download();
+			chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext()
+				.putString(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY, downloaded.toString());
+			return RepeatStatus.FINISHED;
+		};
+		return new StepBuilder(DOWNLOAD_STEP_NAME, jobRepository)
+			.tasklet(tasklet, transactionManager)
+			.build();
+	}
+
+	@Bean
+	public Step dartCorpCodePartitionStep(
+		JobRepository jobRepository,
+		DartCorpCodePartitioner dartCorpCodePartitioner,
+		Step dartCorpCodePartitionWorkerStep
+	) {
+		int gridSize = Math.max(1, dartProperties.getCorpSync().getPartition().getGridSize());
+		return new StepBuilder(PARTITION_STEP_NAME, jobRepository)
+			.partitioner(WORKER_STEP_NAME, dartCorpCodePartitioner)
+			.step(dartCorpCodePartitionWorkerStep)
+			.gridSize(gridSize)
+			.taskExecutor(dartCorpCodePartitionTaskExecutor(gridSize))
+			.build();
+	}
+
+	@Bean
+	public Step dartCorpCodePartitionWorkerStep(
+		JobRepository jobRepository,
+		PlatformTransactionManager transactionManager,
+		DartCorpCodeItemReader dartCorpCodePartitionReader,
+		DartCorpCodeChangeFilterProcessor dartCorpCodeChangeFilterProcessor,
+		CompaniesJdbcRepository companiesJdbcRepository,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		int chunkSize = dartProperties.getCorpSync().getChunkSize();
+		// 변경되지 않은 행은 Processor 에서 걸러지므로 Writer 는 사전 조회 없이 바로 적재한다.
+		ItemWriter<DartCorpCodeItem> writer = chunk -> companiesJdbcRepository.upsertBatch(List.copyOf(chunk.getItems()));
+		return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+			.<DartCorpCodeItem, DartCorpCodeItem>chunk(chunkSize, transactionManager)
+			.reader(dartCorpCodePartitionReader)
+			.processor(dartCorpCodeChangeFilterProcessor)
+			.writer(writer)
+			.listener(new DartCorpCodePartitionMetricsListener(meterRegistryProvider.getIfAvailable()))
+			.build();
+	}
+
+	@Bean
+	@StepScope
+	public DartCorpCodePartitioner dartCorpCodePartitioner(
+		@Value("#{jobExecutionContext['" + DartCorpCodePartitioner.DOWNLOAD_PATH_KEY + "']}") String downloadPath
+	) {
+		return new DartCorpCodePartitioner(downloadPath);
+	}
+
+	@Bean
+	@StepScope
+	public DartCorpCodeItemReader dartCorpCodePartitionReader(
+		DartCorpCodeDownloader downloader,
+		@Value("#{stepExecutionContext['" + DartCorpCodePartitioner.PARTITION_INDEX_KEY + "']}") Integer partitionIndex,
+		@Value("#{stepExecutionContext['" + DartCorpCodePartitioner.PARTITION_COUNT_KEY + "']}") Integer partitionCount,
+		@Value("#{stepExecutionContext['" + DartCorpCodePartitioner.DOWNLOAD_PATH_KEY + "']}") String downloadPath
+	) {
+		DartCorpCodeItemReader reader = new DartCorpCodeItemReader(downloader);
+		reader.assignPartition(partitionIndex, partitionCount, Path.of(downloadPath));
+		return reader;
+	}
+
+	@Bean
+	@StepScope
+	public DartCorpCodeChangeFilterProcessor dartCorpCodeChangeFilterProcessor(
+		DartCorpCodeItemProcessor dartCorpCodeItemProcessor,
+		CompaniesJdbcRepository companiesJdbcRepository,
+		@Value("#{stepExecutionContext['" + DartCorpCodePartitioner.PARTITION_INDEX_KEY + "']}") Integer partitionIndex,
+		@Value("#{stepExecutionContext['" + DartCorpCodePartitioner.PARTITION_COUNT_KEY + "']}") Integer partitionCount
+	) {
+		return new DartCorpCodeChangeFilterProcessor(
+			dartCorpCodeItemProcessor,
+			companiesJdbcRepository,
+			partitionIndex,
+			partitionCount
+		);
+	}
+
+	private TaskExecutor dartCorpCodePartitionTaskExecutor(int gridSize) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dart-partition-");
+		executor.setVirtualThreads(virtualThreadProperties.isEnabled());
+		executor.setConcurrencyLimit(gridSize);
+		return executor;
+	}
+
+	/**
+	 * 정상 완료된 경우에만 공유 ZIP 을 지운다. 실패 시에는 재시작에서 재사용한다.
+	 */
+	private JobExecutionListener downloadCleanupListener() {
+		return new JobExecutionListener() {
+			@Override
+			public void afterJob(JobExecution jobExecution) {
+				if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+					return;
+				}
+				ExecutionContext context = jobExecution.getExecutionContext();
+				if (!context.containsKey(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY)) {
+					return;
+				}
+				Path downloaded = Path.of(context.getString(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY));
+				try {
+					Files.deleteIfExists(downloaded);
+				} catch (IOException ex) {
+					log.warn("DART 기업 코드 임시 파일 삭제 실패: path={}", downloaded, ex);
+				}
+			}
+		};
+	}
 }
@@ -1,9 +1,20 @@
 package com.aivle.project.company.batch;
 
+import com.aivle.project.company.config.DartProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
@@ -14,20 +25,98 @@ import org.springframework.stereotype.Service;
 /**
  * DART 기업 목록 동기화 배치 실행 서비스.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DartCorpCodeJobService {
 
 	private final JobLauncher jobLauncher;
+	private final JobExplorer jobExplorer;
 	private final org.springframework.batch.core.Job dartCorpCodeSyncJob;
+	private final DartProperties dartProperties;
 
+	/**
+	 * 직전 실행이 최근에 실패했고 재시작 횟수가 남아 있으면 같은 파라미터로 재시작해 마지막 커밋 지점부터 이어서 읽고,
+	 * 아니면 새로 내려받는 새 실행을 시작한다.
+	 */
 	public JobExecution launch(String trigger)
 		throws JobExecutionAlreadyRunningException, JobRestartException,
 		JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+		JobExecution failed = findFailedExecution();
+		if (failed != null) {
+			if (isRestartable(failed)) {
+				log.info("DART 기업 목록 동기화 실패 실행 재시작. jobExecutionId={}, trigger={}", failed.getId(), trigger);
+				return jobLauncher.run(dartCorpCodeSyncJob, failed.getJobParameters());
+			}
+			log.info("DART 기업 목록 동기화 실패 실행을 재시작하지 않고 새로 실행. jobExecutionId={}, trigger={}",
+				failed.getId(), trigger);
+			discardDownload(failed);
+		}
 		JobParameters parameters = new JobParametersBuilder()
 			.addLong("requestedAt", System.currentTimeMillis())
 			.addString("trigger", trigger)
 			.toJobParameters();
 		return jobLauncher.run(dartCorpCodeSyncJob, parameters);
 	}
+
+	private JobExecution findFailedExecution() {
+		JobInstance lastInstance = jobExplorer.getLastJobInstance(DartCorpCodeJobConfig.JOB_NAME);
+		if (lastInstance == null) {
+			return null;
+		}
+		JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+		if (lastExecution == null) {
+			return null;
+		}
+		BatchStatus status = lastExecution.getStatus();
+		return status == BatchStatus.FAILED || status == BatchStatus.STOPPED ? lastExecution : null;
+	}
+
+	/**
+	 * 실패가 재시작 기간 안에 있고, 인스턴스의 실행 횟수가 한도 미만이며, 내려받은 ZIP 이 남아 있을 때만 재시작한다.
+	 */
+	private boolean isRestartable(JobExecution failed) {
+		DartProperties.Restart restart = dartProperties.getCorpSync().getRestart();
+		LocalDateTime failedAt = failed.getEndTime() != null ? failed.getEndTime() : failed.getCreateTime();
+		if (failedAt == null || failedAt.isBefore(LocalDateTime.now().minus(restart.getWindow()))) {
+			return false;
+		}
+		if (jobExplorer.getJobExecutions(failed.getJobInstance()).size() >= restart.getMaxAttempts()) {
+			return false;
+		}
+		Path download = downloadPathOf(failed);
+		return download == null || Files.exists(download);
+	}
+
+	/**
+	 * 버려지는 실행이 남긴 ZIP 은 다시 쓰지 않으므로 지운다.
+	 */
+	private void discardDownload(JobExecution failed) {
+		Path download = downloadPathOf(failed);
+		if (download == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(download);
+		} catch (IOException ex) {
+			log.warn("DART 기업 코드 임시 파일 삭제 실패: path={}", download, ex);
+		}
+	}
+
+	/**
+	 * 파티션 실행은 잡 실행 컨텍스트에, 파티션 없이 실행한 스텝은 리더가 스텝 실행 컨텍스트에 ZIP 경로를 남긴다.
+	 */
+	private Path downloadPathOf(JobExecution execution) {
+		ExecutionContext context = execution.getExecutionContext();
+		if (context.containsKey(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY)) {
+			return Path.of(context.getString(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY));
+		}
+		for (StepExecution stepExecution : execution.getStepExecutions()) {
+			ExecutionContext stepContext = stepExecution.getExecutionContext();
+			if (stepContext.containsKey(DartCorpCodeItemReader.STEP_DOWNLOAD_PATH_KEY)) {
+				return Path.of(stepContext.getString(DartCorpCodeItemReader.STEP_DOWNLOAD_PATH_KEY));
+			}
+		}
+		return null;
+	}
 }
@@ -0,0 +1,59 @@
+package com.aivle.project.company.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * 파티션 워커 스텝의 처리량을 기록한다.
+ *
+ * <p>Spring Batch 기본 스텝 지표(spring.batch.step)에 더해 파티션별 초당 읽기 건수를 남기고,
+ * 같은 값을 스텝 ExecutionContext 에도 저장해 배치 메타 테이블에서 조회할 수 있게 한다.
+ */
+@Slf4j
+public class DartCorpCodePartitionMetricsListener implements StepExecutionListener {
+
+	static final String THROUGHPUT_METRIC = "spring.batch.step.partition.throughput";
+	static final String THROUGHPUT_KEY = "partition.throughput";
+
+	private final MeterRegistry meterRegistry;
+
+	public DartCorpCodePartitionMetricsListener(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		LocalDateTime startTime = stepExecution.getStartTime();
+		Duration elapsed = startTime == null ? Duration.ZERO : Duration.between(startTime, LocalDateTime.now());
+		long elapsedMs = Math.max(1L, elapsed.toMillis());
+		double throughput = stepExecution.getReadCount() * 1000.0 / elapsedMs;
+		stepExecution.getExecutionContext().putDouble(THROUGHPUT_KEY, throughput);
+
+		if (meterRegistry != null) {
+			DistributionSummary.builder(THROUGHPUT_METRIC)
+				.description("파티션 워커 스텝 초당 읽기 건수")
+				.baseUnit("items/s")
+				.tag("spring.batch.step.job.name", stepExecution.getJobExecution().getJobInstance().getJobName())
+				.tag("spring.batch.step.name", stepExecution.getStepName())
+				.tag("spring.batch.step.status", stepExecution.getStatus().name())
+				.register(meterRegistry)
+				.record(throughput);
+		}
+		log.info(
+			"DART 기업 코드 파티션 완료: step={}, read={}, filtered={}, written={}, elapsedMs={}, throughput={}/s",
+			stepExecution.getStepName(),
+			stepExecution.getReadCount(),
+			stepExecution.getFilterCount(),
+			stepExecution.getWriteCount(),
+			elapsedMs,
+			String.format("%.1f", throughput)
+		);
+		return stepExecution.getExitStatus();
+	}
+}
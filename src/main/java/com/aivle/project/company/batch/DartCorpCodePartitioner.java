@@ -0,0 +1,46 @@
+package com.aivle.project.company.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 기업 코드 해시 구간으로 DART 기업 목록을 나누는 Partitioner.
+ */
+public class DartCorpCodePartitioner implements Partitioner {
+
+	public static final String PARTITION_INDEX_KEY = "partition.index";
+	public static final String PARTITION_COUNT_KEY = "partition.count";
+	public static final String DOWNLOAD_PATH_KEY = "dart.corpCode.downloadPath";
+
+	private final String downloadPath;
+
+	public DartCorpCodePartitioner(String downloadPath) {
+		this.downloadPath = downloadPath;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		int count = Math.max(1, gridSize);
+		Map<String, ExecutionContext> partitions = new HashMap<>();
+		for (int index = 0; index < count; index++) {
+			ExecutionContext context = new ExecutionContext();
+			context.putInt(PARTITION_INDEX_KEY, index);
+			context.putInt(PARTITION_COUNT_KEY, count);
+			context.putString(DOWNLOAD_PATH_KEY, downloadPath);
+			partitions.put("partition" + index, context);
+		}
+		return partitions;
+	}
+
+	/**
+	 * 기업 코드가 속한 파티션 번호. 리더와 변경 감지 프로세서가 같은 규칙을 쓴다.
+	 */
+	public static int partitionOf(String corpCode, int partitionCount) {
+		if (corpCode == null || partitionCount <= 1) {
+			return 0;
+		}
+		return Math.floorMod(corpCode.hashCode(), partitionCount);
+	}
+}
@@ -0,0 +1,35 @@
+package com.aivle.project.company.client;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CoalescedAiCall} 메서드를 단일 호출로 합치는 Aspect.
+ *
+ * <p>Resilience4j Retry/CircuitBreaker/Bulkhead 보다 바깥에서 동작해야 대기 중인 호출이 bulkhead 허가를 잡지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+public class AiCallCoalescingAspect {
+
+	private final AiRequestCoalescer aiRequestCoalescer;
+
+	@Around("@annotation(coalescedAiCall)")
+	public Object coalesce(ProceedingJoinPoint joinPoint, CoalescedAiCall coalescedAiCall) throws Throwable {
+		Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getReturnType();
+		String key = coalescedAiCall.value() + ":" + Arrays.stream(joinPoint.getArgs())
+			.map(String::valueOf)
+			.collect(Collectors.joining(":"));
+		return aiRequestCoalescer.execute(coalescedAiCall.value(), key, returnType, joinPoint::proceed);
+	}
+}
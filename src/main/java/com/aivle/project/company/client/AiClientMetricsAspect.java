@@ -0,0 +1,128 @@
+package com.aivle.project.company.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link AiServerClient} 호출 지표 Aspect.
+ *
+ * <p>Retry/CircuitBreaker/Bulkhead 보다 바깥, 단일 호출 합치기보다 안쪽에서 동작해 실제로 나간 호출만
+ * 재시도·bulkhead 대기를 포함한 시간으로 {@value #TIMER} 에 남긴다. 결과와 종료 시점의 회로 상태를 태그로 붙이며,
+ * 한 번의 HTTP 시도 시간은 {@link AiServerClient} 가 {@value AiServerClient#HTTP_TIMER} 로 따로 남긴다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 5)
+public class AiClientMetricsAspect {
+
+	static final String TIMER = "ai.client.requests";
+	private static final String CIRCUIT_BREAKER_NAME = "aiServer";
+
+	private final MeterRegistry meterRegistry;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Autowired
+	public AiClientMetricsAspect(
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		ObjectProvider<CircuitBreakerRegistry> circuitBreakerRegistryProvider
+	) {
+		this(meterRegistryProvider.getIfAvailable(), circuitBreakerRegistryProvider.getIfAvailable());
+	}
+
+	AiClientMetricsAspect(MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+	}
+
+	@Around("execution(public * com.aivle.project.company.client.AiServerClient.get*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (meterRegistry == null) {
+			return joinPoint.proceed();
+		}
+		String operation = operationOf(joinPoint.getSignature().getName());
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Object result;
+		try {
+			result = joinPoint.proceed();
+		} catch (Throwable ex) {
+			record(sample, operation, outcomeOf(ex));
+			throw ex;
+		}
+		if (result instanceof Flux<?> flux) {
+			// 스트림은 본문을 다 받을 때까지를 한 호출로 본다.
+			return flux
+				.doOnComplete(() -> record(sample, operation, "success"))
+				.doOnError(ex -> record(sample, operation, outcomeOf(ex)))
+				.doOnCancel(() -> record(sample, operation, "cancelled"));
+		}
+		record(sample, operation, "success");
+		return result;
+	}
+
+	private void record(Timer.Sample sample, String operation, String outcome) {
+		sample.stop(Timer.builder(TIMER)
+			.description("AI 서버 호출 시간(재시도, bulkhead 대기 포함)")
+			.tag("operation", operation)
+			.tag("outcome", outcome)
+			.tag("circuit", circuitState())
+			.register(meterRegistry));
+	}
+
+	private String circuitState() {
+		if (circuitBreakerRegistry == null) {
+			return "none";
+		}
+		return circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME).getState().name().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * {@code getHealthScore} → {@code health-score}. {@link CoalescedAiCall} 값과 같은 형태다.
+	 */
+	static String operationOf(String methodName) {
+		String name = methodName.startsWith("get") ? methodName.substring(3) : methodName;
+		StringBuilder operation = new StringBuilder(name.length() + 4);
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isUpperCase(c)) {
+				if (i > 0) {
+					operation.append('-');
+				}
+				operation.append(Character.toLowerCase(c));
+			} else {
+				operation.append(c);
+			}
+		}
+		return operation.toString();
+	}
+
+	static String outcomeOf(Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof CallNotPermittedException) {
+				return "circuit_open";
+			}
+			if (current instanceof BulkheadFullException) {
+				return "bulkhead_full";
+			}
+			if (current instanceof TimeoutException || current instanceof io.netty.handler.timeout.ReadTimeoutException) {
+				return "timeout";
+			}
+			current = current.getCause();
+		}
+		return "error";
+	}
+}
@@ -0,0 +1,237 @@
+package com.aivle.project.company.client;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 호출 single-flight 처리기.
+ *
+ * <p>같은 키의 호출이 진행 중이면 새로 호출하지 않고 진행 중인 결과를 함께 기다린다.
+ * 분산 모드에서는 Redis 잠금을 잡은 인스턴스만 호출하고, 나머지는 결과 키를 짧게 폴링해 재사용한다.
+ */
+@Slf4j
+@Component
+public class AiRequestCoalescer {
+
+	private static final String LOCK_KEY = "ai:coalesce:lock:%s";
+	private static final String RESULT_KEY = "ai:coalesce:result:%s";
+	private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class
+	);
+
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final boolean distributed;
+	private final Duration maxWait;
+	private final Duration lockTtl;
+	private final Duration resultTtl;
+	private final Duration pollInterval;
+
+	@Autowired
+	public AiRequestCoalescer(
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectMapper objectMapper,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${app.ai.coalescing.enabled:true}") boolean enabled,
+		@Value("${app.ai.coalescing.distributed.enabled:false}") boolean distributed,
+		@Value("${app.ai.coalescing.max-wait:90s}") Duration maxWait,
+		@Value("${app.ai.coalescing.distributed.lock-ttl:90s}") Duration lockTtl,
+		@Value("${app.ai.coalescing.distributed.result-ttl:15s}") Duration resultTtl,
+		@Value("${app.ai.coalescing.distributed.poll-interval:200ms}") Duration pollInterval
+	) {
+		this.redisTemplateProvider = redisTemplateProvider;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistryProvider.getIfAvailable();
+		this.enabled = enabled;
+		this.distributed = distributed;
+		this.maxWait = maxWait;
+		this.lockTtl = lockTtl;
+		this.resultTtl = resultTtl;
+		this.pollInterval = pollInterval;
+	}
+
+	/**
+	 * 같은 키로 진행 중인 호출이 있으면 그 결과를, 없으면 직접 호출한 결과를 돌려준다.
+	 */
+	public Object execute(String operation, String key, Class<?> resultType, Call call) throws Throwable {
+		if (!enabled) {
+			return call.call();
+		}
+
+		CompletableFuture<Object> created = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			increment(operation, "follower");
+			return await(existing, key);
+		}
+
+		try {
+			Object result = distributed ? callWithRedis(operation, key, resultType, call) : callDirect(operation, call);
+			created.complete(result);
+			return result;
+		} catch (Throwable ex) {
+			created.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	int inFlightCount() {
+		return inFlight.size();
+	}
+
+	private Object callDirect(String operation, Call call) throws Throwable {
+		increment(operation, "leader");
+		return call.call();
+	}
+
+	private Object callWithRedis(String operation, String key, Class<?> resultType, Call call) throws Throwable {
+		StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+		if (redisTemplate == null) {
+			return callDirect(operation, call);
+		}
+
+		String resultKey = String.format(RESULT_KEY, key);
+		String lockKey = String.format(LOCK_KEY, key);
+		String token = UUID.randomUUID().toString();
+		boolean locked;
+		try {
+			Optional<Object> cached = readResult(redisTemplate, resultKey, resultType);
+			if (cached.isPresent()) {
+				increment(operation, "remote");
+				return cached.get();
+			}
+			locked = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+		} catch (RuntimeException ex) {
+			log.debug("AI 호출 분산 병합 생략(Redis 오류): key={}, reason={}", key, ex.getMessage());
+			return callDirect(operation, call);
+		}
+
+		if (!locked) {
+			Optional<Object> shared = pollResult(redisTemplate, resultKey, resultType);
+			if (shared.isPresent()) {
+				increment(operation, "remote");
+				return shared.get();
+			}
+			// 다른 인스턴스의 호출이 실패했거나 너무 오래 걸리면 직접 호출한다.
+			return callDirect(operation, call);
+		}
+
+		try {
+			Object result = callDirect(operation, call);
+			writeResult(redisTemplate, resultKey, result);
+			return result;
+		} finally {
+			unlock(redisTemplate, lockKey, token);
+		}
+	}
+
+	private Optional<Object> pollResult(StringRedisTemplate redisTemplate, String resultKey, Class<?> resultType) {
+		long deadline = System.nanoTime() + maxWait.toNanos();
+		while (System.nanoTime() < deadline) {
+			try {
+				Thread.sleep(pollInterval.toMillis());
+				Optional<Object> result = readResult(redisTemplate, resultKey, resultType);
+				if (result.isPresent()) {
+					return result;
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			} catch (RuntimeException ex) {
+				return Optional.empty();
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Optional<Object> readResult(StringRedisTemplate redisTemplate, String resultKey, Class<?> resultType) {
+		String payload = redisTemplate.opsForValue().get(resultKey);
+		if (payload == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.ofNullable(objectMapper.readValue(payload, resultType));
+		} catch (Exception ex) {
+			log.debug("AI 호출 공유 결과 역직렬화 실패: key={}, reason={}", resultKey, ex.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void writeResult(StringRedisTemplate redisTemplate, String resultKey, Object result) {
+		if (result == null) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(resultKey, objectMapper.writeValueAsString(result), resultTtl);
+		} catch (Exception ex) {
+			log.debug("AI 호출 결과 공유 실패: key={}, reason={}", resultKey, ex.getMessage());
+		}
+	}
+
+	private void unlock(StringRedisTemplate redisTemplate, String lockKey, String token) {
+		try {
+			redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+		} catch (RuntimeException ex) {
+			// 잠금은 TTL 로 만료되므로 해제 실패는 무시한다.
+			log.debug("AI 호출 잠금 해제 실패: key={}, reason={}", lockKey, ex.getMessage());
+		}
+	}
+
+	private Object await(CompletableFuture<Object> future, String key) throws Throwable {
+		try {
+			return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException ex) {
+			throw ex.getCause();
+		} catch (TimeoutException ex) {
+			throw new ExternalAiUnavailableException("AI Server coalesced call timed out: " + key, "AI_TIMEOUT", ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new ExternalAiUnavailableException("AI Server coalesced call interrupted: " + key, "AI_UNAVAILABLE", ex);
+		}
+	}
+
+	private void increment(String operation, String role) {
+		if (meterRegistry == null) {
+			return;
+		}
+		Counter.builder("ai.client.coalesced.calls")
+			.tag("operation", operation)
+			.tag("role", role)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	/**
+	 * 예외를 그대로 전달하는 호출.
+	 */
+	@FunctionalInterface
+	public interface Call {
+
+		Object call() throws Throwable;
+	}
+}
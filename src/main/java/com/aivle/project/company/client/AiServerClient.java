@@ -9,55 +9,67 @@ import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Component
 public class AiServerClient {
 
+    static final String HTTP_TIMER = "ai.client.http";
+
     private final WebClient webClient;
     private final boolean mockEnabled;
     private final long mockLatencyMs;
     private final Duration callTimeout;
+    private final MeterRegistry meterRegistry;
 
     @Autowired
     public AiServerClient(
         @Qualifier("aiWebClient") WebClient aiWebClient,
         @Value("${ai.server.mock.enabled:false}") boolean mockEnabled,
         @Value("${ai.server.mock.latency-ms:0}") long mockLatencyMs,
-        @Value("${ai.server.http.call-timeout-ms:10000}") long callTimeoutMs
+        @Value("${ai.server.http.call-timeout-ms:10000}") long callTimeoutMs,
+        ObjectProvider<MeterRegistry> meterRegistryProvider
     ) {
-        this(aiWebClient, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+        this(aiWebClient, mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs), meterRegistryProvider.getIfAvailable());
     }
 
     // 테스트 코드 호환을 위해 URL 기반 생성자를 유지한다.
     AiServerClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs) {
-        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(10000L));
+        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(10000L), null);
     }
 
     // 타임아웃 테스트를 위한 생성자.
     AiServerClient(String aiServerUrl, boolean mockEnabled, long mockLatencyMs, long callTimeoutMs) {
-        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs));
+        this(WebClient.builder().baseUrl(aiServerUrl).build(), mockEnabled, mockLatencyMs, Duration.ofMillis(callTimeoutMs), null);
     }
 
-    private AiServerClient(WebClient webClient, boolean mockEnabled, long mockLatencyMs, Duration callTimeout) {
+    private AiServerClient(WebClient webClient, boolean mockEnabled, long mockLatencyMs, Duration callTimeout, MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.mockEnabled = mockEnabled;
         this.mockLatencyMs = mockLatencyMs;
         this.callTimeout = callTimeout;
+        this.meterRegistry = meterRegistry;
     }
 
+    @CoalescedAiCall("prediction")
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
     @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
@@ -71,6 +83,7 @@ public class AiServerClient {
 
         try {
             return getWithTimeout(
+                "prediction",
                 builder -> builder.path("/api/v1/analysis/{companyCode}/predict").build(companyCode),
                 AiAnalysisResponse.class
             );
@@ -80,28 +93,32 @@ public class AiServerClient {
         }
     }
 
+    /**
+     * 리포트 PDF 를 모으지 않고 버퍼 단위 스트림으로 돌려준다.
+     * 일부를 이미 소비한 뒤 재구독하면 저장 중인 업로드와 어긋나므로 재시도는 걸지 않는다.
+     */
     @CircuitBreaker(name = "aiServer")
-    @Retry(name = "aiServer")
     @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
-    public byte[] getAnalysisReportPdf(String companyCode) {
+    public Flux<DataBuffer> getAnalysisReportPdf(String companyCode) {
         log.info("Downloading AI analysis report PDF for company: {}", companyCode);
 
         if (mockEnabled) {
             applyMockLatency();
-            return mockPdfBytes(companyCode);
+            return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(mockPdfBytes(companyCode)));
         }
 
-        try {
-            return getWithTimeout(
-                builder -> builder.path("/api/v1/analysis/{companyCode}/report").build(companyCode),
-                byte[].class
-            );
-        } catch (Exception e) {
-            log.error("Failed to download report for company {}: {}", companyCode, e.getMessage());
-            throw new RuntimeException("AI Server report download failed", e);
-        }
+        return webClient.get()
+            .uri(builder -> builder.path("/api/v1/analysis/{companyCode}/report").build(companyCode))
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .timeout(callTimeout)
+            .onErrorMap(e -> {
+                log.error("Failed to download report for company {}: {}", companyCode, e.getMessage());
+                return toExternalAiUnavailable(e);
+            });
     }
 
+    @CoalescedAiCall("health-score")
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
     @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
@@ -115,6 +132,7 @@ public class AiServerClient {
 
         try {
             return getWithTimeout(
+                "health-score",
                 builder -> builder.path("/api/v1/analysis/{companyCode}/health-score").build(companyCode),
                 AiHealthScoreResponse.class
             );
@@ -124,6 +142,7 @@ public class AiServerClient {
         }
     }
 
+    @CoalescedAiCall("signals")
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
     @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
@@ -137,6 +156,7 @@ public class AiServerClient {
 
         try {
             return getWithTimeout(
+                "signals",
                 builder -> builder.path("/api/v1/analysis/{companyCode}/signals/{period}")
                     .build(companyCode, period),
                 AiSignalResponse.class
@@ -147,6 +167,7 @@ public class AiServerClient {
         }
     }
 
+    @CoalescedAiCall("ai-comment")
     @CircuitBreaker(name = "aiServer")
     @Retry(name = "aiServer")
     @Bulkhead(name = "aiServer", type = Bulkhead.Type.SEMAPHORE)
@@ -159,7 +180,7 @@ public class AiServerClient {
         }
 
         try {
-            return getWithTimeout(uriBuilder -> buildAiCommentUri(uriBuilder, companyCode, period), AiCommentResponse.class);
+            return getWithTimeout("ai-comment", uriBuilder -> buildAiCommentUri(uriBuilder, companyCode, period), AiCommentResponse.class);
         } catch (Exception e) {
             log.error("Failed to get AI comment for company {}: {}", companyCode, e.getMessage());
             throw toExternalAiUnavailable(e);
@@ -174,13 +195,37 @@ public class AiServerClient {
         return builder.build(companyCode);
     }
 
-    private <T> T getWithTimeout(java.util.function.Function<UriBuilder, java.net.URI> uriFunction, Class<T> responseType) {
-        return webClient.get()
-            .uri(uriFunction)
-            .retrieve()
-            .bodyToMono(responseType)
-            .timeout(callTimeout)
-            .block();
+    /**
+     * HTTP 시도 한 번의 시간을 남긴다. 재시도와 bulkhead 대기를 뺀 순수 호출 시간이다.
+     */
+    private <T> T getWithTimeout(
+        String operation,
+        java.util.function.Function<UriBuilder, java.net.URI> uriFunction,
+        Class<T> responseType
+    ) {
+        Timer.Sample sample = meterRegistry == null ? null : Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T response = webClient.get()
+                .uri(uriFunction)
+                .retrieve()
+                .bodyToMono(responseType)
+                .timeout(callTimeout)
+                .block();
+            outcome = "success";
+            return response;
+        } catch (RuntimeException e) {
+            outcome = AiClientMetricsAspect.outcomeOf(e);
+            throw e;
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder(HTTP_TIMER)
+                    .description("AI 서버 HTTP 시도 한 번의 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            }
+        }
     }
 
     private ExternalAiUnavailableException toExternalAiUnavailable(Throwable throwable) {
@@ -239,7 +284,8 @@ public class AiServerClient {
     }
 
     private byte[] mockPdfBytes(String companyCode) {
-        String payload = "PERF_MOCK_PDF_" + companyCode;
+        // 저장 시 PDF 시그니처를 검증하므로 헤더를 붙인다.
+        String payload = "%PDF-1.4\n%PERF_MOCK_PDF_" + companyCode;
         return payload.getBytes(StandardCharsets.UTF_8);
     }
 
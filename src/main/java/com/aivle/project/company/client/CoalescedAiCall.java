@@ -0,0 +1,21 @@
+package com.aivle.project.company.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동일 인자로 동시에 들어온 AI 서버 호출을 하나로 합친다.
+ *
+ * <p>첫 번째 인자는 종목 코드, 두 번째 인자(있다면)는 기준 분기로 보고 호출 키를 만든다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalescedAiCall {
+
+	/**
+	 * 호출 키와 지표 태그에 쓰는 작업 이름.
+	 */
+	String value();
+}
@@ -0,0 +1,29 @@
+package com.aivle.project.company.config;
+
+import com.aivle.project.company.service.CompanyOverviewCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 기업 개요 캐시 무효화 전파용 Redis pub/sub 구독 설정.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.company.overview-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompanyOverviewCacheConfig {
+
+	@Bean
+	public RedisMessageListenerContainer companyOverviewCacheListenerContainer(
+		RedisConnectionFactory connectionFactory,
+		CompanyOverviewCache companyOverviewCache,
+		CompanyOverviewCacheProperties properties
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(companyOverviewCache, new ChannelTopic(properties.getChannel()));
+		return container;
+	}
+}
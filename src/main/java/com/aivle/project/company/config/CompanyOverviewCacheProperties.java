@@ -0,0 +1,39 @@
+package com.aivle.project.company.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기업 개요 응답 2단 캐시(인스턴스 메모리 + Redis) 설정.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.company.overview-cache")
+public class CompanyOverviewCacheProperties {
+
+	private boolean enabled = true;
+
+	/**
+	 * 인스턴스 메모리 캐시 최대 항목 수. 넘으면 가장 오래 안 쓴 항목부터 버린다.
+	 */
+	private int localMaxSize = 500;
+
+	/**
+	 * 인스턴스 메모리 캐시 유지 시간. 무효화 메시지를 놓친 인스턴스가 오래된 값을 내주는 시간의 상한이다.
+	 */
+	private Duration localTtl = Duration.ofMinutes(1);
+
+	/**
+	 * Redis 캐시 유지 시간. 무효화 이벤트를 내지 않는 쓰기(뉴스 평판 점수 등)가 반영되는 시간의 상한이다.
+	 */
+	private Duration redisTtl = Duration.ofMinutes(10);
+
+	/**
+	 * 다른 인스턴스의 메모리 캐시를 비우라고 알리는 Redis pub/sub 채널.
+	 */
+	private String channel = "company:overview-cache:evict";
+}
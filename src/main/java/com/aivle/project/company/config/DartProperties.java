@@ -1,5 +1,6 @@
 package com.aivle.project.company.config;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -31,6 +32,38 @@ public class DartProperties {
 		private int chunkSize = 1000;
 
 		private final Schedule schedule = new Schedule();
+		private final Partition partition = new Partition();
+		private final Restart restart = new Restart();
+	}
+
+	@Getter
+	@Setter
+	public static class Restart {
+
+		/**
+		 * 실패한 실행을 이어서 재시작할 수 있는 기간. 이보다 오래된 실패는 새로 내려받아 처음부터 실행한다.
+		 */
+		private Duration window = Duration.ofHours(6);
+
+		/**
+		 * 한 실행 인스턴스의 최대 실행 횟수(최초 실행 포함). 넘으면 새 인스턴스로 시작한다.
+		 */
+		private int maxAttempts = 3;
+	}
+
+	@Getter
+	@Setter
+	public static class Partition {
+
+		/**
+		 * 기업 코드 해시 기준 파티션 병렬 적재 사용 여부 (기본 OFF).
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * 파티션 수(동시에 실행되는 워커 스텝 수).
+		 */
+		private int gridSize = 4;
 	}
 
 	@Getter
@@ -3,10 +3,9 @@ package com.aivle.project.company.controller;
 import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
-import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.dto.CompanyInsightResponseDto;
 import com.aivle.project.company.insight.service.CompanyInsightService;
-import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.service.CompanyIdResolver;
 import com.aivle.project.company.service.CompanyOverviewService;
 import com.aivle.project.user.service.AdminUserQueryService;
 import com.aivle.project.watchlist.service.CompanyWatchlistService;
@@ -36,7 +35,6 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "bearerAuth")
 public class AdminCompanyQueryController {
 
-	private static final String STOCK_CODE_PATTERN = "\\d{6}";
 	private static final int DEFAULT_NEWS_PAGE = 0;
 	private static final int DEFAULT_NEWS_SIZE = 10;
 	private static final int DEFAULT_REPORT_PAGE = 0;
@@ -46,7 +44,7 @@ public class AdminCompanyQueryController {
 	private final CompanyWatchlistService companyWatchlistService;
 	private final CompanyOverviewService companyOverviewService;
 	private final CompanyInsightService companyInsightService;
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdResolver companyIdResolver;
 
 	@GetMapping
 	@Operation(summary = "관리자 사용자 기준 워치리스트 기업 조회", description = "특정 userId의 워치리스트 기업 목록을 조회합니다.")
@@ -70,7 +68,7 @@ public class AdminCompanyQueryController {
 		@RequestParam(value = "quarterKey", required = false) String quarterKey
 	) {
 		adminUserQueryService.validateActiveUser(userId);
-		Long resolvedCompanyId = resolveCompanyId(companyId);
+		Long resolvedCompanyId = companyIdResolver.resolve(companyId);
 		CompanyOverviewResponseDto response = companyOverviewService.getOverview(resolvedCompanyId, quarterKey);
 		return ResponseEntity.ok(ApiResponse.ok(response));
 	}
@@ -142,26 +140,4 @@ public class AdminCompanyQueryController {
 		}
 		return Math.min(size, 50);
 	}
-
-	private Long resolveCompanyId(String companyIdOrCode) {
-		if (companyIdOrCode == null || companyIdOrCode.isBlank()) {
-			throw new IllegalArgumentException("Company id is required");
-		}
-		String trimmed = companyIdOrCode.trim();
-		if (trimmed.chars().allMatch(Character::isDigit)) {
-			Long id = Long.parseLong(trimmed);
-			if (companiesRepository.existsById(id)) {
-				return id;
-			}
-			if (trimmed.matches(STOCK_CODE_PATTERN)) {
-				return companiesRepository.findByStockCode(trimmed)
-					.map(CompaniesEntity::getId)
-					.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
-			}
-			throw new IllegalArgumentException("Company not found for id: " + trimmed);
-		}
-		return companiesRepository.findByStockCode(trimmed)
-			.map(CompaniesEntity::getId)
-			.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
-	}
 }
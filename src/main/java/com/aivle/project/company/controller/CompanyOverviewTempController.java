@@ -2,8 +2,7 @@ package com.aivle.project.company.controller;
 
 import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
-import com.aivle.project.company.entity.CompaniesEntity;
-import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.service.CompanyIdResolver;
 import com.aivle.project.company.service.CompanyOverviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,10 +25,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/companies")
 public class CompanyOverviewTempController {
 
-	private static final String STOCK_CODE_PATTERN = "\\d{6}";
-
 	private final CompanyOverviewService companyOverviewService;
-	private final CompaniesRepository companiesRepository;
+	private final CompanyIdResolver companyIdResolver;
 
 	@GetMapping("/{companyId}")
 	@Operation(
@@ -62,29 +59,7 @@ public class CompanyOverviewTempController {
 	}
 
 	private CompanyOverviewResponseDto fetchOverview(String companyId, String quarterKey) {
-		Long resolvedCompanyId = resolveCompanyId(companyId);
+		Long resolvedCompanyId = companyIdResolver.resolve(companyId);
 		return companyOverviewService.getOverview(resolvedCompanyId, quarterKey);
 	}
-
-	private Long resolveCompanyId(String companyIdOrCode) {
-		if (companyIdOrCode == null || companyIdOrCode.isBlank()) {
-			throw new IllegalArgumentException("Company id is required");
-		}
-		String trimmed = companyIdOrCode.trim();
-		if (trimmed.chars().allMatch(Character::isDigit)) {
-			Long id = Long.parseLong(trimmed);
-			if (companiesRepository.existsById(id)) {
-				return id;
-			}
-			if (trimmed.matches(STOCK_CODE_PATTERN)) {
-				return companiesRepository.findByStockCode(trimmed)
-					.map(CompaniesEntity::getId)
-					.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
-			}
-			throw new IllegalArgumentException("Company not found for id: " + trimmed);
-		}
-		return companiesRepository.findByStockCode(trimmed)
-			.map(CompaniesEntity::getId)
-			.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + trimmed));
-	}
 }
@@ -0,0 +1,9 @@
+package com.aivle.project.company.event;
+
+/**
+ * 기업 개요에 보이는 값(예측값, 신호등, 핵심 지표, AI 코멘트)이 바뀌었음을 알리는 이벤트.
+ *
+ * <p>실적(ACTUAL) 적재는 {@link com.aivle.project.report.event.ActualMetricsChangedEvent} 로 따로 알린다.
+ */
+public record CompanyOverviewChangedEvent(Long companyId) {
+}
@@ -0,0 +1,121 @@
+package com.aivle.project.company.job;
+
+import com.aivle.project.common.config.AiJobKafkaConsumerConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 작업 Kafka 배치 컨슈머.
+ *
+ * <p>받은 배치를 파티션마다 최대 {@code max-in-flight-per-partition} 건씩 병렬 처리하고, 모두 끝난 뒤에만 ack 한다.
+ * 한도가 차면 컨슈머 스레드가 자리가 날 때까지 기다리므로 다음 poll 도 그만큼 늦어진다.
+ * 실패한 레코드는 배치 내 위치와 함께 던져 {@code DefaultErrorHandler} 가 앞쪽 오프셋만 커밋하고 재시도/DLT 를 맡는다.
+ * 이때 실패 위치 뒤에서 이미 성공한 레코드도 다시 전달되므로, 중복 처리는 {@link AiJobHandler} 가 걸러낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ai.job.consumer", name = "mode", havingValue = "batch", matchIfMissing = true)
+public class AiJobBatchKafkaConsumer {
+
+	private final ObjectMapper objectMapper;
+	private final AiJobHandler aiJobHandler;
+	private final Executor workerExecutor;
+	private final int maxInFlightPerPartition;
+
+	public AiJobBatchKafkaConsumer(
+		ObjectMapper objectMapper,
+		AiJobHandler aiJobHandler,
+		@Qualifier(AiJobKafkaConsumerConfig.WORKER_EXECUTOR) Executor workerExecutor,
+		@Value("${app.ai.job.consumer.max-in-flight-per-partition:4}") int maxInFlightPerPartition
+	) {
+		this.objectMapper = objectMapper;
+		this.aiJobHandler = aiJobHandler;
+		this.workerExecutor = workerExecutor;
+		this.maxInFlightPerPartition = Math.max(1, maxInFlightPerPartition);
+	}
+
+	@KafkaListener(
+		id = "aiJobBatchConsumer",
+		topics = "${app.ai.job.request-topic:ai-job-request}",
+		groupId = "${APP_AI_JOB_KAFKA_GROUP_ID:ai-job-consumer}",
+		containerFactory = AiJobKafkaConsumerConfig.BATCH_CONTAINER_FACTORY
+	)
+	public void consume(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+		Map<Integer, Semaphore> inFlight = new HashMap<>();
+		List<CompletableFuture<Void>> results = new ArrayList<>(records.size());
+		for (int index = 0; index < records.size(); index++) {
+			ConsumerRecord<String, String> record = records.get(index);
+			AiJobMessage message;
+			try {
+				message = objectMapper.readValue(record.value(), AiJobMessage.class);
+			} catch (JsonProcessingException ex) {
+				results.add(CompletableFuture.failedFuture(ex));
+				continue;
+			}
+			Semaphore permits = inFlight.computeIfAbsent(record.partition(), partition -> new Semaphore(maxInFlightPerPartition));
+			try {
+				permits.acquire();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				awaitQuietly(results);
+				throw new BatchListenerFailedException("AI job consumer interrupted", ex, index);
+			}
+			results.add(submit(message, permits));
+		}
+
+		// 뒤쪽 작업까지 모두 끝난 뒤에 던져야 재시도 중 같은 작업이 겹쳐 돌지 않는다.
+		awaitQuietly(results);
+		for (int index = 0; index < results.size(); index++) {
+			Throwable failure = failureOf(results.get(index));
+			if (failure != null) {
+				ConsumerRecord<String, String> record = records.get(index);
+				log.warn("AI job failed: partition={}, offset={}, key={}", record.partition(), record.offset(), record.key(), failure);
+				throw new BatchListenerFailedException("AI job failed", failure, index);
+			}
+		}
+		acknowledgment.acknowledge();
+	}
+
+	private CompletableFuture<Void> submit(AiJobMessage message, Semaphore permits) {
+		try {
+			return CompletableFuture.runAsync(() -> aiJobHandler.handle(message), workerExecutor)
+				.whenComplete((ignored, throwable) -> permits.release());
+		} catch (RejectedExecutionException ex) {
+			permits.release();
+			return CompletableFuture.failedFuture(ex);
+		}
+	}
+
+	private Throwable failureOf(CompletableFuture<Void> result) {
+		try {
+			result.join();
+			return null;
+		} catch (CompletionException ex) {
+			return ex.getCause() != null ? ex.getCause() : ex;
+		}
+	}
+
+	private void awaitQuietly(List<CompletableFuture<Void>> results) {
+		CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+			.exceptionally(throwable -> null)
+			.join();
+	}
+}
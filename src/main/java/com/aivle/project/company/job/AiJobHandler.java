@@ -0,0 +1,120 @@
+package com.aivle.project.company.job;
+
+import com.aivle.project.company.dto.AiReportStatusResponse;
+import com.aivle.project.company.service.AiReportRequestStatusService;
+import com.aivle.project.company.service.CompanyAiCommentService;
+import com.aivle.project.company.service.CompanyAiService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 작업 메시지를 유형별 서비스로 넘긴다. 컨슈머 모드와 무관하게 같은 처리를 쓴다.
+ *
+ * <p>처리 시도마다 유형과 결과를 {@value #PROCESSED_COUNTER} 로 센다. 재시도도 한 번의 시도로 센다.
+ * 결과는 실제 처리 결과에서 정한다: 예외는 failure, AI 코멘트 응답이 비었으면 empty, 지원하지 않는 유형은 unsupported.
+ *
+ * <p>배치 컨슈머는 실패 위치 뒤의 레코드를 성공했더라도 다시 받는다. AI 리포트는 다시 만들면 버전과 PDF 가 중복되므로
+ * 요청 상태가 이미 COMPLETED 인 requestId 는 건너뛰고 skipped 로 센다. AI 코멘트 예열은 캐시가 있으면 다시 만들지 않는다.
+ */
+@Slf4j
+@Component
+public class AiJobHandler {
+
+	static final String PROCESSED_COUNTER = "ai.job.processed";
+
+	private static final String COMPLETED_STATUS = "COMPLETED";
+
+	private final CompanyAiService companyAiService;
+	private final CompanyAiCommentService companyAiCommentService;
+	private final AiReportRequestStatusService aiReportRequestStatusService;
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public AiJobHandler(
+		CompanyAiService companyAiService,
+		CompanyAiCommentService companyAiCommentService,
+		AiReportRequestStatusService aiReportRequestStatusService,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this(companyAiService, companyAiCommentService, aiReportRequestStatusService, meterRegistryProvider.getIfAvailable());
+	}
+
+	AiJobHandler(
+		CompanyAiService companyAiService,
+		CompanyAiCommentService companyAiCommentService,
+		AiReportRequestStatusService aiReportRequestStatusService,
+		MeterRegistry meterRegistry
+	) {
+		this.companyAiService = companyAiService;
+		this.companyAiCommentService = companyAiCommentService;
+		this.aiReportRequestStatusService = aiReportRequestStatusService;
+		this.meterRegistry = meterRegistry;
+	}
+
+	public void handle(AiJobMessage message) {
+		String result;
+		try {
+			result = dispatch(message);
+		} catch (RuntimeException ex) {
+			// 리포트 생성 실패도 예외로 올라오므로 재시도와 DLT 로 넘기기 전에 실패로 센다.
+			increment(message.type(), "failure");
+			throw ex;
+		}
+		increment(message.type(), result);
+	}
+
+	private String dispatch(AiJobMessage message) {
+		switch (message.type()) {
+			case AI_REPORT -> {
+				if (isReportCompleted(message.requestId())) {
+					log.info("Skipping redelivered AI report job: requestId={}", message.requestId());
+					return "skipped";
+				}
+				companyAiService.processReportGeneration(
+					message.requestId(),
+					message.companyId(),
+					message.year(),
+					message.quarter()
+				);
+				return "success";
+			}
+			case AI_COMMENT_WARMUP -> {
+				String comment = companyAiCommentService.ensureAiCommentCached(
+					message.companyId(),
+					message.period()
+				);
+				return comment == null ? "empty" : "success";
+			}
+			default -> {
+				log.warn("Unsupported AI job type: {}", message.type());
+				return "unsupported";
+			}
+		}
+	}
+
+	private boolean isReportCompleted(String requestId) {
+		if (requestId == null) {
+			return false;
+		}
+		return aiReportRequestStatusService.getStatus(requestId)
+			.map(AiReportStatusResponse::status)
+			.filter(COMPLETED_STATUS::equals)
+			.isPresent();
+	}
+
+	private void increment(AiJobType type, String result) {
+		if (meterRegistry == null) {
+			return;
+		}
+		Counter.builder(PROCESSED_COUNTER)
+			.description("AI 작업 메시지 처리 시도 수")
+			.tag("type", type == null ? "unknown" : type.name())
+			.tag("result", result)
+			.register(meterRegistry)
+			.increment();
+	}
+}
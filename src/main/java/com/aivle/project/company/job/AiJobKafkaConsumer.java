@@ -1,27 +1,29 @@
 package com.aivle.project.company.job;
 
-import com.aivle.project.company.service.CompanyAiCommentService;
-import com.aivle.project.company.service.CompanyAiService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 /**
- * AI 작업 Kafka 컨슈머.
+ * AI 작업 Kafka 컨슈머 (비동기 모드).
+ *
+ * <p>수신 즉시 {@code insightExecutor} 로 넘기고 반환하므로 작업 완료 전에 오프셋이 커밋된다.
+ * {@code app.ai.job.consumer.mode=async} 일 때만 쓰며, 기본은 {@link AiJobBatchKafkaConsumer} 이다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.ai.job.consumer", name = "mode", havingValue = "async")
 public class AiJobKafkaConsumer {
 
 	private final ObjectMapper objectMapper;
-	private final CompanyAiService companyAiService;
-	private final CompanyAiCommentService companyAiCommentService;
+	private final AiJobHandler aiJobHandler;
 	@Qualifier("insightExecutor")
 	private final Executor insightExecutor;
 
@@ -32,7 +34,7 @@ public class AiJobKafkaConsumer {
 	public void consume(String payload) {
 		try {
 			AiJobMessage message = objectMapper.readValue(payload, AiJobMessage.class);
-			CompletableFuture.runAsync(() -> process(message), insightExecutor)
+			CompletableFuture.runAsync(() -> aiJobHandler.handle(message), insightExecutor)
 				.exceptionally(throwable -> {
 					log.error("AI job async execution failed: requestId={}, type={}",
 						message.requestId(), message.type(), throwable);
@@ -42,20 +44,4 @@ public class AiJobKafkaConsumer {
 			log.error("Failed to consume AI job payload: {}", payload, e);
 		}
 	}
-
-	private void process(AiJobMessage message) {
-		switch (message.type()) {
-			case AI_REPORT -> companyAiService.processReportGeneration(
-				message.requestId(),
-				message.companyId(),
-				message.year(),
-				message.quarter()
-			);
-			case AI_COMMENT_WARMUP -> companyAiCommentService.ensureAiCommentCached(
-				message.companyId(),
-				message.period()
-			);
-			default -> log.warn("Unsupported AI job type: {}", message.type());
-		}
-	}
 }
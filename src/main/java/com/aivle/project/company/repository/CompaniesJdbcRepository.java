@@ -1,15 +1,21 @@
 package com.aivle.project.company.repository;
 
 import com.aivle.project.company.batch.DartCorpCodeItem;
+import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -21,6 +27,9 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class CompaniesJdbcRepository {
 
+	private static final int MODIFY_DATE_FETCH_SIZE = 1000;
+	private static final String MYSQL_PRODUCT_NAME = "MySQL";
+
 	private final JdbcTemplate jdbcTemplate;
 	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
@@ -44,6 +53,28 @@ public class CompaniesJdbcRepository {
 		return result;
 	}
 
+	/**
+	 * 전체 기업의 수정일을 행 단위로 전달한다. 결과를 한 번에 목록으로 만들지 않도록 스트리밍으로 읽는다.
+	 *
+	 * <p>MySQL Connector/J 는 {@code useCursorFetch} 없이는 양수 fetch size 를 무시하고 결과 전체를 메모리에 올린다.
+	 * 그래서 MySQL 에서는 {@link Integer#MIN_VALUE} 로 행 단위 스트리밍을 켠다. 스트리밍 중에는 같은 커넥션으로 다른
+	 * 쿼리를 보낼 수 없으므로 consumer 에서 DB 를 다시 호출하면 안 된다.
+	 */
+	public void forEachModifyDate(BiConsumer<String, LocalDate> consumer) {
+		jdbcTemplate.query(
+			connection -> {
+				PreparedStatement statement = connection.prepareStatement(
+					"SELECT corp_code, modify_date FROM companies",
+					ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY
+				);
+				statement.setFetchSize(streamingFetchSize(connection));
+				return statement;
+			},
+			(RowCallbackHandler) rs -> consumer.accept(rs.getString("corp_code"), toLocalDate(rs.getDate("modify_date")))
+		);
+	}
+
 	public void upsertBatch(List<DartCorpCodeItem> items) {
 		if (items == null || items.isEmpty()) {
 			return;
@@ -75,6 +106,11 @@ public class CompaniesJdbcRepository {
 		});
 	}
 
+	private static int streamingFetchSize(Connection connection) throws SQLException {
+		String product = connection.getMetaData().getDatabaseProductName();
+		return MYSQL_PRODUCT_NAME.equalsIgnoreCase(product) ? Integer.MIN_VALUE : MODIFY_DATE_FETCH_SIZE;
+	}
+
 	private static LocalDate toLocalDate(Date date) {
 		return date == null ? null : date.toLocalDate();
 	}
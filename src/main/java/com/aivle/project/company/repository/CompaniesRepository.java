@@ -1,6 +1,7 @@
 package com.aivle.project.company.repository;
 
 import com.aivle.project.company.entity.CompaniesEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +16,8 @@ public interface CompaniesRepository extends JpaRepository<CompaniesEntity, Long
 
 	Optional<CompaniesEntity> findByStockCode(String stockCode);
 
+	List<CompaniesEntity> findAllByStockCodeIn(Collection<String> stockCodes);
+
 	@Query("""
 		select c
 		from CompaniesEntity c
@@ -3,14 +3,15 @@ package com.aivle.project.company.service;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiCommentResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,9 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanyAiCommentService {
 
 	private final CompaniesRepository companiesRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
 	private final CompanyHealthScoreCacheService companyHealthScoreCacheService;
 	private final AiServerClient aiServerClient;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 요청 분기의 AI 코멘트를 보장한다.
@@ -54,34 +56,15 @@ public class CompanyAiCommentService {
 			null,
 			LocalDateTime.now()
 		);
+		eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
 		return keyMetric.getAiComment();
 	}
 
 	private int resolveTargetQuarterKey(String stockCode, String period) {
 		if (period != null && !period.isBlank()) {
-			return parseQuarterKey(period);
+			return QuarterCodec.parse(period, "period");
 		}
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		return latestActualQuarterCache.findMaxActualQuarterKeyByStockCode(stockCode)
 			.orElseThrow(() -> new IllegalArgumentException("Actual quarter not found for stockCode: " + stockCode));
 	}
-
-	private int parseQuarterKey(String period) {
-		String normalized = normalizeQuarterKey(period);
-		int parsed = Integer.parseInt(normalized);
-		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(parsed);
-		return yearQuarter.toQuarterKey();
-	}
-
-	private String normalizeQuarterKey(String period) {
-		String trimmed = period.trim();
-		if (trimmed.length() == 6) {
-			String yearPart = trimmed.substring(0, 4);
-			String quarterPart = trimmed.substring(4, 6);
-			if (quarterPart.startsWith("0")) {
-				quarterPart = quarterPart.substring(1);
-			}
-			return yearPart + quarterPart;
-		}
-		return trimmed;
-	}
 }
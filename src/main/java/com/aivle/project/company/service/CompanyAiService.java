@@ -1,10 +1,11 @@
 package com.aivle.project.company.service;
 
-import com.aivle.project.common.util.SimpleMultipartFile;
+import com.aivle.project.common.error.ExternalAiUnavailableException;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.file.entity.FileUsageType;
 import com.aivle.project.file.entity.FilesEntity;
@@ -16,6 +17,7 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.quarter.support.QuarterCodec;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
@@ -23,6 +25,10 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.report.service.LatestActualQuarterCache;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -32,16 +38,24 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompanyAiService {
 
+    // 리포트 스트림을 미리 당겨 두는 DataBuffer 개수. 힙에 쌓이는 양의 상한이다.
+    private static final int REPORT_STREAM_DEMAND = 16;
+    private static final String REPORT_DOWNLOAD_REASON = "AI_REPORT_DOWNLOAD";
+
     private final AiServerClient aiServerClient;
     private final FileStorageService fileStorageService;
     private final FilesRepository filesRepository;
@@ -51,8 +65,10 @@ public class CompanyAiService {
     private final CompanyReportVersionsRepository companyReportVersionsRepository;
     private final MetricsRepository metricsRepository;
     private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+    private final LatestActualQuarterCache latestActualQuarterCache;
     private final AiReportRequestStatusService aiReportRequestStatusService;
     private final CompanyReportVersionIssueService companyReportVersionIssueService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 기업의 AI 재무 분석 예측 결과를 조회하고 저장합니다.
@@ -88,7 +104,7 @@ public class CompanyAiService {
             basePeriod = String.valueOf(bYear * 10 + bQuarter);
         } else {
             // 미지정 시 가장 최근 실제 데이터(ACTUAL) 분기 확인
-            Optional<Integer> maxActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId);
+            Optional<Integer> maxActualQuarterKey = latestActualQuarterCache.findMaxActualQuarterKeyByCompanyId(companyId);
             if (maxActualQuarterKey.isPresent()) {
                 int baseQuarterKey = maxActualQuarterKey.get();
                 basePeriod = String.valueOf(baseQuarterKey);
@@ -150,17 +166,9 @@ public class CompanyAiService {
         try {
             // 1. Base Period 파싱 및 타겟 분기(다음 분기) 계산
             String basePeriod = response.basePeriod(); // e.g., "20253"
-            int baseYear = Integer.parseInt(basePeriod.substring(0, 4));
-            int baseQuarter = Integer.parseInt(basePeriod.substring(4));
-
-            int nextYear = baseYear;
-            int nextQuarter = baseQuarter + 1;
-            if (nextQuarter > 4) {
-                nextYear += 1;
-                nextQuarter = 1;
-            }
-            final int targetYear = nextYear;
-            final int targetQuarter = nextQuarter;
+            int targetIndex = QuarterCodec.toIndex(QuarterCodec.parse(basePeriod, "base_period")) + 1;
+            final int targetYear = QuarterCodec.yearOf(targetIndex);
+            final int targetQuarter = QuarterCodec.quarterOf(targetIndex);
 
             log.info("Saving AI predictions for companyId={} based on {} -> Target: {}/{}", companyId, basePeriod, targetYear, targetQuarter);
 
@@ -200,6 +208,7 @@ public class CompanyAiService {
                 }
             }
             log.info("Saved {} prediction metrics for companyId {}", predictions.size(), companyId);
+            eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
 
         } catch (Exception e) {
             log.error("Failed to save AI predictions for companyId {}", companyId, e);
@@ -228,24 +237,19 @@ public class CompanyAiService {
         int targetYear = (year != null) ? year : LocalDate.now().getYear();
         int targetQuarter = (quarter != null) ? quarter : ((LocalDate.now().getMonthValue() - 1) / 3 + 1);
 
-        // 3. AI 서버에서 PDF 다운로드
-        byte[] pdfContent = aiServerClient.getAnalysisReportPdf(company.getStockCode());
-
-        // 4. MultipartFile 생성
-        String filename = String.format("report_%s_%d_%d_%s.pdf", company.getStockCode(), targetYear, targetQuarter, LocalDate.now());
-        MultipartFile multipartFile = new SimpleMultipartFile(
-            "file",
-            filename,
-            "application/pdf",
-            pdfContent
-        );
-
-        // 5. 파일 저장 (로컬 또는 S3)
+        // 3. AI 서버 PDF 스트림을 그대로 저장소로 흘려보낸다 (로컬 또는 S3)
         // 경로 구조: reports/{stockCode}/{year}/{quarter}
+        String filename = String.format("report_%s_%d_%d_%s.pdf", company.getStockCode(), targetYear, targetQuarter, LocalDate.now());
         String subDir = String.format("reports/%s/%d/%d", company.getStockCode(), targetYear, targetQuarter);
-        StoredFile storedFile = fileStorageService.store(multipartFile, subDir);
+        Flux<DataBuffer> pdfStream = aiServerClient.getAnalysisReportPdf(company.getStockCode());
+        StoredFile storedFile;
+        try (InputStream pdfContent = aiDownloadStream(DataBufferUtils.subscriberInputStream(pdfStream, REPORT_STREAM_DEMAND))) {
+            storedFile = fileStorageService.store(pdfContent, filename, MediaType.APPLICATION_PDF_VALUE, subDir);
+        } catch (IOException e) {
+            throw reportDownloadFailed(e);
+        }
 
-        // 6. DB에 파일 메타데이터 저장
+        // 4. DB에 파일 메타데이터 저장
         FilesEntity filesEntity = FilesEntity.create(
             FileUsageType.REPORT_PDF,
             storedFile.storageUrl(),
@@ -256,13 +260,13 @@ public class CompanyAiService {
         );
         FilesEntity savedFileEntity = filesRepository.save(filesEntity);
 
-        // 7. 분기 조회 또는 생성
+        // 5. 분기 조회 또는 생성
         QuartersEntity quarterEntity = getOrCreateQuarter(targetYear, targetQuarter);
 
-        // 8. 기업-분기 보고서 조회 또는 생성
+        // 6. 기업-분기 보고서 조회 또는 생성
         CompanyReportsEntity report = getOrCreateReport(company, quarterEntity);
 
-        // 9. 새 버전 등록 (report row 잠금으로 version_no 충돌 방지)
+        // 7. 새 버전 등록 (report row 잠금으로 version_no 충돌 방지)
         CompanyReportVersionsEntity version = companyReportVersionIssueService.issueNextVersion(report, true, savedFileEntity);
         log.info("Linked AI report to company_report_versions (ID: {}, Year: {}, Quarter: {}, Version: {})",
             report.getId(), targetYear, targetQuarter, version.getVersionNo());
@@ -385,11 +389,17 @@ public class CompanyAiService {
     @Async("insightExecutor")
     @Transactional
     public void generateReportAsync(String requestId, Long companyId, Integer year, Integer quarter) {
-        processReportGeneration(requestId, companyId, year, quarter);
+        try {
+            processReportGeneration(requestId, companyId, year, quarter);
+        } catch (RuntimeException e) {
+            // 재시도 경로가 없는 비동기 실행은 FAILED 상태 기록으로 끝낸다.
+            log.debug("Async report generation ended with failure: requestId={}", requestId);
+        }
     }
 
     /**
      * AI 리포트 생성 요청을 동기적으로 처리합니다.
+     * 실패하면 요청 상태를 FAILED 로 기록한 뒤 예외를 다시 던집니다.
      */
     @Transactional
     public void processReportGeneration(String requestId, Long companyId, Integer year, Integer quarter) {
@@ -409,7 +419,7 @@ public class CompanyAiService {
                 targetQuarter = quarter;
             } else {
                 // 가장 최근 ACTUAL 분기 조회
-                Optional<Integer> maxActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId);
+                Optional<Integer> maxActualQuarterKey = latestActualQuarterCache.findMaxActualQuarterKeyByCompanyId(companyId);
                 if (maxActualQuarterKey.isPresent()) {
                     int baseQuarterKey = maxActualQuarterKey.get();
                     int baseYear = baseQuarterKey / 10;
@@ -449,6 +459,10 @@ public class CompanyAiService {
         } catch (Exception e) {
             log.error("Failed async report generation for requestId: {}", requestId, e);
             aiReportRequestStatusService.updateFailed(requestId, e.getMessage());
+            // 상태를 FAILED 로 남긴 뒤 다시 던져 Kafka 컨슈머의 재시도/DLT 가 동작하게 한다.
+            throw e instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new IllegalStateException(e.getMessage(), e);
         }
     }
 
@@ -472,4 +486,38 @@ public class CompanyAiService {
         // 그렇지 않으면 stock_code로 간주
         return companyCode;
     }
+
+    /**
+     * 저장소 구현은 읽기 중 IOException 을 FILE_500_STORAGE 로 바꾸므로, AI 서버 다운로드 스트림의 읽기 오류는
+     * 저장소에 닿기 전에 외부 AI 장애로 바꿔 올린다.
+     */
+    private static InputStream aiDownloadStream(InputStream source) {
+        return new FilterInputStream(source) {
+            @Override
+            public int read() throws IOException {
+                try {
+                    return super.read();
+                } catch (IOException e) {
+                    throw reportDownloadFailed(e);
+                }
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                try {
+                    return super.read(buffer, offset, length);
+                } catch (IOException e) {
+                    throw reportDownloadFailed(e);
+                }
+            }
+        };
+    }
+
+    private static ExternalAiUnavailableException reportDownloadFailed(IOException cause) {
+        // 클라이언트가 이미 사유 코드(타임아웃, 서킷 열림 등)를 붙였다면 그대로 쓴다.
+        if (cause.getCause() instanceof ExternalAiUnavailableException unavailable) {
+            return unavailable;
+        }
+        return new ExternalAiUnavailableException("AI Server report download failed", REPORT_DOWNLOAD_REASON, cause);
+    }
 }
@@ -3,19 +3,20 @@ package com.aivle.project.company.service;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiHealthScoreResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricRiskLevel;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +34,7 @@ public class CompanyHealthScoreCacheService {
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 분기별 재무건전성 점수 캐시를 보장한다.
@@ -54,11 +56,12 @@ public class CompanyHealthScoreCacheService {
 			return;
 		}
 
+		boolean changed = false;
 		for (AiHealthScoreResponse.HealthScoreQuarter quarterScore : response.quarters()) {
 			if (quarterScore == null || quarterScore.period() == null || quarterScore.score() == null) {
 				continue;
 			}
-			int quarterKey = parseQuarterKey(quarterScore.period());
+			int quarterKey = QuarterCodec.parse(quarterScore.period(), "period");
 			QuartersEntity quarter = getOrCreateQuarter(quarterKey);
 			CompanyKeyMetricEntity entity = companyKeyMetricRepository
 				.findByCompanyIdAndQuarterId(companyId, quarter.getId())
@@ -80,6 +83,7 @@ public class CompanyHealthScoreCacheService {
 					DEFAULT_CALCULATION_LOGIC_VER,
 					now
 				));
+				changed = true;
 				continue;
 			}
 
@@ -91,8 +95,12 @@ public class CompanyHealthScoreCacheService {
 					DEFAULT_CALCULATION_LOGIC_VER,
 					now
 				);
+				changed = true;
 			}
 		}
+		if (changed) {
+			eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
+		}
 	}
 
 	/**
@@ -158,38 +166,16 @@ public class CompanyHealthScoreCacheService {
 	}
 
 	private QuartersEntity getOrCreateQuarter(int quarterKey) {
-		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		return quartersRepository.findByYearAndQuarter((short) yearQuarter.year(), (byte) yearQuarter.quarter())
+		int index = QuarterCodec.toIndex(quarterKey);
+		int year = QuarterCodec.yearOf(index);
+		int quarter = QuarterCodec.quarterOf(index);
+		return quartersRepository.findByYearAndQuarter((short) year, (byte) quarter)
 			.orElseGet(() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
+				year,
+				quarter,
 				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)));
 	}
-
-	private int parseQuarterKey(String period) {
-		try {
-			String normalized = normalizeQuarterKey(period);
-			int parsed = Integer.parseInt(normalized);
-			YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(parsed);
-			return yearQuarter.toQuarterKey();
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException("period는 숫자 형식이어야 합니다.", e);
-		}
-	}
-
-	private String normalizeQuarterKey(String period) {
-		String trimmed = period.trim();
-		if (trimmed.length() == 6) {
-			String yearPart = trimmed.substring(0, 4);
-			String quarterPart = trimmed.substring(4, 6);
-			if (quarterPart.startsWith("0")) {
-				quarterPart = quarterPart.substring(1);
-			}
-			return yearPart + quarterPart;
-		}
-		return trimmed;
-	}
 }
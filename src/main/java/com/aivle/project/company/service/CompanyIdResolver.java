@@ -0,0 +1,54 @@
+package com.aivle.project.company.service;
+
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 경로의 기업 ID 또는 종목 코드를 기업 ID 로 바꾼다.
+ *
+ * <p>개요 캐시가 켜져 있으면 변환 결과를 {@link CompanyOverviewCache} 에 두어, 개요 캐시 적중 요청이 DB 를 거치지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompanyIdResolver {
+
+	private static final String STOCK_CODE_PATTERN = "\\d{6}";
+
+	private final CompaniesRepository companiesRepository;
+	private final ObjectProvider<CompanyOverviewCache> companyOverviewCacheProvider;
+
+	public Long resolve(String companyIdOrCode) {
+		if (companyIdOrCode == null || companyIdOrCode.isBlank()) {
+			throw new IllegalArgumentException("Company id is required");
+		}
+		String trimmed = companyIdOrCode.trim();
+		CompanyOverviewCache cache = companyOverviewCacheProvider.getIfAvailable();
+		if (cache == null) {
+			return lookup(trimmed);
+		}
+		return cache.resolveCompanyId(trimmed, this::lookup);
+	}
+
+	private Long lookup(String trimmed) {
+		if (trimmed.chars().allMatch(Character::isDigit)) {
+			Long id = Long.parseLong(trimmed);
+			if (companiesRepository.existsById(id)) {
+				return id;
+			}
+			if (trimmed.matches(STOCK_CODE_PATTERN)) {
+				return findIdByStockCode(trimmed);
+			}
+			throw new IllegalArgumentException("Company not found for id: " + trimmed);
+		}
+		return findIdByStockCode(trimmed);
+	}
+
+	private Long findIdByStockCode(String stockCode) {
+		return companiesRepository.findByStockCode(stockCode)
+			.map(CompaniesEntity::getId)
+			.orElseThrow(() -> new IllegalArgumentException("Company not found for stockCode: " + stockCode));
+	}
+}
@@ -6,10 +6,9 @@ import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.repository.CompaniesRepository;
-import com.aivle.project.quarter.entity.QuartersEntity;
-import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.QuarterRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import java.math.BigDecimal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,7 +21,7 @@ import org.springframework.stereotype.Service;
 public class CompanyInfoService {
 
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 	private final CompanySectorService companySectorService;
 	private final CompanyReputationScoreService companyReputationScoreService;
@@ -34,7 +33,7 @@ public class CompanyInfoService {
 		CompaniesEntity company = companiesRepository.findById(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
 
-		int parsedQuarterKey = parseQuarterKey(quarterKey);
+		int parsedQuarterKey = QuarterCodec.parse(quarterKey, "quarterKey");
 		return getCompanyInfo(company, parsedQuarterKey);
 	}
 
@@ -63,12 +62,12 @@ public class CompanyInfoService {
 	}
 
 	private CompanyInfoDto getCompanyInfo(CompaniesEntity company, int quarterKey) {
-		QuartersEntity quarter = quartersRepository.findByQuarterKey(quarterKey)
+		QuarterRef quarter = referenceDataRegistry.findQuarter(quarterKey)
 			.orElseThrow(() -> new IllegalArgumentException("Quarter not found for key: " + quarterKey));
 
 		CompanySectorDto sector = companySectorService.getSector(company.getId());
 		CompanyKeyMetricEntity keyMetric = companyKeyMetricRepository
-			.findByCompanyIdAndQuarterId(company.getId(), quarter.getId())
+			.findByCompanyIdAndQuarterId(company.getId(), quarter.id())
 			.orElse(null);
 
 		Double networkHealth = toDouble(keyMetric != null ? keyMetric.getInternalHealthScore() : null);
@@ -97,33 +96,6 @@ public class CompanyInfoService {
 		);
 	}
 
-	private int parseQuarterKey(String quarterKey) {
-		try {
-			String normalized = normalizeQuarterKey(quarterKey);
-			int parsed = Integer.parseInt(normalized);
-			YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(parsed);
-			return yearQuarter.toQuarterKey();
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException("quarterKey는 숫자 형식이어야 합니다.", e);
-		}
-	}
-
-	private String normalizeQuarterKey(String quarterKey) {
-		if (quarterKey == null) {
-			return null;
-		}
-		String trimmed = quarterKey.trim();
-		if (trimmed.length() == 6) {
-			String yearPart = trimmed.substring(0, 4);
-			String quarterPart = trimmed.substring(4, 6);
-			if (quarterPart.startsWith("0")) {
-				quarterPart = quarterPart.substring(1);
-			}
-			return yearPart + quarterPart;
-		}
-		return trimmed;
-	}
-
 	private Double toDouble(BigDecimal value) {
 		return value == null ? null : value.doubleValue();
 	}
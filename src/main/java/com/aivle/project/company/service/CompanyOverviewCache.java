@@ -0,0 +1,435 @@
+package com.aivle.project.company.service;
+
+import com.aivle.project.company.config.CompanyOverviewCacheProperties;
+import com.aivle.project.company.dto.CompanyOverviewResponseDto;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 기업 개요 응답 2단 캐시.
+ *
+ * <p>1단은 인스턴스 메모리(LRU + TTL), 2단은 기업별 Redis 해시({@code company:overview:{companyId}}, 필드는 요청 분기)다.
+ * 같은 키의 동시 미스는 한 번만 조회한다. 개요 값이 바뀌는 쓰기가 커밋되면 기업 단위로 두 단을 모두 비우고,
+ * 다른 인스턴스에는 pub/sub 로 알린다. Redis 오류는 캐시 미스로 보고 원본 조회로 넘어간다.
+ *
+ * <p>요청 경로의 기업 ID/종목 코드를 기업 ID 로 바꾼 결과도 메모리에 둔다. 적중 시 DB 를 거치지 않도록
+ * 개요 조회 전에 쓰며, 기업 무효화 때 함께 비운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.company.overview-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompanyOverviewCache implements MessageListener {
+
+	static final String CACHE_NAME = "companyOverview";
+	static final String REDIS_CACHE_NAME = "companyOverviewRedis";
+	static final String LATEST_FIELD = "latest";
+	private static final String KEY_PREFIX = "company:overview:";
+	private static final String VERSION_KEY_PREFIX = "company:overview:ver:";
+	private static final int EVICT_BATCH_SIZE = 200;
+
+	/**
+	 * 조회를 시작할 때 읽은 버전이 그대로일 때만 적재한다. 조회 도중 무효화가 있었다면 오래된 값이므로 버린다.
+	 * KEYS = [해시, 버전], ARGV = [읽은 버전, 필드, 값, TTL(ms)]
+	 */
+	static final DefaultRedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+		"local current = redis.call('GET', KEYS[2]) or '' "
+			+ "if current ~= ARGV[1] then return 0 end "
+			+ "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) "
+			+ "redis.call('PEXPIRE', KEYS[1], ARGV[4]) "
+			+ "return 1",
+		Long.class
+	);
+
+	/**
+	 * 기업마다 해시를 지우고 버전을 올린다. KEYS = [해시1, 버전1, 해시2, 버전2, ...], ARGV = [버전 TTL(ms)]
+	 */
+	static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+		"for i = 1, #KEYS, 2 do "
+			+ "redis.call('DEL', KEYS[i]) "
+			+ "redis.call('INCR', KEYS[i + 1]) "
+			+ "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) "
+			+ "end "
+			+ "return #KEYS / 2",
+		Long.class
+	);
+
+	private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+	private final ObjectMapper objectMapper;
+	private final CompanyOverviewCacheProperties properties;
+	private final Clock clock;
+	private final Map<CacheKey, CacheEntry> entries;
+	private final Map<CacheKey, CompletableFuture<CompanyOverviewResponseDto>> inFlight = new ConcurrentHashMap<>();
+	// 기업별 무효화 횟수. 무효화 이전에 읽은 값이 메모리에 다시 적재되지 않게 하되, 다른 기업의 무효화에는 영향받지 않는다.
+	// entries 잠금 안에서만 다루며, 항목 수는 무효화된 기업 수를 넘지 않는다.
+	private final Map<Long, Long> generations = new HashMap<>();
+	private final Map<String, AliasEntry> aliases;
+	private final Counter localHitCounter;
+	private final Counter localMissCounter;
+	private final Counter redisHitCounter;
+	private final Counter redisMissCounter;
+	private final Counter evictionCounter;
+
+	@Autowired
+	public CompanyOverviewCache(
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectMapper objectMapper,
+		CompanyOverviewCacheProperties properties,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this(redisTemplateProvider, objectMapper, properties, meterRegistryProvider.getIfAvailable(), Clock.systemUTC());
+	}
+
+	CompanyOverviewCache(
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectMapper objectMapper,
+		CompanyOverviewCacheProperties properties,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.redisTemplateProvider = redisTemplateProvider;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.clock = clock;
+		int maxSize = Math.max(0, properties.getLocalMaxSize());
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				boolean overflow = size() > maxSize;
+				if (overflow) {
+					increment(CompanyOverviewCache.this.evictionCounter);
+				}
+				return overflow;
+			}
+		};
+		this.aliases = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, AliasEntry> eldest) {
+				return size() > maxSize;
+			}
+		};
+
+		if (meterRegistry == null) {
+			this.localHitCounter = null;
+			this.localMissCounter = null;
+			this.redisHitCounter = null;
+			this.redisMissCounter = null;
+			this.evictionCounter = null;
+			return;
+		}
+		this.localHitCounter = getsCounter(meterRegistry, CACHE_NAME, "hit");
+		this.localMissCounter = getsCounter(meterRegistry, CACHE_NAME, "miss");
+		this.redisHitCounter = getsCounter(meterRegistry, REDIS_CACHE_NAME, "hit");
+		this.redisMissCounter = getsCounter(meterRegistry, REDIS_CACHE_NAME, "miss");
+		this.evictionCounter = Counter.builder("cache.evictions")
+			.tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+		Gauge.builder("cache.size", this, CompanyOverviewCache::size)
+			.tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 메모리, Redis 순으로 찾고 둘 다 없으면 loader 로 만든 응답을 두 단에 적재한다. loader 예외는 그대로 전달하며 적재하지 않는다.
+	 */
+	public CompanyOverviewResponseDto get(Long companyId, String quarterKey, Loader loader) throws Throwable {
+		if (companyId == null) {
+			return loader.load();
+		}
+		CacheKey key = new CacheKey(companyId, fieldOf(quarterKey));
+
+		long now = clock.millis();
+		long observedGeneration;
+		synchronized (entries) {
+			CacheEntry cached = entries.get(key);
+			if (cached != null && cached.expiresAt() > now) {
+				increment(localHitCounter);
+				return cached.value();
+			}
+			if (cached != null) {
+				entries.remove(key);
+			}
+			observedGeneration = generations.getOrDefault(companyId, 0L);
+		}
+		increment(localMissCounter);
+
+		CompletableFuture<CompanyOverviewResponseDto> created = new CompletableFuture<>();
+		CompletableFuture<CompanyOverviewResponseDto> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return await(existing);
+		}
+
+		try {
+			CompanyOverviewResponseDto value = loadThroughRedis(key, loader);
+			synchronized (entries) {
+				if (generations.getOrDefault(companyId, 0L) == observedGeneration) {
+					entries.put(key, new CacheEntry(value, now + properties.getLocalTtl().toMillis()));
+				}
+			}
+			created.complete(value);
+			return value;
+		} catch (Throwable ex) {
+			created.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlight.remove(key, created);
+		}
+	}
+
+	/**
+	 * 기업 ID 또는 종목 코드를 기업 ID 로 바꾼다. 메모리에 없을 때만 resolver 를 부르고, 찾지 못한 경우(예외)는 남기지 않는다.
+	 */
+	public Long resolveCompanyId(String idOrCode, Function<String, Long> resolver) {
+		long now = clock.millis();
+		synchronized (entries) {
+			AliasEntry cached = aliases.get(idOrCode);
+			if (cached != null && cached.expiresAt() > now) {
+				return cached.companyId();
+			}
+		}
+		Long companyId = resolver.apply(idOrCode);
+		if (companyId != null) {
+			synchronized (entries) {
+				aliases.put(idOrCode, new AliasEntry(companyId, now + properties.getLocalTtl().toMillis()));
+			}
+		}
+		return companyId;
+	}
+
+	/**
+	 * 이 인스턴스와 Redis 에서 해당 기업의 개요를 모두 비우고 다른 인스턴스에 알린다.
+	 */
+	public void evict(Collection<Long> companyIds) {
+		Set<Long> targets = companyIds == null ? Set.of() : companyIds.stream()
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		if (targets.isEmpty()) {
+			return;
+		}
+		evictLocal(targets);
+
+		StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+		if (redisTemplate == null) {
+			return;
+		}
+		try {
+			evictRedis(redisTemplate, targets);
+			redisTemplate.convertAndSend(properties.getChannel(), targets.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(",")));
+		} catch (RuntimeException ex) {
+			// 지우지 못한 Redis 항목은 TTL 로, 다른 인스턴스의 메모리 항목은 메모리 TTL 로 만료된다.
+			log.warn("기업 개요 캐시 무효화 실패: companyIds={}, reason={}", targets, ex.getMessage());
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onOverviewChanged(CompanyOverviewChangedEvent event) {
+		if (event.companyId() != null) {
+			evict(Set.of(event.companyId()));
+		}
+	}
+
+	/**
+	 * 실적 적재 커밋 이후 비운다. 최신 분기 캐시가 먼저 비워지도록 순서를 뒤로 둔다.
+	 */
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onActualMetricsChanged(ActualMetricsChangedEvent event) {
+		evict(event.companyIds());
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		handleMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	void handleMessage(String payload) {
+		Set<Long> companyIds = new HashSet<>();
+		for (String token : payload.split(",")) {
+			try {
+				companyIds.add(Long.parseLong(token.trim()));
+			} catch (NumberFormatException ex) {
+				log.debug("잘못된 기업 개요 캐시 무효화 메시지 무시: {}", payload);
+				return;
+			}
+		}
+		evictLocal(companyIds);
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private CompanyOverviewResponseDto loadThroughRedis(CacheKey key, Loader loader) throws Throwable {
+		StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+		if (redisTemplate == null) {
+			return loader.load();
+		}
+
+		String hashKey = KEY_PREFIX + key.companyId();
+		String versionKey = VERSION_KEY_PREFIX + key.companyId();
+		String observedVersion;
+		try {
+			CompanyOverviewResponseDto cached = readRedis(redisTemplate, hashKey, key.field());
+			if (cached != null) {
+				increment(redisHitCounter);
+				return cached;
+			}
+			String version = redisTemplate.opsForValue().get(versionKey);
+			observedVersion = version == null ? "" : version;
+		} catch (RuntimeException ex) {
+			log.debug("기업 개요 Redis 캐시 조회 생략: key={}, reason={}", hashKey, ex.getMessage());
+			return loader.load();
+		}
+
+		increment(redisMissCounter);
+		CompanyOverviewResponseDto loaded = loader.load();
+		writeRedis(redisTemplate, hashKey, versionKey, key.field(), observedVersion, loaded);
+		return loaded;
+	}
+
+	private CompanyOverviewResponseDto readRedis(StringRedisTemplate redisTemplate, String hashKey, String field) {
+		Object payload = redisTemplate.opsForHash().get(hashKey, field);
+		if (payload == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(payload.toString(), CompanyOverviewResponseDto.class);
+		} catch (Exception ex) {
+			log.debug("기업 개요 캐시 역직렬화 실패: key={}, field={}, reason={}", hashKey, field, ex.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRedis(
+		StringRedisTemplate redisTemplate,
+		String hashKey,
+		String versionKey,
+		String field,
+		String observedVersion,
+		CompanyOverviewResponseDto value
+	) {
+		if (value == null) {
+			return;
+		}
+		try {
+			redisTemplate.execute(
+				PUT_SCRIPT,
+				List.of(hashKey, versionKey),
+				observedVersion,
+				field,
+				objectMapper.writeValueAsString(value),
+				String.valueOf(properties.getRedisTtl().toMillis())
+			);
+		} catch (Exception ex) {
+			log.debug("기업 개요 Redis 캐시 적재 실패: key={}, reason={}", hashKey, ex.getMessage());
+		}
+	}
+
+	private void evictRedis(StringRedisTemplate redisTemplate, Set<Long> companyIds) {
+		// 버전 키는 해시보다 오래 남아야, 만료 직후 시작한 조회와 무효화가 겹쳐도 버전이 되돌아가지 않는다.
+		String versionTtl = String.valueOf(properties.getRedisTtl().toMillis() * 2);
+		List<String> keys = new ArrayList<>(EVICT_BATCH_SIZE * 2);
+		for (Long companyId : companyIds) {
+			keys.add(KEY_PREFIX + companyId);
+			keys.add(VERSION_KEY_PREFIX + companyId);
+			if (keys.size() >= EVICT_BATCH_SIZE * 2) {
+				redisTemplate.execute(EVICT_SCRIPT, keys, versionTtl);
+				keys = new ArrayList<>(EVICT_BATCH_SIZE * 2);
+			}
+		}
+		if (!keys.isEmpty()) {
+			redisTemplate.execute(EVICT_SCRIPT, keys, versionTtl);
+		}
+	}
+
+	private void evictLocal(Set<Long> companyIds) {
+		synchronized (entries) {
+			companyIds.forEach(companyId -> generations.merge(companyId, 1L, Long::sum));
+			entries.keySet().removeIf(key -> companyIds.contains(key.companyId()));
+			aliases.values().removeIf(alias -> companyIds.contains(alias.companyId()));
+		}
+		log.debug("기업 개요 캐시 무효화: companyIds={}", companyIds);
+	}
+
+	private static CompanyOverviewResponseDto await(CompletableFuture<CompanyOverviewResponseDto> future) throws Throwable {
+		try {
+			return future.get();
+		} catch (ExecutionException ex) {
+			throw ex.getCause();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("기업 개요 조회 대기 중 인터럽트", ex);
+		}
+	}
+
+	private static String fieldOf(String quarterKey) {
+		return quarterKey == null || quarterKey.isBlank() ? LATEST_FIELD : quarterKey.trim();
+	}
+
+	private static Counter getsCounter(MeterRegistry meterRegistry, String cacheName, String result) {
+		return Counter.builder("cache.gets")
+			.tag("cache", cacheName)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	/**
+	 * 예외를 그대로 전달하는 개요 조회.
+	 */
+	@FunctionalInterface
+	public interface Loader {
+
+		CompanyOverviewResponseDto load() throws Throwable;
+	}
+
+	private record CacheKey(Long companyId, String field) {
+	}
+
+	private record CacheEntry(CompanyOverviewResponseDto value, long expiresAt) {
+	}
+
+	private record AliasEntry(Long companyId, long expiresAt) {
+	}
+}
@@ -0,0 +1,31 @@
+package com.aivle.project.company.service;
+
+import com.aivle.project.company.dto.CompanyOverviewResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CompanyOverviewService#getOverview} 결과를 {@link CompanyOverviewCache} 로 감싸는 Aspect.
+ *
+ * <p>트랜잭션보다 바깥에서 동작해야 캐시 적중 시 DB 커넥션을 잡지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.company.overview-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CompanyOverviewCacheAspect {
+
+	private final CompanyOverviewCache companyOverviewCache;
+
+	@Around("execution(public * com.aivle.project.company.service.CompanyOverviewService.getOverview(Long, String)) && args(companyId, quarterKey)")
+	public Object cache(ProceedingJoinPoint joinPoint, Long companyId, String quarterKey) throws Throwable {
+		return companyOverviewCache.get(companyId, quarterKey, () -> (CompanyOverviewResponseDto) joinPoint.proceed());
+	}
+}
@@ -12,16 +12,16 @@ import com.aivle.project.company.dto.CompanyOverviewSignalLevel;
 import com.aivle.project.company.dto.CompanyOverviewTooltipDto;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
-import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.metric.entity.MetricValueType;
-import com.aivle.project.quarter.entity.QuartersEntity;
-import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.KeyMetricDescriptionRef;
+import com.aivle.project.reference.dto.QuarterRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.dto.CompanyOverviewMetricRowProjection;
 import com.aivle.project.report.entity.SignalColor;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -47,10 +47,10 @@ public class CompanyOverviewService {
 
 	private final CompanyInfoService companyInfoService;
 	private final CompaniesRepository companiesRepository;
-	private final QuartersRepository quartersRepository;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
-	private final KeyMetricDescriptionRepository keyMetricDescriptionRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
+	private final ReferenceDataRegistry referenceDataRegistry;
 
 	/**
 	 * 기업 개요 응답을 구성한다.
@@ -67,13 +67,13 @@ public class CompanyOverviewService {
 				null
 			);
 		}
-		int parsedQuarterKey = parseQuarterKey(resolvedQuarterKey);
+		int parsedQuarterKey = QuarterCodec.parse(resolvedQuarterKey, "quarterKey");
 		CompanyInfoDto companyInfo = companyInfoService.getCompanyInfo(companyId, resolvedQuarterKey);
-		QuartersEntity quarter = quartersRepository.findByQuarterKey(parsedQuarterKey)
+		QuarterRef quarter = referenceDataRegistry.findQuarter(parsedQuarterKey)
 			.orElseThrow(() -> new IllegalArgumentException("Quarter not found for key: " + parsedQuarterKey));
 
 		CompanyKeyMetricEntity keyMetric = companyKeyMetricRepository
-			.findByCompanyIdAndQuarterId(companyId, quarter.getId())
+			.findByCompanyIdAndQuarterId(companyId, quarter.id())
 			.orElse(null);
 
 		List<CompanyOverviewMetricRowProjection> seriesRows = loadSeriesRows(companyInfo.getStockCode(), parsedQuarterKey);
@@ -98,15 +98,14 @@ public class CompanyOverviewService {
 		String stockCode = companiesRepository.findById(companyId)
 			.map(company -> company.getStockCode())
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		return latestActualQuarterCache.findMaxActualQuarterKeyByStockCode(stockCode)
 			.map(String::valueOf)
 			.orElse(null);
 	}
 
 	private List<CompanyOverviewMetricRowProjection> loadSeriesRows(String stockCode, int quarterKey) {
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		int fromQuarterKey = QuarterCalculator.offset(baseQuarter, -3).toQuarterKey();
-		int toQuarterKey = QuarterCalculator.offset(baseQuarter, 1).toQuarterKey();
+		int fromQuarterKey = QuarterCodec.offset(quarterKey, -3);
+		int toQuarterKey = QuarterCodec.next(quarterKey);
 
 		return companyReportMetricValuesRepository
 			.findLatestOverviewMetricsByStockCodeAndQuarterRange(stockCode, fromQuarterKey, toQuarterKey, LOCALE_KO);
@@ -116,13 +115,11 @@ public class CompanyOverviewService {
 		int quarterKey,
 		List<CompanyOverviewMetricRowProjection> rows
 	) {
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		YearQuarter nextQuarter = QuarterCalculator.offset(baseQuarter, 1);
 		List<CompanyOverviewMetricSeriesDto> series = buildSeries(rows);
 
 		return new CompanyOverviewForecastDto(
-			formatQuarterKey(quarterKey),
-			formatQuarterKey(nextQuarter.toQuarterKey()),
+			QuarterCodec.label(quarterKey),
+			QuarterCodec.label(QuarterCodec.next(quarterKey)),
 			series
 		);
 	}
@@ -138,7 +135,7 @@ public class CompanyOverviewService {
 				new ArrayList<>()
 			));
 			CompanyOverviewDataPointDto dataPoint = new CompanyOverviewDataPointDto(
-				formatQuarterKey(row.getQuarterKey()),
+				QuarterCodec.label(row.getQuarterKey()),
 				toDouble(row.getMetricValue()),
 				mapDataType(row.getValueType())
 			);
@@ -156,26 +153,20 @@ public class CompanyOverviewService {
 			valueMap.put("EXTERNAL_REPUTATION", null);
 		}
 
-		Map<String, com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity> descriptionMap = keyMetricDescriptionRepository
-			.findAllByMetricCodeIn(KEY_METRIC_CODES)
-			.stream()
-			.collect(java.util.stream.Collectors.toMap(
-				com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity::getMetricCode,
-				description -> description
-			));
+		Map<String, KeyMetricDescriptionRef> descriptionMap = referenceDataRegistry.findKeyMetricDescriptions(KEY_METRIC_CODES);
 
 		for (String metricCode : KEY_METRIC_CODES) {
 			var description = descriptionMap.get(metricCode);
 			CompanyOverviewTooltipDto tooltip = description == null ? null : new CompanyOverviewTooltipDto(
-				description.getDescription(),
-				description.getInterpretation(),
-				description.getActionHint()
+				description.description(),
+				description.interpretation(),
+				description.actionHint()
 			);
 			result.add(new CompanyOverviewKeyMetricDto(
 				metricCode,
-				description != null ? description.getMetricName() : metricCode,
+				description != null ? description.metricName() : metricCode,
 				toDouble(valueMap.get(metricCode)),
-				description != null ? description.getUnit() : null,
+				description != null ? description.unit() : null,
 				tooltip
 			));
 		}
@@ -187,8 +178,7 @@ private List<CompanyOverviewMetricDto> buildMetrics(
 		List<CompanyOverviewMetricRowProjection> rows,
 		int quarterKey
 ) {
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		int nextQuarterKey = QuarterCalculator.offset(baseQuarter, 1).toQuarterKey();
+		int nextQuarterKey = QuarterCodec.next(quarterKey);
 		Map<String, SignalColor> latestActualSignals = loadLatestActualSignals(companyId, quarterKey);
 		List<CompanyOverviewMetricDto> result = new ArrayList<>();
 		for (CompanyOverviewMetricRowProjection row : rows) {
@@ -241,38 +231,6 @@ private SignalColor resolveSignalColor(
 		);
 	}
 
-	private int parseQuarterKey(String quarterKey) {
-		try {
-			String normalized = normalizeQuarterKey(quarterKey);
-			int parsed = Integer.parseInt(normalized);
-			YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(parsed);
-			return yearQuarter.toQuarterKey();
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException("quarterKey는 숫자 형식이어야 합니다.", e);
-		}
-	}
-
-	private String normalizeQuarterKey(String quarterKey) {
-		if (quarterKey == null) {
-			return null;
-		}
-		String trimmed = quarterKey.trim();
-		if (trimmed.length() == 6) {
-			String yearPart = trimmed.substring(0, 4);
-			String quarterPart = trimmed.substring(4, 6);
-			if (quarterPart.startsWith("0")) {
-				quarterPart = quarterPart.substring(1);
-			}
-			return yearPart + quarterPart;
-		}
-		return trimmed;
-	}
-
-	private String formatQuarterKey(int quarterKey) {
-		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		return yearQuarter.year() + "Q" + yearQuarter.quarter();
-	}
-
 	private CompanyOverviewSignalLevel mapSignalLevel(SignalColor signalColor) {
 		if (signalColor == null) {
 			return CompanyOverviewSignalLevel.UNKNOWN;
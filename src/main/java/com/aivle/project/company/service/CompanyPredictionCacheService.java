@@ -3,6 +3,7 @@ package com.aivle.project.company.service;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.metric.entity.MetricValueType;
@@ -10,8 +11,7 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
@@ -19,6 +19,7 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,7 +47,9 @@ public class CompanyPredictionCacheService {
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final MetricsRepository metricsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 최신 ACTUAL 분기 기준으로 다음 분기 예측값을 캐시한다.
@@ -56,7 +60,7 @@ public class CompanyPredictionCacheService {
 		CompaniesEntity company = companiesRepository.findById(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
-		Optional<Integer> latestActualQuarterKey = companyReportMetricValuesRepository
+		Optional<Integer> latestActualQuarterKey = latestActualQuarterCache
 			.findMaxActualQuarterKeyByStockCode(company.getStockCode());
 		if (latestActualQuarterKey.isEmpty()) {
 			log.info("No actual quarter found for company: {}", companyId);
@@ -69,9 +73,7 @@ public class CompanyPredictionCacheService {
 			return;
 		}
 
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(latestActualKey);
-		YearQuarter targetQuarter = QuarterCalculator.offset(baseQuarter, 1);
-		QuartersEntity targetQuarterEntity = getOrCreateQuarter(targetQuarter);
+		QuartersEntity targetQuarterEntity = getOrCreateQuarter(QuarterCodec.next(latestActualKey));
 
 		CompanyReportsEntity report = getOrCreateReport(company, targetQuarterEntity);
 
@@ -100,19 +102,23 @@ public class CompanyPredictionCacheService {
 		}
 
 		savePredictions(latestVersion, targetQuarterEntity, response.predictions());
+		eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
 	}
 
-	private QuartersEntity getOrCreateQuarter(YearQuarter quarter) {
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
+		short year = (short) QuarterCodec.yearOf(index);
+		byte quarter = (byte) QuarterCodec.quarterOf(index);
 		return GetOrCreateResolver.resolve(
-			() -> quartersRepository.findByYearAndQuarter((short) quarter.year(), (byte) quarter.quarter()),
+			() -> quartersRepository.findByYearAndQuarter(year, quarter),
 			() -> quartersRepository.save(QuartersEntity.create(
-				quarter.year(),
-				quarter.quarter(),
-				quarter.toQuarterKey(),
-				QuarterCalculator.startDate(quarter),
-				QuarterCalculator.endDate(quarter)
+				year,
+				quarter,
+				quarterKey,
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)),
-			() -> quartersRepository.findByYearAndQuarter((short) quarter.year(), (byte) quarter.quarter())
+			() -> quartersRepository.findByYearAndQuarter(year, quarter)
 		);
 	}
 
@@ -151,12 +157,6 @@ public class CompanyPredictionCacheService {
 	}
 
 	private int parseBasePeriod(String basePeriod) {
-		try {
-			int parsed = Integer.parseInt(basePeriod);
-			YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(parsed);
-			return yearQuarter.toQuarterKey();
-		} catch (NumberFormatException e) {
-			throw new IllegalArgumentException("base_period는 숫자 형식이어야 합니다.", e);
-		}
+		return QuarterCodec.parse(basePeriod, "base_period");
 	}
 }
@@ -1,16 +1,18 @@
 package com.aivle.project.company.service;
 
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.keymetric.entity.CompanyKeyMetricEntity;
 import com.aivle.project.company.keymetric.repository.CompanyKeyMetricRepository;
 import com.aivle.project.company.news.entity.NewsAnalysisEntity;
 import com.aivle.project.company.news.repository.NewsAnalysisRepository;
 import com.aivle.project.company.news.service.NewsService;
-import com.aivle.project.quarter.entity.QuartersEntity;
-import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.reference.dto.QuarterRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,28 +23,29 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CompanyReputationScoreService {
 
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
-	private final QuartersRepository quartersRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 	private final NewsAnalysisRepository newsAnalysisRepository;
 	private final NewsService newsService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public void syncExternalHealthScoreIfPresent(Long companyId, String stockCode) {
-		Integer latestActualQuarterKey = companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		Integer latestActualQuarterKey = latestActualQuarterCache.findMaxActualQuarterKeyByStockCode(stockCode)
 			.orElse(null);
 		if (latestActualQuarterKey == null) {
 			return;
 		}
 
-		QuartersEntity quarter = quartersRepository.findByQuarterKey(latestActualQuarterKey)
+		QuarterRef quarter = referenceDataRegistry.findQuarter(latestActualQuarterKey)
 			.orElse(null);
 		if (quarter == null) {
 			return;
 		}
 
 		CompanyKeyMetricEntity keyMetric = companyKeyMetricRepository
-			.findByCompanyIdAndQuarterId(companyId, quarter.getId())
+			.findByCompanyIdAndQuarterId(companyId, quarter.id())
 			.orElse(null);
 		if (keyMetric == null) {
 			return;
@@ -54,6 +57,7 @@ public class CompanyReputationScoreService {
 		}
 
 		keyMetric.applyExternalHealthScore(averageScore);
+		eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
 	}
 
 	@Transactional(readOnly = true)
@@ -4,6 +4,8 @@ import com.aivle.project.company.dto.CompanySectorDto;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.industry.entity.IndustryEntity;
+import com.aivle.project.reference.dto.IndustryRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CompanySectorService {
 
 	private final CompaniesRepository companiesRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 
 	/**
 	 * 회사 ID 기준 섹터 정보를 조회한다.
@@ -26,8 +29,11 @@ public class CompanySectorService {
 		CompaniesEntity company = companiesRepository.findById(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found for id: " + companyId));
 
+		// 지연 로딩 업종 프록시는 id 만 꺼내 초기화하지 않고, 이름은 레지스트리에서 찾는다.
 		String label = Optional.ofNullable(company.getIndustryCode())
-			.map(IndustryEntity::getIndustryName)
+			.map(IndustryEntity::getId)
+			.flatMap(referenceDataRegistry::findIndustry)
+			.map(IndustryRef::industryName)
 			.orElse("");
 
 		return new CompanySectorDto("", label);
@@ -3,11 +3,14 @@ package com.aivle.project.company.service;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiSignalResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
-import com.aivle.project.metric.repository.MetricsRepository;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.SignalColor;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +19,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +34,9 @@ public class CompanySignalCacheService {
 	private final AiServerClient aiServerClient;
 	private final CompaniesRepository companiesRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
-	private final MetricsRepository metricsRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 최신 ACTUAL 분기일 때만 신호등 캐시를 시도한다.
@@ -40,7 +46,7 @@ public class CompanySignalCacheService {
 		CompaniesEntity company = companiesRepository.findById(companyId)
 			.orElseThrow(() -> new IllegalArgumentException("Company not found: " + companyId));
 
-		Optional<Integer> latestActualQuarterKey = companyReportMetricValuesRepository
+		Optional<Integer> latestActualQuarterKey = latestActualQuarterCache
 			.findMaxActualQuarterKeyByStockCode(company.getStockCode());
 		if (latestActualQuarterKey.isEmpty()) {
 			return;
@@ -71,10 +77,12 @@ public class CompanySignalCacheService {
 		}
 
 		Set<String> metricCodes = signalMap.keySet();
-		Map<Long, String> metricIdMap = metricsRepository.findAllByMetricCodeIn(metricCodes)
+		Map<Long, String> metricIdMap = referenceDataRegistry.findMetricsByCode(metricCodes)
+			.values()
 			.stream()
-			.collect(Collectors.toMap(m -> m.getId(), m -> m.getMetricCode()));
+			.collect(Collectors.toMap(MetricRef::id, MetricRef::metricCode));
 
+		boolean applied = false;
 		for (CompanyReportMetricValuesEntity value : latestActualValues) {
 			Long metricId = value.getMetric().getId();
 			String metricCode = metricIdMap.get(metricId);
@@ -86,6 +94,10 @@ public class CompanySignalCacheService {
 				continue;
 			}
 			value.applySignal(color, null, (BigDecimal) null);
+			applied = true;
+		}
+		if (applied) {
+			eventPublisher.publishEvent(new CompanyOverviewChangedEvent(companyId));
 		}
 	}
 
@@ -0,0 +1,121 @@
+package com.aivle.project.dashboard.repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 대시보드 요약 스냅샷 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardSummarySnapshotJdbcRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public Optional<DashboardSummarySnapshot> findByUserId(Long userId) {
+		List<DashboardSummarySnapshot> rows = jdbcTemplate.query(
+			"""
+				SELECT user_id, payload, computed_at, invalidated_at
+				FROM dashboard_summary_snapshots
+				WHERE user_id = ?
+				""",
+			(rs, rowNum) -> new DashboardSummarySnapshot(
+				rs.getLong("user_id"),
+				rs.getString("payload"),
+				toLocalDateTime(rs.getTimestamp("computed_at")),
+				toLocalDateTime(rs.getTimestamp("invalidated_at"))
+			),
+			userId
+		);
+		return rows.stream().findFirst();
+	}
+
+	/**
+	 * 스냅샷을 저장한다. 무효화 시각은 유지해 계산 도중 들어온 무효화가 덮이지 않도록 한다.
+	 */
+	public void upsert(Long userId, String payload, LocalDateTime computedAt) {
+		jdbcTemplate.update(
+			"""
+				INSERT INTO dashboard_summary_snapshots (user_id, payload, computed_at)
+				VALUES (?, ?, ?)
+				ON DUPLICATE KEY UPDATE
+					payload = VALUES(payload),
+					computed_at = VALUES(computed_at)
+				""",
+			userId,
+			payload,
+			Timestamp.valueOf(computedAt)
+		);
+	}
+
+	public int invalidateByUserId(Long userId, LocalDateTime invalidatedAt) {
+		return jdbcTemplate.update(
+			"UPDATE dashboard_summary_snapshots SET invalidated_at = ? WHERE user_id = ?",
+			Timestamp.valueOf(invalidatedAt),
+			userId
+		);
+	}
+
+	/**
+	 * 해당 기업을 워치리스트에 담은 사용자의 스냅샷을 무효화한다.
+	 */
+	public int invalidateByCompanyIds(Collection<Long> companyIds, LocalDateTime invalidatedAt) {
+		if (companyIds == null || companyIds.isEmpty()) {
+			return 0;
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("companyIds", companyIds)
+			.addValue("invalidatedAt", Timestamp.valueOf(invalidatedAt));
+		return namedParameterJdbcTemplate.update(
+			"""
+				UPDATE dashboard_summary_snapshots
+				SET invalidated_at = :invalidatedAt
+				WHERE user_id IN (
+					SELECT cw.user_id
+					FROM company_watchlists cw
+					WHERE cw.company_id IN (:companyIds)
+					  AND cw.deleted_at IS NULL
+				)
+				""",
+			params
+		);
+	}
+
+	private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+
+	/**
+	 * 저장된 대시보드 요약 스냅샷.
+	 */
+	public record DashboardSummarySnapshot(
+		Long userId,
+		String payload,
+		LocalDateTime computedAt,
+		LocalDateTime invalidatedAt
+	) {
+
+		/**
+		 * 계산 이후 무효화가 없었고 허용 지연 이내에 계산된 경우에만 최신으로 본다.
+		 */
+		public boolean isFresh(LocalDateTime now, Duration maxStaleness) {
+			if (computedAt == null) {
+				return false;
+			}
+			if (invalidatedAt != null && !computedAt.isAfter(invalidatedAt)) {
+				return false;
+			}
+			return computedAt.plus(maxStaleness).isAfter(now);
+		}
+	}
+}
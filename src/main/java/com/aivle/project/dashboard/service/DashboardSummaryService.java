@@ -11,14 +11,14 @@ import com.aivle.project.dashboard.dto.MajorSectorDto;
 import com.aivle.project.dashboard.dto.RiskStatusBucketDto;
 import com.aivle.project.dashboard.dto.RiskStatusDistributionDto;
 import com.aivle.project.dashboard.dto.RiskStatusDistributionPercentDto;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import com.aivle.project.watchlist.entity.CompanyWatchlistEntity;
 import com.aivle.project.watchlist.repository.CompanyWatchlistRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
@@ -39,7 +39,7 @@ public class DashboardSummaryService {
 	private static final String RANGE_LABEL = "최근 4분기";
 
 	private final CompanyWatchlistRepository companyWatchlistRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
 	private final CompanyKeyMetricRepository companyKeyMetricRepository;
 
 	@Transactional(readOnly = true)
@@ -84,11 +84,10 @@ public class DashboardSummaryService {
 			.toList();
 
 		int latestActualQuarterKey = resolveLatestActualQuarterKey(watchlists);
-		int forecastQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(latestActualQuarterKey), 1)
-			.toQuarterKey();
+		int forecastQuarterKey = QuarterCodec.next(latestActualQuarterKey);
 
 		List<Integer> windowQuarterKeys = buildWindowQuarterKeys(latestActualQuarterKey);
-		List<String> windowQuarters = windowQuarterKeys.stream().map(this::toQuarterLabel).toList();
+		List<String> windowQuarters = windowQuarterKeys.stream().map(QuarterCodec::label).toList();
 
 		List<CompanyKeyMetricEntity> latestMetrics = companyKeyMetricRepository
 			.findByCompanyIdInAndQuarter_QuarterKey(companyIds, latestActualQuarterKey);
@@ -105,8 +104,8 @@ public class DashboardSummaryService {
 		return new DashboardSummaryResponse(
 			RANGE_LABEL,
 			buildKpis(companyIds.size(), currentDistribution, networkStatus, riskIndex, riskDwellTimeKpi),
-			toQuarterLabel(latestActualQuarterKey),
-			toQuarterLabel(forecastQuarterKey),
+			QuarterCodec.label(latestActualQuarterKey),
+			QuarterCodec.label(forecastQuarterKey),
 			windowQuarters,
 			currentDistribution,
 			distributionPercent,
@@ -137,7 +136,7 @@ public class DashboardSummaryService {
 			.map(metric -> new CompanyQuarterRiskDto(
 				String.valueOf(metric.getCompany().getId()),
 				metric.getCompany().getCorpName(),
-				toQuarterLabel(metric.getQuarter().getQuarterKey()),
+				QuarterCodec.label(metric.getQuarter().getQuarterKey()),
 				toRiskLevel(metric.getRiskLevel())
 			))
 			.toList();
@@ -154,18 +153,15 @@ public class DashboardSummaryService {
 			throw new IllegalArgumentException("관심 기업의 종목 코드를 찾을 수 없습니다.");
 		}
 
-		return companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCodes(stockCodes)
+		return latestActualQuarterCache.findMaxActualQuarterKeyByStockCodes(stockCodes)
 			.orElseThrow(() -> new IllegalArgumentException("ACTUAL 분기 데이터를 찾을 수 없습니다."));
 	}
 
 	private List<Integer> buildWindowQuarterKeys(int latestActualQuarterKey) {
-		YearQuarter latest = QuarterCalculator.parseQuarterKey(latestActualQuarterKey);
-		List<Integer> keys = new ArrayList<>();
-		keys.add(QuarterCalculator.offset(latest, -3).toQuarterKey());
-		keys.add(QuarterCalculator.offset(latest, -2).toQuarterKey());
-		keys.add(QuarterCalculator.offset(latest, -1).toQuarterKey());
-		keys.add(latest.toQuarterKey());
-		keys.add(QuarterCalculator.offset(latest, 1).toQuarterKey());
+		List<Integer> keys = new ArrayList<>(5);
+		for (int offset = -3; offset <= 1; offset++) {
+			keys.add(QuarterCodec.offset(latestActualQuarterKey, offset));
+		}
 		return keys;
 	}
 
@@ -183,7 +179,7 @@ public class DashboardSummaryService {
 				? RiskStatusBucketDto.DataType.FORECAST
 				: RiskStatusBucketDto.DataType.ACTUAL;
 			buckets.add(new RiskStatusBucketDto(
-				toQuarterLabel(quarterKey),
+				QuarterCodec.label(quarterKey),
 				dataType,
 				distribution.NORMAL(),
 				distribution.CAUTION(),
@@ -312,21 +308,27 @@ public class DashboardSummaryService {
 		List<CompanyKeyMetricRepository.CompanyRiskHistoryProjection> actualMetrics = companyKeyMetricRepository
 			.findRiskHistoryByCompanyIds(companyIds, latestActualQuarterKey);
 
-		Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany = new HashMap<>();
+		// 기업별로 최신 분기에서 몇 분기 전인지를 비트 위치로 삼아 주의/위험 여부를 기록한다.
+		int latestIndex = QuarterCodec.toIndex(latestActualQuarterKey);
+		Map<Long, BitSet> riskQuartersByCompany = new HashMap<>();
+		boolean hasPreviousQuarter = false;
 		for (CompanyKeyMetricRepository.CompanyRiskHistoryProjection metric : actualMetrics) {
-			riskHistoryByCompany
-				.computeIfAbsent(metric.getCompanyId(), key -> new HashMap<>())
-				.put(metric.getQuarterKey(), metric.getRiskLevel());
+			int quartersBack = latestIndex - QuarterCodec.toIndex(metric.getQuarterKey());
+			if (quartersBack < 0) {
+				continue;
+			}
+			riskQuartersByCompany
+				.computeIfAbsent(metric.getCompanyId(), key -> new BitSet())
+				.set(quartersBack, isRisk(metric.getRiskLevel()));
+			hasPreviousQuarter |= quartersBack == 1;
 		}
 
-		double currentDwellTime = calculateAverageRiskDwellTime(riskHistoryByCompany, latestActualQuarterKey);
-		int previousQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(latestActualQuarterKey), -1)
-			.toQuarterKey();
+		double currentDwellTime = calculateAverageRiskDwellTime(riskQuartersByCompany, 0);
 		KpiCardDto.KpiDeltaDto delta = null;
 
 		// 직전 분기 데이터가 존재할 때만 비교값을 내려준다.
-		if (hasQuarterData(riskHistoryByCompany, previousQuarterKey)) {
-			double previousDwellTime = calculateAverageRiskDwellTime(riskHistoryByCompany, previousQuarterKey);
+		if (hasPreviousQuarter) {
+			double previousDwellTime = calculateAverageRiskDwellTime(riskQuartersByCompany, 1);
 			double difference = roundOneDecimal(currentDwellTime - previousDwellTime);
 			KpiCardDto.KpiDeltaDto.Direction direction = KpiCardDto.KpiDeltaDto.Direction.FLAT;
 			if (difference > 0.0) {
@@ -359,39 +361,25 @@ public class DashboardSummaryService {
 		);
 	}
 
-	private boolean hasQuarterData(Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany, int quarterKey) {
-		return riskHistoryByCompany.values().stream().anyMatch(history -> history.containsKey(quarterKey));
-	}
-
-	private double calculateAverageRiskDwellTime(
-		Map<Long, Map<Integer, CompanyKeyMetricRiskLevel>> riskHistoryByCompany,
-		int baseQuarterKey
-	) {
-		List<Integer> dwellTimes = new ArrayList<>();
-		for (Map<Integer, CompanyKeyMetricRiskLevel> history : riskHistoryByCompany.values()) {
-			CompanyKeyMetricRiskLevel baseLevel = history.get(baseQuarterKey);
-			if (!isRisk(baseLevel)) {
+	/**
+	 * 기준 분기({@code baseQuartersBack} 분기 전)에 주의/위험인 기업이 그 이전으로 연속해 머문 분기 수의 평균.
+	 * 기록이 없는 분기에서 연속이 끊긴다.
+	 */
+	private double calculateAverageRiskDwellTime(Map<Long, BitSet> riskQuartersByCompany, int baseQuartersBack) {
+		int totalDwell = 0;
+		int riskCompanies = 0;
+		for (BitSet riskQuarters : riskQuartersByCompany.values()) {
+			if (!riskQuarters.get(baseQuartersBack)) {
 				continue;
 			}
-
-			int dwell = 0;
-			int cursorQuarterKey = baseQuarterKey;
-			while (true) {
-				CompanyKeyMetricRiskLevel level = history.get(cursorQuarterKey);
-				if (!isRisk(level)) {
-					break;
-				}
-				dwell++;
-				cursorQuarterKey = QuarterCalculator.offset(QuarterCalculator.parseQuarterKey(cursorQuarterKey), -1).toQuarterKey();
-			}
-			dwellTimes.add(dwell);
+			totalDwell += riskQuarters.nextClearBit(baseQuartersBack) - baseQuartersBack;
+			riskCompanies++;
 		}
 
-		if (dwellTimes.isEmpty()) {
+		if (riskCompanies == 0) {
 			return 0.0;
 		}
-		double average = dwellTimes.stream().mapToInt(Integer::intValue).average().orElse(0.0);
-		return roundOneDecimal(average);
+		return roundOneDecimal((double) totalDwell / riskCompanies);
 	}
 
 	private boolean isRisk(CompanyKeyMetricRiskLevel level) {
@@ -491,9 +479,4 @@ public class DashboardSummaryService {
 		private int warnCount;
 		private int riskCount;
 	}
-
-	private String toQuarterLabel(int quarterKey) {
-		YearQuarter yearQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		return yearQuarter.year() + "Q" + yearQuarter.quarter();
-	}
 }
@@ -0,0 +1,178 @@
+package com.aivle.project.dashboard.service;
+
+import com.aivle.project.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.dashboard.repository.DashboardSummarySnapshotJdbcRepository;
+import com.aivle.project.dashboard.repository.DashboardSummarySnapshotJdbcRepository.DashboardSummarySnapshot;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.aivle.project.watchlist.event.CompanyWatchlistCreatedEvent;
+import com.aivle.project.watchlist.event.CompanyWatchlistDeletedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 대시보드 요약 스냅샷 서비스.
+ *
+ * <p>워치리스트 변경과 실적 적재는 커밋 이후 별도 트랜잭션에서 무효화 시각을 남기고,
+ * 워치리스트 변경은 이어서 비동기로 다시 계산해 둔다. 무효화 시각이 커밋보다 뒤이므로
+ * 커밋 전 데이터로 만든 스냅샷(계산 시작 시각이 무효화 시각보다 앞선 것)은 최신으로 보지 않는다.
+ * 무효화 경로가 없는 쓰기(핵심 지표 갱신 등)는 허용 지연(max-staleness)으로 따라잡는다.
+ */
+@Slf4j
+@Service
+public class DashboardSummarySnapshotService {
+
+	private final DashboardSummaryService dashboardSummaryService;
+	private final DashboardSummarySnapshotJdbcRepository snapshotRepository;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final Duration maxStaleness;
+	private final Clock clock;
+
+	@Autowired
+	public DashboardSummarySnapshotService(
+		DashboardSummaryService dashboardSummaryService,
+		DashboardSummarySnapshotJdbcRepository snapshotRepository,
+		ObjectMapper objectMapper,
+		@Value("${app.dashboard.summary-snapshot.enabled:true}") boolean enabled,
+		@Value("${app.dashboard.summary-snapshot.max-staleness:5m}") Duration maxStaleness
+	) {
+		this(dashboardSummaryService, snapshotRepository, objectMapper, enabled, maxStaleness, Clock.systemDefaultZone());
+	}
+
+	DashboardSummarySnapshotService(
+		DashboardSummaryService dashboardSummaryService,
+		DashboardSummarySnapshotJdbcRepository snapshotRepository,
+		ObjectMapper objectMapper,
+		boolean enabled,
+		Duration maxStaleness,
+		Clock clock
+	) {
+		this.dashboardSummaryService = dashboardSummaryService;
+		this.snapshotRepository = snapshotRepository;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.maxStaleness = maxStaleness;
+		this.clock = clock;
+	}
+
+	/**
+	 * 최신 스냅샷이 있으면 그대로 돌려주고, 없거나 오래됐으면 실시간 계산 후 스냅샷을 갱신한다.
+	 */
+	public DashboardSummaryResponse getSummary(Long userId) {
+		if (!enabled) {
+			return dashboardSummaryService.getSummary(userId);
+		}
+		LocalDateTime now = LocalDateTime.now(clock);
+		Optional<DashboardSummaryResponse> cached = readFresh(userId, now);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+		return computeAndStore(userId, now);
+	}
+
+	/**
+	 * 스냅샷을 다시 계산해 저장한다.
+	 */
+	public void rebuild(Long userId) {
+		if (!enabled || userId == null) {
+			return;
+		}
+		computeAndStore(userId, LocalDateTime.now(clock));
+	}
+
+	/**
+	 * 커밋 이후 재계산보다 먼저 무효화 시각을 남기도록 순서를 앞에 둔다.
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void invalidateOnWatchlistCreated(CompanyWatchlistCreatedEvent event) {
+		invalidateUser(event.userId());
+	}
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void invalidateOnWatchlistDeleted(CompanyWatchlistDeletedEvent event) {
+		invalidateUser(event.userId());
+	}
+
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void invalidateOnActualMetricsChanged(ActualMetricsChangedEvent event) {
+		if (!enabled || event.companyIds().isEmpty()) {
+			return;
+		}
+		// 적재 범위가 넓으면 관련 사용자가 많아지므로 재계산은 다음 조회 시점으로 미룬다.
+		int invalidated = snapshotRepository.invalidateByCompanyIds(event.companyIds(), LocalDateTime.now(clock));
+		log.debug("대시보드 요약 스냅샷 무효화: companyIds={}, snapshots={}", event.companyIds().size(), invalidated);
+	}
+
+	@Async("insightExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void rebuildOnWatchlistCreated(CompanyWatchlistCreatedEvent event) {
+		rebuildQuietly(event.userId());
+	}
+
+	@Async("insightExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void rebuildOnWatchlistDeleted(CompanyWatchlistDeletedEvent event) {
+		rebuildQuietly(event.userId());
+	}
+
+	private Optional<DashboardSummaryResponse> readFresh(Long userId, LocalDateTime now) {
+		try {
+			Optional<DashboardSummarySnapshot> snapshot = snapshotRepository.findByUserId(userId)
+				.filter(found -> found.isFresh(now, maxStaleness));
+			if (snapshot.isEmpty()) {
+				return Optional.empty();
+			}
+			return Optional.of(objectMapper.readValue(snapshot.get().payload(), DashboardSummaryResponse.class));
+		} catch (JsonProcessingException | DataAccessException ex) {
+			log.warn("대시보드 요약 스냅샷 조회 실패, 실시간 계산으로 대체: userId={}, reason={}", userId, ex.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private DashboardSummaryResponse computeAndStore(Long userId, LocalDateTime computedAt) {
+		// 계산 시작 시각을 기록해, 계산 도중 들어온 무효화가 있으면 다음 조회에서 다시 계산되도록 한다.
+		DashboardSummaryResponse summary = dashboardSummaryService.getSummary(userId);
+		try {
+			snapshotRepository.upsert(userId, objectMapper.writeValueAsString(summary), computedAt);
+		} catch (JsonProcessingException | DataAccessException ex) {
+			log.warn("대시보드 요약 스냅샷 저장 실패: userId={}, reason={}", userId, ex.getMessage());
+		}
+		return summary;
+	}
+
+	private void invalidateUser(Long userId) {
+		if (!enabled || userId == null) {
+			return;
+		}
+		snapshotRepository.invalidateByUserId(userId, LocalDateTime.now(clock));
+	}
+
+	private void rebuildQuietly(Long userId) {
+		try {
+			rebuild(userId);
+		} catch (RuntimeException ex) {
+			log.warn("대시보드 요약 스냅샷 재계산 실패: userId={}, reason={}", userId, ex.getMessage());
+		}
+	}
+}
@@ -21,5 +21,10 @@ public class FileStorageProperties {
 		private String region;
 
 		private String prefix = "uploads";
+
+		/**
+		 * 스트리밍 업로드 파트 크기(바이트). S3 최소값인 5MB 보다 작으면 5MB 를 쓴다.
+		 */
+		private int multipartPartSize = 8 * 1024 * 1024;
 	}
 }
@@ -15,14 +15,26 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
@@ -40,29 +52,57 @@ private final FileService fileService;
 
 	@GetMapping("/{fileId}")
 	@SecurityRequirement(name = "bearerAuth")
-	@Operation(summary = "파일 다운로드", description = "파일을 스트리밍으로 다운로드합니다.")
+	@Operation(summary = "파일 다운로드", description = "파일을 스트리밍으로 다운로드합니다. Range/If-Range/If-None-Match 를 지원합니다.")
 	@ApiResponses({
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "다운로드 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "206", description = "부분 다운로드 성공"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "파일 없음"),
+		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "416", description = "요청 구간 범위 초과"),
 		@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
 	})
 	public ResponseEntity<?> download(
 		@CurrentUser UserEntity user,
 		@Parameter(description = "파일 ID", example = "1")
-		@PathVariable Long fileId
+		@PathVariable Long fileId,
+		@Parameter(hidden = true)
+		@RequestHeader HttpHeaders requestHeaders
 	) {
 		FilesEntity file = fileService.getFile(fileId, user);
+		String etag = entityTag(file);
+		Instant lastModified = lastModified(file);
+
+		if (matchesIfNoneMatch(requestHeaders.getIfNoneMatch(), etag)) {
+			return validatorHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified).build();
+		}
+
+		long fileSize = file.getFileSize();
+		HttpRange range = resolveRange(requestHeaders, etag, lastModified);
+		if (range != null) {
+			long start;
+			long end;
+			try {
+				start = range.getRangeStart(fileSize);
+				end = range.getRangeEnd(fileSize);
+			} catch (IllegalArgumentException ex) {
+				return rangeNotSatisfiable(fileSize, etag, lastModified);
+			}
+			if (start > end) {
+				return rangeNotSatisfiable(fileSize, etag, lastModified);
+			}
+			long length = end - start + 1;
+			InputStream stream = fileStreamService.openStream(file, start, length);
+			return fileHeaders(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), file, etag, lastModified)
+				.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize)
+				.contentLength(length)
+				.body(new InputStreamResource(stream));
+		}
+
 		InputStream stream = fileStreamService.openStream(file);
-		String contentType = file.getContentType() != null ? file.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
-		String encodedFilename = URLEncoder.encode(file.getOriginalFilename(), StandardCharsets.UTF_8)
-			.replace("+", "%20");
-		return ResponseEntity.ok()
-			.header(HttpHeaders.CONTENT_TYPE, contentType)
-			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFilename + "\"")
-			.header(HttpHeaders.CACHE_CONTROL, "private, no-store")
-			.contentLength(file.getFileSize())
+		return fileHeaders(ResponseEntity.ok(), file, etag, lastModified)
+			.contentLength(fileSize)
 			.body(new InputStreamResource(stream));
 	}
 
@@ -88,4 +128,112 @@ private final FileService fileService;
 			.toUriString();
 		return ResponseEntity.ok(ApiResponse.ok(new FileDownloadUrlResponse(resolvedUrl)));
 	}
+
+	private ResponseEntity<?> rangeNotSatisfiable(long fileSize, String etag, Instant lastModified) {
+		return validatorHeaders(ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE), etag, lastModified)
+			.header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
+			.build();
+	}
+
+	private ResponseEntity.BodyBuilder fileHeaders(
+		ResponseEntity.BodyBuilder builder,
+		FilesEntity file,
+		String etag,
+		Instant lastModified
+	) {
+		String contentType = file.getContentType() != null ? file.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+		String encodedFilename = URLEncoder.encode(file.getOriginalFilename(), StandardCharsets.UTF_8)
+			.replace("+", "%20");
+		return validatorHeaders(builder, etag, lastModified)
+			.header(HttpHeaders.CONTENT_TYPE, contentType)
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + encodedFilename + "\"");
+	}
+
+	/**
+	 * 브라우저가 저장 후 재검증하도록 no-store 대신 no-cache 를 쓴다. 권한 확인은 매 요청마다 다시 거친다.
+	 */
+	private ResponseEntity.BodyBuilder validatorHeaders(ResponseEntity.BodyBuilder builder, String etag, Instant lastModified) {
+		builder
+			.header(HttpHeaders.ACCEPT_RANGES, "bytes")
+			.header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+			.eTag(etag);
+		if (lastModified != null) {
+			builder.lastModified(lastModified);
+		}
+		return builder;
+	}
+
+	/**
+	 * 저장 키가 UUID 로 매번 새로 만들어져 객체가 바뀌지 않으므로 파일 행 메타데이터로 강한 ETag 를 만든다.
+	 */
+	private String entityTag(FilesEntity file) {
+		String storage = file.getStorageKey() != null ? file.getStorageKey() : file.getStorageUrl();
+		String source = file.getId() + ":" + storage + ":" + file.getFileSize();
+		return "\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	private Instant lastModified(FilesEntity file) {
+		LocalDateTime modifiedAt = file.getUpdatedAt() != null ? file.getUpdatedAt() : file.getCreatedAt();
+		if (modifiedAt == null) {
+			return null;
+		}
+		return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS);
+	}
+
+	/**
+	 * If-None-Match 는 약한 비교를 쓴다.
+	 */
+	private boolean matchesIfNoneMatch(List<String> ifNoneMatch, String etag) {
+		for (String candidate : ifNoneMatch) {
+			if ("*".equals(candidate) || etag.equals(stripWeakPrefix(candidate))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 단일 구간 요청만 부분 응답한다. 다중 구간이거나 형식이 잘못됐거나 If-Range 가 맞지 않으면 전체 본문을 보낸다.
+	 */
+	private HttpRange resolveRange(HttpHeaders requestHeaders, String etag, Instant lastModified) {
+		if (!requestHeaders.containsKey(HttpHeaders.RANGE)) {
+			return null;
+		}
+		List<HttpRange> ranges;
+		try {
+			ranges = requestHeaders.getRange();
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+		if (ranges.size() != 1 || !matchesIfRange(requestHeaders.getFirst(HttpHeaders.IF_RANGE), etag, lastModified)) {
+			return null;
+		}
+		return ranges.get(0);
+	}
+
+	/**
+	 * If-Range 는 강한 비교만 허용한다.
+	 */
+	private boolean matchesIfRange(String ifRange, String etag, Instant lastModified) {
+		if (ifRange == null) {
+			return true;
+		}
+		String value = ifRange.trim();
+		if (value.startsWith("\"") || value.startsWith("W/")) {
+			return etag.equals(value);
+		}
+		if (lastModified == null) {
+			return false;
+		}
+		try {
+			return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().equals(lastModified);
+		} catch (DateTimeParseException ex) {
+			return false;
+		}
+	}
+
+	private String stripWeakPrefix(String etag) {
+		String value = etag.trim();
+		return value.startsWith("W/") ? value.substring(2) : value;
+	}
 }
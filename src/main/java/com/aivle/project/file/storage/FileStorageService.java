@@ -1,5 +1,6 @@
 package com.aivle.project.file.storage;
 
+import java.io.InputStream;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -8,4 +9,10 @@ import org.springframework.web.multipart.MultipartFile;
 public interface FileStorageService {
 
 	StoredFile store(MultipartFile file, String keyPrefix);
+
+	/**
+	 * 길이를 모르는 스트림을 메모리에 모으지 않고 저장한다.
+	 * 첫 바이트로 {@code contentType} 시그니처를 검증하며, 스트림은 호출한 쪽에서 닫는다.
+	 */
+	StoredFile store(InputStream content, String originalFilename, String contentType, String keyPrefix);
 }
@@ -9,4 +9,9 @@ import java.io.InputStream;
 public interface FileStreamService {
 
 	InputStream openStream(FilesEntity file);
+
+	/**
+	 * {@code offset} 부터 최대 {@code length} 바이트만 읽는 스트림을 연다. HTTP Range 응답에 사용한다.
+	 */
+	InputStream openStream(FilesEntity file, long offset, long length);
 }
@@ -3,7 +3,11 @@ package com.aivle.project.file.storage;
 import com.aivle.project.file.config.FileUploadProperties;
 import com.aivle.project.file.exception.FileErrorCode;
 import com.aivle.project.file.exception.FileException;
+import com.aivle.project.file.validator.FileValidator;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -31,11 +35,7 @@ public class LocalFileStorageService implements FileStorageService {
 		String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
 		String extension = resolveExtension(originalFilename);
 		String storedName = UUID.randomUUID() + extension;
-
-		Path basePath = Path.of(basePathValue);
-		Path targetDir = keyPrefix == null || keyPrefix.isBlank()
-			? basePath
-			: basePath.resolve(keyPrefix);
+		Path targetDir = resolveTargetDir(basePathValue, keyPrefix);
 
 		try {
 			Files.createDirectories(targetDir);
@@ -48,6 +48,45 @@ public class LocalFileStorageService implements FileStorageService {
 		}
 	}
 
+	/**
+	 * 시그니처 확인용 앞부분만 읽은 뒤 나머지는 그대로 파일로 흘려보낸다.
+	 */
+	@Override
+	public StoredFile store(InputStream content, String originalFilename, String contentType, String keyPrefix) {
+		String basePathValue = requireBasePath();
+		String filename = StringUtils.cleanPath(originalFilename);
+		String storedName = UUID.randomUUID() + resolveExtension(filename);
+		Path targetDir = resolveTargetDir(basePathValue, keyPrefix);
+
+		try {
+			byte[] head = content.readNBytes(FileValidator.SIGNATURE_HEADER_LENGTH);
+			if (head.length == 0) {
+				throw new FileException(FileErrorCode.FILE_400_EMPTY);
+			}
+			if (!FileValidator.hasValidSignature(contentType, head, head.length)) {
+				throw new FileException(FileErrorCode.FILE_400_SIGNATURE);
+			}
+			Files.createDirectories(targetDir);
+			Path target = targetDir.resolve(storedName).normalize();
+			long size = Files.copy(
+				new SequenceInputStream(new ByteArrayInputStream(head), content),
+				target,
+				StandardCopyOption.REPLACE_EXISTING
+			);
+			String storageUrl = target.toString().replace("\\", "/");
+			return new StoredFile(storageUrl, filename, size, contentType, null);
+		} catch (IOException ex) {
+			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+		}
+	}
+
+	private Path resolveTargetDir(String basePathValue, String keyPrefix) {
+		Path basePath = Path.of(basePathValue);
+		return keyPrefix == null || keyPrefix.isBlank()
+			? basePath
+			: basePath.resolve(keyPrefix);
+	}
+
 	private void validateFile(MultipartFile file) {
 		if (file == null || file.isEmpty()) {
 			throw new FileException(FileErrorCode.FILE_400_EMPTY);
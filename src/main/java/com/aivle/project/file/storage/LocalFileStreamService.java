@@ -5,8 +5,11 @@ import com.aivle.project.file.exception.FileErrorCode;
 import com.aivle.project.file.exception.FileException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -22,6 +25,35 @@ public class LocalFileStreamService implements FileStreamService {
 
 	@Override
 	public InputStream openStream(FilesEntity file) {
+		Path path = resolvePath(file);
+		try {
+			return Files.newInputStream(path);
+		} catch (IOException ex) {
+			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+		}
+	}
+
+	/**
+	 * 앞부분을 읽어 버리지 않도록 채널 위치를 옮긴 뒤 구간 길이만큼만 읽는다.
+	 */
+	@Override
+	public InputStream openStream(FilesEntity file, long offset, long length) {
+		Path path = resolvePath(file);
+		try {
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+			try {
+				channel.position(offset);
+			} catch (IOException ex) {
+				channel.close();
+				throw ex;
+			}
+			return new BoundedInputStream(Channels.newInputStream(channel), length);
+		} catch (IOException ex) {
+			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+		}
+	}
+
+	private Path resolvePath(FilesEntity file) {
 		if (file == null || !StringUtils.hasText(file.getStorageUrl())) {
 			throw new FileException(FileErrorCode.FILE_404_NOT_FOUND);
 		}
@@ -30,11 +62,46 @@ public class LocalFileStreamService implements FileStreamService {
 		if (!Files.exists(path)) {
 			throw new FileException(FileErrorCode.FILE_404_NOT_FOUND);
 		}
+		return path;
+	}
 
-		try {
-			return Files.newInputStream(path);
-		} catch (IOException ex) {
-			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+	private static final class BoundedInputStream extends InputStream {
+
+		private final InputStream delegate;
+		private long remaining;
+
+		private BoundedInputStream(InputStream delegate, long length) {
+			this.delegate = delegate;
+			this.remaining = Math.max(0L, length);
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int value = delegate.read();
+			if (value >= 0) {
+				remaining--;
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int read = delegate.read(buffer, off, (int) Math.min(len, remaining));
+			if (read > 0) {
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
 		}
 	}
 }
@@ -3,27 +3,46 @@ package com.aivle.project.file.storage;
 import com.aivle.project.file.config.FileStorageProperties;
 import com.aivle.project.file.exception.FileErrorCode;
 import com.aivle.project.file.exception.FileException;
+import com.aivle.project.file.validator.FileValidator;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * S3 파일 저장소 (prod 전용).
  */
+@Slf4j
 @Component
 @Profile("prod")
 @RequiredArgsConstructor
 public class S3FileStorageService implements FileStorageService {
 
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+	private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
 	private final S3Client s3Client;
 	private final FileStorageProperties properties;
 
@@ -43,14 +62,160 @@ public class S3FileStorageService implements FileStorageService {
 				.build();
 			s3Client.putObject(request, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
 
-			URL url = s3Client.utilities().getUrl(GetUrlRequest.builder()
+			return new StoredFile(resolveUrl(key), originalFilename, file.getSize(), file.getContentType(), key);
+		} catch (IOException ex) {
+			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+		}
+	}
+
+	/**
+	 * 파트 크기까지 읽어 보고, 그 안에 끝나면 멀티파트 없이 한 번에 올린다. 넘으면 같은 버퍼를 재사용하며 파트 단위로 올린다.
+	 * 버퍼는 읽은 양에 맞춰 늘리므로 작은 파일은 파트 크기만큼 잡지 않는다.
+	 */
+	@Override
+	public StoredFile store(InputStream content, String originalFilename, String contentType, String keyPrefix) {
+		String filename = StringUtils.cleanPath(originalFilename);
+		String key = buildKey(keyPrefix, UUID.randomUUID() + resolveExtension(filename));
+		PartBuffer part = new PartBuffer(Math.max(MIN_PART_SIZE, properties.getS3().getMultipartPartSize()));
+
+		try {
+			int read = part.fill(content);
+			validateHead(part.bytes(), read, contentType);
+			long size;
+			if (!part.isFull()) {
+				PutObjectRequest request = PutObjectRequest.builder()
+					.bucket(properties.getS3().getBucket())
+					.key(key)
+					.contentType(contentType)
+					.build();
+				s3Client.putObject(request, partBody(part.bytes(), read));
+				size = read;
+			} else {
+				size = uploadMultipart(key, contentType, content, part);
+			}
+			return new StoredFile(resolveUrl(key), filename, size, contentType, key);
+		} catch (IOException ex) {
+			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+		}
+	}
+
+	private long uploadMultipart(String key, String contentType, InputStream content, PartBuffer part)
+		throws IOException {
+		String bucket = properties.getS3().getBucket();
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+			.bucket(bucket)
+			.key(key)
+			.contentType(contentType)
+			.build()).uploadId();
+
+		List<CompletedPart> completedParts = new ArrayList<>();
+		long size = 0L;
+		int read = part.length();
+		try {
+			while (read > 0) {
+				int partNumber = completedParts.size() + 1;
+				UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.uploadId(uploadId)
+					.partNumber(partNumber)
+					.build(), partBody(part.bytes(), read));
+				completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+				size += read;
+				read = part.fill(content);
+			}
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+				.build());
+			return size;
+		} catch (IOException | RuntimeException ex) {
+			abortQuietly(key, uploadId);
+			throw ex;
+		}
+	}
+
+	/**
+	 * 재시도 시에도 같은 구간을 다시 읽을 수 있도록 버퍼를 복사하지 않고 매번 새 스트림으로 감싼다.
+	 */
+	private RequestBody partBody(byte[] part, int length) {
+		return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(part, 0, length), length, MediaType.APPLICATION_OCTET_STREAM_VALUE);
+	}
+
+	/**
+	 * 최대 파트 크기까지 채우는 재사용 버퍼. 배열은 필요할 때만 두 배씩 늘리고, 파트 크기에 닿은 뒤로는 그대로 쓴다.
+	 */
+	private static final class PartBuffer {
+
+		private final int capacity;
+		private byte[] bytes;
+		private int length;
+
+		private PartBuffer(int capacity) {
+			this.capacity = capacity;
+			this.bytes = new byte[Math.min(INITIAL_BUFFER_SIZE, capacity)];
+		}
+
+		/**
+		 * 이전 내용을 버리고 스트림 끝이나 파트 크기까지 읽는다.
+		 */
+		private int fill(InputStream content) throws IOException {
+			length = 0;
+			while (length < capacity) {
+				if (length == bytes.length) {
+					bytes = Arrays.copyOf(bytes, (int) Math.min(capacity, bytes.length * 2L));
+				}
+				int requested = bytes.length - length;
+				int read = content.readNBytes(bytes, length, requested);
+				length += read;
+				if (read < requested) {
+					break;
+				}
+			}
+			return length;
+		}
+
+		private boolean isFull() {
+			return length == capacity;
+		}
+
+		private byte[] bytes() {
+			return bytes;
+		}
+
+		private int length() {
+			return length;
+		}
+	}
+
+	private void abortQuietly(String key, String uploadId) {
+		try {
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
 				.bucket(properties.getS3().getBucket())
 				.key(key)
+				.uploadId(uploadId)
 				.build());
+		} catch (RuntimeException ex) {
+			log.warn("S3 멀티파트 업로드 중단 실패: key={}, uploadId={}", key, uploadId, ex);
+		}
+	}
 
-			return new StoredFile(url.toString(), originalFilename, file.getSize(), file.getContentType(), key);
-		} catch (IOException ex) {
-			throw new FileException(FileErrorCode.FILE_500_STORAGE);
+	private String resolveUrl(String key) {
+		URL url = s3Client.utilities().getUrl(GetUrlRequest.builder()
+			.bucket(properties.getS3().getBucket())
+			.key(key)
+			.build());
+		return url.toString();
+	}
+
+	private void validateHead(byte[] head, int length, String contentType) {
+		if (length <= 0) {
+			throw new FileException(FileErrorCode.FILE_400_EMPTY);
+		}
+		if (!FileValidator.hasValidSignature(contentType, head, length)) {
+			throw new FileException(FileErrorCode.FILE_400_SIGNATURE);
 		}
 	}
 
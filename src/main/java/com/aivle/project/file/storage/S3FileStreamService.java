@@ -26,6 +26,18 @@ public class S3FileStreamService implements FileStreamService {
 
 	@Override
 	public InputStream openStream(FilesEntity file) {
+		return getObject(file, null);
+	}
+
+	/**
+	 * 필요한 구간만 S3 에서 받도록 Range GetObject 를 보낸다.
+	 */
+	@Override
+	public InputStream openStream(FilesEntity file, long offset, long length) {
+		return getObject(file, "bytes=" + offset + "-" + (offset + length - 1));
+	}
+
+	private InputStream getObject(FilesEntity file, String range) {
 		if (file == null) {
 			throw new FileException(FileErrorCode.FILE_404_NOT_FOUND);
 		}
@@ -41,6 +53,7 @@ public class S3FileStreamService implements FileStreamService {
 		GetObjectRequest request = GetObjectRequest.builder()
 			.bucket(bucket)
 			.key(key)
+			.range(range)
 			.build();
 		try {
 			return s3Client.getObject(request);
@@ -28,6 +28,9 @@ public class FileValidator {
 	private static final byte[] GIF_SIGNATURE_87A = new byte[] {0x47, 0x49, 0x46, 0x38, 0x37, 0x61};
 	private static final byte[] GIF_SIGNATURE_89A = new byte[] {0x47, 0x49, 0x46, 0x38, 0x39, 0x61};
 
+	/** 시그니처 검증에 필요한 앞부분 바이트 수. */
+	public static final int SIGNATURE_HEADER_LENGTH = 8;
+
 	private final FileUploadProperties properties;
 
 	public void validateMultiple(List<MultipartFile> files) {
@@ -92,23 +95,9 @@ public class FileValidator {
 			throw new FileException(FileErrorCode.FILE_400_SIGNATURE);
 		}
 		try (InputStream inputStream = file.getInputStream()) {
-			byte[] header = new byte[8];
+			byte[] header = new byte[SIGNATURE_HEADER_LENGTH];
 			int bytesRead = inputStream.read(header);
-			if (bytesRead < 4) {
-				throw new FileException(FileErrorCode.FILE_400_SIGNATURE);
-			}
-
-			boolean isValid = false;
-			if ("image/gif".equals(contentType)) {
-				isValid = matchesSignature(header, GIF_SIGNATURE_87A)
-					|| matchesSignature(header, GIF_SIGNATURE_89A);
-			} else if (FILE_SIGNATURES.containsKey(contentType)) {
-				isValid = matchesSignature(header, FILE_SIGNATURES.get(contentType));
-			} else {
-				return;
-			}
-
-			if (!isValid) {
+			if (!hasValidSignature(contentType, header, bytesRead)) {
 				throw new FileException(FileErrorCode.FILE_400_SIGNATURE);
 			}
 		} catch (IOException ex) {
@@ -116,8 +105,24 @@ public class FileValidator {
 		}
 	}
 
-	private boolean matchesSignature(byte[] fileHeader, byte[] signature) {
-		if (fileHeader.length < signature.length) {
+	/**
+	 * 앞부분 {@code length} 바이트로 시그니처를 확인한다. 시그니처를 모르는 타입은 통과시킨다.
+	 * 스트리밍 저장처럼 {@link MultipartFile} 없이 첫 청크만 가진 경우에도 쓴다.
+	 */
+	public static boolean hasValidSignature(String contentType, byte[] header, int length) {
+		if (contentType == null || length < 4) {
+			return false;
+		}
+		if ("image/gif".equals(contentType)) {
+			return matchesSignature(header, length, GIF_SIGNATURE_87A)
+				|| matchesSignature(header, length, GIF_SIGNATURE_89A);
+		}
+		byte[] signature = FILE_SIGNATURES.get(contentType);
+		return signature == null || matchesSignature(header, length, signature);
+	}
+
+	private static boolean matchesSignature(byte[] fileHeader, int length, byte[] signature) {
+		if (length < signature.length || fileHeader.length < signature.length) {
 			return false;
 		}
 		for (int i = 0; i < signature.length; i++) {
@@ -0,0 +1,112 @@
+package com.aivle.project.metricaverage.repository;
+
+import com.aivle.project.metricaverage.dto.MetricAverageResult;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 분기 지표 통계 일괄 저장용 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricAverageJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public Set<Long> findMetricIdsByQuarterId(Long quarterId) {
+		return new HashSet<>(jdbcTemplate.queryForList(
+			"SELECT metric_id FROM metric_averages WHERE quarter_id = ?",
+			Long.class,
+			quarterId
+		));
+	}
+
+	/**
+	 * 없는 (분기, 지표) 행만 추가한다. 동시에 들어온 행과 겹치면 기존 값을 유지한다.
+	 */
+	public void insertMissing(Long quarterId, List<MetricAverageResult> results, LocalDateTime calculatedAt, int dataSourceVersion) {
+		batchWrite(
+			"""
+				INSERT INTO metric_averages (
+					quarter_id, metric_id, avg_value, median_value, min_value, max_value, stddev_value,
+					company_count, calculated_at, data_source_version
+				)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+				ON DUPLICATE KEY UPDATE id = id
+				""",
+			quarterId,
+			results,
+			calculatedAt,
+			dataSourceVersion
+		);
+	}
+
+	public void upsert(Long quarterId, List<MetricAverageResult> results, LocalDateTime calculatedAt, int dataSourceVersion) {
+		batchWrite(
+			"""
+				INSERT INTO metric_averages (
+					quarter_id, metric_id, avg_value, median_value, min_value, max_value, stddev_value,
+					company_count, calculated_at, data_source_version
+				)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+				ON DUPLICATE KEY UPDATE
+					avg_value = VALUES(avg_value),
+					median_value = VALUES(median_value),
+					min_value = VALUES(min_value),
+					max_value = VALUES(max_value),
+					stddev_value = VALUES(stddev_value),
+					company_count = VALUES(company_count),
+					calculated_at = VALUES(calculated_at),
+					data_source_version = VALUES(data_source_version),
+					updated_at = CURRENT_TIMESTAMP
+				""",
+			quarterId,
+			results,
+			calculatedAt,
+			dataSourceVersion
+		);
+	}
+
+	private void batchWrite(
+		String sql,
+		Long quarterId,
+		List<MetricAverageResult> results,
+		LocalDateTime calculatedAt,
+		int dataSourceVersion
+	) {
+		if (results == null || results.isEmpty()) {
+			return;
+		}
+		Timestamp calculated = Timestamp.valueOf(calculatedAt);
+		jdbcTemplate.batchUpdate(sql, results, BATCH_SIZE, (ps, result) -> bind(ps, quarterId, result, calculated, dataSourceVersion));
+	}
+
+	private void bind(
+		PreparedStatement ps,
+		Long quarterId,
+		MetricAverageResult result,
+		Timestamp calculatedAt,
+		int dataSourceVersion
+	) throws SQLException {
+		ps.setLong(1, quarterId);
+		ps.setLong(2, result.metricId());
+		ps.setBigDecimal(3, result.avgValue());
+		ps.setBigDecimal(4, result.medianValue());
+		ps.setBigDecimal(5, result.minValue());
+		ps.setBigDecimal(6, result.maxValue());
+		ps.setBigDecimal(7, result.stddevValue());
+		ps.setInt(8, result.companyCount());
+		ps.setTimestamp(9, calculatedAt);
+		ps.setInt(10, dataSourceVersion);
+	}
+}
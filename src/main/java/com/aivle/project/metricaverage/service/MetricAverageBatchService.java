@@ -2,45 +2,152 @@ package com.aivle.project.metricaverage.service;
 
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 저장된 전체 분기를 대상으로 지표 평균 집계를 배치 수행한다.
+ *
+ * <p>분기마다 {@link MetricAverageCalculationService} 의 트랜잭션 하나로 처리하고, 분기들은
+ * {@code metric-average.parallelism} 개 워커가 나눠 병렬로 처리한다. 호출자가 이미 트랜잭션을 열었다면
+ * 그 트랜잭션 안에서 순차로 처리한다. 전체 실행 시간은 {@value #JOB_TIMER} 로 남긴다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class MetricAverageBatchService {
 
+	static final String JOB_TIMER = "batch.job.duration";
+
 	private final QuartersRepository quartersRepository;
 	private final MetricAverageCalculationService metricAverageCalculationService;
+	private final int parallelism;
+	private final MeterRegistry meterRegistry;
+
+	public MetricAverageBatchService(
+		QuartersRepository quartersRepository,
+		MetricAverageCalculationService metricAverageCalculationService,
+		@Value("${metric-average.parallelism:4}") int parallelism,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this.quartersRepository = quartersRepository;
+		this.metricAverageCalculationService = metricAverageCalculationService;
+		this.parallelism = Math.max(1, parallelism);
+		this.meterRegistry = meterRegistryProvider.getIfAvailable();
+	}
 
-	@Transactional
 	public int calculateAndUpsertAllQuarters() {
-		List<QuartersEntity> quarters = quartersRepository.findAll();
-		int processedQuarterCount = 0;
-		for (QuartersEntity quarter : quarters) {
-			metricAverageCalculationService.calculateAndUpsertByQuarter(quarter.getId());
-			processedQuarterCount++;
-		}
-		return processedQuarterCount;
+		return timed("metric-average-upsert", () -> {
+			List<Long> quarterIds = findQuarterIds();
+			forEachQuarter(quarterIds, metricAverageCalculationService::calculateAndUpsertByQuarter);
+			return quarterIds.size();
+		});
 	}
 
-	@Transactional
 	public MetricAverageBatchSaveResult calculateAndInsertMissingAllQuarters(String triggerType, String executionId) {
-		List<QuartersEntity> quarters = quartersRepository.findAll();
-		int processedQuarterCount = 0;
+		return timed("metric-average-insert-missing", () -> insertMissingAllQuarters(triggerType, executionId));
+	}
+
+	private MetricAverageBatchSaveResult insertMissingAllQuarters(String triggerType, String executionId) {
+		List<Long> quarterIds = findQuarterIds();
+		List<QuarterMetricAverageSaveResult> results =
+			forEachQuarter(quarterIds, metricAverageCalculationService::calculateAndInsertMissingByQuarter);
 		int insertedCount = 0;
 		int skippedCount = 0;
-		for (QuartersEntity quarter : quarters) {
-			QuarterMetricAverageSaveResult result =
-				metricAverageCalculationService.calculateAndInsertMissingByQuarter(quarter.getId());
-			processedQuarterCount++;
+		for (QuarterMetricAverageSaveResult result : results) {
 			insertedCount += result.insertedCount();
 			skippedCount += result.skippedCount();
 		}
-		return new MetricAverageBatchSaveResult(processedQuarterCount, insertedCount, skippedCount, triggerType, executionId);
+		return new MetricAverageBatchSaveResult(quarterIds.size(), insertedCount, skippedCount, triggerType, executionId);
+	}
+
+	private <T> T timed(String job, Supplier<T> body) {
+		if (meterRegistry == null) {
+			return body.get();
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failed";
+		try {
+			T result = body.get();
+			outcome = "completed";
+			return result;
+		} finally {
+			sample.stop(Timer.builder(JOB_TIMER)
+				.description("배치 작업 전체 실행 시간")
+				.tag("job", job)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	private List<Long> findQuarterIds() {
+		return quartersRepository.findAll().stream()
+			.map(QuartersEntity::getId)
+			.toList();
+	}
+
+	/**
+	 * 실패한 분기는 해당 분기 트랜잭션만 롤백하고, 나머지 분기를 모두 처리한 뒤 예외로 알린다.
+	 */
+	private <T> List<T> forEachQuarter(List<Long> quarterIds, Function<Long, T> task) {
+		int workers = Math.min(parallelism, quarterIds.size());
+		if (workers <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+			List<T> results = new ArrayList<>(quarterIds.size());
+			for (Long quarterId : quarterIds) {
+				results.add(task.apply(quarterId));
+			}
+			return results;
+		}
+
+		Queue<Long> pending = new ConcurrentLinkedQueue<>(quarterIds);
+		AtomicInteger failedCount = new AtomicInteger();
+		List<T> results = new ArrayList<>(quarterIds.size());
+		try (ExecutorService executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("metric-average-", 0).factory())) {
+			List<Future<List<T>>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; i++) {
+				futures.add(executor.submit(() -> drain(pending, task, failedCount)));
+			}
+			for (Future<List<T>> future : futures) {
+				results.addAll(future.get());
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("metric_averages 분기 집계가 중단되었습니다.", ex);
+		} catch (ExecutionException ex) {
+			throw new IllegalStateException("metric_averages 분기 집계 워커가 실패했습니다.", ex.getCause());
+		}
+		if (failedCount.get() > 0) {
+			throw new IllegalStateException("metric_averages 분기 집계 실패: failedQuarterCount=" + failedCount.get());
+		}
+		return results;
+	}
+
+	private <T> List<T> drain(Queue<Long> pending, Function<Long, T> task, AtomicInteger failedCount) {
+		List<T> results = new ArrayList<>();
+		Long quarterId;
+		while ((quarterId = pending.poll()) != null) {
+			try {
+				results.add(task.apply(quarterId));
+			} catch (RuntimeException ex) {
+				failedCount.incrementAndGet();
+				log.error("metric_averages 분기 집계 실패: quarterId={}", quarterId, ex);
+			}
+		}
+		return results;
 	}
 }
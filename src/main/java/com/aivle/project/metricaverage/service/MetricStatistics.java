@@ -0,0 +1,125 @@
+package com.aivle.project.metricaverage.service;
+
+import com.aivle.project.metricaverage.dto.MetricAverageResult;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * {@code double[]} 표본으로 지표 통계를 계산한다.
+ *
+ * <p>정렬 대신 quickselect 로 중앙값을 구하고, 저장 직전에만 소수 넷째 자리 {@link BigDecimal} 로 바꾼다.
+ * 입력 배열은 중앙값 선택 과정에서 재배치된다.
+ */
+public final class MetricStatistics {
+
+	static final int SCALE = 4;
+
+	private MetricStatistics() {
+	}
+
+	public static MetricAverageResult compute(Long metricId, double[] values, int count) {
+		if (values == null || count <= 0) {
+			return new MetricAverageResult(metricId, null, null, null, null, null, 0);
+		}
+
+		double sum = 0.0;
+		double min = values[0];
+		double max = values[0];
+		for (int i = 0; i < count; i++) {
+			double value = values[i];
+			sum += value;
+			if (value < min) {
+				min = value;
+			}
+			if (value > max) {
+				max = value;
+			}
+		}
+		double mean = sum / count;
+
+		double sumSquared = 0.0;
+		for (int i = 0; i < count; i++) {
+			double diff = values[i] - mean;
+			sumSquared += diff * diff;
+		}
+		double stddev = count <= 1 ? 0.0 : Math.sqrt(sumSquared / count);
+
+		return new MetricAverageResult(
+			metricId,
+			toDecimal(mean),
+			toDecimal(median(values, count)),
+			toDecimal(min),
+			toDecimal(max),
+			toDecimal(stddev),
+			count
+		);
+	}
+
+	/**
+	 * 짝수 개면 가운데 두 값의 평균을 돌려준다.
+	 */
+	static double median(double[] values, int count) {
+		int upper = count / 2;
+		double upperValue = select(values, count, upper);
+		if (count % 2 == 1) {
+			return upperValue;
+		}
+		// select 이후 upper 앞쪽에는 upperValue 이하 값만 남으므로 그 중 최댓값이 아래쪽 중앙값이다.
+		double lowerValue = values[0];
+		for (int i = 1; i < upper; i++) {
+			if (values[i] > lowerValue) {
+				lowerValue = values[i];
+			}
+		}
+		return (lowerValue + upperValue) / 2.0;
+	}
+
+	/**
+	 * {@code values[0, count)} 에서 k 번째(0부터) 작은 값을 찾는다.
+	 */
+	static double select(double[] values, int count, int k) {
+		int left = 0;
+		int right = count - 1;
+		while (right > left) {
+			if (right - left < 16) {
+				Arrays.sort(values, left, right + 1);
+				return values[k];
+			}
+			double pivot = medianOfThree(values[left], values[(left + right) >>> 1], values[right]);
+			int i = left;
+			int j = right;
+			while (i <= j) {
+				while (values[i] < pivot) {
+					i++;
+				}
+				while (values[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					double tmp = values[i];
+					values[i] = values[j];
+					values[j] = tmp;
+					i++;
+					j--;
+				}
+			}
+			if (k <= j) {
+				right = j;
+			} else if (k >= i) {
+				left = i;
+			} else {
+				return values[k];
+			}
+		}
+		return values[k];
+	}
+
+	private static double medianOfThree(double a, double b, double c) {
+		return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+	}
+
+	private static BigDecimal toDecimal(double value) {
+		return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+	}
+}
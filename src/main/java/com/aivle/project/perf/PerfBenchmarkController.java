@@ -1,14 +1,29 @@
 package com.aivle.project.perf;
 
 import com.aivle.project.common.dto.ApiResponse;
+import com.aivle.project.company.batch.DartCorpCodeItem;
 import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.insight.service.CompanyInsightService;
 import com.aivle.project.company.news.service.NewsService;
 import com.aivle.project.company.reportanalysis.service.ReportAnalysisService;
+import com.aivle.project.company.repository.CompaniesJdbcRepository;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.company.service.CompanyAiService;
+import com.aivle.project.metric.entity.MetricsEntity;
+import com.aivle.project.metric.repository.MetricsRepository;
+import com.aivle.project.report.dto.CompanyMetricValueCommand;
+import com.aivle.project.report.dto.ReportImportResult;
+import com.aivle.project.report.service.CompanyReportMetricBulkImportService;
+import com.aivle.project.report.service.CompanyReportMetricImportService;
 import io.swagger.v3.oas.annotations.Hidden;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +49,10 @@ public class PerfBenchmarkController {
 	private final ReportAnalysisService reportAnalysisService;
 	private final CompanyInsightService companyInsightService;
 	private final CompanyAiService companyAiService;
+	private final CompaniesJdbcRepository companiesJdbcRepository;
+	private final MetricsRepository metricsRepository;
+	private final CompanyReportMetricImportService companyReportMetricImportService;
+	private final CompanyReportMetricBulkImportService companyReportMetricBulkImportService;
 
 	@GetMapping("/fixture")
 	public ResponseEntity<ApiResponse<Map<String, Object>>> fixture() {
@@ -77,6 +96,63 @@ public class PerfBenchmarkController {
 		return ResponseEntity.ok(ApiResponse.ok(createResult("ai-report", startedAt)));
 	}
 
+	/**
+	 * 합성 기업 N개 x 전체 지표 x 4개 분기 명령으로 기존(JPA) 적재와 JDBC 대량 적재 시간을 비교한다.
+	 */
+	@PostMapping("/metric-import")
+	public ResponseEntity<ApiResponse<Map<String, Object>>> metricImport(
+		@RequestParam(defaultValue = "500") int companies,
+		@RequestParam(defaultValue = "false") boolean bulk,
+		@RequestParam(defaultValue = "20253") int quarterKey
+	) {
+		List<CompanyMetricValueCommand> commands = prepareMetricImportFixture(companies);
+		long startedAt = System.nanoTime();
+		ReportImportResult result = bulk
+			? companyReportMetricBulkImportService.importMetrics(quarterKey, commands)
+			: companyReportMetricImportService.importMetrics(quarterKey, commands);
+
+		Map<String, Object> body = new LinkedHashMap<>(createResult(bulk ? "metric-import-bulk" : "metric-import", startedAt));
+		body.put("commands", commands.size());
+		body.put("savedValues", result.savedValues());
+		return ResponseEntity.ok(ApiResponse.ok(body));
+	}
+
+	private List<CompanyMetricValueCommand> prepareMetricImportFixture(int companyCount) {
+		List<DartCorpCodeItem> items = new ArrayList<>(companyCount);
+		for (int i = 1; i <= companyCount; i++) {
+			items.add(new DartCorpCodeItem(
+				String.format("9100%04d", i),
+				"PERF_IMPORT_" + i,
+				"PERF IMPORT " + i,
+				String.format("91%04d", i),
+				LocalDate.now()
+			));
+		}
+		companiesJdbcRepository.upsertBatch(items);
+
+		List<String> metricCodes = metricsRepository.findAll().stream()
+			.map(MetricsEntity::getMetricCode)
+			.toList();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		List<CompanyMetricValueCommand> commands = new ArrayList<>(companyCount * metricCodes.size() * 4);
+		for (DartCorpCodeItem item : items) {
+			for (String metricCode : metricCodes) {
+				for (int offset = 0; offset >= -3; offset--) {
+					commands.add(new CompanyMetricValueCommand(
+						item.stockCode(),
+						metricCode,
+						offset,
+						BigDecimal.valueOf(random.nextDouble(-50, 150)).setScale(4, RoundingMode.HALF_UP),
+						0,
+						0,
+						metricCode
+					));
+				}
+			}
+		}
+		return commands;
+	}
+
 	private Map<String, Object> createResult(String benchmarkName, long startedAt) {
 		long elapsedMs = Math.round((System.nanoTime() - startedAt) / 1_000_000d);
 		return Map.of(
@@ -15,6 +15,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
@@ -73,9 +74,10 @@ public class PostController {
 	@Operation(summary = "게시글 상세 조회", description = "게시글 ID로 상세 정보를 조회합니다.", security = {})
 	public ResponseEntity<ApiResponse<PostDetailResponse>> getById(
 		@PathVariable Long postId,
-		@CurrentUser UserEntity user
+		@CurrentUser UserEntity user,
+		HttpServletRequest request
 	) {
-		return ResponseEntity.ok(ApiResponse.ok(postService.getById(postId, user)));
+		return ResponseEntity.ok(ApiResponse.ok(postService.getById(postId, user, resolveIp(request))));
 	}
 
 	@GetMapping("/{categoryName}/{postId}")
@@ -83,9 +85,10 @@ public class PostController {
 	public ResponseEntity<ApiResponse<PostDetailResponse>> getLegacy(
 		@PathVariable String categoryName,
 		@PathVariable Long postId,
-		@CurrentUser UserEntity user
+		@CurrentUser UserEntity user,
+		HttpServletRequest request
 	) {
-		return ResponseEntity.ok(ApiResponse.ok(postService.get(categoryName, postId, user)));
+		return ResponseEntity.ok(ApiResponse.ok(postService.get(categoryName, postId, user, resolveIp(request))));
 	}
 
 	@PostMapping
@@ -165,4 +168,12 @@ public class PostController {
 		pageRequest.setDirection(Sort.Direction.valueOf(direction));
 		return pageRequest;
 	}
+
+	private String resolveIp(HttpServletRequest request) {
+		String forwarded = request.getHeader("X-Forwarded-For");
+		if (forwarded != null && !forwarded.isBlank()) {
+			return forwarded.split(",")[0].trim();
+		}
+		return request.getRemoteAddr();
+	}
 }
@@ -4,6 +4,7 @@ import com.aivle.project.post.entity.PostsEntity;
 import com.aivle.project.post.entity.PostStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
+import lombok.With;
 import java.time.LocalDateTime;
 
 /**
@@ -23,6 +24,7 @@ public record PostResponse(
 	@Schema(description = "내용", example = "게시글 내용입니다.")
 	String content,
 	@Schema(description = "조회수", example = "123")
+	@With
 	int viewCount,
 	@Schema(description = "고정 여부", example = "false")
 	boolean isPinned,
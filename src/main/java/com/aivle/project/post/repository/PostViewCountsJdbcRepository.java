@@ -0,0 +1,42 @@
+package com.aivle.project.post.repository;
+
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 누적된 조회수 증가분을 일괄 반영하는 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountsJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 게시글별 증가분을 더한다. 조회수 행이 없는 게시글은 증가분으로 새로 만든다.
+	 */
+	public void addViewCounts(Map<Long, Long> deltas) {
+		if (deltas == null || deltas.isEmpty()) {
+			return;
+		}
+		List<Map.Entry<Long, Long>> entries = List.copyOf(deltas.entrySet());
+		jdbcTemplate.batchUpdate(
+			"""
+				INSERT INTO post_view_counts (post_id, view_count)
+				VALUES (?, ?)
+				ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count)
+				""",
+			entries,
+			BATCH_SIZE,
+			(ps, entry) -> {
+				ps.setLong(1, entry.getKey());
+				ps.setLong(2, entry.getValue());
+			}
+		);
+	}
+}
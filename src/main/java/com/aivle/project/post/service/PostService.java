@@ -52,6 +52,7 @@ public class PostService {
 	private final com.aivle.project.post.mapper.PostMapper postMapper;
 	private final PostFilesRepository postFilesRepository;
 	private final FileMapper fileMapper;
+	private final PostViewCounter postViewCounter;
 
 	private static final String BOARD_NOTICES = "notices";
 	private static final String BOARD_QNA = "qna";
@@ -80,7 +81,7 @@ public class PostService {
 
 		Map<Long, String> qnaStatusByPostId = resolveQnaStatusByPosts(page.getContent());
 		return PageResponse.of(
-			page.map(post -> postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId())))
+			page.map(post -> withPendingViews(postMapper.toResponseWithQnaStatus(post, qnaStatusByPostId.get(post.getId()))))
 		);
 	}
 
@@ -89,6 +90,14 @@ public class PostService {
 	 */
 	@Transactional(readOnly = true)
 	public PostDetailResponse get(String categoryName, Long postId, UserEntity user) {
+		return get(categoryName, postId, user, null);
+	}
+
+	/**
+	 * [사용자] 게시글 상세 조회. 조회수는 로그인 사용자는 사용자 기준, 비로그인은 {@code clientIp} 기준으로 중복 제거한다.
+	 */
+	@Transactional(readOnly = true)
+	public PostDetailResponse get(String categoryName, Long postId, UserEntity user, String clientIp) {
 		PostsEntity post = findPostInBoard(postId, categoryName);
 		
 		if (BOARD_QNA.equalsIgnoreCase(categoryName)) {
@@ -98,7 +107,8 @@ public class PostService {
 			validateOwner(post, user.getId());
 		}
 
-		PostResponse response = toResponseWithQnaStatus(post);
+		postViewCounter.record(postId, resolveViewerKey(user, clientIp));
+		PostResponse response = withPendingViews(toResponseWithQnaStatus(post));
 		boolean downloadable = user != null && user.getId() != null;
 		List<PostFileResponse> files = postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(postId).stream()
 			.map(mapping -> fileMapper.toResponse(postId, mapping.getFile()))
@@ -134,6 +144,14 @@ public class PostService {
 	 */
 	@Transactional(readOnly = true)
 	public PostDetailResponse getById(Long postId, UserEntity user) {
+		return getById(postId, user, null);
+	}
+
+	/**
+	 * [사용자] 게시글 상세 조회(카테고리 경로 없이 ID 기준, 조회자 IP 포함).
+	 */
+	@Transactional(readOnly = true)
+	public PostDetailResponse getById(Long postId, UserEntity user, String clientIp) {
 		PostsEntity post = findPost(postId);
 		String categoryName = post.getCategory().getName();
 		if (BOARD_QNA.equalsIgnoreCase(categoryName)) {
@@ -143,7 +161,8 @@ public class PostService {
 			validateOwner(post, user.getId());
 		}
 
-		PostResponse response = toResponseWithQnaStatus(post);
+		postViewCounter.record(postId, resolveViewerKey(user, clientIp));
+		PostResponse response = withPendingViews(toResponseWithQnaStatus(post));
 		boolean downloadable = user != null && user.getId() != null;
 		List<PostFileResponse> files = postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(postId).stream()
 			.map(mapping -> fileMapper.toResponse(postId, mapping.getFile()))
@@ -360,6 +379,27 @@ public class PostService {
 		return postMapper.toResponseWithQnaStatus(post, qnaStatus);
 	}
 
+	/**
+	 * DB 에 반영된 조회수에 아직 flush 되지 않은 증가분을 더한다.
+	 */
+	private PostResponse withPendingViews(PostResponse response) {
+		if (response == null) {
+			return null;
+		}
+		long pendingViews = postViewCounter.pendingOf(response.id());
+		if (pendingViews == 0) {
+			return response;
+		}
+		return response.withViewCount((int) Math.min(Integer.MAX_VALUE, response.viewCount() + pendingViews));
+	}
+
+	private String resolveViewerKey(UserEntity user, String clientIp) {
+		if (user != null && user.getId() != null) {
+			return "u:" + user.getId();
+		}
+		return clientIp == null || clientIp.isBlank() ? null : "ip:" + clientIp;
+	}
+
 	private Map<Long, String> resolveQnaStatusByPosts(List<PostsEntity> posts) {
 		List<Long> qnaPostIds = posts.stream()
 			.filter(this::isQnaCategory)
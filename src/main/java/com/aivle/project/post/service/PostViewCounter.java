@@ -0,0 +1,129 @@
+package com.aivle.project.post.service;
+
+import com.aivle.project.post.repository.PostViewCountsJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 게시글 조회수 write-behind 카운터.
+ *
+ * <p>조회 요청마다 행을 잠그지 않도록 증가분을 게시글별 {@link LongAdder} 에 모았다가 주기적으로 한 번의 배치로 반영한다.
+ * 같은 조회자의 반복 조회는 Redis 키로 {@code app.post.view-count.dedup-window} 동안 한 번만 센다.
+ * 이 중복 확인(SET NX)은 조회자 키가 있는 조회마다 Redis 왕복 한 번을 더한다.
+ */
+@Slf4j
+@Component
+public class PostViewCounter {
+
+	private static final String DEDUP_KEY_PATTERN = "post-view:%d:%s";
+
+	private final PostViewCountsJdbcRepository postViewCountsJdbcRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final Duration dedupWindow;
+	private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+	@Autowired
+	public PostViewCounter(
+		PostViewCountsJdbcRepository postViewCountsJdbcRepository,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		@Value("${app.post.view-count.dedup-window:10m}") Duration dedupWindow
+	) {
+		this(postViewCountsJdbcRepository, redisTemplateProvider.getIfAvailable(), dedupWindow);
+	}
+
+	PostViewCounter(
+		PostViewCountsJdbcRepository postViewCountsJdbcRepository,
+		StringRedisTemplate redisTemplate,
+		Duration dedupWindow
+	) {
+		this.postViewCountsJdbcRepository = postViewCountsJdbcRepository;
+		this.redisTemplate = redisTemplate;
+		this.dedupWindow = dedupWindow;
+	}
+
+	/**
+	 * 조회 1건을 기록한다. {@code viewerKey} 가 없으면 중복 제거 없이 센다.
+	 */
+	public void record(Long postId, String viewerKey) {
+		if (postId == null || isDuplicate(postId, viewerKey)) {
+			return;
+		}
+		LongAdder adder = pending.computeIfAbsent(postId, ignored -> new LongAdder());
+		adder.increment();
+		if (pending.get(postId) != adder) {
+			// 찾은 뒤 증가 전에 flush 가 빈 항목으로 보고 떼어 냈다면, 떼어 낸 항목에 남은 값을 현재 항목으로 옮긴다.
+			long moved = adder.sumThenReset();
+			if (moved > 0) {
+				pending.computeIfAbsent(postId, ignored -> new LongAdder()).add(moved);
+			}
+		}
+	}
+
+	/**
+	 * 아직 DB 에 반영되지 않은 증가분.
+	 */
+	public long pendingOf(Long postId) {
+		LongAdder adder = postId == null ? null : pending.get(postId);
+		return adder == null ? 0L : adder.sum();
+	}
+
+	@Scheduled(
+		fixedDelayString = "${app.post.view-count.flush-interval:10s}",
+		initialDelayString = "${app.post.view-count.flush-interval:10s}"
+	)
+	public void flush() {
+		Map<Long, Long> deltas = new HashMap<>();
+		pending.forEach((postId, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta > 0) {
+				deltas.put(postId, delta);
+			} else {
+				// 한 주기 동안 조회가 없던 게시글만 정리한다. 합계를 확인한 뒤 그 사이 증가가 있었으면 남겨 둔다.
+				// 확인 이후 증가한 기록은 record 가 떼어진 것을 알아채고 현재 항목으로 옮긴다.
+				pending.computeIfPresent(postId, (ignored, current) -> current == adder && current.sum() == 0 ? null : current);
+			}
+		});
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			postViewCountsJdbcRepository.addViewCounts(deltas);
+			log.debug("게시글 조회수 반영: posts={}", deltas.size());
+		} catch (RuntimeException ex) {
+			// 반영에 실패한 증가분은 되돌려 다음 주기에 다시 시도한다.
+			deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, ignored -> new LongAdder()).add(delta));
+			log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도: posts={}, reason={}", deltas.size(), ex.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	private boolean isDuplicate(Long postId, String viewerKey) {
+		if (redisTemplate == null || !StringUtils.hasText(viewerKey) || dedupWindow == null || dedupWindow.isZero()) {
+			return false;
+		}
+		try {
+			Boolean first = redisTemplate.opsForValue().setIfAbsent(DEDUP_KEY_PATTERN.formatted(postId, viewerKey), "1", dedupWindow);
+			return Boolean.FALSE.equals(first);
+		} catch (RuntimeException ex) {
+			// 중복 제거는 부가 기능이므로 Redis 장애 시에는 그냥 센다.
+			log.debug("조회수 중복 확인 실패, 중복 제거 없이 기록: postId={}, reason={}", postId, ex.getMessage());
+			return false;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package com.aivle.project.quarter.repository;
 
 import com.aivle.project.quarter.entity.QuartersEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -12,4 +14,6 @@ public interface QuartersRepository extends JpaRepository<QuartersEntity, Long>
 	Optional<QuartersEntity> findByQuarterKey(int quarterKey);
 
 	Optional<QuartersEntity> findByYearAndQuarter(short year, byte quarter);
+
+	List<QuartersEntity> findAllByQuarterKeyIn(Collection<Integer> quarterKeys);
 }
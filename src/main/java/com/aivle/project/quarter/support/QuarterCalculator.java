@@ -1,10 +1,9 @@
 package com.aivle.project.quarter.support;
 
 import java.time.LocalDate;
-import java.time.YearMonth;
 
 /**
- * 분기 계산 유틸.
+ * {@link YearQuarter} 를 주고받는 호출부용 분기 계산 래퍼. 계산은 모두 {@link QuarterCodec} 에 넘긴다.
  */
 public final class QuarterCalculator {
 
@@ -12,35 +11,22 @@ public final class QuarterCalculator {
 	}
 
 	public static YearQuarter parseQuarterKey(int quarterKey) {
-		int year = quarterKey / 10;
-		int quarter = quarterKey % 10;
-		if (quarter < 1 || quarter > 4) {
-			throw new IllegalArgumentException("quarter_key가 유효하지 않습니다: " + quarterKey);
-		}
-		return new YearQuarter(year, quarter);
+		return fromIndex(QuarterCodec.toIndex(quarterKey));
 	}
 
 	public static YearQuarter offset(YearQuarter current, int offset) {
-		int newYear = current.year();
-		int newQuarter = current.quarter() + offset;
-		while (newQuarter <= 0) {
-			newQuarter += 4;
-			newYear--;
-		}
-		while (newQuarter > 4) {
-			newQuarter -= 4;
-			newYear++;
-		}
-		return new YearQuarter(newYear, newQuarter);
+		return fromIndex(QuarterCodec.toIndex(current.toQuarterKey()) + offset);
 	}
 
 	public static LocalDate startDate(YearQuarter quarter) {
-		int startMonth = (quarter.quarter() - 1) * 3 + 1;
-		return LocalDate.of(quarter.year(), startMonth, 1);
+		return QuarterCodec.startDate(quarter.toQuarterKey());
 	}
 
 	public static LocalDate endDate(YearQuarter quarter) {
-		int endMonth = quarter.quarter() * 3;
-		return YearMonth.of(quarter.year(), endMonth).atEndOfMonth();
+		return QuarterCodec.endDate(quarter.toQuarterKey());
+	}
+
+	private static YearQuarter fromIndex(int index) {
+		return new YearQuarter(QuarterCodec.yearOf(index), QuarterCodec.quarterOf(index));
 	}
 }
@@ -0,0 +1,161 @@
+package com.aivle.project.quarter.support;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * quarter_key(예: 20253) 정수 코덱.
+ *
+ * <p>분기는 {@code year * 4 + quarter} 인 연속 정수(분기 인덱스)로 바꿔 이동·비교·간격 계산을 산술 한 번으로 끝낸다.
+ * {@value #CALENDAR_FIRST_YEAR}~{@value #CALENDAR_LAST_YEAR}년은 시작/종료일과 "2025Q3" 라벨을 미리 만들어 두고,
+ * 범위 밖은 그때그때 계산한다. 어느 메서드도 {@link YearQuarter} 를 만들지 않는다.
+ */
+public final class QuarterCodec {
+
+	static final int CALENDAR_FIRST_YEAR = 1990;
+	static final int CALENDAR_LAST_YEAR = 2100;
+
+	private static final int CALENDAR_FIRST_INDEX = CALENDAR_FIRST_YEAR * 4 + 1;
+	private static final int CALENDAR_SIZE = (CALENDAR_LAST_YEAR - CALENDAR_FIRST_YEAR + 1) * 4;
+	private static final int MAX_KEY_DIGITS = 9;
+	private static final String[] LABELS = new String[CALENDAR_SIZE];
+	private static final LocalDate[] START_DATES = new LocalDate[CALENDAR_SIZE];
+	private static final LocalDate[] END_DATES = new LocalDate[CALENDAR_SIZE];
+
+	static {
+		for (int slot = 0; slot < CALENDAR_SIZE; slot++) {
+			int index = CALENDAR_FIRST_INDEX + slot;
+			LABELS[slot] = formatLabel(yearOf(index), quarterOf(index));
+			START_DATES[slot] = computeStartDate(yearOf(index), quarterOf(index));
+			END_DATES[slot] = computeEndDate(yearOf(index), quarterOf(index));
+		}
+	}
+
+	private QuarterCodec() {
+	}
+
+	/**
+	 * quarter_key 를 분기 인덱스로 바꾼다. 분기 자리가 1~4 가 아니면 예외를 던진다.
+	 */
+	public static int toIndex(int quarterKey) {
+		int quarter = quarterKey % 10;
+		if (quarter < 1 || quarter > 4) {
+			throw new IllegalArgumentException("quarter_key가 유효하지 않습니다: " + quarterKey);
+		}
+		return (quarterKey / 10) * 4 + quarter;
+	}
+
+	public static int toQuarterKey(int index) {
+		return yearOf(index) * 10 + quarterOf(index);
+	}
+
+	public static int yearOf(int index) {
+		return Math.floorDiv(index - 1, 4);
+	}
+
+	public static int quarterOf(int index) {
+		return Math.floorMod(index - 1, 4) + 1;
+	}
+
+	public static int offset(int quarterKey, int offset) {
+		return toQuarterKey(toIndex(quarterKey) + offset);
+	}
+
+	public static int previous(int quarterKey) {
+		return offset(quarterKey, -1);
+	}
+
+	public static int next(int quarterKey) {
+		return offset(quarterKey, 1);
+	}
+
+	/**
+	 * {@code from} 에서 {@code to} 까지의 분기 수. {@code to} 가 앞서면 음수다.
+	 */
+	public static int distance(int fromQuarterKey, int toQuarterKey) {
+		return toIndex(toQuarterKey) - toIndex(fromQuarterKey);
+	}
+
+	/**
+	 * "2025Q3" 형식 라벨. 캘린더 범위 안이면 미리 만든 문자열을 그대로 돌려준다.
+	 */
+	public static String label(int quarterKey) {
+		int index = toIndex(quarterKey);
+		int slot = index - CALENDAR_FIRST_INDEX;
+		if (slot >= 0 && slot < CALENDAR_SIZE) {
+			return LABELS[slot];
+		}
+		return formatLabel(yearOf(index), quarterOf(index));
+	}
+
+	public static LocalDate startDate(int quarterKey) {
+		int index = toIndex(quarterKey);
+		int slot = index - CALENDAR_FIRST_INDEX;
+		if (slot >= 0 && slot < CALENDAR_SIZE) {
+			return START_DATES[slot];
+		}
+		return computeStartDate(yearOf(index), quarterOf(index));
+	}
+
+	public static LocalDate endDate(int quarterKey) {
+		int index = toIndex(quarterKey);
+		int slot = index - CALENDAR_FIRST_INDEX;
+		if (slot >= 0 && slot < CALENDAR_SIZE) {
+			return END_DATES[slot];
+		}
+		return computeEndDate(yearOf(index), quarterOf(index));
+	}
+
+	/**
+	 * 요청 파라미터/AI 응답의 분기 문자열("20253", "202503", 앞뒤 공백 허용)을 quarter_key 로 바꾼다.
+	 * 숫자가 아니면 {@code fieldName} 을 넣은 메시지로, 분기 자리가 잘못되면 {@link #toIndex(int)} 와 같은 예외를 던진다.
+	 */
+	public static int parse(CharSequence value, String fieldName) {
+		if (value == null) {
+			throw notNumeric(fieldName);
+		}
+		int start = 0;
+		int end = value.length();
+		while (start < end && value.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && value.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		// "202503" 처럼 분기를 두 자리로 쓴 값은 분기 앞의 0 을 건너뛴다.
+		int skip = end - start == 6 && value.charAt(start + 4) == '0' ? start + 4 : -1;
+		int digits = end - start - (skip >= 0 ? 1 : 0);
+		if (digits == 0 || digits > MAX_KEY_DIGITS) {
+			throw notNumeric(fieldName);
+		}
+		int quarterKey = 0;
+		for (int i = start; i < end; i++) {
+			if (i == skip) {
+				continue;
+			}
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				throw notNumeric(fieldName);
+			}
+			quarterKey = quarterKey * 10 + (c - '0');
+		}
+		toIndex(quarterKey);
+		return quarterKey;
+	}
+
+	private static IllegalArgumentException notNumeric(String fieldName) {
+		return new IllegalArgumentException(fieldName + "는 숫자 형식이어야 합니다.");
+	}
+
+	private static String formatLabel(int year, int quarter) {
+		return year + "Q" + quarter;
+	}
+
+	private static LocalDate computeStartDate(int year, int quarter) {
+		return LocalDate.of(year, (quarter - 1) * 3 + 1, 1);
+	}
+
+	private static LocalDate computeEndDate(int year, int quarter) {
+		return YearMonth.of(year, quarter * 3).atEndOfMonth();
+	}
+}
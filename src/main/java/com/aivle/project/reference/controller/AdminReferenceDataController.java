@@ -0,0 +1,29 @@
+package com.aivle.project.reference.controller;
+
+import com.aivle.project.common.dto.ApiResponse;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 참조 데이터 갱신 API.
+ */
+@Tag(name = "Admin Reference Data", description = "관리자용 참조 데이터 API")
+@RestController
+@RequestMapping("/api/admin/reference-data")
+@RequiredArgsConstructor
+public class AdminReferenceDataController {
+
+	private final ReferenceDataRegistry referenceDataRegistry;
+
+	@Operation(summary = "참조 데이터 다시 적재", description = "지표·분기·핵심 지표 설명·업종 데이터를 모든 인스턴스에서 다시 적재합니다.")
+	@PostMapping("/refresh")
+	public ApiResponse<String> refresh() {
+		referenceDataRegistry.markChanged();
+		return ApiResponse.ok("참조 데이터 갱신을 요청했습니다.");
+	}
+}
@@ -0,0 +1,17 @@
+package com.aivle.project.reference.dto;
+
+import com.aivle.project.industry.entity.IndustryEntity;
+
+/**
+ * 업종 코드 읽기 전용 참조.
+ */
+public record IndustryRef(
+	Long id,
+	String industryCode,
+	String industryName
+) {
+
+	public static IndustryRef from(IndustryEntity industry) {
+		return new IndustryRef(industry.getId(), industry.getIndustryCode(), industry.getIndustryName());
+	}
+}
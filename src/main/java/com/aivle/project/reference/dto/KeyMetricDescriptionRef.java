@@ -0,0 +1,27 @@
+package com.aivle.project.reference.dto;
+
+import com.aivle.project.company.keymetric.entity.KeyMetricDescriptionEntity;
+
+/**
+ * 핵심 지표 설명 읽기 전용 참조.
+ */
+public record KeyMetricDescriptionRef(
+	String metricCode,
+	String metricName,
+	String unit,
+	String description,
+	String interpretation,
+	String actionHint
+) {
+
+	public static KeyMetricDescriptionRef from(KeyMetricDescriptionEntity description) {
+		return new KeyMetricDescriptionRef(
+			description.getMetricCode(),
+			description.getMetricName(),
+			description.getUnit(),
+			description.getDescription(),
+			description.getInterpretation(),
+			description.getActionHint()
+		);
+	}
+}
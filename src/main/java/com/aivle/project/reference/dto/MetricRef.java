@@ -0,0 +1,27 @@
+package com.aivle.project.reference.dto;
+
+import com.aivle.project.metric.entity.MetricsEntity;
+
+/**
+ * 지표 마스터 읽기 전용 참조.
+ */
+public record MetricRef(
+	Long id,
+	String metricCode,
+	String metricNameKo,
+	String metricNameEn,
+	String unit,
+	boolean riskIndicator
+) {
+
+	public static MetricRef from(MetricsEntity metric) {
+		return new MetricRef(
+			metric.getId(),
+			metric.getMetricCode(),
+			metric.getMetricNameKo(),
+			metric.getMetricNameEn(),
+			metric.getUnit(),
+			metric.isRiskIndicator()
+		);
+	}
+}
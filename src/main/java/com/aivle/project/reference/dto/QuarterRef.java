@@ -0,0 +1,28 @@
+package com.aivle.project.reference.dto;
+
+import com.aivle.project.quarter.entity.QuartersEntity;
+import java.time.LocalDate;
+
+/**
+ * 분기 마스터 읽기 전용 참조.
+ */
+public record QuarterRef(
+	Long id,
+	int year,
+	int quarter,
+	int quarterKey,
+	LocalDate startDate,
+	LocalDate endDate
+) {
+
+	public static QuarterRef from(QuartersEntity quarter) {
+		return new QuarterRef(
+			quarter.getId(),
+			quarter.getYear(),
+			quarter.getQuarter(),
+			quarter.getQuarterKey(),
+			quarter.getStartDate(),
+			quarter.getEndDate()
+		);
+	}
+}
@@ -0,0 +1,397 @@
+package com.aivle.project.reference.service;
+
+import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
+import com.aivle.project.industry.entity.IndustryRepository;
+import com.aivle.project.metric.repository.MetricsRepository;
+import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.reference.dto.IndustryRef;
+import com.aivle.project.reference.dto.KeyMetricDescriptionRef;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.dto.QuarterRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지표·분기·핵심 지표 설명·업종 참조 데이터 인메모리 레지스트리.
+ *
+ * <p>기동 시 전체를 읽어 불변 스냅샷으로 들고, 조회는 잠금 없이 스냅샷에서 끝낸다. 스냅샷에 없는 값(새로 만든 분기 등)은
+ * DB 에서 읽어 새 스냅샷에 합친다. 관리자 변경은 {@link #markChanged()} 로 Redis 버전을 올리고, 다른 인스턴스는
+ * 주기적으로 버전을 비교해 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class ReferenceDataRegistry {
+
+	static final String CACHE_NAME = "referenceData";
+	static final String VERSION_KEY = "reference-data:version";
+
+	private final MetricsRepository metricsRepository;
+	private final QuartersRepository quartersRepository;
+	private final KeyMetricDescriptionRepository keyMetricDescriptionRepository;
+	private final IndustryRepository industryRepository;
+	private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+	private final boolean enabled;
+	private final Object reloadLock = new Object();
+	private final Object snapshotLock = new Object();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	// 최초 적재 전이거나 비활성화 상태면 null 이고, 이때는 매번 DB 로 조회한다.
+	private volatile Snapshot snapshot;
+	private volatile String loadedVersion;
+
+	@Autowired
+	public ReferenceDataRegistry(
+		MetricsRepository metricsRepository,
+		QuartersRepository quartersRepository,
+		KeyMetricDescriptionRepository keyMetricDescriptionRepository,
+		IndustryRepository industryRepository,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${app.reference-data.enabled:true}") boolean enabled
+	) {
+		this(metricsRepository, quartersRepository, keyMetricDescriptionRepository, industryRepository,
+			redisTemplateProvider, meterRegistryProvider.getIfAvailable(), enabled);
+	}
+
+	ReferenceDataRegistry(
+		MetricsRepository metricsRepository,
+		QuartersRepository quartersRepository,
+		KeyMetricDescriptionRepository keyMetricDescriptionRepository,
+		IndustryRepository industryRepository,
+		ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+		MeterRegistry meterRegistry,
+		boolean enabled
+	) {
+		this.metricsRepository = metricsRepository;
+		this.quartersRepository = quartersRepository;
+		this.keyMetricDescriptionRepository = keyMetricDescriptionRepository;
+		this.industryRepository = industryRepository;
+		this.redisTemplateProvider = redisTemplateProvider;
+		this.enabled = enabled;
+
+		if (meterRegistry == null) {
+			this.hitCounter = null;
+			this.missCounter = null;
+			return;
+		}
+		this.hitCounter = Counter.builder("cache.gets")
+			.tag("cache", CACHE_NAME)
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("cache.gets")
+			.tag("cache", CACHE_NAME)
+			.tag("result", "miss")
+			.register(meterRegistry);
+		Gauge.builder("cache.size", this, ReferenceDataRegistry::size)
+			.tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		reload();
+	}
+
+	/**
+	 * Redis 버전이 마지막 적재 때와 다르면 다시 적재한다. 최초 적재에 실패했다면 여기서 다시 시도한다.
+	 */
+	@Scheduled(
+		fixedDelayString = "${app.reference-data.version-check-interval:30s}",
+		initialDelayString = "${app.reference-data.version-check-interval:30s}"
+	)
+	public void checkVersion() {
+		if (!enabled) {
+			return;
+		}
+		if (snapshot == null) {
+			reload();
+			return;
+		}
+		String version;
+		try {
+			version = readVersion();
+		} catch (RuntimeException ex) {
+			log.debug("참조 데이터 버전 확인 실패, 기존 스냅샷 유지: {}", ex.getMessage());
+			return;
+		}
+		if (!Objects.equals(version, loadedVersion)) {
+			reload();
+		}
+	}
+
+	/**
+	 * 참조 데이터를 바꾼 뒤 호출한다. 이 인스턴스는 바로, 다른 인스턴스는 다음 버전 확인 때 다시 적재한다.
+	 */
+	public void markChanged() {
+		StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+		if (redisTemplate != null) {
+			try {
+				redisTemplate.opsForValue().increment(VERSION_KEY);
+			} catch (RuntimeException ex) {
+				log.warn("참조 데이터 버전 증가 실패: {}", ex.getMessage());
+			}
+		}
+		reload();
+	}
+
+	public void reload() {
+		if (!enabled) {
+			return;
+		}
+		synchronized (reloadLock) {
+			// 적재 도중 올라간 버전은 다음 확인 때 다시 잡히도록 적재 전에 읽는다.
+			String version;
+			try {
+				version = readVersion();
+			} catch (RuntimeException ex) {
+				version = loadedVersion;
+			}
+			try {
+				Snapshot loaded = Snapshot.of(
+					metricsRepository.findAll().stream().map(MetricRef::from).toList(),
+					quartersRepository.findAll().stream().map(QuarterRef::from).toList(),
+					keyMetricDescriptionRepository.findAll().stream().map(KeyMetricDescriptionRef::from).toList(),
+					industryRepository.findAll().stream().map(IndustryRef::from).toList()
+				);
+				synchronized (snapshotLock) {
+					snapshot = loaded;
+				}
+				loadedVersion = version;
+				log.info("참조 데이터 적재: metrics={}, quarters={}, keyMetricDescriptions={}, industries={}",
+					loaded.metricsByCode().size(), loaded.quartersByKey().size(),
+					loaded.keyMetricDescriptionsByCode().size(), loaded.industriesById().size());
+			} catch (RuntimeException ex) {
+				log.warn("참조 데이터 적재 실패, 기존 스냅샷 유지: {}", ex.getMessage());
+			}
+		}
+	}
+
+	public Optional<MetricRef> findMetricByCode(String metricCode) {
+		return Optional.ofNullable(findMetricsByCode(Collections.singletonList(metricCode)).get(metricCode));
+	}
+
+	/**
+	 * 지표 코드 기준 조회. 없는 코드는 결과에서 빠진다.
+	 */
+	public Map<String, MetricRef> findMetricsByCode(Collection<String> metricCodes) {
+		return lookupAll(
+			metricCodes,
+			Snapshot::metricsByCode,
+			missing -> metricsRepository.findAllByMetricCodeIn(missing).stream().map(MetricRef::from).toList(),
+			MetricRef::metricCode,
+			Snapshot::withMetrics
+		);
+	}
+
+	/**
+	 * 지표 영문명 기준 조회. 없는 이름은 결과에서 빠진다.
+	 */
+	public Map<String, MetricRef> findMetricsByNameEn(Collection<String> metricNameEns) {
+		return lookupAll(
+			metricNameEns,
+			Snapshot::metricsByNameEn,
+			missing -> metricsRepository.findAllByMetricNameEnIn(missing).stream().map(MetricRef::from).toList(),
+			MetricRef::metricNameEn,
+			Snapshot::withMetrics
+		);
+	}
+
+	public Optional<QuarterRef> findQuarter(int quarterKey) {
+		return Optional.ofNullable(lookupAll(
+			List.of(quarterKey),
+			Snapshot::quartersByKey,
+			missing -> quartersRepository.findAllByQuarterKeyIn(missing).stream().map(QuarterRef::from).toList(),
+			QuarterRef::quarterKey,
+			Snapshot::withQuarters
+		).get(quarterKey));
+	}
+
+	public Map<String, KeyMetricDescriptionRef> findKeyMetricDescriptions(Collection<String> metricCodes) {
+		return lookupAll(
+			metricCodes,
+			Snapshot::keyMetricDescriptionsByCode,
+			missing -> keyMetricDescriptionRepository.findAllByMetricCodeIn(missing).stream()
+				.map(KeyMetricDescriptionRef::from)
+				.toList(),
+			KeyMetricDescriptionRef::metricCode,
+			Snapshot::withKeyMetricDescriptions
+		);
+	}
+
+	public Optional<IndustryRef> findIndustry(Long industryId) {
+		if (industryId == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(lookupAll(
+			List.of(industryId),
+			Snapshot::industriesById,
+			missing -> industryRepository.findAllById(missing).stream().map(IndustryRef::from).toList(),
+			IndustryRef::id,
+			Snapshot::withIndustries
+		).get(industryId));
+	}
+
+	int size() {
+		Snapshot current = snapshot;
+		return current == null ? 0 : current.size();
+	}
+
+	private <K, V> Map<K, V> lookupAll(
+		Collection<K> keys,
+		Function<Snapshot, Map<K, V>> index,
+		Function<List<K>, List<V>> loader,
+		Function<V, K> keyOf,
+		BiFunction<Snapshot, Collection<V>, Snapshot> merger
+	) {
+		Map<K, V> result = new HashMap<>();
+		if (keys == null || keys.isEmpty()) {
+			return result;
+		}
+		Snapshot current = snapshot;
+		Map<K, V> cached = current == null ? Map.of() : index.apply(current);
+		Set<K> missing = new LinkedHashSet<>();
+		for (K key : keys) {
+			if (key == null) {
+				continue;
+			}
+			V value = cached.get(key);
+			if (value != null) {
+				result.put(key, value);
+			} else {
+				missing.add(key);
+			}
+		}
+		if (current != null) {
+			increment(hitCounter, result.size());
+			increment(missCounter, missing.size());
+		}
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		List<V> loaded = loader.apply(List.copyOf(missing));
+		for (V value : loaded) {
+			K key = keyOf.apply(value);
+			if (key != null) {
+				result.putIfAbsent(key, value);
+			}
+		}
+		if (!loaded.isEmpty()) {
+			merge(existing -> merger.apply(existing, loaded));
+		}
+		return result;
+	}
+
+	private void merge(Function<Snapshot, Snapshot> merger) {
+		synchronized (snapshotLock) {
+			Snapshot current = snapshot;
+			if (current != null) {
+				snapshot = merger.apply(current);
+			}
+		}
+	}
+
+	private String readVersion() {
+		StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+		if (redisTemplate == null) {
+			return null;
+		}
+		return redisTemplate.opsForValue().get(VERSION_KEY);
+	}
+
+	private static void increment(Counter counter, int amount) {
+		if (counter != null && amount > 0) {
+			counter.increment(amount);
+		}
+	}
+
+	/**
+	 * 한 시점의 참조 데이터. 맵은 바꾸지 않고, 값을 더할 때는 새 스냅샷을 만든다.
+	 */
+	private record Snapshot(
+		Map<String, MetricRef> metricsByCode,
+		Map<String, MetricRef> metricsByNameEn,
+		Map<Integer, QuarterRef> quartersByKey,
+		Map<String, KeyMetricDescriptionRef> keyMetricDescriptionsByCode,
+		Map<Long, IndustryRef> industriesById
+	) {
+
+		static Snapshot of(
+			List<MetricRef> metrics,
+			List<QuarterRef> quarters,
+			List<KeyMetricDescriptionRef> keyMetricDescriptions,
+			List<IndustryRef> industries
+		) {
+			return new Snapshot(
+				merge(Map.of(), metrics, MetricRef::metricCode),
+				merge(Map.of(), metrics, MetricRef::metricNameEn),
+				merge(Map.of(), quarters, QuarterRef::quarterKey),
+				merge(Map.of(), keyMetricDescriptions, KeyMetricDescriptionRef::metricCode),
+				merge(Map.of(), industries, IndustryRef::id)
+			);
+		}
+
+		Snapshot withMetrics(Collection<MetricRef> metrics) {
+			return new Snapshot(
+				merge(metricsByCode, metrics, MetricRef::metricCode),
+				merge(metricsByNameEn, metrics, MetricRef::metricNameEn),
+				quartersByKey,
+				keyMetricDescriptionsByCode,
+				industriesById
+			);
+		}
+
+		Snapshot withQuarters(Collection<QuarterRef> quarters) {
+			return new Snapshot(metricsByCode, metricsByNameEn, merge(quartersByKey, quarters, QuarterRef::quarterKey),
+				keyMetricDescriptionsByCode, industriesById);
+		}
+
+		Snapshot withKeyMetricDescriptions(Collection<KeyMetricDescriptionRef> descriptions) {
+			return new Snapshot(metricsByCode, metricsByNameEn, quartersByKey,
+				merge(keyMetricDescriptionsByCode, descriptions, KeyMetricDescriptionRef::metricCode), industriesById);
+		}
+
+		Snapshot withIndustries(Collection<IndustryRef> industries) {
+			return new Snapshot(metricsByCode, metricsByNameEn, quartersByKey, keyMetricDescriptionsByCode,
+				merge(industriesById, industries, IndustryRef::id));
+		}
+
+		int size() {
+			return metricsByCode.size() + quartersByKey.size() + keyMetricDescriptionsByCode.size()
+				+ industriesById.size();
+		}
+
+		private static <K, V> Map<K, V> merge(Map<K, V> base, Collection<V> values, Function<V, K> keyOf) {
+			Map<K, V> merged = new HashMap<>(base);
+			for (V value : values) {
+				K key = keyOf.apply(value);
+				if (key != null) {
+					merged.putIfAbsent(key, value);
+				}
+			}
+			return Collections.unmodifiableMap(merged);
+		}
+	}
+}
@@ -3,22 +3,19 @@ package com.aivle.project.report.controller;
 import com.aivle.project.common.dto.ApiResponse;
 import com.aivle.project.common.error.CommonErrorCode;
 import com.aivle.project.common.error.CommonException;
-import com.aivle.project.report.dto.CompanyMetricValueCommand;
 import com.aivle.project.report.dto.ReportImportResult;
 import com.aivle.project.report.dto.ReportMetricPublishRequest;
 import com.aivle.project.report.dto.ReportPredictRequest;
 import com.aivle.project.report.dto.ReportPredictResult;
 import com.aivle.project.report.dto.ReportPublishResult;
-import com.aivle.project.report.importer.ExcelMetricParser;
-import com.aivle.project.report.service.CompanyReportMetricImportService;
 import com.aivle.project.report.service.CompanyReportMetricPredictService;
 import com.aivle.project.report.service.CompanyReportMetricPublishService;
+import com.aivle.project.report.service.ReportMetricExcelImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -42,24 +39,23 @@ import org.springframework.web.multipart.MultipartFile;
 @SecurityRequirement(name = "bearerAuth")
 public class ReportMetricImportController {
 
-	private final ExcelMetricParser excelMetricParser;
-	private final CompanyReportMetricImportService companyReportMetricImportService;
+	private final ReportMetricExcelImportService reportMetricExcelImportService;
 	private final CompanyReportMetricPredictService companyReportMetricPredictService;
 	private final CompanyReportMetricPublishService companyReportMetricPublishService;
 
 	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	@Operation(summary = "보고서 지표 엑셀 업로드", description = "관리자용 엑셀 업로드 API")
+	@Operation(summary = "보고서 지표 엑셀 업로드", description = "관리자용 엑셀 업로드 API (bulk=true 시 JDBC 배치 적재)")
 	public ResponseEntity<ApiResponse<ReportImportResult>> importMetrics(
 		@RequestParam("quarterKey") int quarterKey,
-		@RequestParam("file") MultipartFile file
+		@RequestParam("file") MultipartFile file,
+		@RequestParam(value = "bulk", defaultValue = "false") boolean bulk
 	) {
 		if (file == null || file.isEmpty()) {
 			throw new CommonException(CommonErrorCode.COMMON_400);
 		}
 
 		try {
-			List<CompanyMetricValueCommand> commands = excelMetricParser.parse(file);
-			ReportImportResult result = companyReportMetricImportService.importMetrics(quarterKey, commands);
+			ReportImportResult result = reportMetricExcelImportService.importExcel(quarterKey, file, bulk);
 			return ResponseEntity.ok(ApiResponse.ok(result));
 		} catch (IllegalArgumentException | IOException ex) {
 			log.info("보고서 지표 업로드 실패: {}", ex.getMessage());
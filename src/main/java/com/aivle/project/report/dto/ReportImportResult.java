@@ -13,4 +13,13 @@ public record ReportImportResult(
 	public static ReportImportResult empty() {
 		return new ReportImportResult(0, 0, 0, 0);
 	}
+
+	public ReportImportResult plus(ReportImportResult other) {
+		return new ReportImportResult(
+			totalCommands + other.totalCommands,
+			savedValues + other.savedValues,
+			skippedCompanies + other.skippedCompanies,
+			skippedMetrics + other.skippedMetrics
+		);
+	}
 }
@@ -0,0 +1,12 @@
+package com.aivle.project.report.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 보고서 버전별 위험 지표 값 프로젝션.
+ */
+public interface RiskMetricValueProjection {
+	Long getReportVersionId();
+
+	BigDecimal getMetricValue();
+}
@@ -6,6 +6,7 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -26,6 +27,7 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@EntityListeners(LatestReportVersionListener.class)
 @Table(name = "company_report_metric_values")
 public class CompanyReportMetricValuesEntity extends BaseEntity {
 
@@ -0,0 +1,48 @@
+package com.aivle.project.report.entity;
+
+import com.aivle.project.metric.entity.MetricValueType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * latest_report_versions 테이블에 매핑되는 보고서별 최신 지표 버전 프로젝션.
+ *
+ * <p>지표 값 저장 시 {@link LatestReportVersionListener}가 갱신하며 조회 전용으로 사용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "latest_report_versions")
+public class LatestReportVersionEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "company_report_id", nullable = false)
+	private CompanyReportsEntity companyReport;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "value_type", nullable = false, length = 20)
+	private MetricValueType valueType;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "version_scope", nullable = false, length = 20)
+	private LatestReportVersionScope scope;
+
+	@Column(name = "version_no", nullable = false)
+	private int versionNo;
+}
@@ -0,0 +1,74 @@
+package com.aivle.project.report.entity;
+
+import com.aivle.project.metric.entity.MetricValueType;
+import com.aivle.project.report.repository.LatestReportVersionJdbcRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.util.HashSet;
+import java.util.Set;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 지표 값 저장 시 최신 보고서 버전 프로젝션을 같은 트랜잭션에서 갱신한다.
+ *
+ * <p>Hibernate가 Spring 빈 컨테이너로 생성하므로 import/publish/predict/AI 캐시 등
+ * 모든 JPA 저장 경로에서 프로젝션이 누락 없이 유지된다. 같은 트랜잭션에서 이미 반영한
+ * (보고서, 값 유형, 범위, 버전) 조합은 다시 갱신하지 않는다.
+ *
+ * <p>ALL 범위는 값이 있는 지표가 하나라도 저장된 버전을 가리킨다. 모든 지표 값이 채워졌는지는 보지 않는다.
+ */
+public class LatestReportVersionListener {
+
+	private final LatestReportVersionJdbcRepository latestReportVersionJdbcRepository;
+
+	public LatestReportVersionListener(LatestReportVersionJdbcRepository latestReportVersionJdbcRepository) {
+		this.latestReportVersionJdbcRepository = latestReportVersionJdbcRepository;
+	}
+
+	@PostPersist
+	@PostUpdate
+	public void onSaved(CompanyReportMetricValuesEntity value) {
+		if (value.getMetricValue() == null) {
+			return;
+		}
+		CompanyReportVersionsEntity version = value.getReportVersion();
+		RaisedKey key = new RaisedKey(
+			version.getCompanyReport().getId(),
+			value.getValueType(),
+			LatestReportVersionScope.of(value.getMetric().isRiskIndicator()),
+			version.getVersionNo()
+		);
+		Set<RaisedKey> raisedKeys = currentRaisedKeys();
+		if (raisedKeys != null && !raisedKeys.add(key)) {
+			return;
+		}
+		latestReportVersionJdbcRepository.raiseVersion(
+			key.companyReportId(),
+			key.valueType(),
+			key.scope(),
+			key.versionNo()
+		);
+	}
+
+	private Set<RaisedKey> currentRaisedKeys() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof RaisedKeys raisedKeys) {
+				return raisedKeys.keys;
+			}
+		}
+		RaisedKeys raisedKeys = new RaisedKeys();
+		TransactionSynchronizationManager.registerSynchronization(raisedKeys);
+		return raisedKeys.keys;
+	}
+
+	private record RaisedKey(Long companyReportId, MetricValueType valueType, LatestReportVersionScope scope, int versionNo) {
+	}
+
+	private static final class RaisedKeys implements TransactionSynchronization {
+		private final Set<RaisedKey> keys = new HashSet<>();
+	}
+}
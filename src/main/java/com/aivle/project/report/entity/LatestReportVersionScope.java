@@ -0,0 +1,14 @@
+package com.aivle.project.report.entity;
+
+/**
+ * 최신 보고서 버전을 산정하는 지표 범위.
+ */
+public enum LatestReportVersionScope {
+	ALL,
+	RISK,
+	NON_RISK;
+
+	public static LatestReportVersionScope of(boolean riskIndicator) {
+		return riskIndicator ? RISK : NON_RISK;
+	}
+}
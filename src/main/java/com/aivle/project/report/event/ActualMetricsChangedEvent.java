@@ -0,0 +1,18 @@
+package com.aivle.project.report.event;
+
+import java.util.Set;
+
+/**
+ * 실적(ACTUAL) 지표 적재 완료 이벤트.
+ */
+public record ActualMetricsChangedEvent(Set<Long> companyIds, Set<String> stockCodes) {
+
+	public ActualMetricsChangedEvent {
+		companyIds = companyIds == null ? Set.of() : Set.copyOf(companyIds);
+		stockCodes = stockCodes == null ? Set.of() : Set.copyOf(stockCodes);
+	}
+
+	public boolean isEmpty() {
+		return companyIds.isEmpty() && stockCodes.isEmpty();
+	}
+}
@@ -0,0 +1,13 @@
+package com.aivle.project.report.importer;
+
+/**
+ * 엑셀 지표 파싱 요약.
+ */
+public record ExcelMetricParseSummary(
+	int rows,
+	int commands,
+	int skippedRows,
+	int invalidValues,
+	int chunks
+) {
+}
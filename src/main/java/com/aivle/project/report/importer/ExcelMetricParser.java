@@ -1,124 +1,352 @@
 package com.aivle.project.report.importer;
 
 import com.aivle.project.report.dto.CompanyMetricValueCommand;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DataFormatter;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 /**
  * 엑셀 지표 파일 파서.
+ *
+ * <p>xlsx 는 XSSF 이벤트(SAX) 모델로 행 단위로 읽어 청크 단위로 전달하므로,
+ * 메모리 사용량이 행 수와 무관하다. 구형 xls 는 기존 방식(워크북 로딩)으로 처리한다.
  */
 @Slf4j
 @Component
 public class ExcelMetricParser {
 
+	public static final int DEFAULT_CHUNK_ROWS = 500;
+
 	private static final String HEADER_STOCK_CODE = "기업코드";
 	private static final String HEADER_COMPANY_NAME = "기업명";
 	private static final String SHEET_NAME = "in";
 
 	public List<CompanyMetricValueCommand> parse(Path filePath) throws IOException {
-		try (InputStream inputStream = Files.newInputStream(filePath)) {
-			return parse(inputStream);
-		}
+		List<CompanyMetricValueCommand> commands = new ArrayList<>();
+		parse(filePath, DEFAULT_CHUNK_ROWS, commands::addAll);
+		return commands;
 	}
 
 	public List<CompanyMetricValueCommand> parse(MultipartFile file) throws IOException {
+		List<CompanyMetricValueCommand> commands = new ArrayList<>();
+		parse(file, DEFAULT_CHUNK_ROWS, commands::addAll);
+		return commands;
+	}
+
+	public List<CompanyMetricValueCommand> parse(InputStream inputStream) throws IOException {
+		List<CompanyMetricValueCommand> commands = new ArrayList<>();
+		parse(inputStream, DEFAULT_CHUNK_ROWS, commands::addAll);
+		return commands;
+	}
+
+	/**
+	 * 업로드 파일을 파싱해 {@code chunkRows} 행 단위로 명령을 전달한다.
+	 */
+	public ExcelMetricParseSummary parse(
+		MultipartFile file,
+		int chunkRows,
+		Consumer<List<CompanyMetricValueCommand>> chunkConsumer
+	) throws IOException {
 		try (InputStream inputStream = file.getInputStream()) {
-			return parse(inputStream);
+			return parse(inputStream, chunkRows, chunkConsumer);
 		}
 	}
 
-	public List<CompanyMetricValueCommand> parse(InputStream inputStream) throws IOException {
-		try (Workbook workbook = WorkbookFactory.create(inputStream)) {
+	/**
+	 * 스트림을 임시 파일로 내려받은 뒤 파싱한다.
+	 * OPC 패키지를 파일로 열어야 zip 엔트리를 메모리에 모두 올리지 않는다.
+	 */
+	public ExcelMetricParseSummary parse(
+		InputStream inputStream,
+		int chunkRows,
+		Consumer<List<CompanyMetricValueCommand>> chunkConsumer
+	) throws IOException {
+		Path tempFile = Files.createTempFile("metric-import-", ".xlsx");
+		try {
+			Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+			return parse(tempFile, chunkRows, chunkConsumer);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	public ExcelMetricParseSummary parse(
+		Path filePath,
+		int chunkRows,
+		Consumer<List<CompanyMetricValueCommand>> chunkConsumer
+	) throws IOException {
+		RowCollector collector = new RowCollector(Math.max(1, chunkRows), chunkConsumer);
+		if (isOoxml(filePath)) {
+			readXlsx(filePath, collector);
+		} else {
+			readWorkbook(filePath, collector);
+		}
+		ExcelMetricParseSummary summary = collector.finish();
+		log.info(
+			"엑셀 파싱 완료: rows={}, commands={}, skippedRows={}, invalidValues={}, chunks={}",
+			summary.rows(),
+			summary.commands(),
+			summary.skippedRows(),
+			summary.invalidValues(),
+			summary.chunks()
+		);
+		return summary;
+	}
+
+	private boolean isOoxml(Path filePath) throws IOException {
+		try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath))) {
+			return FileMagic.valueOf(inputStream) == FileMagic.OOXML;
+		}
+	}
+
+	private void readXlsx(Path filePath, RowCollector collector) throws IOException {
+		OPCPackage pkg = null;
+		try {
+			pkg = OPCPackage.open(filePath.toFile(), PackageAccess.READ);
+			XSSFReader reader = new XSSFReader(pkg);
+			ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+			StylesTable styles = reader.getStylesTable();
+			int sheetIndex = resolveSheetIndex(reader);
+			if (sheetIndex < 0) {
+				return;
+			}
+
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			for (int index = 0; sheets.hasNext(); index++) {
+				try (InputStream sheet = sheets.next()) {
+					if (index != sheetIndex) {
+						continue;
+					}
+					XMLReader parser = XMLHelper.newXMLReader();
+					parser.setContentHandler(new XSSFSheetXMLHandler(
+						styles,
+						null,
+						strings,
+						new SheetHandler(collector),
+						new DataFormatter(),
+						false
+					));
+					parser.parse(new InputSource(sheet));
+					return;
+				}
+			}
+		} catch (OpenXML4JException | SAXException | ParserConfigurationException ex) {
+			throw new IOException("엑셀 파일을 읽을 수 없습니다.", ex);
+		} finally {
+			// 읽기 전용 패키지는 close() 대신 revert() 로 닫는다.
+			if (pkg != null) {
+				pkg.revert();
+			}
+		}
+	}
+
+	private int resolveSheetIndex(XSSFReader reader) throws IOException, OpenXML4JException {
+		XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+		int count = 0;
+		while (sheets.hasNext()) {
+			try (InputStream ignored = sheets.next()) {
+				if (SHEET_NAME.equals(sheets.getSheetName())) {
+					return count;
+				}
+			}
+			count++;
+		}
+		return count > 0 ? 0 : -1;
+	}
+
+	private void readWorkbook(Path filePath, RowCollector collector) throws IOException {
+		try (Workbook workbook = WorkbookFactory.create(filePath.toFile(), null, true)) {
 			Sheet sheet = workbook.getSheet(SHEET_NAME);
 			if (sheet == null) {
 				sheet = workbook.getNumberOfSheets() > 0 ? workbook.getSheetAt(0) : null;
 			}
 			if (sheet == null) {
-				return List.of();
+				return;
 			}
 
-			Row headerRow = sheet.getRow(0);
-			if (headerRow == null) {
-				return List.of();
+			DataFormatter formatter = new DataFormatter();
+			for (Row row : sheet) {
+				collector.startRow(row.getRowNum());
+				for (Cell cell : row) {
+					collector.cell(cell.getColumnIndex(), formatter.formatCellValue(cell));
+				}
+				collector.endRow();
 			}
+		}
+	}
+
+	private record SheetHandler(RowCollector collector) implements XSSFSheetXMLHandler.SheetContentsHandler {
 
-			HeaderContext headerContext = parseHeaders(headerRow);
-			if (headerContext.stockCodeIndex < 0) {
-				log.info("엑셀 파싱 실패: 기업코드 헤더 없음");
-				return List.of();
+		@Override
+		public void startRow(int rowNum) {
+			collector.startRow(rowNum);
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			collector.endRow();
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			if (cellReference == null) {
+				return;
 			}
+			collector.cell(new CellReference(cellReference).getCol(), formattedValue);
+		}
+	}
 
-			DataFormatter formatter = new DataFormatter();
-			List<CompanyMetricValueCommand> commands = new ArrayList<>();
+	/**
+	 * 행 단위 셀 값을 받아 헤더를 해석하고 명령 청크를 만든다.
+	 */
+	private static final class RowCollector {
 
-			for (int rowIndex = 1; rowIndex <= sheet.getLastRowNum(); rowIndex++) {
-				Row row = sheet.getRow(rowIndex);
-				if (row == null) {
-					continue;
-				}
+		private final int chunkRows;
+		private final Consumer<List<CompanyMetricValueCommand>> chunkConsumer;
+		private final Map<Integer, String> currentCells = new TreeMap<>();
+		private HeaderContext headerContext;
+		private boolean headerMissing;
+		private int currentRow = -1;
+		private List<CompanyMetricValueCommand> buffer = new ArrayList<>();
+		private int bufferedRows;
+		private int rows;
+		private int commands;
+		private int skippedRows;
+		private int invalidValues;
+		private int chunks;
 
-				String stockCode = readCellAsString(row.getCell(headerContext.stockCodeIndex), formatter);
-				if (stockCode.isBlank()) {
-					log.info("엑셀 파싱 스킵: 기업코드 없음 (row={})", rowIndex + 1);
-					continue;
-				}
+		private RowCollector(int chunkRows, Consumer<List<CompanyMetricValueCommand>> chunkConsumer) {
+			this.chunkRows = chunkRows;
+			this.chunkConsumer = chunkConsumer;
+		}
 
-				for (Map.Entry<Integer, HeaderSpec> entry : headerContext.metricHeaders.entrySet()) {
-					Cell cell = row.getCell(entry.getKey());
-					BigDecimal value = parseNumeric(cell, formatter);
-					HeaderSpec spec = entry.getValue();
-					int excelRow = rowIndex + 1;
-					int excelCol = entry.getKey() + 1;
-					commands.add(new CompanyMetricValueCommand(
-						stockCode,
-						spec.metricCode(),
-						spec.quarterOffset(),
-						value,
-						excelRow,
-						excelCol,
-						spec.headerName()
-					));
-					log.info(
-						"엑셀 파싱: row={}, col={}, stockCode={}, header={}, metricCode={}, offset={}, value={}",
-						excelRow,
-						excelCol,
-						stockCode,
-						spec.headerName(),
-						spec.metricCode(),
-						spec.quarterOffset(),
-						value
-					);
+		void startRow(int rowIndex) {
+			currentRow = rowIndex;
+			currentCells.clear();
+		}
+
+		void cell(int columnIndex, String formattedValue) {
+			if (currentRow == 0 || headerContext != null && headerContext.isMapped(columnIndex)) {
+				currentCells.put(columnIndex, formattedValue == null ? "" : formattedValue.trim());
+			}
+		}
+
+		void endRow() {
+			if (currentRow == 0) {
+				headerContext = parseHeaders(currentCells);
+				if (headerContext.stockCodeIndex() < 0) {
+					headerMissing = true;
+					log.info("엑셀 파싱 실패: 기업코드 헤더 없음");
 				}
+				return;
+			}
+			if (headerContext == null || headerMissing || currentRow < 0) {
+				return;
 			}
 
-			return commands;
+			rows++;
+			String stockCode = currentCells.getOrDefault(headerContext.stockCodeIndex(), "");
+			if (stockCode.isBlank()) {
+				skippedRows++;
+				return;
+			}
+
+			int excelRow = currentRow + 1;
+			for (Map.Entry<Integer, HeaderSpec> entry : headerContext.metricHeaders().entrySet()) {
+				HeaderSpec spec = entry.getValue();
+				buffer.add(new CompanyMetricValueCommand(
+					stockCode,
+					spec.metricCode(),
+					spec.quarterOffset(),
+					parseNumeric(currentCells.get(entry.getKey())),
+					excelRow,
+					entry.getKey() + 1,
+					spec.headerName()
+				));
+			}
+			bufferedRows++;
+			if (bufferedRows >= chunkRows) {
+				flush();
+			}
+		}
+
+		ExcelMetricParseSummary finish() {
+			flush();
+			return new ExcelMetricParseSummary(rows, commands, skippedRows, invalidValues, chunks);
+		}
+
+		private void flush() {
+			if (buffer.isEmpty()) {
+				bufferedRows = 0;
+				return;
+			}
+			List<CompanyMetricValueCommand> chunk = buffer;
+			buffer = new ArrayList<>();
+			bufferedRows = 0;
+			commands += chunk.size();
+			chunks++;
+			chunkConsumer.accept(chunk);
+		}
+
+		private BigDecimal parseNumeric(String raw) {
+			if (raw == null || raw.isBlank()) {
+				return null;
+			}
+			String normalized = raw.replace(",", "").replace("%", "").trim();
+			if (normalized.isBlank()) {
+				return null;
+			}
+			try {
+				return new BigDecimal(normalized);
+			} catch (NumberFormatException ex) {
+				invalidValues++;
+				return null;
+			}
 		}
 	}
 
-	private HeaderContext parseHeaders(Row headerRow) {
+	private static HeaderContext parseHeaders(Map<Integer, String> headerCells) {
 		Map<Integer, HeaderSpec> metricHeaders = new HashMap<>();
 		int stockCodeIndex = -1;
 
-		for (Cell cell : headerRow) {
-			String header = readCellAsString(cell, new DataFormatter());
+		for (Map.Entry<Integer, String> cell : headerCells.entrySet()) {
+			String header = cell.getValue();
 			if (HEADER_STOCK_CODE.equals(header)) {
-				stockCodeIndex = cell.getColumnIndex();
+				stockCodeIndex = cell.getKey();
 				continue;
 			}
 			if (HEADER_COMPANY_NAME.equals(header)) {
@@ -126,16 +354,16 @@ public class ExcelMetricParser {
 			}
 			HeaderSpec spec = parseMetricHeader(header);
 			if (spec != null) {
-				metricHeaders.put(cell.getColumnIndex(), spec);
+				metricHeaders.put(cell.getKey(), spec);
 			} else if (!header.isBlank()) {
-				log.info("엑셀 파싱 스킵: 헤더 매핑 실패 (col={}, header={})", cell.getColumnIndex() + 1, header);
+				log.info("엑셀 파싱 스킵: 헤더 매핑 실패 (col={}, header={})", cell.getKey() + 1, header);
 			}
 		}
 
 		return new HeaderContext(stockCodeIndex, metricHeaders);
 	}
 
-	private HeaderSpec parseMetricHeader(String header) {
+	private static HeaderSpec parseMetricHeader(String header) {
 		if (header == null || header.isBlank()) {
 			return null;
 		}
@@ -161,7 +389,7 @@ public class ExcelMetricParser {
 		return new HeaderSpec(metricCode, offset, header);
 	}
 
-	private Integer parseQuarterOffset(String suffix) {
+	private static Integer parseQuarterOffset(String suffix) {
 		if ("현재".equals(suffix)) {
 			return 0;
 		}
@@ -177,34 +405,13 @@ public class ExcelMetricParser {
 		return null;
 	}
 
-	private String readCellAsString(Cell cell, DataFormatter formatter) {
-		if (cell == null) {
-			return "";
-		}
-		String value = formatter.formatCellValue(cell);
-		return value == null ? "" : value.trim();
-	}
-
-	private BigDecimal parseNumeric(Cell cell, DataFormatter formatter) {
-		String raw = readCellAsString(cell, formatter);
-		if (raw.isBlank()) {
-			return null;
-		}
-		String normalized = raw.replace(",", "").replace("%", "").trim();
-		if (normalized.isBlank()) {
-			return null;
-		}
-		try {
-			return new BigDecimal(normalized);
-		} catch (NumberFormatException ex) {
-			log.info("엑셀 파싱 스킵: 숫자 변환 실패 (value={})", raw);
-			return null;
-		}
-	}
-
 	private record HeaderSpec(String metricCode, int quarterOffset, String headerName) {
 	}
 
 	private record HeaderContext(int stockCodeIndex, Map<Integer, HeaderSpec> metricHeaders) {
+
+		boolean isMapped(int columnIndex) {
+			return columnIndex == stockCodeIndex || metricHeaders.containsKey(columnIndex);
+		}
 	}
 }
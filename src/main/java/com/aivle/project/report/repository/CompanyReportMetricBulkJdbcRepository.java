@@ -0,0 +1,209 @@
+package com.aivle.project.report.repository;
+
+import com.aivle.project.metric.entity.MetricValueType;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 분기 지표 대량 적재를 위한 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompanyReportMetricBulkJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * (기업, 분기) 보고서를 없으면 만들고, 보고서 행을 잠근 뒤 식별자를 돌려준다.
+	 */
+	public Map<ReportKey, Long> upsertAndLockReports(Collection<ReportKey> reportKeys) {
+		if (reportKeys == null || reportKeys.isEmpty()) {
+			return Map.of();
+		}
+		List<ReportKey> keys = List.copyOf(new HashSet<>(reportKeys));
+		Set<ReportKey> requested = new HashSet<>(keys);
+		jdbcTemplate.batchUpdate(
+			"""
+				INSERT INTO company_reports (company_id, quarter_id)
+				VALUES (?, ?)
+				ON DUPLICATE KEY UPDATE id = id
+				""",
+			keys,
+			BATCH_SIZE,
+			(ps, key) -> {
+				ps.setLong(1, key.companyId());
+				ps.setLong(2, key.quarterId());
+			}
+		);
+
+		List<Object[]> pairs = keys.stream()
+			.map(key -> new Object[] {key.companyId(), key.quarterId()})
+			.toList();
+		// 버전 번호 발급은 CompanyReportVersionIssueService 와 같이 보고서 행 잠금으로 직렬화한다.
+		// 기업 × 분기 교차 조합이 아니라 요청한 (기업, 분기) 쌍만 잠그고, 잠금 순서를 id 로 고정한다.
+		Map<ReportKey, Long> reportIds = new HashMap<>();
+		namedParameterJdbcTemplate.query(
+			"""
+				SELECT id, company_id, quarter_id
+				FROM company_reports
+				WHERE (company_id, quarter_id) IN (:pairs)
+				ORDER BY id
+				FOR UPDATE
+				""",
+			new MapSqlParameterSource("pairs", pairs),
+			rs -> {
+				ReportKey key = new ReportKey(rs.getLong("company_id"), rs.getLong("quarter_id"));
+				if (requested.contains(key)) {
+					reportIds.put(key, rs.getLong("id"));
+				}
+			}
+		);
+		return reportIds;
+	}
+
+	/**
+	 * 보고서별 최대 버전과 재사용 가능한 최신 비공개 버전을 조회한다.
+	 */
+	public Map<Long, VersionState> findVersionStates(Collection<Long> reportIds) {
+		if (reportIds == null || reportIds.isEmpty()) {
+			return Map.of();
+		}
+		Map<Long, VersionState> states = new HashMap<>();
+		namedParameterJdbcTemplate.query(
+			"""
+				SELECT id, company_report_id, version_no, is_published
+				FROM company_report_versions
+				WHERE company_report_id IN (:reportIds)
+				""",
+			new MapSqlParameterSource("reportIds", reportIds),
+			rs -> {
+				long reportId = rs.getLong("company_report_id");
+				VersionState current = states.getOrDefault(reportId, VersionState.EMPTY);
+				states.put(reportId, current.merge(rs.getLong("id"), rs.getInt("version_no"), rs.getBoolean("is_published")));
+			}
+		);
+		return states;
+	}
+
+	/**
+	 * 실적(ACTUAL) 값이 하나라도 채워진 버전 식별자를 조회한다.
+	 */
+	public Set<Long> findVersionIdsWithActualValues(Collection<Long> versionIds) {
+		if (versionIds == null || versionIds.isEmpty()) {
+			return Set.of();
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("versionIds", versionIds)
+			.addValue("valueType", MetricValueType.ACTUAL.name());
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+			"""
+				SELECT DISTINCT report_version_id
+				FROM company_report_metric_values
+				WHERE report_version_id IN (:versionIds)
+				  AND value_type = :valueType
+				  AND metric_value IS NOT NULL
+				""",
+			params,
+			Long.class
+		));
+	}
+
+	/**
+	 * 비공개 버전을 일괄 생성하고 보고서별 새 버전 식별자를 돌려준다.
+	 */
+	public Map<Long, Long> insertVersions(Map<Long, Integer> versionNoByReportId, LocalDateTime generatedAt) {
+		if (versionNoByReportId == null || versionNoByReportId.isEmpty()) {
+			return Map.of();
+		}
+		List<Map.Entry<Long, Integer>> entries = List.copyOf(versionNoByReportId.entrySet());
+		Timestamp generated = Timestamp.valueOf(generatedAt);
+		jdbcTemplate.batchUpdate(
+			"""
+				INSERT INTO company_report_versions (company_report_id, version_no, generated_at, is_published)
+				VALUES (?, ?, ?, FALSE)
+				""",
+			entries,
+			BATCH_SIZE,
+			(ps, entry) -> {
+				ps.setLong(1, entry.getKey());
+				ps.setInt(2, entry.getValue());
+				ps.setTimestamp(3, generated);
+			}
+		);
+
+		Map<Long, Long> versionIds = new HashMap<>();
+		namedParameterJdbcTemplate.query(
+			"""
+				SELECT id, company_report_id, version_no
+				FROM company_report_versions
+				WHERE company_report_id IN (:reportIds)
+				""",
+			new MapSqlParameterSource("reportIds", versionNoByReportId.keySet()),
+			rs -> {
+				long reportId = rs.getLong("company_report_id");
+				if (versionNoByReportId.get(reportId) == rs.getInt("version_no")) {
+					versionIds.put(reportId, rs.getLong("id"));
+				}
+			}
+		);
+		return versionIds;
+	}
+
+	public void insertMetricValues(List<MetricValueRow> rows) {
+		if (rows == null || rows.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(
+			"""
+				INSERT INTO company_report_metric_values (report_version_id, metric_id, quarter_id, metric_value, value_type)
+				VALUES (?, ?, ?, ?, ?)
+				""",
+			rows,
+			BATCH_SIZE,
+			(ps, row) -> {
+				ps.setLong(1, row.reportVersionId());
+				ps.setLong(2, row.metricId());
+				ps.setLong(3, row.quarterId());
+				ps.setBigDecimal(4, row.metricValue());
+				ps.setString(5, MetricValueType.ACTUAL.name());
+			}
+		);
+	}
+
+	public record ReportKey(long companyId, long quarterId) {
+	}
+
+	public record MetricValueRow(long reportVersionId, long metricId, long quarterId, BigDecimal metricValue) {
+	}
+
+	/**
+	 * 보고서의 최대 버전 번호와 최신 비공개 버전.
+	 */
+	public record VersionState(int maxVersionNo, Long latestUnpublishedVersionId, int latestUnpublishedVersionNo) {
+
+		public static final VersionState EMPTY = new VersionState(0, null, 0);
+
+		VersionState merge(long versionId, int versionNo, boolean published) {
+			int maxNo = Math.max(maxVersionNo, versionNo);
+			if (!published && versionNo > latestUnpublishedVersionNo) {
+				return new VersionState(maxNo, versionId, versionNo);
+			}
+			return new VersionState(maxNo, latestUnpublishedVersionId, latestUnpublishedVersionNo);
+		}
+	}
+}
@@ -4,7 +4,9 @@ import com.aivle.project.metric.entity.MetricValueType;
 import com.aivle.project.report.dto.MetricValueSampleProjection;
 import com.aivle.project.report.dto.ReportMetricRowProjection;
 import com.aivle.project.report.dto.ReportPredictMetricRowProjection;
+import com.aivle.project.report.dto.RiskMetricValueProjection;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 public interface CompanyReportMetricValuesRepositoryCustom {
@@ -55,6 +57,14 @@ public interface CompanyReportMetricValuesRepositoryCustom {
 		MetricValueType valueType
 	);
 
+	/**
+	 * 여러 보고서 버전의 위험 지표 값을 한 번에 조회한다.
+	 */
+	List<RiskMetricValueProjection> findRiskMetricValuesByReportVersionIds(
+		Collection<Long> reportVersionIds,
+		MetricValueType valueType
+	);
+
 	List<MetricValueSampleProjection> findNonRiskActualMetricSamplesByQuarterId(
 		Long quarterId,
 		MetricValueType valueType
@@ -10,15 +10,19 @@ import com.aivle.project.report.dto.CompanyOverviewMetricRowProjection;
 import com.aivle.project.report.dto.MetricValueSampleProjection;
 import com.aivle.project.report.dto.ReportMetricRowProjection;
 import com.aivle.project.report.dto.ReportPredictMetricRowProjection;
+import com.aivle.project.report.dto.RiskMetricValueProjection;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
+import com.aivle.project.report.entity.LatestReportVersionScope;
 import com.aivle.project.report.entity.QCompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.QCompanyReportVersionsEntity;
 import com.aivle.project.report.entity.QCompanyReportsEntity;
+import com.aivle.project.report.entity.QLatestReportVersionEntity;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -40,9 +44,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QCompaniesEntity c = QCompaniesEntity.companiesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportMetricRowDto.class,
@@ -62,21 +64,14 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(MetricValueType.ACTUAL),
+				lv.scope.eq(LatestReportVersionScope.ALL)
+			)
 			.where(
 				c.stockCode.eq(stockCode),
-				q.quarterKey.between(fromQuarterKey, toQuarterKey),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(MetricValueType.ACTUAL),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				q.quarterKey.between(fromQuarterKey, toQuarterKey)
 			)
 			.orderBy(q.quarterKey.asc(), m.metricCode.asc())
 			.fetch()
@@ -98,9 +93,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QCompaniesEntity c = QCompaniesEntity.companiesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportMetricRowDto.class,
@@ -120,22 +113,15 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(MetricValueType.ACTUAL),
+				lv.scope.eq(LatestReportVersionScope.ALL)
+			)
 			.where(
 				c.stockCode.eq(stockCode),
 				q.quarterKey.between(fromQuarterKey, toQuarterKey),
-				m.metricCode.in(metricCodes),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(MetricValueType.ACTUAL),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				m.metricCode.in(metricCodes)
 			)
 			.orderBy(q.quarterKey.asc(), m.metricCode.asc())
 			.fetch()
@@ -157,9 +143,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QFilesEntity f = QFilesEntity.filesEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportPredictMetricRowDto.class,
@@ -182,23 +166,16 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(valueType),
+				lv.scope.eq(LatestReportVersionScope.ALL)
+			)
 			.leftJoin(rv.pdfFile, f)
 			.where(
 				c.stockCode.eq(stockCode),
 				cr.quarter.quarterKey.eq(quarterKey),
-				v.valueType.eq(valueType),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				v.valueType.eq(valueType)
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -220,9 +197,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QFilesEntity f = QFilesEntity.filesEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(ReportPredictMetricRowDto.class,
@@ -245,23 +220,16 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(valueType),
+				lv.scope.eq(LatestReportVersionScope.ALL)
+			)
 			.leftJoin(rv.pdfFile, f)
 			.where(
 				c.id.eq(companyId),
 				cr.quarter.quarterKey.eq(quarterKey),
-				v.valueType.eq(valueType),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				v.valueType.eq(valueType)
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -284,45 +252,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QMetricDescriptionEntity md = QMetricDescriptionEntity.metricDescriptionEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
-
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.valueType.eq(valueType),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.valueType.eq(valueType),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(CompanyOverviewMetricRowDto.class,
@@ -343,14 +273,17 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(valueType),
+				matchesRiskScope(lv, m)
+			)
 			.leftJoin(md).on(md.metric.eq(m).and(md.locale.eq(locale)))
 			.where(
 				c.id.eq(companyId),
 				q.id.eq(quarterId),
 				v.valueType.eq(valueType),
-				v.metricValue.isNotNull(),
-				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(latestRiskVersion))
-					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(latestNonRiskVersion)))
+				v.metricValue.isNotNull()
 			)
 			.orderBy(m.metricCode.asc())
 			.fetch()
@@ -373,43 +306,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
 		QMetricDescriptionEntity md = QMetricDescriptionEntity.metricDescriptionEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
-
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(CompanyOverviewMetricRowDto.class,
@@ -430,13 +327,16 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m)
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(v.valueType),
+				matchesRiskScope(lv, m)
+			)
 			.leftJoin(md).on(md.metric.eq(m).and(md.locale.eq(locale)))
 			.where(
 				c.stockCode.eq(stockCode),
 				q.quarterKey.between(fromQuarterKey, toQuarterKey),
-				v.metricValue.isNotNull(),
-				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(latestRiskVersion))
-					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(latestNonRiskVersion)))
+				v.metricValue.isNotNull()
 			)
 			.orderBy(q.quarterKey.asc(), m.metricCode.asc())
 			.fetch()
@@ -475,6 +375,41 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.fetch();
 	}
 
+	@Override
+	public List<RiskMetricValueProjection> findRiskMetricValuesByReportVersionIds(
+		Collection<Long> reportVersionIds,
+		MetricValueType valueType
+	) {
+		if (reportVersionIds == null || reportVersionIds.isEmpty()) {
+			return List.of();
+		}
+		QCompanyReportMetricValuesEntity v = QCompanyReportMetricValuesEntity.companyReportMetricValuesEntity;
+		QCompanyReportVersionsEntity rv = QCompanyReportVersionsEntity.companyReportVersionsEntity;
+		QCompanyReportsEntity cr = QCompanyReportsEntity.companyReportsEntity;
+		QMetricsEntity m = QMetricsEntity.metricsEntity;
+
+		return queryFactory
+			.select(Projections.constructor(RiskMetricValueDto.class,
+				rv.id,
+				v.metricValue
+			))
+			.from(v)
+			.join(v.reportVersion, rv)
+			.join(rv.companyReport, cr)
+			.join(v.metric, m)
+			.where(
+				rv.id.in(reportVersionIds),
+				v.quarter.id.eq(cr.quarter.id),
+				v.valueType.eq(valueType),
+				m.isRiskIndicator.isTrue(),
+				v.metricValue.isNotNull()
+			)
+			.fetch()
+			.stream()
+			.map(dto -> (RiskMetricValueProjection) dto)
+			.toList();
+	}
+
 	@Override
 	public List<MetricValueSampleProjection> findNonRiskActualMetricSamplesByQuarterId(
 		Long quarterId,
@@ -484,9 +419,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QCompanyReportVersionsEntity rv = QCompanyReportVersionsEntity.companyReportVersionsEntity;
 		QCompanyReportsEntity cr = QCompanyReportsEntity.companyReportsEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.select(Projections.constructor(MetricValueSampleDto.class,
@@ -497,24 +430,17 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(v.reportVersion, rv)
 			.join(rv.companyReport, cr)
 			.join(v.metric, m)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(valueType),
+				lv.scope.eq(LatestReportVersionScope.ALL)
+			)
 			.where(
 				cr.quarter.id.eq(quarterId),
 				v.quarter.id.eq(quarterId),
 				v.valueType.eq(valueType),
 				m.isRiskIndicator.isFalse(),
-				v.metricValue.isNotNull(),
-				rv.versionNo.eq(
-					JPAExpressions.select(rv2.versionNo.max())
-						.from(rv2)
-						.where(rv2.companyReport.eq(cr),
-							JPAExpressions.selectOne()
-								.from(v2)
-								.where(v2.reportVersion.eq(rv2),
-									v2.valueType.eq(valueType),
-									v2.metricValue.isNotNull()
-								).exists()
-						)
-				)
+				v.metricValue.isNotNull()
 			)
 			.fetch()
 			.stream()
@@ -533,45 +459,7 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		QCompaniesEntity c = QCompaniesEntity.companiesEntity;
 		QMetricsEntity m = QMetricsEntity.metricsEntity;
 		QQuartersEntity q = QQuartersEntity.quartersEntity;
-
-		QCompanyReportVersionsEntity rv2 = new QCompanyReportVersionsEntity("rv2");
-		QCompanyReportMetricValuesEntity v2 = new QCompanyReportMetricValuesEntity("v2");
-		QMetricsEntity m2 = new QMetricsEntity("m2");
-		QCompanyReportVersionsEntity rv3 = new QCompanyReportVersionsEntity("rv3");
-		QCompanyReportMetricValuesEntity v3 = new QCompanyReportMetricValuesEntity("v3");
-		QMetricsEntity m3 = new QMetricsEntity("m3");
-
-		var latestRiskVersion = JPAExpressions.select(rv2.versionNo.max())
-			.from(rv2)
-			.where(
-				rv2.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v2)
-					.join(v2.metric, m2)
-					.where(
-						v2.reportVersion.eq(rv2),
-						v2.valueType.eq(MetricValueType.ACTUAL),
-						v2.metricValue.isNotNull(),
-						m2.isRiskIndicator.isTrue()
-					)
-					.exists()
-			);
-
-		var latestNonRiskVersion = JPAExpressions.select(rv3.versionNo.max())
-			.from(rv3)
-			.where(
-				rv3.companyReport.eq(cr),
-				JPAExpressions.selectOne()
-					.from(v3)
-					.join(v3.metric, m3)
-					.where(
-						v3.reportVersion.eq(rv3),
-						v3.valueType.eq(MetricValueType.ACTUAL),
-						v3.metricValue.isNotNull(),
-						m3.isRiskIndicator.isFalse()
-					)
-					.exists()
-			);
+		QLatestReportVersionEntity lv = QLatestReportVersionEntity.latestReportVersionEntity;
 
 		return queryFactory
 			.selectFrom(v)
@@ -580,13 +468,16 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 			.join(cr.company, c)
 			.join(v.metric, m).fetchJoin()
 			.join(v.quarter, q)
+			.join(lv).on(
+				matchesLatestVersion(lv, cr, rv),
+				lv.valueType.eq(MetricValueType.ACTUAL),
+				matchesRiskScope(lv, m)
+			)
 			.where(
 				c.id.eq(companyId),
 				q.quarterKey.eq(quarterKey),
 				v.valueType.eq(MetricValueType.ACTUAL),
-				v.metricValue.isNotNull(),
-				m.isRiskIndicator.isTrue().and(rv.versionNo.eq(latestRiskVersion))
-					.or(m.isRiskIndicator.isFalse().and(rv.versionNo.eq(latestNonRiskVersion)))
+				v.metricValue.isNotNull()
 			)
 			.fetch();
 	}
@@ -615,6 +506,19 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		);
 	}
 
+	private static BooleanExpression matchesLatestVersion(
+		QLatestReportVersionEntity lv,
+		QCompanyReportsEntity cr,
+		QCompanyReportVersionsEntity rv
+	) {
+		return lv.companyReport.eq(cr).and(lv.versionNo.eq(rv.versionNo));
+	}
+
+	private static BooleanExpression matchesRiskScope(QLatestReportVersionEntity lv, QMetricsEntity m) {
+		return m.isRiskIndicator.isTrue().and(lv.scope.eq(LatestReportVersionScope.RISK))
+			.or(m.isRiskIndicator.isFalse().and(lv.scope.eq(LatestReportVersionScope.NON_RISK)));
+	}
+
 	@Getter
 	@RequiredArgsConstructor
 	public static class ReportMetricRowDto implements ReportMetricRowProjection {
@@ -653,6 +557,13 @@ public class CompanyReportMetricValuesRepositoryImpl implements CompanyReportMet
 		private final BigDecimal metricValue;
 	}
 
+	@Getter
+	@RequiredArgsConstructor
+	public static class RiskMetricValueDto implements RiskMetricValueProjection {
+		private final Long reportVersionId;
+		private final BigDecimal metricValue;
+	}
+
 	@Getter
 	@RequiredArgsConstructor
 	public static class CompanyOverviewMetricRowDto implements CompanyOverviewMetricRowProjection {
@@ -0,0 +1,68 @@
+package com.aivle.project.report.repository;
+
+import com.aivle.project.metric.entity.MetricValueType;
+import com.aivle.project.report.entity.LatestReportVersionScope;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보고서별 최신 지표 버전 프로젝션 갱신 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LatestReportVersionJdbcRepository {
+
+	private static final String RAISE_VERSION_SQL = """
+		INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+		VALUES (?, ?, ?, ?)
+		ON DUPLICATE KEY UPDATE
+			version_no = GREATEST(version_no, VALUES(version_no))
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 값 유형별 전체(ALL) 및 위험/비위험 범위의 최신 버전을 필요 시 끌어올린다.
+	 */
+	public void raiseVersion(
+		Long companyReportId,
+		MetricValueType valueType,
+		LatestReportVersionScope riskScope,
+		int versionNo
+	) {
+		if (companyReportId == null || valueType == null) {
+			return;
+		}
+		raiseVersions(List.of(new VersionRaise(companyReportId, valueType, riskScope, versionNo)));
+	}
+
+	/**
+	 * JPA 리스너를 거치지 않는 대량 적재 경로에서 여러 보고서의 최신 버전을 한 번에 갱신한다.
+	 */
+	public void raiseVersions(Collection<VersionRaise> raises) {
+		if (raises == null || raises.isEmpty()) {
+			return;
+		}
+		Set<List<Object>> rows = new LinkedHashSet<>();
+		for (VersionRaise raise : raises) {
+			rows.add(List.of(raise.companyReportId(), raise.valueType().name(), LatestReportVersionScope.ALL.name(),
+				raise.versionNo()));
+			rows.add(List.of(raise.companyReportId(), raise.valueType().name(), raise.riskScope().name(),
+				raise.versionNo()));
+		}
+		jdbcTemplate.batchUpdate(RAISE_VERSION_SQL, rows.stream().map(List::toArray).toList());
+	}
+
+	public record VersionRaise(
+		Long companyReportId,
+		MetricValueType valueType,
+		LatestReportVersionScope riskScope,
+		int versionNo
+	) {
+	}
+}
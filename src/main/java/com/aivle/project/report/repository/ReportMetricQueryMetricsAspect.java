@@ -0,0 +1,47 @@
+package com.aivle.project.report.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link CompanyReportMetricValuesRepositoryImpl} 쿼리별 실행 시간 지표.
+ *
+ * <p>태그는 메서드 이름(고정된 쿼리 수)과 성공 여부만 쓰므로 종목 코드나 분기 값으로 늘어나지 않는다.
+ */
+@Aspect
+@Component
+public class ReportMetricQueryMetricsAspect {
+
+	static final String TIMER = "report.metric.query";
+
+	private final MeterRegistry meterRegistry;
+
+	public ReportMetricQueryMetricsAspect(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+		this.meterRegistry = meterRegistryProvider.getIfAvailable();
+	}
+
+	@Around("execution(public * com.aivle.project.report.repository.CompanyReportMetricValuesRepositoryImpl.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (meterRegistry == null) {
+			return joinPoint.proceed();
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "error";
+		try {
+			Object result = joinPoint.proceed();
+			outcome = "success";
+			return result;
+		} finally {
+			sample.stop(Timer.builder(TIMER)
+				.description("리포트 지표 값 조회 쿼리 시간")
+				.tag("query", joinPoint.getSignature().getName())
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+}
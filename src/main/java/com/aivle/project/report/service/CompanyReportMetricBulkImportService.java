@@ -0,0 +1,263 @@
+package com.aivle.project.report.service;
+
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.common.util.GetOrCreateResolver;
+import com.aivle.project.metric.entity.MetricValueType;
+import com.aivle.project.quarter.entity.QuartersEntity;
+import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.dto.QuarterRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
+import com.aivle.project.report.dto.CompanyMetricValueCommand;
+import com.aivle.project.report.dto.ReportImportResult;
+import com.aivle.project.report.entity.LatestReportVersionScope;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.aivle.project.report.repository.CompanyReportMetricBulkJdbcRepository;
+import com.aivle.project.report.repository.CompanyReportMetricBulkJdbcRepository.MetricValueRow;
+import com.aivle.project.report.repository.CompanyReportMetricBulkJdbcRepository.ReportKey;
+import com.aivle.project.report.repository.CompanyReportMetricBulkJdbcRepository.VersionState;
+import com.aivle.project.report.repository.LatestReportVersionJdbcRepository;
+import com.aivle.project.report.repository.LatestReportVersionJdbcRepository.VersionRaise;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기업 보고서 지표 대량 적재 서비스.
+ *
+ * <p>{@link CompanyReportMetricImportService} 와 같은 규칙으로 적재하되, 기업/분기/지표/보고서/버전을
+ * 집합 단위로 한 번에 해석하고 지표 값은 JDBC 배치로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CompanyReportMetricBulkImportService {
+
+	private final CompaniesRepository companiesRepository;
+	private final QuartersRepository quartersRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
+	private final CompanyReportMetricBulkJdbcRepository companyReportMetricBulkJdbcRepository;
+	private final LatestReportVersionJdbcRepository latestReportVersionJdbcRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	public ReportImportResult importMetrics(int baseQuarterKey, List<CompanyMetricValueCommand> commands) {
+		if (commands == null || commands.isEmpty()) {
+			return ReportImportResult.empty();
+		}
+
+		long startedAt = System.nanoTime();
+		// 잘못된 기준 분기는 기업/지표 조회 전에 거부한다.
+		QuarterCodec.toIndex(baseQuarterKey);
+		Map<String, List<CompanyMetricValueCommand>> commandsByCompany = groupByCompany(commands);
+
+		Map<String, CompaniesEntity> companies = companiesRepository.findAllByStockCodeIn(commandsByCompany.keySet())
+			.stream()
+			.collect(Collectors.toMap(CompaniesEntity::getStockCode, Function.identity(), (left, right) -> left));
+		Set<String> metricCodes = commands.stream()
+			.filter(command -> command != null)
+			.map(command -> normalizeMetricCode(command.metricCode()))
+			.filter(code -> !code.isBlank())
+			.collect(Collectors.toSet());
+		Map<String, MetricRef> metrics = referenceDataRegistry.findMetricsByCode(metricCodes);
+		Map<Integer, Long> quarterIds = new HashMap<>();
+
+		int skippedCompanies = 0;
+		int skippedMetrics = 0;
+		int duplicates = 0;
+		Map<SeedKey, MetricValueSeed> seeds = new LinkedHashMap<>();
+
+		for (Map.Entry<String, List<CompanyMetricValueCommand>> entry : commandsByCompany.entrySet()) {
+			CompaniesEntity company = companies.get(entry.getKey());
+			if (company == null) {
+				skippedCompanies++;
+				log.info("지표 적재 스킵: 기업 코드 미존재 (stockCode={})", entry.getKey());
+				continue;
+			}
+
+			for (CompanyMetricValueCommand command : entry.getValue()) {
+				MetricRef metric = metrics.get(normalizeMetricCode(command.metricCode()));
+				if (metric == null) {
+					skippedMetrics++;
+					continue;
+				}
+				int quarterKey = QuarterCodec.offset(baseQuarterKey, command.quarterOffset());
+				long quarterId = quarterIds.computeIfAbsent(quarterKey, this::resolveQuarterId);
+				SeedKey key = new SeedKey(company.getId(), quarterId, metric.id());
+				// 같은 보고서 버전에 동일 지표가 두 번 들어가면 유니크 키에 걸리므로 먼저 들어온 값을 유지한다.
+				if (seeds.putIfAbsent(key, new MetricValueSeed(company, metric, command.metricValue())) != null) {
+					duplicates++;
+				}
+			}
+		}
+
+		if (seeds.isEmpty()) {
+			log.info("지표 대량 적재 스킵: 유효 지표 없음 (baseQuarterKey={})", baseQuarterKey);
+			return new ReportImportResult(commands.size(), 0, skippedCompanies, skippedMetrics);
+		}
+
+		Set<ReportKey> reportKeys = seeds.keySet().stream()
+			.map(key -> new ReportKey(key.companyId(), key.quarterId()))
+			.collect(Collectors.toCollection(LinkedHashSet::new));
+		Map<ReportKey, Long> reportIds = companyReportMetricBulkJdbcRepository.upsertAndLockReports(reportKeys);
+		Map<Long, ResolvedVersion> versions = resolveVersions(reportIds.values());
+
+		List<MetricValueRow> rows = new ArrayList<>(seeds.size());
+		Set<VersionRaise> raises = new HashSet<>();
+		Set<Long> changedCompanyIds = new HashSet<>();
+		Set<String> changedStockCodes = new HashSet<>();
+		for (Map.Entry<SeedKey, MetricValueSeed> entry : seeds.entrySet()) {
+			SeedKey key = entry.getKey();
+			MetricValueSeed seed = entry.getValue();
+			long reportId = reportIds.get(new ReportKey(key.companyId(), key.quarterId()));
+			ResolvedVersion version = versions.get(reportId);
+			rows.add(new MetricValueRow(version.versionId(), key.metricId(), key.quarterId(), seed.metricValue()));
+			if (seed.metricValue() != null) {
+				// 빈 값만 들어온 기업은 최신 실적 분기가 바뀌지 않으므로 변경 대상에서 뺀다.
+				changedCompanyIds.add(key.companyId());
+				changedStockCodes.add(seed.company().getStockCode());
+				raises.add(new VersionRaise(
+					reportId,
+					MetricValueType.ACTUAL,
+					LatestReportVersionScope.of(seed.metric().riskIndicator()),
+					version.versionNo()
+				));
+			}
+		}
+
+		companyReportMetricBulkJdbcRepository.insertMetricValues(rows);
+		// JDBC 경로는 엔티티 리스너를 거치지 않으므로 최신 버전 프로젝션을 직접 갱신한다.
+		latestReportVersionJdbcRepository.raiseVersions(raises);
+		if (!changedCompanyIds.isEmpty()) {
+			eventPublisher.publishEvent(new ActualMetricsChangedEvent(changedCompanyIds, changedStockCodes));
+		}
+
+		log.info(
+			"지표 대량 적재 완료: baseQuarterKey={}, total={}, saved={}, reports={}, skippedCompanies={}, skippedMetrics={}, duplicates={}, elapsedMs={}",
+			baseQuarterKey,
+			commands.size(),
+			rows.size(),
+			reportIds.size(),
+			skippedCompanies,
+			skippedMetrics,
+			duplicates,
+			(System.nanoTime() - startedAt) / 1_000_000
+		);
+		return new ReportImportResult(commands.size(), rows.size(), skippedCompanies, skippedMetrics);
+	}
+
+	/**
+	 * 보고서별로 ACTUAL 값이 비어 있는 최신 비공개 버전은 재사용하고, 없으면 다음 번호로 새 버전을 만든다.
+	 */
+	private Map<Long, ResolvedVersion> resolveVersions(Collection<Long> reportIds) {
+		Map<Long, VersionState> states = companyReportMetricBulkJdbcRepository.findVersionStates(reportIds);
+		Set<Long> candidateIds = states.values().stream()
+			.map(VersionState::latestUnpublishedVersionId)
+			.filter(id -> id != null)
+			.collect(Collectors.toSet());
+		Set<Long> filledIds = companyReportMetricBulkJdbcRepository.findVersionIdsWithActualValues(candidateIds);
+
+		Map<Long, ResolvedVersion> resolved = new HashMap<>();
+		Map<Long, Integer> newVersionNos = new HashMap<>();
+		for (Long reportId : reportIds) {
+			VersionState state = states.getOrDefault(reportId, VersionState.EMPTY);
+			Long candidateId = state.latestUnpublishedVersionId();
+			if (candidateId != null && !filledIds.contains(candidateId)) {
+				resolved.put(reportId, new ResolvedVersion(candidateId, state.latestUnpublishedVersionNo()));
+			} else {
+				newVersionNos.put(reportId, state.maxVersionNo() + 1);
+			}
+		}
+
+		Map<Long, Long> createdIds = companyReportMetricBulkJdbcRepository.insertVersions(
+			newVersionNos,
+			LocalDateTime.now()
+		);
+		newVersionNos.forEach((reportId, versionNo) ->
+			resolved.put(reportId, new ResolvedVersion(createdIds.get(reportId), versionNo)));
+		return resolved;
+	}
+
+	private Map<String, List<CompanyMetricValueCommand>> groupByCompany(List<CompanyMetricValueCommand> commands) {
+		Map<String, List<CompanyMetricValueCommand>> grouped = new LinkedHashMap<>();
+		for (CompanyMetricValueCommand command : commands) {
+			if (command == null) {
+				continue;
+			}
+			String stockCode = normalizeStockCode(command.stockCode());
+			if (stockCode.isBlank()) {
+				continue;
+			}
+			grouped.computeIfAbsent(stockCode, key -> new ArrayList<>()).add(command);
+		}
+		return grouped;
+	}
+
+	private Long resolveQuarterId(int quarterKey) {
+		return referenceDataRegistry.findQuarter(quarterKey)
+			.map(QuarterRef::id)
+			.orElseGet(() -> getOrCreateQuarter(quarterKey).getId());
+	}
+
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
+		return GetOrCreateResolver.resolve(
+			() -> quartersRepository.findByQuarterKey(quarterKey),
+			() -> quartersRepository.save(QuartersEntity.create(
+				QuarterCodec.yearOf(index),
+				QuarterCodec.quarterOf(index),
+				quarterKey,
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
+			)),
+			() -> quartersRepository.findByQuarterKey(quarterKey)
+		);
+	}
+
+	private String normalizeMetricCode(String metricCode) {
+		if (metricCode == null) {
+			return "";
+		}
+		return metricCode.trim();
+	}
+
+	private String normalizeStockCode(String stockCode) {
+		if (stockCode == null) {
+			return "";
+		}
+		String trimmed = stockCode.trim();
+		if (trimmed.isBlank()) {
+			return "";
+		}
+		if (trimmed.length() < 6) {
+			return "0".repeat(6 - trimmed.length()) + trimmed;
+		}
+		return trimmed;
+	}
+
+	private record SeedKey(long companyId, long quarterId, long metricId) {
+	}
+
+	private record MetricValueSeed(CompaniesEntity company, MetricRef metric, BigDecimal metricValue) {
+	}
+
+	private record ResolvedVersion(Long versionId, int versionNo) {
+	}
+}
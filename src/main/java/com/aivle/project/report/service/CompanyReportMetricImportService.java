@@ -8,24 +8,29 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.dto.CompanyMetricValueCommand;
 import com.aivle.project.report.dto.ReportImportResult;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,10 +45,12 @@ public class CompanyReportMetricImportService {
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
 	private final MetricsRepository metricsRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public ReportImportResult importMetrics(int baseQuarterKey, List<CompanyMetricValueCommand> commands) {
@@ -52,17 +59,18 @@ public class CompanyReportMetricImportService {
 		}
 
 		log.info("지표 적재 시작: baseQuarterKey={}, commands={}", baseQuarterKey, commands.size());
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(baseQuarterKey);
-		QuartersEntity baseQuarterEntity = getOrCreateQuarter(baseQuarterKey, baseQuarter);
+		QuartersEntity baseQuarterEntity = getOrCreateQuarter(baseQuarterKey);
 
 		Map<String, List<CompanyMetricValueCommand>> commandsByCompany = groupByCompany(commands);
-		Map<String, MetricsEntity> metricCache = new HashMap<>();
+		Map<String, MetricsEntity> metricsByCode = findMetrics(commands);
 		Map<Integer, QuartersEntity> quarterCache = new HashMap<>();
 		quarterCache.put(baseQuarterKey, baseQuarterEntity);
 
 		int savedValues = 0;
 		int skippedCompanies = 0;
 		int skippedMetrics = 0;
+		Set<Long> changedCompanyIds = new HashSet<>();
+		Set<String> changedStockCodes = new HashSet<>();
 
 		for (Map.Entry<String, List<CompanyMetricValueCommand>> entry : commandsByCompany.entrySet()) {
 			String stockCode = entry.getKey();
@@ -88,7 +96,7 @@ public class CompanyReportMetricImportService {
 					continue;
 				}
 
-				MetricsEntity metric = metricCache.computeIfAbsent(metricCode, this::findMetric);
+				MetricsEntity metric = metricsByCode.get(metricCode);
 				if (metric == null) {
 					skippedMetrics++;
 					log.info(
@@ -102,11 +110,8 @@ public class CompanyReportMetricImportService {
 					continue;
 				}
 
-				int quarterKey = toQuarterKey(baseQuarter, command.quarterOffset());
-				QuartersEntity quarter = quarterCache.computeIfAbsent(
-					quarterKey,
-					key -> getOrCreateQuarter(key, QuarterCalculator.parseQuarterKey(key))
-				);
+				int quarterKey = QuarterCodec.offset(baseQuarterKey, command.quarterOffset());
+				QuartersEntity quarter = quarterCache.computeIfAbsent(quarterKey, this::getOrCreateQuarter);
 
 				seedsByQuarter.computeIfAbsent(quarter.getId(), ignored -> new ArrayList<>()).add(new MetricValueSeed(
 					metric,
@@ -165,11 +170,18 @@ public class CompanyReportMetricImportService {
 
 				companyReportMetricValuesRepository.saveAll(values);
 				savedValues += values.size();
+				if (!values.isEmpty()) {
+					changedCompanyIds.add(company.get().getId());
+					changedStockCodes.add(stockCode);
+				}
 				if (duplicates > 0) {
 					log.info("지표 적재 중복 요약: stockCode={}, quarterKey={}, duplicates={}", stockCode, quarter.getQuarterKey(), duplicates);
 				}
 			}
 		}
+		if (!changedCompanyIds.isEmpty()) {
+			eventPublisher.publishEvent(new ActualMetricsChangedEvent(changedCompanyIds, changedStockCodes));
+		}
 
 		log.info(
 			"지표 적재 완료: baseQuarterKey={}, total={}, saved={}, skippedCompanies={}, skippedMetrics={}",
@@ -211,8 +223,31 @@ public class CompanyReportMetricImportService {
 		return grouped;
 	}
 
-	private MetricsEntity findMetric(String metricCode) {
-		return metricsRepository.findByMetricCode(metricCode).orElse(null);
+	/**
+	 * 청크에 나온 지표 코드를 레지스트리에서 id 로 바꾼 뒤 엔티티를 한 번에 읽는다.
+	 * 지표 값 저장 시 최신 버전 리스너가 위험 지표 여부를 읽으므로 프록시가 아닌 로딩된 엔티티를 쓴다.
+	 */
+	private Map<String, MetricsEntity> findMetrics(List<CompanyMetricValueCommand> commands) {
+		List<String> metricCodes = commands.stream()
+			.map(command -> normalizeMetricCode(command.metricCode()))
+			.filter(code -> !code.isBlank())
+			.distinct()
+			.toList();
+		Map<String, MetricRef> refs = referenceDataRegistry.findMetricsByCode(metricCodes);
+		if (refs.isEmpty()) {
+			return Map.of();
+		}
+		Map<Long, MetricsEntity> entities = new HashMap<>();
+		metricsRepository.findAllById(refs.values().stream().map(MetricRef::id).distinct().toList())
+			.forEach(entity -> entities.put(entity.getId(), entity));
+		Map<String, MetricsEntity> metricsByCode = new HashMap<>();
+		refs.forEach((code, ref) -> {
+			MetricsEntity entity = entities.get(ref.id());
+			if (entity != null) {
+				metricsByCode.put(code, entity);
+			}
+		});
+		return metricsByCode;
 	}
 
 	private CompanyReportsEntity getOrCreateReport(CompaniesEntity company, QuartersEntity quarter) {
@@ -227,25 +262,21 @@ public class CompanyReportMetricImportService {
 		return companyReportVersionIssueService.issueNextVersion(report, false, null);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
 		return GetOrCreateResolver.resolve(
 			() -> quartersRepository.findByQuarterKey(quarterKey),
 			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
+				QuarterCodec.yearOf(index),
+				QuarterCodec.quarterOf(index),
 				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)),
 			() -> quartersRepository.findByQuarterKey(quarterKey)
 		);
 	}
 
-	private int toQuarterKey(YearQuarter baseQuarter, int offset) {
-		YearQuarter targetQuarter = QuarterCalculator.offset(baseQuarter, offset);
-		return targetQuarter.year() * 10 + targetQuarter.quarter();
-	}
-
 	private String normalizeMetricCode(String metricCode) {
 		if (metricCode == null) {
 			return "";
@@ -1,6 +1,7 @@
 package com.aivle.project.report.service;
 
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.metric.entity.MetricValueType;
@@ -8,8 +9,9 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.dto.ReportPredictRequest;
 import com.aivle.project.report.dto.ReportPredictResult;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
@@ -19,12 +21,15 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,10 +44,12 @@ public class CompanyReportMetricPredictService {
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
 	private final MetricsRepository metricsRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public ReportPredictResult importPredictedMetrics(ReportPredictRequest request) {
@@ -63,8 +70,7 @@ public class CompanyReportMetricPredictService {
 		}
 
 		int quarterKey = request.quarterKey();
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = getOrCreateQuarter(quarterKey);
 
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
@@ -74,8 +80,9 @@ public class CompanyReportMetricPredictService {
 			.map(this::normalizeMetricNameEn)
 			.filter(name -> !name.isBlank())
 			.toList();
-		Map<String, MetricsEntity> metricMap = metricsRepository.findAllByMetricNameEnIn(metricNameEns).stream()
-			.collect(Collectors.toMap(MetricsEntity::getMetricNameEn, metric -> metric));
+		Map<String, MetricRef> metricMap = referenceDataRegistry.findMetricsByNameEn(metricNameEns);
+		// 지표 엔티티는 한 번에 읽어 두어 값 저장 시 지표마다 조회가 나가지 않게 한다.
+		Map<Long, MetricsEntity> metricEntities = findMetricEntities(metricMap.values());
 
 		int skippedMetrics = 0;
 		List<CompanyReportMetricValuesEntity> values = new ArrayList<>();
@@ -87,8 +94,9 @@ public class CompanyReportMetricPredictService {
 				continue;
 			}
 
-			MetricsEntity metric = metricMap.get(metricNameEn);
-			if (metric == null) {
+			MetricRef metric = metricMap.get(metricNameEn);
+			MetricsEntity metricEntity = metric == null ? null : metricEntities.get(metric.id());
+			if (metricEntity == null) {
 				skippedMetrics++;
 				log.info(
 					"예측값 적재 스킵: metric_name_en 미존재 (metricNameEn={}, stockCode={})",
@@ -100,7 +108,7 @@ public class CompanyReportMetricPredictService {
 
 			values.add(CompanyReportMetricValuesEntity.create(
 				version,
-				metric,
+				metricEntity,
 				quarter,
 				entry.getValue(),
 				MetricValueType.PREDICTED
@@ -108,6 +116,9 @@ public class CompanyReportMetricPredictService {
 		}
 
 		companyReportMetricValuesRepository.saveAll(values);
+		if (!values.isEmpty()) {
+			eventPublisher.publishEvent(new CompanyOverviewChangedEvent(company.get().getId()));
+		}
 		log.info(
 			"예측값 적재 완료: stockCode={}, quarterKey={}, total={}, saved={}, skippedMetrics={}",
 			stockCode,
@@ -119,6 +130,15 @@ public class CompanyReportMetricPredictService {
 		return new ReportPredictResult(request.metrics().size(), values.size(), skippedMetrics, 0, version.getVersionNo());
 	}
 
+	private Map<Long, MetricsEntity> findMetricEntities(Collection<MetricRef> metrics) {
+		List<Long> ids = metrics.stream().map(MetricRef::id).distinct().toList();
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+		return metricsRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(MetricsEntity::getId, Function.identity()));
+	}
+
 	private CompanyReportVersionsEntity resolveMetricVersion(CompanyReportsEntity report) {
 		return companyReportVersionsRepository.findTopByCompanyReportAndPublishedFalseOrderByVersionNoDesc(report)
 			.filter(existing -> !companyReportMetricValuesRepository
@@ -138,15 +158,16 @@ public class CompanyReportMetricPredictService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
 		return GetOrCreateResolver.resolve(
 			() -> quartersRepository.findByQuarterKey(quarterKey),
 			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
+				QuarterCodec.yearOf(index),
+				QuarterCodec.quarterOf(index),
 				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)),
 			() -> quartersRepository.findByQuarterKey(quarterKey)
 		);
@@ -1,6 +1,7 @@
 package com.aivle.project.report.service;
 
 import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.common.util.GetOrCreateResolver;
 import com.aivle.project.metric.entity.MetricValueType;
@@ -8,23 +9,29 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.dto.ReportPublishResult;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,10 +46,12 @@ public class CompanyReportMetricPublishService {
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
 	private final MetricsRepository metricsRepository;
+	private final ReferenceDataRegistry referenceDataRegistry;
 	private final CompanyReportsRepository companyReportsRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 	private final CompanyReportVersionIssueService companyReportVersionIssueService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public ReportPublishResult publishMetrics(
@@ -67,19 +76,19 @@ public class CompanyReportMetricPublishService {
 			return new ReportPublishResult(metrics.size(), 0, 0, 1, null);
 		}
 
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = getOrCreateQuarter(quarterKey);
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
 		CompanyReportVersionsEntity version = resolveMetricVersion(report, valueType);
 
-		Map<String, MetricsEntity> metricMap = metricsRepository.findAllByMetricNameEnIn(
-				metrics.keySet().stream()
-					.map(this::normalizeMetricNameEn)
-					.filter(name -> !name.isBlank())
-					.toList()
-			).stream()
-			.collect(Collectors.toMap(MetricsEntity::getMetricNameEn, metric -> metric));
+		Map<String, MetricRef> metricMap = referenceDataRegistry.findMetricsByNameEn(
+			metrics.keySet().stream()
+				.map(this::normalizeMetricNameEn)
+				.filter(name -> !name.isBlank())
+				.toList()
+		);
+		// 지표 엔티티는 한 번에 읽어 두어 값 저장 시 지표마다 조회가 나가지 않게 한다.
+		Map<Long, MetricsEntity> metricEntities = findMetricEntities(metricMap.values());
 
 		List<CompanyReportMetricValuesEntity> values = new ArrayList<>();
 		int skippedMetrics = 0;
@@ -91,8 +100,9 @@ public class CompanyReportMetricPublishService {
 				continue;
 			}
 
-			MetricsEntity metric = metricMap.get(metricNameEn);
-			if (metric == null) {
+			MetricRef metric = metricMap.get(metricNameEn);
+			MetricsEntity metricEntity = metric == null ? null : metricEntities.get(metric.id());
+			if (metricEntity == null) {
 				skippedMetrics++;
 				log.info(
 					"보고서 발행 스킵: metric_name_en 미존재 (metricNameEn={}, stockCode={})",
@@ -104,7 +114,7 @@ public class CompanyReportMetricPublishService {
 
 			values.add(CompanyReportMetricValuesEntity.create(
 				version,
-				metric,
+				metricEntity,
 				quarter,
 				entry.getValue(),
 				valueType
@@ -112,6 +122,14 @@ public class CompanyReportMetricPublishService {
 		}
 
 		companyReportMetricValuesRepository.saveAll(values);
+		if (valueType == MetricValueType.ACTUAL && !values.isEmpty()) {
+			eventPublisher.publishEvent(new ActualMetricsChangedEvent(
+				Set.of(company.get().getId()),
+				Set.of(normalizedStockCode)
+			));
+		} else if (!values.isEmpty()) {
+			eventPublisher.publishEvent(new CompanyOverviewChangedEvent(company.get().getId()));
+		}
 
 		log.info(
 			"보고서 지표 저장 완료: stockCode={}, quarterKey={}, valueType={}, total={}, saved={}, skippedMetrics={}, versionNo={}",
@@ -132,6 +150,15 @@ public class CompanyReportMetricPublishService {
 		);
 	}
 
+	private Map<Long, MetricsEntity> findMetricEntities(Collection<MetricRef> metrics) {
+		List<Long> ids = metrics.stream().map(MetricRef::id).distinct().toList();
+		if (ids.isEmpty()) {
+			return Map.of();
+		}
+		return metricsRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(MetricsEntity::getId, Function.identity()));
+	}
+
 	private CompanyReportVersionsEntity resolveMetricVersion(CompanyReportsEntity report, MetricValueType valueType) {
 		return companyReportVersionsRepository.findTopByCompanyReportAndPublishedFalseOrderByVersionNoDesc(report)
 			.filter(existing -> !companyReportMetricValuesRepository
@@ -151,15 +178,16 @@ public class CompanyReportMetricPublishService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
 		return GetOrCreateResolver.resolve(
 			() -> quartersRepository.findByQuarterKey(quarterKey),
 			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
+				QuarterCodec.yearOf(index),
+				QuarterCodec.quarterOf(index),
 				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)),
 			() -> quartersRepository.findByQuarterKey(quarterKey)
 		);
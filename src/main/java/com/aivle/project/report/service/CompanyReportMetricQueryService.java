@@ -1,6 +1,6 @@
 package com.aivle.project.report.service;
 
-import com.aivle.project.quarter.support.QuarterCalculator;
+import com.aivle.project.quarter.support.QuarterCodec;
 import com.aivle.project.file.entity.FilesEntity;
 import com.aivle.project.metric.entity.MetricValueType;
 import com.aivle.project.report.dto.ReportLatestPredictResponse;
@@ -191,7 +191,7 @@ public class CompanyReportMetricQueryService {
 	}
 
 	private void validateQuarterKey(int quarterKey) {
-		QuarterCalculator.parseQuarterKey(quarterKey);
+		QuarterCodec.toIndex(quarterKey);
 	}
 
 	private String normalizeStockCode(String stockCode) {
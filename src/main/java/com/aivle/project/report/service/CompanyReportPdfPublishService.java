@@ -13,8 +13,7 @@ import com.aivle.project.file.storage.StoredFile;
 import com.aivle.project.file.validator.FileValidator;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
-import com.aivle.project.quarter.support.QuarterCalculator;
-import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.quarter.support.QuarterCodec;
 import com.aivle.project.report.dto.ReportPdfPublishResult;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
@@ -60,8 +59,7 @@ public class CompanyReportPdfPublishService {
 
 		validatePdf(pdfFile);
 
-		YearQuarter baseQuarter = QuarterCalculator.parseQuarterKey(quarterKey);
-		QuartersEntity quarter = getOrCreateQuarter(quarterKey, baseQuarter);
+		QuartersEntity quarter = getOrCreateQuarter(quarterKey);
 
 		CompanyReportsEntity report = getOrCreateReport(company.get(), quarter);
 
@@ -97,15 +95,16 @@ public class CompanyReportPdfPublishService {
 		);
 	}
 
-	private QuartersEntity getOrCreateQuarter(int quarterKey, YearQuarter yearQuarter) {
+	private QuartersEntity getOrCreateQuarter(int quarterKey) {
+		int index = QuarterCodec.toIndex(quarterKey);
 		return GetOrCreateResolver.resolve(
 			() -> quartersRepository.findByQuarterKey(quarterKey),
 			() -> quartersRepository.save(QuartersEntity.create(
-				yearQuarter.year(),
-				yearQuarter.quarter(),
+				QuarterCodec.yearOf(index),
+				QuarterCodec.quarterOf(index),
 				quarterKey,
-				QuarterCalculator.startDate(yearQuarter),
-				QuarterCalculator.endDate(yearQuarter)
+				QuarterCodec.startDate(quarterKey),
+				QuarterCodec.endDate(quarterKey)
 			)),
 			() -> quartersRepository.findByQuarterKey(quarterKey)
 		);
@@ -0,0 +1,212 @@
+package com.aivle.project.report.service;
+
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최신 ACTUAL 분기 조회 인메모리 캐시.
+ *
+ * <p>실적 지표 적재 트랜잭션이 커밋되면 해당 기업 항목을 무효화한다.
+ * 적재 서비스를 거치지 않는 쓰기에 대비해 TTL 을 함께 둔다.
+ */
+@Slf4j
+@Component
+public class LatestActualQuarterCache {
+
+	static final String CACHE_NAME = "latestActualQuarter";
+
+	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final boolean enabled;
+	private final int maxSize;
+	private final Duration ttl;
+	private final Clock clock;
+	private final Map<CacheKey, CacheEntry> entries;
+	// 무효화가 일어날 때마다 증가시켜, 무효화 이전에 읽은 값이 다시 적재되지 않도록 한다.
+	private final AtomicLong generation = new AtomicLong();
+	private final Counter hitCounter;
+	private final Counter missCounter;
+	private final Counter evictionCounter;
+
+	public LatestActualQuarterCache(
+		CompanyReportMetricValuesRepository companyReportMetricValuesRepository,
+		ObjectProvider<MeterRegistry> meterRegistryProvider,
+		@Value("${app.report.latest-quarter-cache.enabled:true}") boolean enabled,
+		@Value("${app.report.latest-quarter-cache.max-size:2000}") int maxSize,
+		@Value("${app.report.latest-quarter-cache.ttl:10m}") Duration ttl
+	) {
+		this(companyReportMetricValuesRepository, meterRegistryProvider.getIfAvailable(), enabled, maxSize, ttl,
+			Clock.systemUTC());
+	}
+
+	LatestActualQuarterCache(
+		CompanyReportMetricValuesRepository companyReportMetricValuesRepository,
+		MeterRegistry meterRegistry,
+		boolean enabled,
+		int maxSize,
+		Duration ttl,
+		Clock clock
+	) {
+		this.companyReportMetricValuesRepository = companyReportMetricValuesRepository;
+		this.enabled = enabled && maxSize > 0;
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+				boolean overflow = size() > LatestActualQuarterCache.this.maxSize;
+				if (overflow) {
+					increment(LatestActualQuarterCache.this.evictionCounter);
+				}
+				return overflow;
+			}
+		};
+
+		if (meterRegistry == null) {
+			this.hitCounter = null;
+			this.missCounter = null;
+			this.evictionCounter = null;
+			return;
+		}
+		this.hitCounter = Counter.builder("cache.gets")
+			.tag("cache", CACHE_NAME)
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("cache.gets")
+			.tag("cache", CACHE_NAME)
+			.tag("result", "miss")
+			.register(meterRegistry);
+		this.evictionCounter = Counter.builder("cache.evictions")
+			.tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+		Gauge.builder("cache.size", this, LatestActualQuarterCache::size)
+			.tag("cache", CACHE_NAME)
+			.register(meterRegistry);
+	}
+
+	public Optional<Integer> findMaxActualQuarterKeyByStockCode(String stockCode) {
+		return lookup(
+			new CacheKey(LookupType.STOCK_CODE, List.of(String.valueOf(stockCode))),
+			() -> companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode(stockCode)
+		);
+	}
+
+	public Optional<Integer> findMaxActualQuarterKeyByCompanyId(Long companyId) {
+		return lookup(
+			new CacheKey(LookupType.COMPANY_ID, List.of(String.valueOf(companyId))),
+			() -> companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId)
+		);
+	}
+
+	public Optional<Integer> findMaxActualQuarterKeyByStockCodes(Collection<String> stockCodes) {
+		List<String> normalized = stockCodes.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.sorted()
+			.toList();
+		return lookup(
+			new CacheKey(LookupType.STOCK_CODES, normalized),
+			() -> companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCodes(normalized)
+		);
+	}
+
+	/**
+	 * 실적 적재 커밋 이후 해당 기업의 항목을 무효화한다. 이 캐시를 거쳐 만든 상위 캐시보다 먼저 비운다.
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onActualMetricsChanged(ActualMetricsChangedEvent event) {
+		if (!enabled || event.isEmpty()) {
+			return;
+		}
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.keySet().removeIf(key -> key.matches(event));
+		}
+		log.debug("최신 분기 캐시 무효화: companyIds={}, stockCodes={}", event.companyIds(), event.stockCodes());
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private Optional<Integer> lookup(CacheKey key, Supplier<Optional<Integer>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		long now = clock.millis();
+		long observedGeneration;
+		synchronized (entries) {
+			CacheEntry cached = entries.get(key);
+			if (cached != null && cached.expiresAt() > now) {
+				increment(hitCounter);
+				return Optional.ofNullable(cached.quarterKey());
+			}
+			if (cached != null) {
+				entries.remove(key);
+			}
+			observedGeneration = generation.get();
+		}
+
+		increment(missCounter);
+		Optional<Integer> loaded = loader.get();
+		synchronized (entries) {
+			// 조회 도중 무효화가 있었다면 커밋 이전 값일 수 있으므로 적재하지 않는다.
+			if (generation.get() == observedGeneration) {
+				entries.put(key, new CacheEntry(loaded.orElse(null), now + ttl.toMillis()));
+			}
+		}
+		return loaded;
+	}
+
+	private static void increment(Counter counter) {
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	private enum LookupType {
+		STOCK_CODE,
+		COMPANY_ID,
+		STOCK_CODES
+	}
+
+	private record CacheKey(LookupType type, List<String> values) {
+
+		boolean matches(ActualMetricsChangedEvent event) {
+			return switch (type) {
+				case COMPANY_ID -> event.companyIds().stream()
+					.map(String::valueOf)
+					.anyMatch(values::contains);
+				case STOCK_CODE, STOCK_CODES -> values.stream().anyMatch(event.stockCodes()::contains);
+			};
+		}
+	}
+
+	private record CacheEntry(Integer quarterKey, long expiresAt) {
+	}
+}
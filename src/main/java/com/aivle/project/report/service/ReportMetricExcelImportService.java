@@ -0,0 +1,48 @@
+package com.aivle.project.report.service;
+
+import com.aivle.project.report.dto.ReportImportResult;
+import com.aivle.project.report.importer.ExcelMetricParser;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 엑셀 지표 파일 적재 서비스.
+ *
+ * <p>파싱한 청크를 바로 적재하되 파일 전체를 하나의 트랜잭션으로 묶는다.
+ * 뒤 청크가 실패하면 앞 청크까지 롤백되고, 실적 변경 이벤트는 커밋 이후에만 처리된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportMetricExcelImportService {
+
+	private final ExcelMetricParser excelMetricParser;
+	private final CompanyReportMetricImportService companyReportMetricImportService;
+	private final CompanyReportMetricBulkImportService companyReportMetricBulkImportService;
+	private final EntityManager entityManager;
+
+	@Transactional(rollbackFor = IOException.class)
+	public ReportImportResult importExcel(int quarterKey, MultipartFile file, boolean bulk) throws IOException {
+		AtomicReference<ReportImportResult> result = new AtomicReference<>(ReportImportResult.empty());
+		excelMetricParser.parse(
+			file,
+			ExcelMetricParser.DEFAULT_CHUNK_ROWS,
+			chunk -> {
+				ReportImportResult chunkResult = bulk
+					? companyReportMetricBulkImportService.importMetrics(quarterKey, chunk)
+					: companyReportMetricImportService.importMetrics(quarterKey, chunk);
+				result.set(result.get().plus(chunkResult));
+				// 청크마다 영속성 컨텍스트를 비워 트랜잭션이 길어져도 메모리 사용량이 파일 크기에 비례하지 않게 한다.
+				entityManager.flush();
+				entityManager.clear();
+			}
+		);
+		return result.get();
+	}
+}
@@ -0,0 +1,59 @@
+package com.aivle.project.risk.repository;
+
+import com.aivle.project.risk.dto.RiskAggregationResult;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 위험도 요약 일괄 저장용 JDBC 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RiskScoreSummaryJdbcRepository {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * (기업, 분기, 보고서 버전) 기준으로 위험도 요약을 한 번의 배치로 추가하거나 갱신한다.
+	 */
+	public void upsertAll(List<RiskAggregationResult> results, LocalDateTime calculatedAt) {
+		if (results == null || results.isEmpty()) {
+			return;
+		}
+		Timestamp calculated = Timestamp.valueOf(calculatedAt);
+		jdbcTemplate.batchUpdate(
+			"""
+				INSERT INTO risk_score_summaries (
+					company_id, quarter_id, report_version_id, risk_score, risk_level,
+					risk_metrics_count, risk_metrics_avg, calculated_at
+				)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+				ON DUPLICATE KEY UPDATE
+					risk_score = VALUES(risk_score),
+					risk_level = VALUES(risk_level),
+					risk_metrics_count = VALUES(risk_metrics_count),
+					risk_metrics_avg = VALUES(risk_metrics_avg),
+					calculated_at = VALUES(calculated_at),
+					updated_at = CURRENT_TIMESTAMP
+				""",
+			results,
+			BATCH_SIZE,
+			(ps, result) -> {
+				ps.setLong(1, result.companyId());
+				ps.setLong(2, result.quarterId());
+				ps.setLong(3, result.reportVersionId());
+				ps.setBigDecimal(4, result.riskScore());
+				ps.setString(5, result.riskLevel().name());
+				ps.setInt(6, result.riskMetricsCount());
+				ps.setBigDecimal(7, result.riskMetricsAvg());
+				ps.setTimestamp(8, calculated);
+			}
+		);
+	}
+}
@@ -2,53 +2,100 @@ package com.aivle.project.risk.service;
 
 import com.aivle.project.risk.dto.RiskScoreBatchTargetProjection;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 모든 기업-분기의 최신 보고서 버전을 대상으로 위험도 요약을 배치 계산한다.
+ *
+ * <p>페이지 단위로 위험 지표 값을 한 번에 조회하고 한 번의 배치로 저장한다. {@code risk.batch.parallelism} 이
+ * 1보다 크면 페이지들을 여러 워커가 나눠 처리한다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class RiskScoreBatchService {
 
 	private static final int DEFAULT_PAGE_SIZE = 500;
 
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
 	private final RiskScoreCalculationService riskScoreCalculationService;
+	private final int parallelism;
+
+	public RiskScoreBatchService(
+		CompanyReportVersionsRepository companyReportVersionsRepository,
+		RiskScoreCalculationService riskScoreCalculationService,
+		@Value("${risk.batch.parallelism:1}") int parallelism
+	) {
+		this.companyReportVersionsRepository = companyReportVersionsRepository;
+		this.riskScoreCalculationService = riskScoreCalculationService;
+		this.parallelism = Math.max(1, parallelism);
+	}
 
 	public int calculateAndUpsertAllLatest() {
 		return calculateAndUpsertAllLatest(DEFAULT_PAGE_SIZE);
 	}
 
 	int calculateAndUpsertAllLatest(int pageSize) {
-		int page = 0;
-		int processed = 0;
-
-		while (true) {
-			Page<RiskScoreBatchTargetProjection> targets =
-				companyReportVersionsRepository.findLatestRiskScoreTargets(PageRequest.of(page, pageSize));
-			if (targets.isEmpty()) {
-				break;
-			}
+		Page<RiskScoreBatchTargetProjection> first =
+			companyReportVersionsRepository.findLatestRiskScoreTargets(PageRequest.of(0, pageSize));
+		if (first.isEmpty()) {
+			return 0;
+		}
+		int processed = riskScoreCalculationService.calculateAndUpsertAll(first.getContent()).size();
+		int totalPages = first.getTotalPages();
+		if (totalPages <= 1) {
+			return processed;
+		}
 
-			for (RiskScoreBatchTargetProjection target : targets.getContent()) {
-				riskScoreCalculationService.calculateAndUpsert(
-					target.getCompanyId(),
-					target.getQuarterId(),
-					target.getReportVersionId()
-				);
-				processed++;
+		int workers = Math.min(parallelism, totalPages - 1);
+		if (workers <= 1 || TransactionSynchronizationManager.isActualTransactionActive()) {
+			for (int page = 1; page < totalPages; page++) {
+				processed += processPage(page, pageSize);
 			}
+			return processed;
+		}
 
-			if (!targets.hasNext()) {
-				break;
+		// 대상 조회가 (분기, 기업) 순으로 정렬돼 있어 페이지 번호만 나눠 주면 워커끼리 겹치지 않는다.
+		AtomicInteger nextPage = new AtomicInteger(1);
+		try (ExecutorService executor = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("risk-score-", 0).factory())) {
+			List<Future<Integer>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; i++) {
+				futures.add(executor.submit(() -> {
+					int count = 0;
+					int page;
+					while ((page = nextPage.getAndIncrement()) < totalPages) {
+						count += processPage(page, pageSize);
+					}
+					return count;
+				}));
+			}
+			for (Future<Integer> future : futures) {
+				processed += future.get();
 			}
-			page++;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("위험도 배치 계산이 중단되었습니다.", ex);
+		} catch (ExecutionException ex) {
+			throw new IllegalStateException("위험도 배치 계산 워커가 실패했습니다.", ex.getCause());
 		}
-
+		log.info("위험도 배치 계산 완료: processed={}, pages={}, workers={}", processed, totalPages, workers);
 		return processed;
 	}
+
+	private int processPage(int page, int pageSize) {
+		List<RiskScoreBatchTargetProjection> targets =
+			companyReportVersionsRepository.findLatestRiskScoreTargets(PageRequest.of(page, pageSize)).getContent();
+		return riskScoreCalculationService.calculateAndUpsertAll(targets).size();
+	}
 }
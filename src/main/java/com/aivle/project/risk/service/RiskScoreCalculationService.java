@@ -5,17 +5,23 @@ import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.metric.entity.MetricValueType;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.report.dto.RiskMetricValueProjection;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.risk.dto.RiskAggregationResult;
+import com.aivle.project.risk.dto.RiskScoreBatchTargetProjection;
 import com.aivle.project.risk.entity.RiskLevel;
 import com.aivle.project.risk.entity.RiskScoreSummaryEntity;
+import com.aivle.project.risk.repository.RiskScoreSummaryJdbcRepository;
 import com.aivle.project.risk.repository.RiskScoreSummaryRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -30,6 +36,7 @@ public class RiskScoreCalculationService {
 
 	private final CompanyReportMetricValuesRepository metricValuesRepository;
 	private final RiskScoreSummaryRepository riskScoreSummaryRepository;
+	private final RiskScoreSummaryJdbcRepository riskScoreSummaryJdbcRepository;
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
 	private final CompanyReportVersionsRepository companyReportVersionsRepository;
@@ -49,20 +56,49 @@ public class RiskScoreCalculationService {
 			MetricValueType.ACTUAL
 		);
 
-		int count = values.size();
-		BigDecimal average = calculateAverage(values);
-		BigDecimal score = average;
-		RiskLevel level = evaluateRiskLevel(average);
+		RiskAggregationResult result = aggregate(companyId, quarterId, reportVersionId, values);
 		LocalDateTime now = LocalDateTime.now();
 
 		RiskScoreSummaryEntity summary = riskScoreSummaryRepository
 			.findByCompanyIdAndQuarterIdAndReportVersionId(companyId, quarterId, reportVersionId)
 			.orElseGet(() -> createSummarySkeleton(companyId, quarterId, reportVersionId, now));
 
-		summary.refresh(score, level, count, average, now);
+		summary.refresh(result.riskScore(), result.riskLevel(), result.riskMetricsCount(), result.riskMetricsAvg(), now);
 		riskScoreSummaryRepository.save(summary);
 
-		return new RiskAggregationResult(companyId, quarterId, reportVersionId, score, level, count, average);
+		return result;
+	}
+
+	/**
+	 * 여러 대상의 위험 지표 값을 한 번에 조회해 계산하고, 결과를 한 번의 배치로 저장한다.
+	 */
+	@Transactional
+	public List<RiskAggregationResult> calculateAndUpsertAll(List<RiskScoreBatchTargetProjection> targets) {
+		if (targets == null || targets.isEmpty()) {
+			return List.of();
+		}
+		List<Long> reportVersionIds = targets.stream()
+			.map(RiskScoreBatchTargetProjection::getReportVersionId)
+			.toList();
+		Map<Long, List<BigDecimal>> valuesByVersion = new HashMap<>();
+		for (RiskMetricValueProjection row : metricValuesRepository.findRiskMetricValuesByReportVersionIds(
+			reportVersionIds,
+			MetricValueType.ACTUAL
+		)) {
+			valuesByVersion.computeIfAbsent(row.getReportVersionId(), ignored -> new ArrayList<>()).add(row.getMetricValue());
+		}
+
+		List<RiskAggregationResult> results = new ArrayList<>(targets.size());
+		for (RiskScoreBatchTargetProjection target : targets) {
+			results.add(aggregate(
+				target.getCompanyId(),
+				target.getQuarterId(),
+				target.getReportVersionId(),
+				valuesByVersion.getOrDefault(target.getReportVersionId(), List.of())
+			));
+		}
+		riskScoreSummaryJdbcRepository.upsertAll(results, LocalDateTime.now());
+		return results;
 	}
 
 	RiskLevel evaluateRiskLevel(BigDecimal avgRiskValue) {
@@ -78,6 +114,12 @@ public class RiskScoreCalculationService {
 		return RiskLevel.SAFE;
 	}
 
+	private RiskAggregationResult aggregate(Long companyId, Long quarterId, Long reportVersionId, List<BigDecimal> values) {
+		BigDecimal average = calculateAverage(values);
+		RiskLevel level = evaluateRiskLevel(average);
+		return new RiskAggregationResult(companyId, quarterId, reportVersionId, average, level, values.size(), average);
+	}
+
 	private BigDecimal calculateAverage(List<BigDecimal> values) {
 		if (values.isEmpty()) {
 			return null;
@@ -0,0 +1,9 @@
+package com.aivle.project.user.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 정보(상태, 비밀번호, 역할 등) 변경 완료 이벤트.
+ */
+public record UserChangedEvent(Long userId, UUID uuid) {
+}
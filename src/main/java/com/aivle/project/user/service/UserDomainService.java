@@ -5,10 +5,12 @@ import com.aivle.project.user.entity.RoleName;
 import com.aivle.project.user.entity.UserEntity;
 import com.aivle.project.user.entity.UserRoleEntity;
 import com.aivle.project.user.entity.UserStatus;
+import com.aivle.project.user.event.UserChangedEvent;
 import com.aivle.project.user.repository.RoleRepository;
 import com.aivle.project.user.repository.UserRepository;
 import com.aivle.project.user.repository.UserRoleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class UserDomainService {
 	private final UserRepository userRepository;
 	private final RoleRepository roleRepository;
 	private final UserRoleRepository userRoleRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public boolean existsByEmail(String email) {
 		return userRepository.findByEmail(email).isPresent();
@@ -54,6 +57,7 @@ public class UserDomainService {
 			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 		user.setStatus(UserStatus.ACTIVE);
 		userRepository.save(user);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUuid()));
 	}
 
 	/**
@@ -71,5 +75,6 @@ public class UserDomainService {
 	public void updatePassword(Long userId, String encodedPassword) {
 		UserEntity user = getUserById(userId);
 		user.updatePassword(encodedPassword);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUuid()));
 	}
 }
@@ -0,0 +1,58 @@
+package com.aivle.project.watchlist.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워치리스트 등록 후 캐시 선행 적재 시간 제한 설정.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.watchlist.warmup")
+public class WatchlistWarmupProperties {
+
+	/**
+	 * 전체 선행 적재를 기다리는 최대 시간.
+	 */
+	private Duration deadline = Duration.ofSeconds(90);
+
+	/**
+	 * 단계별 제한 시간을 따로 지정하지 않았을 때의 기본값.
+	 */
+	private Duration defaultStageTimeout = Duration.ofSeconds(60);
+
+	/**
+	 * 단계 이름(health-score, prediction, signals, ai-comment)별 제한 시간.
+	 */
+	private Map<String, Duration> stageTimeouts = new HashMap<>();
+
+	public Duration timeoutOf(String stageName) {
+		return stageTimeouts.getOrDefault(stageName, defaultStageTimeout);
+	}
+
+	public Duration getDeadline() {
+		return deadline;
+	}
+
+	public void setDeadline(Duration deadline) {
+		this.deadline = deadline;
+	}
+
+	public Duration getDefaultStageTimeout() {
+		return defaultStageTimeout;
+	}
+
+	public void setDefaultStageTimeout(Duration defaultStageTimeout) {
+		this.defaultStageTimeout = defaultStageTimeout;
+	}
+
+	public Map<String, Duration> getStageTimeouts() {
+		return stageTimeouts;
+	}
+
+	public void setStageTimeouts(Map<String, Duration> stageTimeouts) {
+		this.stageTimeouts = stageTimeouts;
+	}
+}
@@ -0,0 +1,7 @@
+package com.aivle.project.watchlist.event;
+
+/**
+ * 워치리스트 삭제 완료 이벤트.
+ */
+public record CompanyWatchlistDeletedEvent(Long userId, Long companyId) {
+}
@@ -9,9 +9,13 @@ import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.aivle.project.company.service.CompanySignalCacheService;
 import com.aivle.project.company.job.AiJobDispatchService;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import com.aivle.project.watchlist.event.CompanyWatchlistCreatedEvent;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.Stage;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.StageOutcome;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.Status;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -21,82 +25,114 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
-	@RequiredArgsConstructor
+@RequiredArgsConstructor
 public class CompanyWatchlistAsyncHandler {
 
 	private final CompaniesRepository companiesRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
 	private final CompanyHealthScoreCacheService companyHealthScoreCacheService;
 	private final CompanyAiCommentService companyAiCommentService;
 	private final CompanyPredictionCacheService companyPredictionCacheService;
 	private final CompanySignalCacheService companySignalCacheService;
 	private final CompanyReputationScoreService companyReputationScoreService;
 	private final AiJobDispatchService aiJobDispatchService;
+	private final WatchlistWarmupStageRunner warmupStageRunner;
 
 	@Async("insightExecutor")
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-		public void handleWatchlistCreated(CompanyWatchlistCreatedEvent event) {
-			String stockCode = null;
-			try {
-				CompaniesEntity company = companiesRepository.findById(event.companyId()).orElse(null);
-				if (company == null) {
-					return;
-				}
-				stockCode = company.getStockCode();
-				Integer latestActualQuarterKey = companyReportMetricValuesRepository
-					.findMaxActualQuarterKeyByStockCode(stockCode)
-					.orElse(null);
+	public void handleWatchlistCreated(CompanyWatchlistCreatedEvent event) {
+		String stockCode = null;
+		try {
+			CompaniesEntity company = companiesRepository.findById(event.companyId()).orElse(null);
+			if (company == null) {
+				return;
+			}
+			stockCode = company.getStockCode();
+			Integer latestActualQuarterKey = latestActualQuarterCache
+				.findMaxActualQuarterKeyByStockCode(stockCode)
+				.orElse(null);
 			if (latestActualQuarterKey == null) {
 				return;
 			}
-			// 워치리스트 등록 후 기업 개요 캐시를 비동기로 선행 적재한다.
-			companyHealthScoreCacheService.ensureHealthScoreCached(event.companyId(), latestActualQuarterKey);
-			companyPredictionCacheService.ensurePredictionCached(event.companyId(), latestActualQuarterKey);
-			companySignalCacheService.ensureSignalsCached(event.companyId(), latestActualQuarterKey);
-				companyReputationScoreService.syncExternalHealthScoreIfPresent(event.companyId(), stockCode);
+			// 워치리스트 등록 후 기업 개요 캐시를 비동기로 선행 적재한다. 독립 단계는 동시에 실행한다.
+			List<StageOutcome> outcomes = warmupStageRunner.run(buildStages(event.companyId(), stockCode, latestActualQuarterKey));
+			for (StageOutcome outcome : outcomes) {
+				if (!outcome.succeeded()) {
+					logStageFailure(event.companyId(), stockCode, outcome);
+				}
+			}
+		} catch (Exception e) {
+			String reasonCode = resolveReasonCode(e);
+			log.warn(
+				"워치리스트 캐시 선행 적재 실패: operation=watchlist-created-warmup, companyId={}, stockCode={}, reasonCode={}",
+				event.companyId(),
+				stockCode,
+				reasonCode,
+				e
+			);
+		}
+	}
+
+	private List<Stage> buildStages(Long companyId, String stockCode, int latestActualQuarterKey) {
+		String period = String.valueOf(latestActualQuarterKey);
+		return List.of(
+			// 외부 건전성 점수는 건전성 점수 단계가 만든 핵심 지표 행에 반영되므로 같은 단계에서 이어서 실행한다.
+			Stage.of(
+				"health-score",
+				() -> companyHealthScoreCacheService.ensureHealthScoreCached(companyId, latestActualQuarterKey),
+				() -> companyReputationScoreService.syncExternalHealthScoreIfPresent(companyId, stockCode)
+			),
+			Stage.of("prediction", () -> companyPredictionCacheService.ensurePredictionCached(companyId, latestActualQuarterKey)),
+			Stage.of("signals", () -> companySignalCacheService.ensureSignalsCached(companyId, latestActualQuarterKey)),
+			Stage.of("ai-comment", () -> {
 				boolean dispatched = aiJobDispatchService.dispatchCommentWarmup(
 					java.util.UUID.randomUUID().toString(),
-					event.companyId(),
-					String.valueOf(latestActualQuarterKey)
+					companyId,
+					period
 				);
 				if (!dispatched) {
 					// 카프카 비활성/미설정 환경에서는 기존 동기 적재를 유지한다.
-					companyAiCommentService.ensureAiCommentCached(event.companyId(), String.valueOf(latestActualQuarterKey));
+					companyAiCommentService.ensureAiCommentCached(companyId, period);
 				}
-			} catch (Exception e) {
-				String reasonCode = resolveReasonCode(e);
-				log.warn(
-					"워치리스트 캐시 선행 적재 실패: operation=watchlist-created-warmup, companyId={}, stockCode={}, reasonCode={}",
-					event.companyId(),
-					stockCode,
-					reasonCode,
-					e
-				);
-			}
-		}
+			})
+		);
+	}
 
-		private String resolveReasonCode(Throwable throwable) {
-			if (throwable instanceof ExternalAiUnavailableException externalAiUnavailableException) {
-				return externalAiUnavailableException.getReasonCode();
-			}
-			if (containsCause(throwable, CallNotPermittedException.class)) {
-				return "AI_CIRCUIT_OPEN";
-			}
-			if (containsCause(throwable, io.netty.handler.timeout.ReadTimeoutException.class)
-				|| containsCause(throwable, java.util.concurrent.TimeoutException.class)) {
-				return "AI_TIMEOUT";
-			}
-			return "AI_UNAVAILABLE";
+	private void logStageFailure(Long companyId, String stockCode, StageOutcome outcome) {
+		String reasonCode = outcome.status() == Status.TIMED_OUT ? "WARMUP_TIMEOUT" : resolveReasonCode(outcome.error());
+		log.warn(
+			"워치리스트 캐시 선행 적재 실패: operation=watchlist-created-warmup, stage={}, companyId={}, stockCode={}, reasonCode={}, elapsedMs={}",
+			outcome.name(),
+			companyId,
+			stockCode,
+			reasonCode,
+			outcome.elapsed() == null ? null : outcome.elapsed().toMillis(),
+			outcome.error()
+		);
+	}
+
+	private String resolveReasonCode(Throwable throwable) {
+		if (throwable instanceof ExternalAiUnavailableException externalAiUnavailableException) {
+			return externalAiUnavailableException.getReasonCode();
+		}
+		if (containsCause(throwable, CallNotPermittedException.class)) {
+			return "AI_CIRCUIT_OPEN";
+		}
+		if (containsCause(throwable, io.netty.handler.timeout.ReadTimeoutException.class)
+			|| containsCause(throwable, java.util.concurrent.TimeoutException.class)) {
+			return "AI_TIMEOUT";
 		}
+		return "AI_UNAVAILABLE";
+	}
 
-		private boolean containsCause(Throwable throwable, Class<? extends Throwable> type) {
-			Throwable current = throwable;
-			while (current != null) {
-				if (type.isInstance(current)) {
-					return true;
-				}
-				current = current.getCause();
+	private boolean containsCause(Throwable throwable, Class<? extends Throwable> type) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (type.isInstance(current)) {
+				return true;
 			}
-			return false;
+			current = current.getCause();
 		}
+		return false;
 	}
+}
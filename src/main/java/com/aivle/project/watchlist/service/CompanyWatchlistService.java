@@ -7,8 +7,8 @@ import com.aivle.project.common.error.CommonException;
 import com.aivle.project.metric.entity.MetricValueType;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import com.aivle.project.risk.entity.RiskLevel;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.user.entity.UserEntity;
 import com.aivle.project.user.repository.UserRepository;
 import com.aivle.project.watchlist.dto.WatchlistDashboardMetricRow;
@@ -26,6 +26,7 @@ import com.aivle.project.watchlist.error.WatchlistErrorCode;
 import com.aivle.project.watchlist.repository.CompanyWatchlistRepository;
 import com.aivle.project.watchlist.repository.WatchlistMetricValueProjection;
 import com.aivle.project.watchlist.event.CompanyWatchlistCreatedEvent;
+import com.aivle.project.watchlist.event.CompanyWatchlistDeletedEvent;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -43,7 +44,7 @@ public class CompanyWatchlistService {
 	private final UserRepository userRepository;
 	private final CompaniesRepository companiesRepository;
 	private final QuartersRepository quartersRepository;
-	private final CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private final LatestActualQuarterCache latestActualQuarterCache;
 	private final CompanyInfoService companyInfoService;
 	private final ApplicationEventPublisher eventPublisher;
 
@@ -76,6 +77,7 @@ public class CompanyWatchlistService {
 			throw new CommonException(WatchlistErrorCode.WATCHLIST_FORBIDDEN);
 		}
 		existing.delete();
+		eventPublisher.publishEvent(new CompanyWatchlistDeletedEvent(userId, companyId));
 	}
 
 	@Transactional(readOnly = true)
@@ -101,7 +103,7 @@ public class CompanyWatchlistService {
 		return watchlists.stream()
 			.map(watchlist -> {
 				CompaniesEntity company = watchlist.getCompany();
-				Integer quarterKey = companyReportMetricValuesRepository
+				Integer quarterKey = latestActualQuarterCache
 					.findMaxActualQuarterKeyByStockCode(company.getStockCode())
 					.orElse(null);
 				return companyInfoService.getCompanyInfo(company.getId(), quarterKey);
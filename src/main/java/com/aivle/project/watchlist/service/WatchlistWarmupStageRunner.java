@@ -0,0 +1,184 @@
+package com.aivle.project.watchlist.service;
+
+import com.aivle.project.watchlist.config.WatchlistWarmupProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서로 독립적인 선행 적재 단계를 동시에 실행하고 단계별 제한 시간과 전체 마감 시간을 적용한다.
+ *
+ * <p>각 단계의 결과는 완료·실패·제한 시간 초과 중 먼저 일어난 것 하나로만 확정하고, 지연 시간도 그때 한 번만 기록한다.
+ * 제한 시간이나 전체 마감 시간을 넘긴 단계는 실행 스레드를 인터럽트해 취소한다.
+ * 인터럽트에 반응하지 않는 외부 호출의 타임아웃은 각 클라이언트 설정을 따른다.
+ */
+@Component
+public class WatchlistWarmupStageRunner {
+
+	private static final String STAGE_TIMER = "watchlist.warmup.stage";
+	private static final String TOTAL_TIMER = "watchlist.warmup";
+
+	private final Executor executor;
+	private final WatchlistWarmupProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Autowired
+	public WatchlistWarmupStageRunner(
+		@Qualifier("warmupStageExecutor") Executor executor,
+		WatchlistWarmupProperties properties,
+		ObjectProvider<MeterRegistry> meterRegistryProvider
+	) {
+		this(executor, properties, meterRegistryProvider.getIfAvailable());
+	}
+
+	WatchlistWarmupStageRunner(Executor executor, WatchlistWarmupProperties properties, MeterRegistry meterRegistry) {
+		this.executor = executor;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 모든 단계를 동시에 시작하고, 전체 마감 시간까지 끝난 단계의 결과를 돌려준다.
+	 */
+	public List<StageOutcome> run(List<Stage> stages) {
+		long startedAt = System.nanoTime();
+		List<StageExecution> executions = new ArrayList<>(stages.size());
+		for (Stage stage : stages) {
+			StageExecution execution = new StageExecution(stage);
+			executions.add(execution);
+			execution.start(properties.timeoutOf(stage.name()));
+		}
+
+		awaitDeadline(executions);
+
+		List<StageOutcome> outcomes = new ArrayList<>(executions.size());
+		for (StageExecution execution : executions) {
+			execution.timeOut(new TimeoutException("warmup deadline exceeded"));
+			outcomes.add(execution.outcome.getNow(null));
+		}
+		if (meterRegistry != null) {
+			Timer.builder(TOTAL_TIMER)
+				.register(meterRegistry)
+				.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+		return outcomes;
+	}
+
+	private void awaitDeadline(List<StageExecution> executions) {
+		CompletableFuture<?>[] pending = executions.stream()
+			.map(execution -> execution.outcome)
+			.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(pending).get(properties.getDeadline().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | ExecutionException ex) {
+			// 마감 시간까지 끝나지 않은 단계는 run 에서 TIMED_OUT 으로 확정하고 취소한다.
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void record(String stageName, Status status, Duration elapsed) {
+		if (meterRegistry == null) {
+			return;
+		}
+		Timer.builder(STAGE_TIMER)
+			.tag("stage", stageName)
+			.tag("outcome", status.name().toLowerCase())
+			.register(meterRegistry)
+			.record(elapsed);
+	}
+
+	/**
+	 * 단계 하나의 실행. 결과 future 를 처음 완료시킨 쪽만 지연 시간을 기록한다.
+	 */
+	private final class StageExecution {
+
+		private final Stage stage;
+		private final CompletableFuture<StageOutcome> outcome = new CompletableFuture<>();
+		private final FutureTask<Void> task;
+		private long startedAt;
+
+		private StageExecution(Stage stage) {
+			this.stage = stage;
+			this.task = new FutureTask<>(this::runSteps, null);
+		}
+
+		private void start(Duration timeout) {
+			startedAt = System.nanoTime();
+			try {
+				executor.execute(task);
+			} catch (RejectedExecutionException ex) {
+				settle(Status.FAILED, ex);
+				return;
+			}
+			CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+				.execute(() -> timeOut(new TimeoutException("stage timeout exceeded: " + timeout)));
+		}
+
+		private void runSteps() {
+			try {
+				for (Runnable step : stage.steps()) {
+					step.run();
+				}
+			} catch (RuntimeException ex) {
+				settle(Status.FAILED, ex);
+				return;
+			}
+			settle(Status.SUCCEEDED, null);
+		}
+
+		private void timeOut(TimeoutException error) {
+			if (settle(Status.TIMED_OUT, error)) {
+				task.cancel(true);
+			}
+		}
+
+		private boolean settle(Status status, Throwable error) {
+			if (outcome.isDone()) {
+				return false;
+			}
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+			if (!outcome.complete(new StageOutcome(stage.name(), status, elapsed, error))) {
+				return false;
+			}
+			record(stage.name(), status, elapsed);
+			return true;
+		}
+	}
+
+	/**
+	 * 선행 적재 단계. 단계 안의 작업은 순서대로 실행된다.
+	 */
+	public record Stage(String name, List<Runnable> steps) {
+
+		public static Stage of(String name, Runnable... steps) {
+			return new Stage(name, List.of(steps));
+		}
+	}
+
+	public record StageOutcome(String name, Status status, Duration elapsed, Throwable error) {
+
+		public boolean succeeded() {
+			return status == Status.SUCCEEDED;
+		}
+	}
+
+	public enum Status {
+		SUCCEEDED,
+		FAILED,
+		TIMED_OUT
+	}
+}
@@ -0,0 +1,37 @@
+-- 테스트(H2)용 보고서별 최신 지표 버전 프로젝션
+
+CREATE TABLE latest_report_versions (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  company_report_id BIGINT NOT NULL,
+  value_type VARCHAR(20) NOT NULL,
+  version_scope VARCHAR(20) NOT NULL,
+  version_no INT NOT NULL,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT uk_lrv_report_type_scope UNIQUE (company_report_id, value_type, version_scope),
+  CONSTRAINT fk_lrv_report FOREIGN KEY (company_report_id) REFERENCES company_reports(id) ON DELETE CASCADE
+);
+
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'ALL', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+WHERE v.metric_value IS NOT NULL
+GROUP BY rv.company_report_id, v.value_type;
+
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'RISK', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND m.is_risk_indicator = TRUE
+GROUP BY rv.company_report_id, v.value_type;
+
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'NON_RISK', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND m.is_risk_indicator = FALSE
+GROUP BY rv.company_report_id, v.value_type;
@@ -0,0 +1,10 @@
+-- 테스트(H2)용 사용자별 대시보드 요약 스냅샷
+
+CREATE TABLE dashboard_summary_snapshots (
+  user_id BIGINT NOT NULL PRIMARY KEY,
+  payload CLOB NOT NULL,
+  computed_at TIMESTAMP(3) NOT NULL,
+  invalidated_at TIMESTAMP(3) NULL,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  CONSTRAINT fk_dss_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
@@ -0,0 +1,14 @@
+-- 테스트(H2)용 게시글/부모 댓글별 댓글 순번 카운터
+
+CREATE TABLE comment_sequences (
+  post_id BIGINT NOT NULL,
+  parent_id BIGINT NOT NULL DEFAULT 0,
+  last_sequence INT NOT NULL,
+  PRIMARY KEY (post_id, parent_id),
+  CONSTRAINT fk_cs_post FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
+);
+
+INSERT INTO comment_sequences (post_id, parent_id, last_sequence)
+SELECT post_id, COALESCE(parent_id, 0), MAX(sequence)
+FROM comments
+GROUP BY post_id, COALESCE(parent_id, 0);
@@ -0,0 +1,42 @@
+-- 보고서별 최신 지표 버전 프로젝션 (max(version_no) 상관 서브쿼리 제거용)
+
+CREATE TABLE `latest_report_versions` (
+  `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '고유 식별자',
+  `company_report_id` BIGINT NOT NULL COMMENT '보고서 고유 식별자',
+  `value_type` VARCHAR(20) NOT NULL COMMENT '값 유형 (ACTUAL, PREDICTED)',
+  `version_scope` VARCHAR(20) NOT NULL COMMENT '지표 범위 (ALL, RISK, NON_RISK)',
+  `version_no` INT NOT NULL COMMENT '해당 범위에서 값이 존재하는 최신 버전 번호',
+  `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신일시',
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `uk_lrv_report_type_scope` (`company_report_id`, `value_type`, `version_scope`),
+  CONSTRAINT `fk_lrv_report`
+    FOREIGN KEY (`company_report_id`) REFERENCES `company_reports`(`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='보고서별 최신 지표 버전';
+
+-- 기존 데이터 백필: 값 유형별 전체 지표 기준 최신 버전
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'ALL', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+WHERE v.metric_value IS NOT NULL
+GROUP BY rv.company_report_id, v.value_type;
+
+-- 기존 데이터 백필: 위험 지표 기준 최신 버전
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'RISK', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND m.is_risk_indicator = 1
+GROUP BY rv.company_report_id, v.value_type;
+
+-- 기존 데이터 백필: 비위험 지표 기준 최신 버전
+INSERT INTO latest_report_versions (company_report_id, value_type, version_scope, version_no)
+SELECT rv.company_report_id, v.value_type, 'NON_RISK', MAX(rv.version_no)
+FROM company_report_versions rv
+JOIN company_report_metric_values v ON v.report_version_id = rv.id
+JOIN metrics m ON m.id = v.metric_id
+WHERE v.metric_value IS NOT NULL
+  AND m.is_risk_indicator = 0
+GROUP BY rv.company_report_id, v.value_type;
@@ -0,0 +1,11 @@
+-- 사용자별 대시보드 요약 스냅샷 (요약 재계산 비용을 조회 경로에서 분리)
+
+CREATE TABLE `dashboard_summary_snapshots` (
+  `user_id` BIGINT NOT NULL COMMENT '사용자 ID',
+  `payload` MEDIUMTEXT NOT NULL COMMENT '대시보드 요약 응답 JSON',
+  `computed_at` DATETIME(3) NOT NULL COMMENT '요약 계산 시작 시각',
+  `invalidated_at` DATETIME(3) NULL COMMENT '마지막 무효화 시각',
+  `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '갱신일시',
+  PRIMARY KEY (`user_id`),
+  CONSTRAINT `fk_dss_user` FOREIGN KEY (`user_id`) REFERENCES `users`(`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='사용자별 대시보드 요약 스냅샷';
@@ -0,0 +1,14 @@
+-- 게시글/부모 댓글별 댓글 순번 카운터 (MAX(sequence) 조회 없이 순번 발급)
+
+CREATE TABLE `comment_sequences` (
+  `post_id` BIGINT NOT NULL COMMENT '게시글 ID',
+  `parent_id` BIGINT NOT NULL DEFAULT 0 COMMENT '부모 댓글 ID (최상위 댓글은 0)',
+  `last_sequence` INT NOT NULL COMMENT '마지막으로 발급한 순번',
+  PRIMARY KEY (`post_id`, `parent_id`),
+  CONSTRAINT `fk_cs_post` FOREIGN KEY (`post_id`) REFERENCES `posts`(`id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='댓글 순번 카운터';
+
+INSERT INTO `comment_sequences` (`post_id`, `parent_id`, `last_sequence`)
+SELECT `post_id`, COALESCE(`parent_id`, 0), MAX(`sequence`)
+FROM `comments`
+GROUP BY `post_id`, COALESCE(`parent_id`, 0);
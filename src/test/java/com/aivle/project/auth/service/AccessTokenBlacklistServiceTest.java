@@ -109,6 +109,22 @@ class AccessTokenBlacklistServiceTest {
 		assertThat(result).isTrue();
 	}
 
+	@Test
+	@DisplayName("로컬 캐시가 폐기되지 않았다고 확정하면 Redis 를 조회하지 않는다")
+	void isBlacklisted_shouldSkipRedisWhenNearCacheRulesOut() {
+		// given
+		AccessTokenRevocationNearCache nearCache = org.mockito.Mockito.mock(AccessTokenRevocationNearCache.class);
+		given(nearCache.mightBeBlacklisted("token")).willReturn(false);
+		AccessTokenBlacklistService service = new AccessTokenBlacklistService(redisTemplate, jwtProperties, nearCache);
+
+		// when
+		boolean result = service.isBlacklisted("token");
+
+		// then
+		assertThat(result).isFalse();
+		verify(redisTemplate, never()).hasKey(org.mockito.ArgumentMatchers.anyString());
+	}
+
 	@Test
 	@DisplayName("전체 로그아웃 기준 시각을 조회한다")
 	void getLogoutAllAt_shouldReturnInstant() {
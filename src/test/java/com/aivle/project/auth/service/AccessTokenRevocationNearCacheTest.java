@@ -0,0 +1,130 @@
+package com.aivle.project.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.auth.config.AccessTokenRevocationCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationNearCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	private AccessTokenRevocationCacheProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private AccessTokenRevocationNearCache nearCache;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AccessTokenRevocationCacheProperties();
+		properties.setExpectedInsertions(1_000);
+		meterRegistry = new SimpleMeterRegistry();
+		Clock clock = Clock.fixed(Instant.parse("2026-10-17T00:00:00Z"), ZoneOffset.UTC);
+		nearCache = new AccessTokenRevocationNearCache(redisTemplate, properties, meterRegistry, clock);
+	}
+
+	@Test
+	@DisplayName("Bloom filter 구성 전에는 항상 Redis 확인이 필요하다고 응답한다")
+	void mightBeBlacklisted_beforeRebuild_requiresRemoteCheck() {
+		// when
+		boolean result = nearCache.mightBeBlacklisted("jti-1");
+
+		// then
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	@DisplayName("재구성 이후 등록되지 않은 jti 는 로컬에서 바로 통과시키고 hit 비율에 반영한다")
+	void mightBeBlacklisted_afterRebuild_answersLocally() {
+		// given
+		givenEmptyBlacklist();
+		nearCache.rebuild();
+
+		// when
+		boolean result = nearCache.mightBeBlacklisted("jti-1");
+
+		// then
+		assertThat(result).isFalse();
+		assertThat(hitRatio("blacklist")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("블랙리스트 등록은 즉시 로컬에 반영하고 채널로 전파한다")
+	void recordBlacklisted_appliesLocallyAndPublishes() {
+		// given
+		givenEmptyBlacklist();
+		nearCache.rebuild();
+
+		// when
+		nearCache.recordBlacklisted("jti-1");
+
+		// then
+		assertThat(nearCache.mightBeBlacklisted("jti-1")).isTrue();
+		verify(redisTemplate).convertAndSend(properties.getChannel(), "B|jti-1");
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스의 폐기 메시지를 받으면 로컬 상태를 갱신한다")
+	void handleMessage_appliesRemoteRevocations() {
+		// given
+		givenEmptyBlacklist();
+		nearCache.rebuild();
+		Instant logoutAt = Instant.parse("2026-10-16T23:59:00Z");
+
+		// when
+		nearCache.handleMessage("B|jti-2");
+		nearCache.handleMessage("L|user-1|" + logoutAt.toEpochMilli());
+
+		// then
+		assertThat(nearCache.mightBeBlacklisted("jti-2")).isTrue();
+		assertThat(nearCache.getLogoutAllAt("user-1", userId -> null)).isEqualTo(logoutAt);
+	}
+
+	@Test
+	@DisplayName("전체 로그아웃 시각은 TTL 동안 한 번만 Redis 에서 조회한다")
+	void getLogoutAllAt_cachesWithinTtl() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		Instant first = nearCache.getLogoutAllAt("user-1", userId -> {
+			loads.incrementAndGet();
+			return null;
+		});
+		Instant second = nearCache.getLogoutAllAt("user-1", userId -> {
+			loads.incrementAndGet();
+			return null;
+		});
+
+		// then
+		assertThat(first).isNull();
+		assertThat(second).isNull();
+		assertThat(loads).hasValue(1);
+		assertThat(hitRatio("logout_all")).isEqualTo(0.5);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenEmptyBlacklist() {
+		given(redisTemplate.execute(any(RedisCallback.class))).willReturn(0L);
+	}
+
+	private double hitRatio(String check) {
+		return meterRegistry.get("auth.revocation.cache.hit.ratio").tag("check", check).gauge().value();
+	}
+}
@@ -0,0 +1,196 @@
+package com.aivle.project.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.auth.exception.AuthException;
+import com.aivle.project.auth.repository.RefreshTokenRepository;
+import com.aivle.project.auth.token.JwtTokenService;
+import com.aivle.project.auth.token.RefreshTokenCache;
+import com.aivle.project.common.security.TokenHashProperties;
+import com.aivle.project.common.security.TokenHashService;
+import com.aivle.project.user.security.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 Redis 에서 Refresh Token 스크립트 동작을 확인한다. 전체 폐기 지연 시간 비교는 JMH 벤치마크가 맡는다.
+ */
+@Testcontainers
+@Tag("integration")
+class RefreshTokenRedisIntegrationTest {
+
+	private static final Long USER_ID = 42L;
+	private static final int SESSION_COUNT = 200;
+
+	@Container
+	static final GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7.0"))
+		.withExposedPorts(6379);
+
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private TokenHashService tokenHashService;
+	private RefreshTokenService refreshTokenService;
+	private CustomUserDetails userDetails;
+
+	@BeforeEach
+	void setUp() {
+		connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379))
+		);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+
+		TokenHashProperties properties = new TokenHashProperties();
+		properties.setPepperBase64("dGVzdC1wZXBwZXI=");
+		tokenHashService = new TokenHashService(properties);
+		JwtTokenService jwtTokenService = mock(JwtTokenService.class);
+		when(jwtTokenService.getRefreshTokenExpirationSeconds()).thenReturn(600L);
+		userDetails = mock(CustomUserDetails.class);
+		when(userDetails.getId()).thenReturn(USER_ID);
+		refreshTokenService = new RefreshTokenService(
+			redisTemplate,
+			new ObjectMapper(),
+			mock(RefreshTokenRepository.class),
+			jwtTokenService,
+			tokenHashService
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	@DisplayName("회전 시 기존 키와 세션 항목을 지우고 새 키를 TTL 과 함께 등록한다")
+	void rotateToken_shouldSwapKeysAtomically() {
+		// given
+		refreshTokenService.storeToken(userDetails, "rt-old", "device-1", "ios", "127.0.0.1");
+		String oldHash = tokenHashService.hash("rt-old");
+		String newHash = tokenHashService.hash("rt-new");
+
+		// when
+		refreshTokenService.rotateToken("rt-old", "rt-new");
+
+		// then
+		assertThat(redisTemplate.hasKey("refresh:" + oldHash)).isFalse();
+		assertThat(redisTemplate.getExpire("refresh:" + newHash)).isPositive();
+		assertThat(redisTemplate.opsForSet().members("sessions:" + USER_ID)).containsExactly(newHash);
+		assertThatThrownBy(() -> refreshTokenService.rotateToken("rt-old", "rt-other"))
+			.isInstanceOf(AuthException.class);
+	}
+
+	@Test
+	@DisplayName("지울 토큰 키가 이미 없으면 새 키와 세션 항목을 남기지 않는다")
+	void replaceScript_shouldNotWriteWhenNothingRemoved() {
+		// given
+		String sessionKey = "sessions:" + USER_ID;
+
+		// when
+		Long removed = redisTemplate.execute(
+			RefreshTokenService.REPLACE_SCRIPT,
+			List.of(sessionKey, "refresh:rt-new", "refresh:rt-gone"),
+			"rt-new",
+			"{}",
+			"600000",
+			"rt-gone"
+		);
+
+		// then
+		assertThat(removed).isZero();
+		assertThat(redisTemplate.hasKey("refresh:rt-new")).isFalse();
+		assertThat(redisTemplate.hasKey(sessionKey)).isFalse();
+	}
+
+	@Test
+	@DisplayName("평문 키로 남은 레거시 캐시는 조회 시 해시 키로 옮겨진다")
+	void loadValidToken_shouldMigrateLegacyKeyInOneScript() throws Exception {
+		// given
+		RefreshTokenCache legacy = new RefreshTokenCache(
+			"legacy-rt",
+			USER_ID,
+			"device-1",
+			"ios",
+			"127.0.0.1",
+			1L,
+			System.currentTimeMillis() + 600_000,
+			1L
+		);
+		redisTemplate.opsForValue().set("refresh:legacy-rt", new ObjectMapper().writeValueAsString(legacy));
+		redisTemplate.opsForSet().add("sessions:" + USER_ID, "legacy-rt");
+		String tokenHash = tokenHashService.hash("legacy-rt");
+
+		// when
+		RefreshTokenCache loaded = refreshTokenService.loadValidToken("legacy-rt");
+
+		// then
+		assertThat(loaded.token()).isEqualTo(tokenHash);
+		assertThat(redisTemplate.hasKey("refresh:legacy-rt")).isFalse();
+		assertThat(redisTemplate.hasKey("refresh:" + tokenHash)).isTrue();
+		assertThat(redisTemplate.opsForSet().members("sessions:" + USER_ID)).containsExactly(tokenHash);
+	}
+
+	@Test
+	@DisplayName("전체 폐기는 기기 수와 무관하게 스크립트 한 번으로 모든 키를 지운다")
+	void revokeAllByUserId_shouldDeleteAllKeysWithSingleScript() {
+		// given
+		seedSessions();
+		assertThat(redisTemplate.keys("refresh:*")).hasSize(SESSION_COUNT);
+		redisTemplate.execute((RedisCallback<Object>) connection -> {
+			connection.serverCommands().resetConfigStats();
+			return null;
+		});
+
+		// when
+		refreshTokenService.revokeAllByUserId(USER_ID);
+
+		// then
+		assertThat(redisTemplate.hasKey("sessions:" + USER_ID)).isFalse();
+		assertThat(redisTemplate.keys("refresh:*")).isEmpty();
+		// 스크립트가 처음 실행되면 EVALSHA 가 NOSCRIPT 로 실패한 뒤 EVAL 로 다시 보낸다.
+		Properties commandStats = redisTemplate.execute(
+			(RedisCallback<Properties>) connection -> connection.serverCommands().info("commandstats")
+		);
+		assertThat(callsOf(commandStats, "evalsha") + callsOf(commandStats, "eval")).isBetween(1L, 2L);
+		assertThat(callsOf(commandStats, "del")).isZero();
+		assertThat(callsOf(commandStats, "smembers")).isZero();
+	}
+
+	private void seedSessions() {
+		for (int i = 0; i < SESSION_COUNT; i++) {
+			refreshTokenService.storeToken(userDetails, "rt-" + i, "device-" + i, "ios", "127.0.0.1");
+		}
+	}
+
+	private long callsOf(Properties commandStats, String command) {
+		String stat = commandStats.getProperty("cmdstat_" + command);
+		if (stat == null) {
+			return 0L;
+		}
+		// 예: calls=1,usec=42,usec_per_call=42.00,...
+		String calls = stat.substring("calls=".length(), stat.indexOf(','));
+		return Long.parseLong(calls);
+	}
+}
@@ -1,16 +1,20 @@
 package com.aivle.project.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.aivle.project.auth.entity.RefreshTokenEntity;
+import com.aivle.project.auth.exception.AuthException;
 import com.aivle.project.auth.repository.RefreshTokenRepository;
 import com.aivle.project.auth.token.JwtTokenService;
 import com.aivle.project.auth.token.RefreshTokenCache;
@@ -18,11 +22,9 @@ import com.aivle.project.common.security.TokenHashProperties;
 import com.aivle.project.common.security.TokenHashService;
 import com.aivle.project.user.security.CustomUserDetails;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +33,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -53,14 +54,8 @@ class RefreshTokenServiceTest {
 	@Mock
 	private ValueOperations<String, String> valueOperations;
 
-	@Mock
-	private SetOperations<String, String> setOperations;
-
 	@Captor
-	private ArgumentCaptor<String> valueCaptor;
-
-	@Captor
-	private ArgumentCaptor<Duration> durationCaptor;
+	private ArgumentCaptor<Object[]> argsCaptor;
 
 	private RefreshTokenService refreshTokenService;
 	private TokenHashService tokenHashService;
@@ -69,7 +64,6 @@ class RefreshTokenServiceTest {
 	void setUp() {
 		ObjectMapper objectMapper = new ObjectMapper();
 		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-		lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
 		lenient().when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
 		lenient().when(refreshTokenRepository.findByTokenValue(anyString())).thenReturn(Optional.empty());
 		TokenHashProperties properties = new TokenHashProperties();
@@ -96,12 +90,19 @@ class RefreshTokenServiceTest {
 		// when: 리프레시 토큰을 저장
 		refreshTokenService.storeToken(userDetails, "rt-1", "device-1", "ios", "127.0.0.1");
 
-		// then: Redis 저장과 DB 저장이 수행된다
-		verify(valueOperations).set(eq("refresh:" + tokenHash), valueCaptor.capture(), durationCaptor.capture());
-		RefreshTokenCache cache = new ObjectMapper().readValue(valueCaptor.getValue(), RefreshTokenCache.class);
+		// then: Redis 저장(토큰 키 + 세션 등록)이 스크립트 한 번으로, DB 저장과 함께 수행된다
+		verify(redisTemplate).execute(
+			eq(RefreshTokenService.REPLACE_SCRIPT),
+			eq(List.of("sessions:" + USER_ID, "refresh:" + tokenHash)),
+			argsCaptor.capture()
+		);
+		Object[] args = argsCaptor.getValue();
+		assertThat(args).hasSize(3);
+		assertThat(args[0]).isEqualTo(tokenHash);
+		RefreshTokenCache cache = new ObjectMapper().readValue((String) args[1], RefreshTokenCache.class);
 		assertThat(cache.token()).isEqualTo(tokenHash);
 		assertThat(cache.userId()).isEqualTo(USER_ID);
-		assertThat(durationCaptor.getValue().getSeconds()).isPositive();
+		assertThat(Long.parseLong((String) args[2])).isPositive();
 
 		ArgumentCaptor<RefreshTokenEntity> entityCaptor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
 		verify(refreshTokenRepository).save(entityCaptor.capture());
@@ -132,8 +133,11 @@ class RefreshTokenServiceTest {
 		assertThat(cache.token()).isEqualTo(tokenHash);
 		assertThat(cache.userId()).isEqualTo(USER_ID);
 		assertThat(cache.deviceId()).isEqualTo("default");
-		verify(valueOperations).set(eq("refresh:" + tokenHash), any(String.class), any(Duration.class));
-		verify(setOperations).add("sessions:" + USER_ID, tokenHash);
+		verify(redisTemplate).execute(
+			eq(RefreshTokenService.REPLACE_SCRIPT),
+			eq(List.of("sessions:" + USER_ID, "refresh:" + tokenHash)),
+			any(Object[].class)
+		);
 	}
 
 	@Test
@@ -155,6 +159,7 @@ class RefreshTokenServiceTest {
 		String json = new ObjectMapper().writeValueAsString(existing);
 		when(valueOperations.get("refresh:" + oldTokenHash)).thenReturn(json);
 		when(jwtTokenService.getRefreshTokenExpirationSeconds()).thenReturn(600L);
+		when(redisTemplate.execute(eq(RefreshTokenService.REPLACE_SCRIPT), anyList(), any(Object[].class))).thenReturn(1L);
 
 		RefreshTokenEntity entity = RefreshTokenEntity.hashed(USER_ID, oldTokenHash, "ios", "127.0.0.1", LocalDateTime.now().plusDays(1));
 		when(refreshTokenRepository.findByTokenHash(oldTokenHash)).thenReturn(Optional.of(entity));
@@ -162,13 +167,83 @@ class RefreshTokenServiceTest {
 		// when: 리프레시 토큰을 회전
 		refreshTokenService.rotateToken("rt-old", "rt-new");
 
-		// then: 기존 토큰 삭제와 신규 토큰 저장이 수행된다
-		verify(redisTemplate).delete("refresh:" + oldTokenHash);
-		verify(setOperations).remove("sessions:" + USER_ID, oldTokenHash);
-		verify(valueOperations).set(eq("refresh:" + newTokenHash), any(String.class), any(Duration.class));
+		// then: 기존 토큰 삭제와 신규 토큰 저장이 스크립트 한 번으로 수행된다
+		String oldLegacyHash = tokenHashService.legacyHash("rt-old");
+		verify(redisTemplate).execute(
+			eq(RefreshTokenService.REPLACE_SCRIPT),
+			eq(List.of(
+				"sessions:" + USER_ID,
+				"refresh:" + newTokenHash,
+				"refresh:" + oldTokenHash,
+				"refresh:" + oldLegacyHash,
+				"refresh:rt-old"
+			)),
+			argsCaptor.capture()
+		);
+		Object[] args = argsCaptor.getValue();
+		assertThat(args[0]).isEqualTo(newTokenHash);
+		assertThat(args).endsWith(oldTokenHash, oldLegacyHash, "rt-old");
+		assertThat(entity.isRevoked()).isTrue();
 		verify(refreshTokenRepository, atLeastOnce()).save(any(RefreshTokenEntity.class));
 	}
 
+	@Test
+	@DisplayName("회전 직전 다른 요청이 기존 토큰을 지웠다면 재사용으로 보고 거절한다")
+	void rotateToken_shouldRejectWhenOldTokenAlreadyRemoved() throws Exception {
+		// given: 기존 토큰은 조회되지만 스크립트 실행 시점에는 이미 삭제되어 있다
+		String oldTokenHash = tokenHashService.hash("rt-race");
+		RefreshTokenCache existing = new RefreshTokenCache(
+			oldTokenHash,
+			USER_ID,
+			"device-3",
+			"ios",
+			"127.0.0.1",
+			1L,
+			System.currentTimeMillis() + 600_000,
+			1L
+		);
+		when(valueOperations.get("refresh:" + oldTokenHash)).thenReturn(new ObjectMapper().writeValueAsString(existing));
+		when(jwtTokenService.getRefreshTokenExpirationSeconds()).thenReturn(600L);
+		when(redisTemplate.execute(eq(RefreshTokenService.REPLACE_SCRIPT), anyList(), any(Object[].class))).thenReturn(0L);
+
+		// when & then: 예외가 발생하고 DB에는 새 토큰을 저장하지 않는다
+		assertThatThrownBy(() -> refreshTokenService.rotateToken("rt-race", "rt-next"))
+			.isInstanceOf(AuthException.class);
+		verify(refreshTokenRepository, never()).save(any(RefreshTokenEntity.class));
+	}
+
+	@Test
+	@DisplayName("단일 토큰 폐기 시 모든 식별자 키와 세션 항목을 스크립트 한 번으로 지운다")
+	void revokeToken_shouldRemoveAllIdentifiersInOneScript() throws Exception {
+		// given
+		String tokenHash = tokenHashService.hash("rt-revoke");
+		String legacyTokenHash = tokenHashService.legacyHash("rt-revoke");
+		RefreshTokenCache existing = new RefreshTokenCache(
+			tokenHash,
+			USER_ID,
+			"device-1",
+			"ios",
+			"127.0.0.1",
+			1L,
+			System.currentTimeMillis() + 600_000,
+			1L
+		);
+		when(valueOperations.get("refresh:" + tokenHash)).thenReturn(new ObjectMapper().writeValueAsString(existing));
+
+		// when
+		refreshTokenService.revokeToken("rt-revoke");
+
+		// then
+		verify(redisTemplate).execute(
+			RefreshTokenService.REVOKE_SCRIPT,
+			List.of("sessions:" + USER_ID, "refresh:" + tokenHash, "refresh:" + legacyTokenHash, "refresh:rt-revoke"),
+			tokenHash,
+			legacyTokenHash,
+			"rt-revoke"
+		);
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
 	@Test
 	@DisplayName("초 단위 레거시 캐시 토큰도 유효하면 정상 로드된다")
 	void loadValidToken_shouldSupportLegacySecondEpochCache() throws Exception {
@@ -207,16 +282,14 @@ class RefreshTokenServiceTest {
 		String secondHash = tokenHashService.hash("rt-2");
 		RefreshTokenEntity first = RefreshTokenEntity.hashed(USER_ID, firstHash, "ios", "127.0.0.1", LocalDateTime.now().plusDays(1));
 		RefreshTokenEntity second = RefreshTokenEntity.hashed(USER_ID, secondHash, "android", "127.0.0.1", LocalDateTime.now().plusDays(1));
-		when(setOperations.members("sessions:" + USER_ID)).thenReturn(Set.of(firstHash, secondHash));
 		when(refreshTokenRepository.findAllByUserIdAndRevokedFalse(USER_ID)).thenReturn(List.of(first, second));
 
 		// when: 전체 토큰 폐기
 		refreshTokenService.revokeAllByUserId(USER_ID);
 
-		// then: Redis 토큰 키/세션 키가 삭제되고 DB 토큰이 revoke 처리된다
-		verify(redisTemplate).delete("refresh:" + firstHash);
-		verify(redisTemplate).delete("refresh:" + secondHash);
-		verify(redisTemplate).delete("sessions:" + USER_ID);
+		// then: 세션의 토큰 키/세션 키는 스크립트 한 번으로 삭제되고 DB 토큰이 revoke 처리된다
+		verify(redisTemplate).execute(RefreshTokenService.REVOKE_ALL_SCRIPT, List.of("sessions:" + USER_ID), "refresh:");
+		verify(redisTemplate, never()).delete(anyString());
 		verify(refreshTokenRepository).saveAll(List.of(first, second));
 		assertThat(first.isRevoked()).isTrue();
 		assertThat(second.isRevoked()).isTrue();
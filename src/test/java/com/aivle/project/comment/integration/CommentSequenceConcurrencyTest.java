@@ -0,0 +1,140 @@
+package com.aivle.project.comment.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.category.entity.CategoriesEntity;
+import com.aivle.project.category.repository.CategoriesRepository;
+import com.aivle.project.comment.dto.CommentCreateRequest;
+import com.aivle.project.comment.dto.CommentResponse;
+import com.aivle.project.comment.service.CommentsService;
+import com.aivle.project.common.config.TestSecurityConfig;
+import com.aivle.project.post.entity.PostStatus;
+import com.aivle.project.post.entity.PostsEntity;
+import com.aivle.project.post.repository.PostsRepository;
+import com.aivle.project.user.entity.UserEntity;
+import com.aivle.project.user.entity.UserStatus;
+import com.aivle.project.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 댓글 순번 동시 발급 검증. 실제 커밋이 필요하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+class CommentSequenceConcurrencyTest {
+
+	private static final int THREADS = 8;
+	private static final int COMMENTS_PER_THREAD = 10;
+
+	@Autowired
+	private CommentsService commentsService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CategoriesRepository categoriesRepository;
+
+	@Autowired
+	private PostsRepository postsRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UserEntity user;
+	private PostsEntity post;
+
+	@AfterEach
+	void tearDown() {
+		if (post != null) {
+			jdbcTemplate.update("DELETE FROM comments WHERE post_id = ? AND parent_id IS NOT NULL", post.getId());
+			jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", post.getId());
+			jdbcTemplate.update("DELETE FROM comment_sequences WHERE post_id = ?", post.getId());
+			jdbcTemplate.update("DELETE FROM posts WHERE id = ?", post.getId());
+		}
+		if (user != null) {
+			jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+		}
+	}
+
+	@Test
+	@DisplayName("한 게시글에 동시에 댓글과 대댓글을 달아도 순번이 빠짐없이 중복 없이 발급된다")
+	void create_concurrentReplies_shouldAllocateGaplessSequences() throws Exception {
+		// given
+		user = userRepository.save(UserEntity.create(
+			"sequence-spam@test.com", "encoded-password", "순번테스터", "010-0000-0000", UserStatus.ACTIVE
+		));
+		CategoriesEntity category = categoriesRepository.findByNameAndDeletedAtIsNull("qna").orElseThrow();
+		post = postsRepository.save(PostsEntity.create(user, category, "순번 동시성", "내용", false, PostStatus.PUBLISHED));
+		CommentResponse parent = commentsService.create(user, request(post.getId(), null, "부모 댓글"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			// 절반은 최상위 댓글, 절반은 같은 부모의 대댓글을 작성한다.
+			Long parentId = t % 2 == 0 ? null : parent.id();
+			futures.add(executor.submit(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < COMMENTS_PER_THREAD; i++) {
+						commentsService.create(user, request(post.getId(), parentId, "스팸"));
+					}
+				} catch (Throwable ex) {
+					failures.add(ex);
+				}
+			}));
+		}
+
+		// when
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		// then
+		assertThat(failures).isEmpty();
+		int perGroup = THREADS / 2 * COMMENTS_PER_THREAD;
+		List<Integer> rootSequences = jdbcTemplate.queryForList(
+			"SELECT sequence FROM comments WHERE post_id = ? AND parent_id IS NULL ORDER BY sequence",
+			Integer.class,
+			post.getId()
+		);
+		List<Integer> replySequences = jdbcTemplate.queryForList(
+			"SELECT sequence FROM comments WHERE parent_id = ? ORDER BY sequence",
+			Integer.class,
+			parent.id()
+		);
+		// 부모 댓글이 0번을 먼저 받았으므로 최상위 댓글은 0..perGroup 이다.
+		assertThat(rootSequences).containsExactlyElementsOf(IntStream.rangeClosed(0, perGroup).boxed().toList());
+		assertThat(replySequences).containsExactlyElementsOf(IntStream.range(0, perGroup).boxed().toList());
+	}
+
+	private CommentCreateRequest request(Long postId, Long parentId, String content) {
+		CommentCreateRequest request = new CommentCreateRequest();
+		request.setPostId(postId);
+		request.setParentId(parentId);
+		request.setContent(content);
+		return request;
+	}
+}
@@ -35,6 +35,9 @@ class CommentsServiceTest {
 	@Mock
 	private CommentsRepository commentsRepository;
 
+	@Mock
+	private CommentSequenceAllocator commentSequenceAllocator;
+
 	@Mock
 	private PostsRepository postsRepository;
 
@@ -81,7 +84,7 @@ class CommentsServiceTest {
 		given(post.getId()).willReturn(postId);
 
 		given(postsRepository.findByIdAndDeletedAtIsNull(postId)).willReturn(Optional.of(post));
-		given(commentsRepository.findMaxSequenceByPostIdAndParentIsNull(postId)).willReturn(-1);
+		given(commentSequenceAllocator.next(postId, null)).willReturn(0);
 		given(commentsRepository.save(any(CommentsEntity.class))).willAnswer(invocation -> {
 			CommentsEntity saved = invocation.getArgument(0);
 			ReflectionTestUtils.setField(saved, "id", 100L);
@@ -101,7 +104,7 @@ class CommentsServiceTest {
 		assertThat(response.name()).isEqualTo("홍길동");
 		assertThat(response.content()).isEqualTo("첫 번째 댓글");
 		assertThat(response.depth()).isZero();
-		assertThat(response.sequence()).isZero(); // -1 + 1 = 0
+		assertThat(response.sequence()).isZero();
 		assertThat(response.parentId()).isNull();
 	}
 
@@ -131,7 +134,7 @@ class CommentsServiceTest {
 
 		given(postsRepository.findByIdAndDeletedAtIsNull(postId)).willReturn(Optional.of(post));
 		given(commentsRepository.findById(parentId)).willReturn(Optional.of(parent));
-		given(commentsRepository.findMaxSequenceByParentId(parentId)).willReturn(0); // 기존 자식 1개 있음 가정
+		given(commentSequenceAllocator.next(postId, parentId)).willReturn(1); // 기존 자식 1개 있음 가정
 		given(commentsRepository.save(any(CommentsEntity.class))).willAnswer(invocation -> {
 			CommentsEntity saved = invocation.getArgument(0);
 			ReflectionTestUtils.setField(saved, "id", 101L);
@@ -150,7 +153,7 @@ class CommentsServiceTest {
 		assertThat(response.id()).isEqualTo(101L);
 		assertThat(response.name()).isEqualTo("홍길동");
 		assertThat(response.depth()).isEqualTo(1); // parent depth(0) + 1
-		assertThat(response.sequence()).isEqualTo(1); // max(0) + 1
+		assertThat(response.sequence()).isEqualTo(1);
 		assertThat(response.parentId()).isEqualTo(parentId);
 	}
 
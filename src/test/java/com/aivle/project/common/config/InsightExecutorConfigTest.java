@@ -2,6 +2,8 @@ package com.aivle.project.common.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -21,7 +23,7 @@ class InsightExecutorConfigTest {
 		properties.setEnabled(false);
 		properties.setInsightEnabled(false);
 		properties.setEmailEnabled(false);
-		InsightExecutorConfig config = new InsightExecutorConfig(properties);
+		InsightExecutorConfig config = new InsightExecutorConfig(properties, new SimpleMeterRegistry());
 		Executor executor = config.insightExecutor();
 
 		try {
@@ -43,7 +45,7 @@ class InsightExecutorConfigTest {
 		properties.setEnabled(true);
 		properties.setInsightEnabled(false);
 		properties.setEmailEnabled(false);
-		InsightExecutorConfig config = new InsightExecutorConfig(properties);
+		InsightExecutorConfig config = new InsightExecutorConfig(properties, new SimpleMeterRegistry());
 		Executor executor = config.insightExecutor();
 
 		try {
@@ -65,7 +67,7 @@ class InsightExecutorConfigTest {
 		properties.setEnabled(false);
 		properties.setInsightEnabled(false);
 		properties.setEmailEnabled(true);
-		InsightExecutorConfig config = new InsightExecutorConfig(properties);
+		InsightExecutorConfig config = new InsightExecutorConfig(properties, new SimpleMeterRegistry());
 		Executor executor = config.emailExecutor();
 
 		try {
@@ -79,6 +81,45 @@ class InsightExecutorConfigTest {
 		}
 	}
 
+	@Test
+	@DisplayName("실행기별 대기/실행 작업 수 게이지를 모드와 함께 노출한다")
+	void executors_shouldExposeQueueAndActiveGauges() throws Exception {
+		// given
+		VirtualThreadProperties properties = new VirtualThreadProperties();
+		properties.setEmailEnabled(true);
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		InsightExecutorConfig config = new InsightExecutorConfig(properties, meterRegistry);
+		Executor insightExecutor = config.insightExecutor();
+		Executor emailExecutor = config.emailExecutor();
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		try {
+			// when: 가상 스레드 실행기에서 작업 하나를 붙잡아 둔다
+			emailExecutor.execute(() -> {
+				running.countDown();
+				try {
+					release.await(3, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			assertThat(running.await(3, TimeUnit.SECONDS)).isTrue();
+
+			// then
+			assertThat(meterRegistry.get(InsightExecutorConfig.ACTIVE_GAUGE).tag("name", "email").tag("mode", "virtual").gauge().value())
+				.isEqualTo(1.0);
+			assertThat(meterRegistry.get(InsightExecutorConfig.QUEUED_GAUGE).tag("name", "email").gauge().value())
+				.isZero();
+			assertThat(meterRegistry.get(InsightExecutorConfig.QUEUED_GAUGE).tag("name", "insight").tag("mode", "pool").gauge().value())
+				.isZero();
+		} finally {
+			release.countDown();
+			shutdown(insightExecutor);
+			shutdown(emailExecutor);
+		}
+	}
+
 	private boolean isVirtualThread(Executor executor) throws InterruptedException {
 		AtomicReference<Boolean> result = new AtomicReference<>(null);
 		CountDownLatch latch = new CountDownLatch(1);
@@ -2,6 +2,10 @@ package com.aivle.project.common.config;
 
 import com.aivle.project.file.storage.FileStorageService;
 import com.aivle.project.file.storage.StoredFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,16 +25,31 @@ public class TestFileStorageConfig {
 	@Bean
 	@Primary
 	public FileStorageService fileStorageService() {
-		return (MultipartFile file, String keyPrefix) -> {
-			int index = SEQUENCE.getAndIncrement();
-			String storedKey = buildKey(keyPrefix, index, file.getOriginalFilename());
-			return new StoredFile(
-				"memory://" + storedKey,
-				file.getOriginalFilename(),
-				file.getSize(),
-				file.getContentType(),
-				storedKey
-			);
+		return new FileStorageService() {
+			@Override
+			public StoredFile store(MultipartFile file, String keyPrefix) {
+				int index = SEQUENCE.getAndIncrement();
+				String storedKey = buildKey(keyPrefix, index, file.getOriginalFilename());
+				return new StoredFile(
+					"memory://" + storedKey,
+					file.getOriginalFilename(),
+					file.getSize(),
+					file.getContentType(),
+					storedKey
+				);
+			}
+
+			@Override
+			public StoredFile store(InputStream content, String originalFilename, String contentType, String keyPrefix) {
+				int index = SEQUENCE.getAndIncrement();
+				String storedKey = buildKey(keyPrefix, index, originalFilename);
+				try {
+					long size = content.transferTo(OutputStream.nullOutputStream());
+					return new StoredFile("memory://" + storedKey, originalFilename, size, contentType, storedKey);
+				} catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
 		};
 	}
 
@@ -0,0 +1,56 @@
+package com.aivle.project.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiLogBufferTest {
+
+	@Test
+	@DisplayName("버퍼가 가득 차면 새 로그를 버리고 요청 스레드를 막지 않는다")
+	void offer_shouldDropWhenFull() {
+		// given: 작업 스레드 없이 용량 2인 버퍼
+		ApiLogProcessor processor = mock(ApiLogProcessor.class);
+		ApiLogBuffer buffer = new ApiLogBuffer(processor, 2);
+
+		// when
+		boolean first = buffer.offer(event("/a"));
+		boolean second = buffer.offer(event("/b"));
+		boolean third = buffer.offer(event("/c"));
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		assertThat(third).isFalse();
+		assertThat(buffer.pending()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("종료 시 남은 로그를 모두 기록하고 한 건의 실패가 나머지를 막지 않는다")
+	void drainRemaining_shouldWriteAllPendingEvents() {
+		// given
+		ApiLogProcessor processor = mock(ApiLogProcessor.class);
+		ApiLogBuffer buffer = new ApiLogBuffer(processor, 8);
+		ApiLogEvent broken = event("/broken");
+		doThrow(new IllegalStateException("boom")).when(processor).process(broken);
+		buffer.offer(broken);
+		buffer.offer(event("/ok"));
+
+		// when
+		buffer.drainRemaining();
+
+		// then
+		verify(processor, times(2)).process(any(ApiLogEvent.class));
+		assertThat(buffer.pending()).isZero();
+	}
+
+	private ApiLogEvent event(String uri) {
+		return new ApiLogEvent("GET", uri, "TestController", "handle", new Object[0], "ok", 1L, null);
+	}
+}
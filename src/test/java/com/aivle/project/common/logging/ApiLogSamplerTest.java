@@ -0,0 +1,46 @@
+package com.aivle.project.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ApiLogSamplerTest {
+
+	private ApiLogProperties properties;
+	private ApiLogSampler sampler;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ApiLogProperties();
+		properties.setDefaultSampleRate(0.5);
+		properties.getSampleRates().put("/api/companies/**", 0.0);
+		properties.getSampleRates().put("/api/companies/{stockCode}/insights", 1.0);
+		sampler = new ApiLogSampler(properties);
+	}
+
+	@Test
+	@DisplayName("경로 템플릿에 맞는 가장 구체적인 패턴의 비율을 쓴다")
+	void rateOf_shouldPickMostSpecificPattern() {
+		// when & then
+		assertThat(sampler.rateOf("/api/companies/{stockCode}/insights", "/api/companies/005930/insights")).isEqualTo(1.0);
+		assertThat(sampler.rateOf("/api/companies/{stockCode}", "/api/companies/005930")).isEqualTo(0.0);
+		assertThat(sampler.rateOf("/api/posts/{postId}", "/api/posts/1")).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("매핑 정보가 없으면 요청 경로로 비율을 찾는다")
+	void rateOf_shouldFallbackToUri() {
+		assertThat(sampler.rateOf(null, "/api/companies/005930")).isEqualTo(0.0);
+		assertThat(sampler.rateOf(null, null)).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("비율이 0인 엔드포인트도 실패한 호출은 기록한다")
+	void shouldLog_shouldAlwaysLogFailures() {
+		assertThat(sampler.shouldLog("/api/companies/{stockCode}", "/api/companies/005930", false)).isFalse();
+		assertThat(sampler.shouldLog("/api/companies/{stockCode}", "/api/companies/005930", true)).isTrue();
+		assertThat(sampler.shouldLog("/api/companies/{stockCode}/insights", "/api/companies/005930/insights", false)).isTrue();
+	}
+}
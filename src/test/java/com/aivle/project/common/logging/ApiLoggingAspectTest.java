@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -91,4 +92,46 @@ class ApiLoggingAspectTest {
 		assertThat(result).doesNotContain("inner-secret");
 		assertThat(result).doesNotContain("outer-token");
 	}
+
+	@Test
+	@DisplayName("DTO 필드는 이름 기준으로 가리고 중첩 객체와 배열 원소도 가린다")
+	void mask_shouldMaskDtoFieldsOnTokenStream() {
+		SignupPayload payload = new SignupPayload(
+			"someone@example.com",
+			"p@ssw0rd!",
+			new Profile("010-1234-5678", 30),
+			List.of("rt-1", "rt-2")
+		);
+
+		String result = apiLogProcessor.maskArgs(new Object[]{payload});
+
+		assertThat(result).contains("\"email\":\"so***@example.com\"");
+		assertThat(result).contains("\"password\":\"****\"");
+		assertThat(result).contains("\"phone\":\"****\"");
+		assertThat(result).contains("\"age\":30");
+		assertThat(result).contains("\"refreshTokens\":[\"****\",\"****\"]");
+		assertThat(result).doesNotContain("p@ssw0rd!", "010-1234-5678", "rt-1");
+	}
+
+	@Test
+	@DisplayName("크기 제한을 넘는 DTO는 직렬화를 멈추고 크기 요약으로 대체한다")
+	void mask_shouldSummarizeOversizedDto() {
+		ApiLogProperties properties = new ApiLogProperties();
+		properties.setMaxArgLength(64);
+		ApiLogProcessor limited = new ApiLogProcessor(new ObjectMapper(), properties);
+		Note note = new Note("x".repeat(200));
+
+		String result = limited.maskArgs(new Object[]{note, 7});
+
+		assertThat(result).isEqualTo("[Note(large_json, size>64), 7]");
+	}
+
+	record SignupPayload(String email, String password, Profile profile, List<String> refreshTokens) {
+	}
+
+	record Profile(String phone, int age) {
+	}
+
+	record Note(String content) {
+	}
 }
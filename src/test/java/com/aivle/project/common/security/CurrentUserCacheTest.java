@@ -0,0 +1,126 @@
+package com.aivle.project.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.user.entity.UserEntity;
+import com.aivle.project.user.entity.UserStatus;
+import com.aivle.project.user.event.UserChangedEvent;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class CurrentUserCacheTest {
+
+	private static final UUID USER_UUID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private CurrentUserCache cache;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(Instant.parse("2026-10-17T00:00:00Z"), ZoneOffset.UTC);
+		cache = new CurrentUserCache(true, Duration.ofSeconds(30), 100, clock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("TTL 이내 재조회는 저장소를 다시 호출하지 않는다")
+	void get_reusesEntryWithinTtl() {
+		// given
+		UserEntity user = newUser();
+
+		// when
+		Optional<UserEntity> first = cache.get(USER_UUID, uuid -> load(user));
+		Optional<UserEntity> second = cache.get(USER_UUID, uuid -> load(user));
+
+		// then
+		assertThat(first).containsSame(user);
+		assertThat(second).containsSame(user);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("같은 요청 안에서는 공유 캐시가 꺼져 있어도 한 번만 조회한다")
+	void get_reusesEntryWithinRequest() {
+		// given
+		CurrentUserCache requestOnly = new CurrentUserCache(false, Duration.ofSeconds(30), 100, Clock.systemUTC());
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		UserEntity user = newUser();
+
+		// when
+		requestOnly.get(USER_UUID, uuid -> load(user));
+		Optional<UserEntity> second = requestOnly.get(USER_UUID, uuid -> load(user));
+
+		// then
+		assertThat(second).containsSame(user);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("사용자 변경 이벤트를 받으면 해당 사용자를 다시 조회한다")
+	void onUserChanged_evictsEntry() {
+		// given
+		UserEntity user = newUser();
+		cache.get(USER_UUID, uuid -> load(user));
+
+		// when
+		cache.onUserChanged(new UserChangedEvent(1L, USER_UUID));
+		cache.get(USER_UUID, uuid -> load(user));
+
+		// then
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("조회 도중 무효화되면 읽은 엔티티를 캐시에 적재하지 않는다")
+	void get_skipsStoreWhenInvalidatedDuringLoad() {
+		// given
+		UserEntity user = newUser();
+
+		// when
+		cache.get(USER_UUID, uuid -> {
+			cache.onUserChanged(new UserChangedEvent(1L, USER_UUID));
+			return load(user);
+		});
+
+		// then
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 캐시하지 않는다")
+	void get_doesNotCacheMissingUser() {
+		// when
+		cache.get(USER_UUID, uuid -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		});
+
+		// then
+		assertThat(cache.size()).isZero();
+	}
+
+	private Optional<UserEntity> load(UserEntity user) {
+		loads.incrementAndGet();
+		return Optional.of(user);
+	}
+
+	private UserEntity newUser() {
+		return UserEntity.create("cache@test.com", "encoded", "cache", null, UserStatus.ACTIVE);
+	}
+}
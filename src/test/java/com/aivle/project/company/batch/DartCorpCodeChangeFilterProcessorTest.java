@@ -0,0 +1,85 @@
+package com.aivle.project.company.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.repository.CompaniesJdbcRepository;
+import java.time.LocalDate;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DartCorpCodeChangeFilterProcessorTest {
+
+	@Test
+	@DisplayName("기존 수정일보다 새롭지 않은 행은 걸러내고 신규/갱신 행만 통과시킨다")
+	void shouldFilterUnchangedRows() {
+		// given
+		CompaniesJdbcRepository repository = mock(CompaniesJdbcRepository.class);
+		doAnswer(invocation -> {
+			BiConsumer<String, LocalDate> consumer = invocation.getArgument(0);
+			consumer.accept("001", LocalDate.of(2025, 1, 1));
+			consumer.accept("002", LocalDate.of(2025, 1, 1));
+			consumer.accept("003", null);
+			return null;
+		}).when(repository).forEachModifyDate(any());
+		DartCorpCodeChangeFilterProcessor processor =
+			new DartCorpCodeChangeFilterProcessor(new DartCorpCodeItemProcessor(), repository, 0, 1);
+
+		// when
+		DartCorpCodeItem unchanged = processor.process(item(" 001 ", LocalDate.of(2025, 1, 1)));
+		DartCorpCodeItem updated = processor.process(item("002", LocalDate.of(2025, 2, 1)));
+		DartCorpCodeItem missingDate = processor.process(item("003", LocalDate.of(2024, 1, 1)));
+		DartCorpCodeItem created = processor.process(item("004", null));
+
+		// then
+		assertThat(unchanged).isNull();
+		assertThat(updated.corpCode()).isEqualTo("002");
+		assertThat(missingDate.corpCode()).isEqualTo("003");
+		assertThat(created.corpCode()).isEqualTo("004");
+		verify(repository, times(1)).forEachModifyDate(any());
+	}
+
+	@Test
+	@DisplayName("파티션 번호에 해당하지 않는 기업의 수정일은 적재하지 않는다")
+	void shouldLoadOnlyOwnPartitionDates() {
+		// given
+		int partitionCount = 4;
+		int ownPartition = DartCorpCodePartitioner.partitionOf("001", partitionCount);
+		String otherCorpCode = findCorpCodeOutside(ownPartition, partitionCount);
+		CompaniesJdbcRepository repository = mock(CompaniesJdbcRepository.class);
+		doAnswer(invocation -> {
+			BiConsumer<String, LocalDate> consumer = invocation.getArgument(0);
+			consumer.accept("001", LocalDate.of(2025, 1, 1));
+			consumer.accept(otherCorpCode, LocalDate.of(2025, 1, 1));
+			return null;
+		}).when(repository).forEachModifyDate(any());
+		DartCorpCodeChangeFilterProcessor processor =
+			new DartCorpCodeChangeFilterProcessor(new DartCorpCodeItemProcessor(), repository, ownPartition, partitionCount);
+
+		// when
+		DartCorpCodeItem own = processor.process(item("001", LocalDate.of(2025, 1, 1)));
+		DartCorpCodeItem other = processor.process(item(otherCorpCode, LocalDate.of(2025, 1, 1)));
+
+		// then
+		assertThat(own).isNull();
+		assertThat(other).isNotNull();
+	}
+
+	private DartCorpCodeItem item(String corpCode, LocalDate modifyDate) {
+		return new DartCorpCodeItem(corpCode, "회사", null, null, modifyDate);
+	}
+
+	private String findCorpCodeOutside(int partition, int partitionCount) {
+		for (int i = 2; ; i++) {
+			String candidate = String.format("%03d", i);
+			if (DartCorpCodePartitioner.partitionOf(candidate, partitionCount) != partition) {
+				return candidate;
+			}
+		}
+	}
+}
@@ -5,7 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.aivle.project.company.config.DartProperties;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 import okhttp3.mockwebserver.MockResponse;
@@ -91,6 +95,90 @@ class DartCorpCodeItemReaderTest {
 		assertThat(end).isNull();
 	}
 
+	@Test
+	@DisplayName("재시작하면 저장된 임시 파일을 재사용해 다운로드 없이 커밋 이후 항목부터 읽는다")
+	void shouldResumeFromExecutionContextWithoutDownloading() throws Exception {
+		// given
+		String xml = """
+			<?xml version=\"1.0\" encoding=\"UTF-8\"?>
+			<result>
+			  <status>000</status>
+			  <list><corp_code>001</corp_code><corp_name>회사1</corp_name></list>
+			  <list><corp_code>002</corp_code><corp_name>회사2</corp_name></list>
+			  <list><corp_code>003</corp_code><corp_name>회사3</corp_name></list>
+			</result>
+			""";
+		mockWebServer.enqueue(new MockResponse()
+			.setResponseCode(200)
+			.setHeader("Content-Type", "application/zip")
+			.setBody(new Buffer().write(createZipBytes("corpCode.xml", xml))));
+
+		DartProperties properties = new DartProperties();
+		properties.setApiKey("test-key");
+		WebClient webClient = WebClient.builder()
+			.baseUrl(mockWebServer.url("/").toString())
+			.build();
+
+		DartCorpCodeItemReader firstRun = new DartCorpCodeItemReader(properties, webClient);
+		ExecutionContext executionContext = new ExecutionContext();
+		firstRun.open(executionContext);
+		firstRun.read();
+		firstRun.update(executionContext);
+		firstRun.read();
+		// 두 번째 항목을 커밋하기 전에 실패했다고 가정한다.
+		firstRun.close();
+		Path downloaded = Path.of(executionContext.getString("dartCorpCodeItemReader.download.path"));
+
+		// when
+		DartCorpCodeItemReader restarted = new DartCorpCodeItemReader(properties, webClient);
+		restarted.open(executionContext);
+		DartCorpCodeItem second = restarted.read();
+		DartCorpCodeItem third = restarted.read();
+		DartCorpCodeItem end = restarted.read();
+		restarted.close();
+
+		// then
+		assertThat(mockWebServer.getRequestCount()).isEqualTo(1);
+		assertThat(second.corpCode()).isEqualTo("002");
+		assertThat(third.corpCode()).isEqualTo("003");
+		assertThat(end).isNull();
+		assertThat(Files.exists(downloaded)).isFalse();
+	}
+
+	@Test
+	@DisplayName("파티션 리더는 공유 파일에서 자기 해시 구간의 기업만 읽고 파일을 지우지 않는다")
+	void shouldReadOnlyAssignedPartitionFromSharedFile() throws Exception {
+		// given
+		StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?><result><status>000</status>");
+		for (int i = 1; i <= 20; i++) {
+			xml.append("<list><corp_code>%03d</corp_code><corp_name>회사%d</corp_name></list>".formatted(i, i));
+		}
+		xml.append("</result>");
+		Path shared = Files.createTempFile("dart-corp-code-test-", ".zip");
+		Files.write(shared, createZipBytes("corpCode.xml", xml.toString()));
+		int partitionCount = 3;
+		List<String> corpCodes = new ArrayList<>();
+
+		// when
+		for (int index = 0; index < partitionCount; index++) {
+			DartCorpCodeItemReader reader = new DartCorpCodeItemReader(new DartProperties(), WebClient.create());
+			reader.assignPartition(index, partitionCount, shared);
+			reader.open(new ExecutionContext());
+			DartCorpCodeItem item;
+			while ((item = reader.read()) != null) {
+				assertThat(DartCorpCodePartitioner.partitionOf(item.corpCode(), partitionCount)).isEqualTo(index);
+				corpCodes.add(item.corpCode());
+			}
+			reader.close();
+		}
+
+		// then
+		assertThat(corpCodes).hasSize(20).doesNotHaveDuplicates();
+		assertThat(mockWebServer.getRequestCount()).isZero();
+		assertThat(Files.exists(shared)).isTrue();
+		Files.deleteIfExists(shared);
+	}
+
 	private byte[] createZipBytes(String entryName, String xml) throws Exception {
 		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8)) {
@@ -0,0 +1,145 @@
+package com.aivle.project.company.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.config.DartProperties;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+
+class DartCorpCodeJobServiceTest {
+
+	private final JobLauncher jobLauncher = mock(JobLauncher.class);
+	private final JobExplorer jobExplorer = mock(JobExplorer.class);
+	private final Job job = mock(Job.class);
+	private final DartProperties dartProperties = new DartProperties();
+	private final JobInstance instance = new JobInstance(1L, DartCorpCodeJobConfig.JOB_NAME);
+	private final JobParameters failedParameters = new JobParametersBuilder()
+		.addLong("requestedAt", 1L)
+		.addString("trigger", "schedule")
+		.toJobParameters();
+
+	@TempDir
+	Path tempDir;
+
+	private DartCorpCodeJobService service;
+
+	@BeforeEach
+	void setUp() {
+		dartProperties.getCorpSync().getRestart().setWindow(Duration.ofHours(6));
+		dartProperties.getCorpSync().getRestart().setMaxAttempts(3);
+		service = new DartCorpCodeJobService(jobLauncher, jobExplorer, job, dartProperties);
+		when(jobExplorer.getLastJobInstance(DartCorpCodeJobConfig.JOB_NAME)).thenReturn(instance);
+	}
+
+	@Test
+	@DisplayName("최근 실패한 실행은 재시작 횟수가 남아 있으면 같은 파라미터로 재시작한다")
+	void launch_restartsRecentFailure() throws Exception {
+		// given
+		Path download = Files.createFile(tempDir.resolve("corp.zip"));
+		JobExecution failed = failedExecution(LocalDateTime.now().minusMinutes(10), download);
+		when(jobExplorer.getLastJobExecution(instance)).thenReturn(failed);
+		when(jobExplorer.getJobExecutions(instance)).thenReturn(List.of(failed));
+
+		// when
+		service.launch("schedule");
+
+		// then
+		verify(jobLauncher).run(job, failedParameters);
+		assertThat(download).exists();
+	}
+
+	@Test
+	@DisplayName("재시작 기간이 지난 실패는 새 실행으로 시작하고 이전 ZIP 을 지운다")
+	void launch_startsFreshWhenFailureIsStale() throws Exception {
+		// given
+		Path download = Files.createFile(tempDir.resolve("corp.zip"));
+		JobExecution failed = failedExecution(LocalDateTime.now().minusDays(1), download);
+		when(jobExplorer.getLastJobExecution(instance)).thenReturn(failed);
+
+		// when
+		service.launch("schedule");
+
+		// then
+		verify(jobLauncher).run(eq(job), argThat(parameters -> !parameters.equals(failedParameters)));
+		assertThat(download).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("파티션 없이 실패한 실행을 버릴 때 스텝 컨텍스트에 남은 ZIP 도 지운다")
+	void launch_discardsStepDownloadOfNonPartitionedRun() throws Exception {
+		// given
+		Path download = Files.createFile(tempDir.resolve("corp.zip"));
+		JobExecution failed = failedExecution(LocalDateTime.now().minusDays(1), null);
+		StepExecution step = failed.createStepExecution(DartCorpCodeJobConfig.STEP_NAME);
+		step.getExecutionContext().putString(DartCorpCodeItemReader.STEP_DOWNLOAD_PATH_KEY, download.toString());
+		when(jobExplorer.getLastJobExecution(instance)).thenReturn(failed);
+
+		// when
+		service.launch("schedule");
+
+		// then
+		verify(jobLauncher).run(eq(job), argThat(parameters -> !parameters.equals(failedParameters)));
+		assertThat(download).doesNotExist();
+	}
+
+	@Test
+	@DisplayName("재시작 횟수를 다 쓴 실패는 새 실행으로 시작한다")
+	void launch_startsFreshWhenRetryCapReached() throws Exception {
+		// given
+		JobExecution failed = failedExecution(LocalDateTime.now().minusMinutes(10), null);
+		when(jobExplorer.getLastJobExecution(instance)).thenReturn(failed);
+		when(jobExplorer.getJobExecutions(instance)).thenReturn(List.of(failed, failed, failed));
+
+		// when
+		service.launch("manual");
+
+		// then
+		verify(jobLauncher).run(eq(job), argThat(parameters -> "manual".equals(parameters.getString("trigger"))));
+	}
+
+	@Test
+	@DisplayName("직전 실행이 성공했으면 새 실행으로 시작한다")
+	void launch_startsFreshAfterSuccess() throws Exception {
+		// given
+		JobExecution completed = new JobExecution(instance, 10L, failedParameters);
+		completed.setStatus(BatchStatus.COMPLETED);
+		when(jobExplorer.getLastJobExecution(instance)).thenReturn(completed);
+
+		// when
+		service.launch("schedule");
+
+		// then
+		verify(jobLauncher).run(eq(job), argThat(parameters -> !parameters.equals(failedParameters)));
+	}
+
+	private JobExecution failedExecution(LocalDateTime endTime, Path download) {
+		JobExecution execution = new JobExecution(instance, 10L, failedParameters);
+		execution.setStatus(BatchStatus.FAILED);
+		execution.setEndTime(endTime);
+		if (download != null) {
+			execution.getExecutionContext().putString(DartCorpCodePartitioner.DOWNLOAD_PATH_KEY, download.toString());
+		}
+		return execution;
+	}
+}
@@ -0,0 +1,90 @@
+package com.aivle.project.company.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.Exceptions;
+
+class AiClientMetricsAspectTest {
+
+	private MeterRegistry meterRegistry;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private AiClientMetricsAspect aspect;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		aspect = new AiClientMetricsAspect(meterRegistry, circuitBreakerRegistry);
+	}
+
+	@Test
+	@DisplayName("AI 호출 시간을 작업 이름, 결과, 회로 상태 태그로 기록한다")
+	void time_shouldRecordOperationOutcomeAndCircuitState() {
+		// given: 모의 응답을 쓰는 클라이언트에 Aspect 를 적용한다
+		AspectJProxyFactory factory = new AspectJProxyFactory(new AiServerClient("http://localhost:8080", true, 0));
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		AiServerClient client = factory.getProxy();
+
+		// when
+		client.getHealthScore("005930");
+
+		// then
+		assertThat(meterRegistry.get(AiClientMetricsAspect.TIMER)
+			.tag("operation", "health-score")
+			.tag("outcome", "success")
+			.tag("circuit", "closed")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("회로 차단, 타임아웃, 기타 실패를 원인 체인으로 구분한다")
+	void outcomeOf_shouldClassifyCauseChain() {
+		// given
+		CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("aiServer");
+		circuitBreaker.transitionToOpenState();
+		RuntimeException circuitOpen = new RuntimeException(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+		RuntimeException timeout = Exceptions.propagate(new TimeoutException("late"));
+
+		// when & then
+		assertThat(AiClientMetricsAspect.outcomeOf(circuitOpen)).isEqualTo("circuit_open");
+		assertThat(AiClientMetricsAspect.outcomeOf(timeout)).isEqualTo("timeout");
+		assertThat(AiClientMetricsAspect.outcomeOf(new IllegalStateException("boom"))).isEqualTo("error");
+	}
+
+	@Test
+	@DisplayName("메서드 이름을 단일 호출 합치기와 같은 작업 이름으로 바꾼다")
+	void operationOf_shouldConvertMethodName() {
+		assertThat(AiClientMetricsAspect.operationOf("getPrediction")).isEqualTo("prediction");
+		assertThat(AiClientMetricsAspect.operationOf("getAiComment")).isEqualTo("ai-comment");
+		assertThat(AiClientMetricsAspect.operationOf("getAnalysisReportPdf")).isEqualTo("analysis-report-pdf");
+	}
+
+	@Test
+	@DisplayName("실패한 호출도 결과 태그와 함께 기록하고 예외는 그대로 전달한다")
+	void time_shouldRecordFailure() {
+		// given: 응답하지 않는 주소로 짧은 타임아웃 호출
+		AspectJProxyFactory factory = new AspectJProxyFactory(new AiServerClient("http://127.0.0.1:9", false, 0, 100));
+		factory.setProxyTargetClass(true);
+		factory.addAspect(aspect);
+		AiServerClient client = factory.getProxy();
+
+		// when & then
+		assertThatThrownBy(() -> client.getSignals("005930", "20251")).isInstanceOf(RuntimeException.class);
+		assertThat(meterRegistry.find(AiClientMetricsAspect.TIMER).tag("operation", "signals").timer())
+			.isNotNull()
+			.satisfies(timer -> assertThat(timer.getId().getTag("outcome")).isNotEqualTo("success"));
+	}
+}
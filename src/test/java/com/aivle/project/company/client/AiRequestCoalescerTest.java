@@ -0,0 +1,164 @@
+package com.aivle.project.company.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.aivle.project.common.error.ExternalAiUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class AiRequestCoalescerTest {
+
+	private static final int CALLERS = 5;
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ExecutorService executor;
+	private AiRequestCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		given(meterRegistryProvider.getIfAvailable()).willReturn(meterRegistry);
+		executor = Executors.newFixedThreadPool(CALLERS);
+		coalescer = newCoalescer(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 키로 동시에 들어온 호출은 한 번만 실행하고 결과를 공유한다")
+	void execute_sharesInFlightCall() throws Exception {
+		// given
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when
+		List<Future<Object>> futures = submitConcurrently(() -> {
+			invocations.incrementAndGet();
+			release.await(5, TimeUnit.SECONDS);
+			return "prediction-005930";
+		}, release);
+
+		// then
+		for (Future<Object> future : futures) {
+			assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("prediction-005930");
+		}
+		assertThat(invocations).hasValue(1);
+		assertThat(coalescer.inFlightCount()).isZero();
+		assertThat(meterRegistry.get("ai.client.coalesced.calls").tag("role", "follower").counter().count())
+			.isEqualTo(CALLERS - 1);
+	}
+
+	@Test
+	@DisplayName("선행 호출이 실패하면 대기 중인 호출도 같은 예외를 받는다")
+	void execute_propagatesLeaderFailure() throws Exception {
+		// given
+		ExternalAiUnavailableException failure = new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", null);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// when
+		List<Future<Object>> futures = submitConcurrently(() -> {
+			release.await(5, TimeUnit.SECONDS);
+			throw failure;
+		}, release);
+
+		// then
+		for (Future<Object> future : futures) {
+			assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCause(failure);
+		}
+	}
+
+	@Test
+	@DisplayName("병합을 끄면 호출마다 그대로 실행한다")
+	void execute_disabled_callsEveryTime() throws Throwable {
+		// given
+		AiRequestCoalescer disabled = newCoalescer(false);
+		AtomicInteger invocations = new AtomicInteger();
+
+		// when
+		disabled.execute("prediction", "prediction:005930", String.class, () -> invocations.incrementAndGet());
+		disabled.execute("prediction", "prediction:005930", String.class, () -> invocations.incrementAndGet());
+
+		// then
+		assertThat(invocations).hasValue(2);
+	}
+
+	private List<Future<Object>> submitConcurrently(AiRequestCoalescer.Call call, CountDownLatch release)
+		throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(CALLERS);
+		List<Future<Object>> futures = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			futures.add(executor.submit(() -> {
+				started.countDown();
+				try {
+					return coalescer.execute("prediction", "prediction:005930", String.class, call);
+				} catch (Exception | Error ex) {
+					throw ex;
+				} catch (Throwable ex) {
+					throw new IllegalStateException(ex);
+				}
+			}));
+		}
+		started.await(5, TimeUnit.SECONDS);
+		// 모든 호출이 선행 호출에 합류할 시간을 둔 뒤 결과를 풀어 준다.
+		waitUntilFollowersJoined();
+		release.countDown();
+		return futures;
+	}
+
+	private void waitUntilFollowersJoined() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline && followerCount() < CALLERS - 1) {
+			Thread.sleep(10);
+		}
+	}
+
+	private double followerCount() {
+		var counter = meterRegistry.find("ai.client.coalesced.calls").tag("role", "follower").counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	private AiRequestCoalescer newCoalescer(boolean enabled) {
+		return new AiRequestCoalescer(
+			redisTemplateProvider,
+			new ObjectMapper(),
+			meterRegistryProvider,
+			enabled,
+			false,
+			Duration.ofSeconds(10),
+			Duration.ofSeconds(10),
+			Duration.ofSeconds(5),
+			Duration.ofMillis(50)
+		);
+	}
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.Disabled;
+import org.springframework.core.io.buffer.DataBufferUtils;
 
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
@@ -115,7 +116,14 @@ class AiServerClientTest {
                 .addHeader("Content-Type", "application/pdf"));
 
         // when
-        byte[] result = aiServerClient.getAnalysisReportPdf("005930");
+        byte[] result = DataBufferUtils.join(aiServerClient.getAnalysisReportPdf("005930"))
+                .map(buffer -> {
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .block();
 
         // then
         assertThat(result).isEqualTo(mockPdfContent);
@@ -9,6 +9,7 @@ import com.aivle.project.company.dto.CompanyInfoDto;
 import com.aivle.project.company.dto.CompanyOverviewResponseDto;
 import com.aivle.project.company.dto.CompanySectorDto;
 import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.company.service.CompanyIdResolver;
 import com.aivle.project.company.service.CompanyOverviewService;
 import com.aivle.project.common.security.CurrentUserArgumentResolver;
 import com.aivle.project.user.repository.UserRepository;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
@@ -32,6 +34,7 @@ import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 	}
 )
 @AutoConfigureMockMvc(addFilters = false)
+@Import(CompanyIdResolver.class)
 @ActiveProfiles("test")
 class CompanyOverviewTempControllerTest {
 
@@ -0,0 +1,197 @@
+package com.aivle.project.company.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.dto.AiReportStatusResponse;
+import com.aivle.project.company.service.AiReportRequestStatusService;
+import com.aivle.project.company.service.CompanyAiCommentService;
+import com.aivle.project.company.service.CompanyAiService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+class AiJobBatchKafkaConsumerTest {
+
+	private static final String TOPIC = "ai-job-request";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AiJobHandler aiJobHandler = mock(AiJobHandler.class);
+	private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+	private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("배치의 모든 작업이 끝난 뒤에 한 번만 ack 한다")
+	void consume_shouldAcknowledgeAfterAllJobsComplete() {
+		// given
+		AiJobBatchKafkaConsumer consumer = new AiJobBatchKafkaConsumer(objectMapper, aiJobHandler, executor, 2);
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, 0L, reportPayload("req-1")),
+			record(0, 1L, reportPayload("req-2")),
+			record(1, 0L, reportPayload("req-3"))
+		);
+
+		// when
+		consumer.consume(records, acknowledgment);
+
+		// then
+		verify(aiJobHandler, times(3)).handle(any(AiJobMessage.class));
+		verify(acknowledgment).acknowledge();
+	}
+
+	@Test
+	@DisplayName("파티션당 동시에 처리하는 작업 수가 한도를 넘지 않는다")
+	void consume_shouldBoundInFlightJobsPerPartition() {
+		// given
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		doAnswer(invocation -> {
+			int current = running.incrementAndGet();
+			maxRunning.accumulateAndGet(current, Math::max);
+			Thread.sleep(20);
+			running.decrementAndGet();
+			return null;
+		}).when(aiJobHandler).handle(any(AiJobMessage.class));
+		AiJobBatchKafkaConsumer consumer = new AiJobBatchKafkaConsumer(objectMapper, aiJobHandler, executor, 2);
+		List<ConsumerRecord<String, String>> records = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			records.add(record(0, i, reportPayload("req-" + i)));
+		}
+
+		// when
+		consumer.consume(records, acknowledgment);
+
+		// then
+		assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+		verify(aiJobHandler, times(8)).handle(any(AiJobMessage.class));
+		verify(acknowledgment).acknowledge();
+	}
+
+	@Test
+	@DisplayName("작업이 실패하면 ack 하지 않고 실패 위치를 에러 핸들러에 넘긴다")
+	void consume_shouldReportFailedIndex() {
+		// given
+		doThrow(new IllegalStateException("AI down"))
+			.when(aiJobHandler).handle(argThat(message -> "req-2".equals(message.requestId())));
+		AiJobBatchKafkaConsumer consumer = new AiJobBatchKafkaConsumer(objectMapper, aiJobHandler, executor, 4);
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, 10L, reportPayload("req-1")),
+			record(0, 11L, reportPayload("req-2")),
+			record(0, 12L, reportPayload("req-3"))
+		);
+
+		// when & then
+		assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
+			.isInstanceOf(BatchListenerFailedException.class)
+			.satisfies(ex -> {
+				BatchListenerFailedException failed = (BatchListenerFailedException) ex;
+				assertThat(failed.getIndex()).isEqualTo(1);
+				assertThat(failed.getCause()).isInstanceOf(IllegalStateException.class);
+			});
+		verify(acknowledgment, never()).acknowledge();
+	}
+
+	@Test
+	@DisplayName("역직렬화할 수 없는 메시지는 처리하지 않고 원인과 함께 실패로 넘긴다")
+	void consume_shouldFailMalformedPayload() {
+		// given
+		AiJobBatchKafkaConsumer consumer = new AiJobBatchKafkaConsumer(objectMapper, aiJobHandler, executor, 4);
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, 0L, "{not-json"),
+			record(0, 1L, reportPayload("req-1"))
+		);
+
+		// when & then
+		assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
+			.isInstanceOf(BatchListenerFailedException.class)
+			.satisfies(ex -> {
+				BatchListenerFailedException failed = (BatchListenerFailedException) ex;
+				assertThat(failed.getIndex()).isZero();
+				assertThat(failed.getCause()).isInstanceOf(JsonProcessingException.class);
+			});
+		verify(aiJobHandler).handle(any(AiJobMessage.class));
+		verify(acknowledgment, never()).acknowledge();
+	}
+
+	@Test
+	@DisplayName("실패 위치 뒤에서 이미 끝난 AI 리포트는 재전달돼도 다시 생성하지 않는다")
+	void consume_shouldNotRegenerateReportOnRedelivery() {
+		// given
+		CompanyAiService companyAiService = mock(CompanyAiService.class);
+		AiReportRequestStatusService statusService = mock(AiReportRequestStatusService.class);
+		Map<String, AiReportStatusResponse> statuses = new ConcurrentHashMap<>();
+		when(statusService.getStatus(anyString()))
+			.thenAnswer(invocation -> Optional.ofNullable(statuses.get(invocation.<String>getArgument(0))));
+		AtomicInteger firstAttempts = new AtomicInteger();
+		doAnswer(invocation -> {
+			String requestId = invocation.getArgument(0);
+			if ("req-1".equals(requestId) && firstAttempts.getAndIncrement() == 0) {
+				throw new IllegalStateException("AI down");
+			}
+			statuses.put(requestId, AiReportStatusResponse.completed(requestId, "1", "/download"));
+			return null;
+		}).when(companyAiService).processReportGeneration(any(), any(), any(), any());
+		AiJobHandler handler = new AiJobHandler(
+			companyAiService,
+			mock(CompanyAiCommentService.class),
+			statusService,
+			new SimpleMeterRegistry()
+		);
+		AiJobBatchKafkaConsumer consumer = new AiJobBatchKafkaConsumer(objectMapper, handler, executor, 4);
+		List<ConsumerRecord<String, String>> records = List.of(
+			record(0, 0L, reportPayload("req-1")),
+			record(0, 1L, reportPayload("req-2"))
+		);
+
+		// when: 첫 배치는 0번에서 실패하고, 에러 핸들러가 0번부터 다시 넘긴다.
+		assertThatThrownBy(() -> consumer.consume(records, acknowledgment))
+			.isInstanceOf(BatchListenerFailedException.class)
+			.satisfies(ex -> assertThat(((BatchListenerFailedException) ex).getIndex()).isZero());
+		consumer.consume(records, acknowledgment);
+
+		// then
+		verify(companyAiService, times(2)).processReportGeneration(eq("req-1"), any(), any(), any());
+		verify(companyAiService, times(1)).processReportGeneration(eq("req-2"), any(), any(), any());
+		verify(acknowledgment).acknowledge();
+	}
+
+	private static ConsumerRecord<String, String> record(int partition, long offset, String payload) {
+		return new ConsumerRecord<>(TOPIC, partition, offset, "key-" + offset, payload);
+	}
+
+	private static String reportPayload(String requestId) {
+		return """
+			{"requestId":"%s","type":"AI_REPORT","companyId":1,"year":2026,"quarter":3}
+			""".formatted(requestId);
+	}
+}
@@ -0,0 +1,122 @@
+package com.aivle.project.company.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.common.config.AiJobKafkaConsumerConfig;
+import com.aivle.project.company.service.AiReportRequestStatusService;
+import com.aivle.project.company.service.CompanyAiCommentService;
+import com.aivle.project.company.service.CompanyAiService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+@EmbeddedKafka(partitions = 1, topics = {AiJobDeadLetterTest.TOPIC, AiJobDeadLetterTest.DLT_TOPIC})
+class AiJobDeadLetterTest {
+
+	static final String TOPIC = "ai-job-request";
+	static final String DLT_TOPIC = TOPIC + ".DLT";
+
+	private final CompanyAiService companyAiService = mock(CompanyAiService.class);
+	private final CompanyAiCommentService companyAiCommentService = mock(CompanyAiCommentService.class);
+	private final AiReportRequestStatusService aiReportRequestStatusService = mock(AiReportRequestStatusService.class);
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("AI 리포트 작업이 재시도 후에도 실패하면 DLT 로 보낸다")
+	void failedReportJob_shouldReachDeadLetterTopic(EmbeddedKafkaBroker broker) {
+		// given
+		doThrow(new IllegalStateException("AI down"))
+			.when(companyAiService).processReportGeneration(eq("req-dlt"), any(), any(), any());
+		KafkaTemplate<String, String> kafkaTemplate = kafkaTemplate(broker);
+		ConcurrentKafkaListenerContainerFactory<String, String> factory = new AiJobKafkaConsumerConfig()
+			.aiJobBatchListenerContainerFactory(
+				new DefaultKafkaConsumerFactory<>(consumerProps(broker, "ai-job-dlt-test")),
+				kafkaTemplate,
+				1,
+				4,
+				Duration.ofMinutes(1),
+				Duration.ofMillis(10),
+				1L
+			);
+		AiJobBatchKafkaConsumer batchConsumer = new AiJobBatchKafkaConsumer(
+			new ObjectMapper(),
+			new AiJobHandler(companyAiService, companyAiCommentService, aiReportRequestStatusService, new SimpleMeterRegistry()),
+			executor,
+			4
+		);
+		ConcurrentMessageListenerContainer<String, String> container = factory.createContainer(TOPIC);
+		container.setupMessageListener((BatchAcknowledgingMessageListener<String, String>) batchConsumer::consume);
+
+		String payload = """
+			{"requestId":"req-dlt","type":"AI_REPORT","companyId":1,"year":2026,"quarter":3}""";
+
+		try (Consumer<String, String> dltConsumer = new DefaultKafkaConsumerFactory<String, String>(
+			consumerProps(broker, "ai-job-dlt-reader")
+		).createConsumer()) {
+			broker.consumeFromAnEmbeddedTopic(dltConsumer, DLT_TOPIC);
+			container.start();
+
+			// when
+			kafkaTemplate.send(TOPIC, "req-dlt", payload);
+
+			// then
+			ConsumerRecord<String, String> deadLetter = KafkaTestUtils.getSingleRecord(
+				dltConsumer,
+				DLT_TOPIC,
+				Duration.ofSeconds(30)
+			);
+			assertThat(deadLetter.key()).isEqualTo("req-dlt");
+			assertThat(deadLetter.value()).isEqualTo(payload);
+			verify(companyAiService, atLeast(2)).processReportGeneration("req-dlt", 1L, 2026, 3);
+		} finally {
+			container.stop();
+		}
+	}
+
+	private static KafkaTemplate<String, String> kafkaTemplate(EmbeddedKafkaBroker broker) {
+		Map<String, Object> props = KafkaTestUtils.producerProps(broker.getBrokersAsString());
+		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+		return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+	}
+
+	private static Map<String, Object> consumerProps(EmbeddedKafkaBroker broker, String groupId) {
+		Map<String, Object> props = KafkaTestUtils.consumerProps(broker.getBrokersAsString(), groupId, "false");
+		props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+		props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+		return props;
+	}
+}
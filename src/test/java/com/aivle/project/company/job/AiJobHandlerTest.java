@@ -0,0 +1,111 @@
+package com.aivle.project.company.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.dto.AiReportStatusResponse;
+import com.aivle.project.company.service.AiReportRequestStatusService;
+import com.aivle.project.company.service.CompanyAiCommentService;
+import com.aivle.project.company.service.CompanyAiService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AiJobHandlerTest {
+
+	private final CompanyAiService companyAiService = mock(CompanyAiService.class);
+	private final CompanyAiCommentService companyAiCommentService = mock(CompanyAiCommentService.class);
+	private final AiReportRequestStatusService aiReportRequestStatusService = mock(AiReportRequestStatusService.class);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AiJobHandler handler = new AiJobHandler(
+		companyAiService,
+		companyAiCommentService,
+		aiReportRequestStatusService,
+		meterRegistry
+	);
+
+	@Test
+	@DisplayName("작업 유형별로 서비스에 넘기고 성공 건수를 센다")
+	void handle_shouldDispatchAndCountSuccess() {
+		// given
+		when(companyAiCommentService.ensureAiCommentCached(1L, "20251")).thenReturn("코멘트");
+
+		// when
+		handler.handle(AiJobMessage.forReport("req-1", 1L, 2025, 1));
+		handler.handle(AiJobMessage.forCommentWarmup("req-2", 1L, "20251"));
+
+		// then
+		verify(companyAiService).processReportGeneration("req-1", 1L, 2025, 1);
+		verify(companyAiCommentService).ensureAiCommentCached(1L, "20251");
+		assertThat(count(AiJobType.AI_REPORT, "success")).isEqualTo(1.0);
+		assertThat(count(AiJobType.AI_COMMENT_WARMUP, "success")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("처리 중 예외가 나면 실패 건수를 세고 예외를 그대로 전달한다")
+	void handle_shouldCountFailureAndRethrow() {
+		// given
+		doThrow(new IllegalStateException("boom"))
+			.when(companyAiCommentService).ensureAiCommentCached(2L, "20251");
+
+		// when & then
+		assertThatThrownBy(() -> handler.handle(AiJobMessage.forCommentWarmup("req-3", 2L, "20251")))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(count(AiJobType.AI_COMMENT_WARMUP, "failure")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("AI 리포트 생성이 실패하면 성공이 아닌 실패로 센다")
+	void handle_shouldCountReportFailure() {
+		// given
+		doThrow(new IllegalStateException("AI down"))
+			.when(companyAiService).processReportGeneration("req-4", 1L, 2025, 1);
+
+		// when & then
+		assertThatThrownBy(() -> handler.handle(AiJobMessage.forReport("req-4", 1L, 2025, 1)))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(count(AiJobType.AI_REPORT, "failure")).isEqualTo(1.0);
+		assertThat(meterRegistry.find(AiJobHandler.PROCESSED_COUNTER).tag("result", "success").counter()).isNull();
+	}
+
+	@Test
+	@DisplayName("AI 코멘트 응답이 비어 있으면 empty 로 센다")
+	void handle_shouldCountEmptyCommentSeparately() {
+		// when
+		handler.handle(AiJobMessage.forCommentWarmup("req-5", 3L, "20251"));
+
+		// then
+		assertThat(count(AiJobType.AI_COMMENT_WARMUP, "empty")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("이미 COMPLETED 인 AI 리포트 요청은 다시 생성하지 않고 skipped 로 센다")
+	void handle_shouldSkipCompletedReportRequest() {
+		// given
+		when(aiReportRequestStatusService.getStatus("req-6"))
+			.thenReturn(Optional.of(AiReportStatusResponse.completed("req-6", "10", "/download")));
+
+		// when
+		handler.handle(AiJobMessage.forReport("req-6", 1L, 2025, 1));
+
+		// then
+		verify(companyAiService, never()).processReportGeneration(any(), any(), any(), any());
+		assertThat(count(AiJobType.AI_REPORT, "skipped")).isEqualTo(1.0);
+	}
+
+	private double count(AiJobType type, String result) {
+		return meterRegistry.get(AiJobHandler.PROCESSED_COUNTER)
+			.tag("type", type.name())
+			.tag("result", result)
+			.counter()
+			.count();
+	}
+}
@@ -29,6 +29,7 @@ import com.aivle.project.report.entity.CompanyReportsEntity;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -46,7 +47,8 @@ import org.springframework.test.context.ActiveProfiles;
 @Import({
 	QuerydslConfig.class,
 	CompanyAiCommentService.class,
-	CompanyHealthScoreCacheService.class
+	CompanyHealthScoreCacheService.class,
+	LatestActualQuarterCache.class
 })
 class CompanyAiCommentServiceTest {
 
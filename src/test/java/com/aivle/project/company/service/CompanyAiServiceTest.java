@@ -1,5 +1,7 @@
 package com.aivle.project.company.service;
 
+import com.aivle.project.common.error.CommonErrorCode;
+import com.aivle.project.common.error.ExternalAiUnavailableException;
 import com.aivle.project.company.client.AiServerClient;
 import com.aivle.project.company.dto.AiAnalysisResponse;
 import com.aivle.project.company.entity.CompaniesEntity;
@@ -19,6 +21,9 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.report.service.LatestActualQuarterCache;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -30,10 +35,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
@@ -74,12 +83,18 @@ class CompanyAiServiceTest {
     @Mock
     private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
 
+    @Mock
+    private LatestActualQuarterCache latestActualQuarterCache;
+
     @Mock
     private AiReportRequestStatusService aiReportRequestStatusService;
 
     @Mock
     private CompanyReportVersionIssueService companyReportVersionIssueService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("AI 예측 분석 결과를 조회하고 저장한다 (Cache Miss)")
     void getCompanyAnalysis_Success() {
@@ -97,7 +112,7 @@ class CompanyAiServiceTest {
         QuartersEntity targetQuarter = QuartersEntity.create(2025, 4, 20254, LocalDate.now(), LocalDate.now());
 
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
-        given(companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId)).willReturn(Optional.of(20253));
+        given(latestActualQuarterCache.findMaxActualQuarterKeyByCompanyId(companyId)).willReturn(Optional.of(20253));
         given(companyReportMetricValuesRepository.findLatestMetricsByCompanyIdAndQuarterKeyAndType(
             eq(companyId), eq(20254), eq(com.aivle.project.metric.entity.MetricValueType.PREDICTED)))
             .willReturn(Collections.emptyList());
@@ -127,7 +142,7 @@ class CompanyAiServiceTest {
         given(mockProj.getMetricValue()).willReturn(java.math.BigDecimal.valueOf(5.5));
 
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
-        given(companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(companyId)).willReturn(Optional.of(20253));
+        given(latestActualQuarterCache.findMaxActualQuarterKeyByCompanyId(companyId)).willReturn(Optional.of(20253));
         given(companyReportMetricValuesRepository.findLatestMetricsByCompanyIdAndQuarterKeyAndType(
             eq(companyId), eq(20254), eq(com.aivle.project.metric.entity.MetricValueType.PREDICTED)))
             .willReturn(List.of(mockProj));
@@ -151,7 +166,7 @@ class CompanyAiServiceTest {
         int expectedYear = today.getYear();
         int expectedQuarter = (today.getMonthValue() - 1) / 3 + 1;
 
-        byte[] pdfContent = "dummy-pdf".getBytes();
+        Flux<DataBuffer> pdfContent = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("%PDF-dummy".getBytes()));
         StoredFile storedFile = new StoredFile(
             "http://localhost/files/report.pdf",
             "report_005930.pdf",
@@ -171,7 +186,7 @@ class CompanyAiServiceTest {
         CompaniesEntity company = CompaniesEntity.create("00000001", "삼성전자", null, companyCode, LocalDate.now());
         // 처음에는 분기가 없다고 가정
         given(aiServerClient.getAnalysisReportPdf(companyCode)).willReturn(pdfContent);
-        given(fileStorageService.store(any(MultipartFile.class), any())).willReturn(storedFile);
+        given(fileStorageService.store(any(InputStream.class), any(), any(), any())).willReturn(storedFile);
         given(filesRepository.save(any(FilesEntity.class))).willReturn(savedEntity);
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
 
@@ -208,7 +223,7 @@ class CompanyAiServiceTest {
         // given
         Long companyId = 1L;
         String companyCode = "005930";
-        byte[] pdfContent = "dummy-pdf".getBytes();
+        Flux<DataBuffer> pdfContent = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("%PDF-dummy".getBytes()));
         StoredFile storedFile = new StoredFile(
             "http://localhost/files/report.pdf",
             "report_005930.pdf",
@@ -229,7 +244,7 @@ class CompanyAiServiceTest {
         QuartersEntity quarterEntity = QuartersEntity.create(2026, 1, 20261, LocalDate.now(), LocalDate.now());
 
         given(aiServerClient.getAnalysisReportPdf(companyCode)).willReturn(pdfContent);
-        given(fileStorageService.store(any(MultipartFile.class), eq("reports/005930/2026/1"))).willReturn(storedFile);
+        given(fileStorageService.store(any(InputStream.class), any(), eq("application/pdf"), eq("reports/005930/2026/1"))).willReturn(storedFile);
         given(filesRepository.save(any(FilesEntity.class))).willReturn(savedEntity);
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
         given(quartersRepository.findByYearAndQuarter(any(Short.class), any(Byte.class))).willReturn(Optional.of(quarterEntity));
@@ -264,7 +279,7 @@ class CompanyAiServiceTest {
         Integer year = 2026;
         Integer quarter = 1;
 
-        byte[] pdfContent = "dummy-pdf".getBytes();
+        Flux<DataBuffer> pdfContent = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("%PDF-dummy".getBytes()));
         StoredFile storedFile = new StoredFile(
             "http://localhost/files/report.pdf",
             "report_005930.pdf",
@@ -286,7 +301,7 @@ class CompanyAiServiceTest {
         CompanyReportsEntity report = CompanyReportsEntity.create(company, quarterEntity, null);
 
         given(aiServerClient.getAnalysisReportPdf(companyCode)).willReturn(pdfContent);
-        given(fileStorageService.store(any(MultipartFile.class), eq("reports/005930/2026/1"))).willReturn(storedFile);
+        given(fileStorageService.store(any(InputStream.class), any(), eq("application/pdf"), eq("reports/005930/2026/1"))).willReturn(storedFile);
         given(filesRepository.save(any(FilesEntity.class))).willReturn(savedEntity);
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
         given(quartersRepository.findByYearAndQuarter(year.shortValue(), quarter.byteValue())).willReturn(Optional.of(quarterEntity));
@@ -308,6 +323,34 @@ class CompanyAiServiceTest {
         verify(companyReportVersionIssueService).issueNextVersion(report, true, savedEntity);
     }
 
+    @Test
+    @DisplayName("AI 서버 PDF 다운로드가 중간에 끊기면 저장소 오류가 아닌 외부 AI 오류로 알린다")
+    void generateAndSaveReport_MapsDownloadFailureToExternalAiError() {
+        // given
+        Long companyId = 1L;
+        String companyCode = "005930";
+        CompaniesEntity company = CompaniesEntity.create("00000001", "삼성전자", null, companyCode, LocalDate.now());
+        Flux<DataBuffer> pdfContent = Flux.concat(
+            Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("%PDF-partial".getBytes())),
+            Flux.error(new IOException("connection reset"))
+        );
+
+        given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
+        given(aiServerClient.getAnalysisReportPdf(companyCode)).willReturn(pdfContent);
+        given(fileStorageService.store(any(InputStream.class), any(), eq("application/pdf"), any()))
+            .willAnswer(invocation -> {
+                ((InputStream) invocation.getArgument(0)).readAllBytes();
+                throw new AssertionError("다운로드 실패가 저장소까지 가면 안 된다");
+            });
+
+        // when & then
+        assertThatThrownBy(() -> companyAiService.generateAndSaveReport(companyId, 2026, 1))
+            .isInstanceOf(ExternalAiUnavailableException.class)
+            .satisfies(ex -> assertThat(((ExternalAiUnavailableException) ex).getErrorCode())
+                .isEqualTo(CommonErrorCode.COMMON_503));
+        verify(filesRepository, org.mockito.Mockito.never()).save(any(FilesEntity.class));
+    }
+
     @Test
     @DisplayName("최신 버전에 PDF가 없어도 PDF가 있는 최신 버전을 조회한다")
     void getReportFileById_ReturnsLatestVersionWithPdf() {
@@ -404,6 +447,32 @@ class CompanyAiServiceTest {
         verify(aiServerClient, org.mockito.Mockito.never()).getAnalysisReportPdf(any());
     }
 
+    @Test
+    @DisplayName("리포트 생성이 실패하면 FAILED 상태를 기록한 뒤 예외를 다시 던진다")
+    void processReportGeneration_WhenFails_MarksFailedAndRethrows() {
+        // given
+        given(companiesRepository.findById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> companyAiService.processReportGeneration("req-9", 99L, 2026, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("99");
+        verify(aiReportRequestStatusService).updateFailed(eq("req-9"), any());
+    }
+
+    @Test
+    @DisplayName("비동기 리포트 요청은 실패해도 FAILED 상태만 남기고 예외를 밖으로 내보내지 않는다")
+    void generateReportAsync_WhenFails_OnlyMarksFailed() {
+        // given
+        given(companiesRepository.findById(99L)).willReturn(Optional.empty());
+
+        // when
+        companyAiService.generateReportAsync("req-10", 99L, 2026, 1);
+
+        // then
+        verify(aiReportRequestStatusService).updateFailed(eq("req-10"), any());
+    }
+
     @Test
     @DisplayName("리포트 버전 발급은 공통 서비스에 위임한다")
     void generateAndSaveReport_WithReportId_DelegatesVersionIssuance() {
@@ -413,7 +482,7 @@ class CompanyAiServiceTest {
         Integer year = 2026;
         Integer quarter = 1;
 
-        byte[] pdfContent = "dummy-pdf".getBytes();
+        Flux<DataBuffer> pdfContent = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap("%PDF-dummy".getBytes()));
         StoredFile storedFile = new StoredFile(
             "http://localhost/files/report.pdf",
             "report_005930.pdf",
@@ -437,7 +506,7 @@ class CompanyAiServiceTest {
         CompanyReportVersionsEntity existingVersion = CompanyReportVersionsEntity.create(report, 1, java.time.LocalDateTime.now(), true, null);
 
         given(aiServerClient.getAnalysisReportPdf(companyCode)).willReturn(pdfContent);
-        given(fileStorageService.store(any(MultipartFile.class), eq("reports/005930/2026/1"))).willReturn(storedFile);
+        given(fileStorageService.store(any(InputStream.class), any(), eq("application/pdf"), eq("reports/005930/2026/1"))).willReturn(storedFile);
         given(filesRepository.save(any(FilesEntity.class))).willReturn(savedEntity);
         given(companiesRepository.findById(companyId)).willReturn(Optional.of(company));
         given(quartersRepository.findByYearAndQuarter(year.shortValue(), quarter.byteValue())).willReturn(Optional.of(quarterEntity));
@@ -0,0 +1,94 @@
+package com.aivle.project.company.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.config.CompanyOverviewCacheProperties;
+import com.aivle.project.company.dto.CompanyOverviewResponseDto;
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyIdResolverTest {
+
+	@Mock
+	private CompaniesRepository companiesRepository;
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private ObjectProvider<CompanyOverviewCache> companyOverviewCacheProvider;
+
+	private CompanyOverviewCache cache;
+	private CompanyIdResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		cache = new CompanyOverviewCache(
+			redisTemplateProvider,
+			new ObjectMapper(),
+			new CompanyOverviewCacheProperties(),
+			null,
+			Clock.systemUTC()
+		);
+		resolver = new CompanyIdResolver(companiesRepository, companyOverviewCacheProvider);
+	}
+
+	@Test
+	@DisplayName("개요 캐시 적중 요청은 기업 식별자 변환과 개요 조회 모두 DB 를 거치지 않는다")
+	void resolve_cacheHitMakesNoRepositoryCall() throws Throwable {
+		// given
+		when(companyOverviewCacheProvider.getIfAvailable()).thenReturn(cache);
+		CompaniesEntity company = mock(CompaniesEntity.class);
+		when(company.getId()).thenReturn(1L);
+		when(companiesRepository.existsById(20L)).thenReturn(false);
+		when(companiesRepository.findByStockCode("000020")).thenReturn(Optional.of(company));
+		CompanyOverviewResponseDto overview = mock(CompanyOverviewResponseDto.class);
+		cache.get(resolver.resolve("000020"), "20253", () -> overview);
+		clearInvocations(companiesRepository);
+
+		// when
+		Long companyId = resolver.resolve("000020");
+		CompanyOverviewResponseDto cached = cache.get(companyId, "20253", () -> {
+			throw new AssertionError("원본 조회가 호출되면 안 된다");
+		});
+
+		// then
+		assertThat(companyId).isEqualTo(1L);
+		assertThat(cached).isSameAs(overview);
+		verifyNoInteractions(companiesRepository);
+	}
+
+	@Test
+	@DisplayName("개요 캐시가 꺼져 있으면 매번 DB 로 변환한다")
+	void resolve_withoutCacheLooksUpEveryTime() {
+		// given
+		when(companyOverviewCacheProvider.getIfAvailable()).thenReturn(null);
+		when(companiesRepository.existsById(7L)).thenReturn(true);
+
+		// when
+		resolver.resolve("7");
+		Long companyId = resolver.resolve(" 7 ");
+
+		// then
+		assertThat(companyId).isEqualTo(7L);
+		verify(companiesRepository, times(2)).existsById(7L);
+	}
+}
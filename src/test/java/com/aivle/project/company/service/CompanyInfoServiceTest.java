@@ -18,6 +18,8 @@ import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
 import com.aivle.project.quarter.support.QuarterCalculator;
 import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,7 +37,9 @@ import org.springframework.test.context.ActiveProfiles;
 	QuerydslConfig.class,
 	CompanyInfoService.class,
 	CompanySectorService.class,
-	CompanyReputationScoreService.class
+	CompanyReputationScoreService.class,
+	LatestActualQuarterCache.class,
+	ReferenceDataRegistry.class
 })
 class CompanyInfoServiceTest {
 
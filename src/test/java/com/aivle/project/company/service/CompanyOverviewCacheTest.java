@@ -0,0 +1,257 @@
+package com.aivle.project.company.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.config.CompanyOverviewCacheProperties;
+import com.aivle.project.company.dto.CompanyInfoDto;
+import com.aivle.project.company.dto.CompanyOverviewForecastDto;
+import com.aivle.project.company.dto.CompanyOverviewResponseDto;
+import com.aivle.project.company.event.CompanyOverviewChangedEvent;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyOverviewCacheTest {
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private Clock clock;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private SimpleMeterRegistry meterRegistry;
+	private CompanyOverviewCache cache;
+
+	@BeforeEach
+	void setUp() {
+		CompanyOverviewCacheProperties properties = new CompanyOverviewCacheProperties();
+		properties.setLocalMaxSize(2);
+		properties.setLocalTtl(Duration.ofMinutes(1));
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new CompanyOverviewCache(redisTemplateProvider, objectMapper, properties, meterRegistry, clock);
+	}
+
+	@Test
+	@DisplayName("같은 기업과 분기 재조회 시 원본 조회 없이 메모리에서 응답한다")
+	void get_servesRepeatedLookupFromMemory() throws Throwable {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		CompanyOverviewResponseDto first = cache.get(1L, "20253", () -> overview(1L, loads.incrementAndGet()));
+		CompanyOverviewResponseDto second = cache.get(1L, "20253", () -> overview(1L, loads.incrementAndGet()));
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(second).isSameAs(first);
+		assertThat(countOf(CompanyOverviewCache.CACHE_NAME, "hit")).isEqualTo(1.0);
+		assertThat(countOf(CompanyOverviewCache.CACHE_NAME, "miss")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("개요 변경 이벤트와 실적 적재 이벤트는 해당 기업의 모든 분기 항목을 비운다")
+	void events_evictAllQuartersOfCompany() throws Throwable {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		cache.get(1L, null, () -> overview(1L, loads.incrementAndGet()));
+		cache.get(1L, "20253", () -> overview(1L, loads.incrementAndGet()));
+
+		// when
+		cache.onOverviewChanged(new CompanyOverviewChangedEvent(1L));
+
+		// then
+		assertThat(cache.size()).isZero();
+
+		// when
+		cache.get(1L, "20253", () -> overview(1L, loads.incrementAndGet()));
+		cache.onActualMetricsChanged(new ActualMetricsChangedEvent(Set.of(1L), Set.of("000020")));
+
+		// then
+		assertThat(cache.size()).isZero();
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스의 무효화 메시지를 받으면 메모리 항목만 비운다")
+	void handleMessage_evictsLocalEntries() throws Throwable {
+		// given
+		cache.get(1L, "20253", () -> overview(1L, 1));
+		cache.get(2L, "20253", () -> overview(2L, 1));
+
+		// when
+		cache.handleMessage("1,3");
+
+		// then
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("원본 조회 예외는 그대로 전달하고 캐시에 남기지 않는다")
+	void get_doesNotCacheFailures() throws Throwable {
+		// when & then
+		assertThatThrownBy(() -> cache.get(1L, "20253", () -> {
+			throw new IllegalArgumentException("Company not found: 1");
+		})).isInstanceOf(IllegalArgumentException.class);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("조회 도중 무효화가 있으면 읽은 값을 메모리에 적재하지 않는다")
+	void get_skipsLocalPutWhenInvalidatedDuringLoad() throws Throwable {
+		// when
+		cache.get(1L, "20253", () -> {
+			cache.evict(Set.of(1L));
+			return overview(1L, 1);
+		});
+
+		// then
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("조회 도중 다른 기업이 무효화되어도 읽은 값은 메모리에 적재한다")
+	void get_keepsLocalPutWhenOtherCompanyInvalidated() throws Throwable {
+		// when
+		cache.get(1L, "20253", () -> {
+			cache.evict(Set.of(2L));
+			return overview(1L, 1);
+		});
+
+		// then
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기업 식별자 변환 결과는 재사용하고 해당 기업이 무효화되면 다시 변환한다")
+	void resolveCompanyId_reusesUntilCompanyEvicted() {
+		// given
+		AtomicInteger lookups = new AtomicInteger();
+
+		// when
+		cache.resolveCompanyId("000020", token -> {
+			lookups.incrementAndGet();
+			return 20L;
+		});
+		Long cached = cache.resolveCompanyId("000020", token -> {
+			throw new AssertionError("변환이 다시 호출되면 안 된다");
+		});
+		cache.evict(Set.of(20L));
+		cache.resolveCompanyId("000020", token -> {
+			lookups.incrementAndGet();
+			return 20L;
+		});
+
+		// then
+		assertThat(cached).isEqualTo(20L);
+		assertThat(lookups).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("메모리에 없고 Redis 에 있으면 원본 조회 없이 Redis 값을 쓴다")
+	void get_readsThroughRedis() throws Throwable {
+		// given
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(hashOperations.get("company:overview:1", "20253"))
+			.thenReturn(objectMapper.writeValueAsString(overview(1L, 7)));
+
+		// when
+		CompanyOverviewResponseDto result = cache.get(1L, "20253", () -> {
+			throw new AssertionError("원본 조회가 호출되면 안 된다");
+		});
+
+		// then
+		assertThat(result.getCompany().getId()).isEqualTo(1L);
+		assertThat(result.getAiComment()).isEqualTo("comment-7");
+		assertThat(countOf(CompanyOverviewCache.REDIS_CACHE_NAME, "hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Redis 미스면 조회 시작 시점의 버전을 조건으로 적재한다")
+	void get_writesRedisWithObservedVersion() throws Throwable {
+		// given
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get("company:overview:ver:1")).thenReturn("4");
+
+		// when
+		cache.get(1L, null, () -> overview(1L, 1));
+
+		// then
+		verify(redisTemplate).execute(
+			eq(CompanyOverviewCache.PUT_SCRIPT),
+			eq(List.of("company:overview:1", "company:overview:ver:1")),
+			eq("4"),
+			eq(CompanyOverviewCache.LATEST_FIELD),
+			any(),
+			eq(String.valueOf(Duration.ofMinutes(10).toMillis()))
+		);
+	}
+
+	@Test
+	@DisplayName("Redis 오류가 나면 원본 조회로 응답하고 적재를 시도하지 않는다")
+	void get_fallsBackToLoaderOnRedisError() throws Throwable {
+		// given
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		when(redisTemplate.opsForHash()).thenThrow(new IllegalStateException("connection refused"));
+
+		// when
+		CompanyOverviewResponseDto result = cache.get(1L, "20253", () -> overview(1L, 1));
+
+		// then
+		assertThat(result.getAiComment()).isEqualTo("comment-1");
+		verify(redisTemplate, never()).execute(eq(CompanyOverviewCache.PUT_SCRIPT), anyList(), any(Object[].class));
+	}
+
+	private CompanyOverviewResponseDto overview(Long companyId, int version) {
+		return new CompanyOverviewResponseDto(
+			new CompanyInfoDto(companyId, "기업" + companyId, "000020", null, null, null, null, null),
+			new CompanyOverviewForecastDto("2025Q3", "2025Q4", List.of()),
+			List.of(),
+			List.of(),
+			"comment-" + version
+		);
+	}
+
+	private double countOf(String cacheName, String result) {
+		return meterRegistry.get("cache.gets")
+			.tag("cache", cacheName)
+			.tag("result", result)
+			.counter()
+			.count();
+	}
+}
@@ -23,6 +23,7 @@ import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
 import com.aivle.project.quarter.support.QuarterCalculator;
 import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
@@ -31,6 +32,7 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -50,7 +52,9 @@ import org.springframework.test.context.ActiveProfiles;
 	CompanyInfoService.class,
 	CompanySectorService.class,
 	CompanyHealthScoreCacheService.class,
-	CompanyPredictionCacheService.class
+	CompanyPredictionCacheService.class,
+	LatestActualQuarterCache.class,
+	ReferenceDataRegistry.class
 })
 class CompanyOverviewServiceTest {
 
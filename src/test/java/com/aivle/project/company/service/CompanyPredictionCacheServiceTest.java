@@ -24,6 +24,7 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.report.service.CompanyReportVersionIssueService;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -38,7 +39,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyPredictionCacheService.class, CompanyReportVersionIssueService.class})
+@Import({QuerydslConfig.class, CompanyPredictionCacheService.class, CompanyReportVersionIssueService.class, LatestActualQuarterCache.class})
 class CompanyPredictionCacheServiceTest {
 
 	@Autowired
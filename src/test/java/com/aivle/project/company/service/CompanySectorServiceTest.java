@@ -9,6 +9,7 @@ import com.aivle.project.company.entity.CompaniesEntity;
 import com.aivle.project.company.repository.CompaniesRepository;
 import com.aivle.project.industry.entity.IndustryEntity;
 import com.aivle.project.industry.entity.IndustryRepository;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import java.time.LocalDate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanySectorService.class})
+@Import({QuerydslConfig.class, CompanySectorService.class, ReferenceDataRegistry.class})
 class CompanySectorServiceTest {
 
 	@Autowired
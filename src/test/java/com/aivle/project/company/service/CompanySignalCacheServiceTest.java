@@ -18,6 +18,7 @@ import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
 import com.aivle.project.quarter.support.QuarterCalculator;
 import com.aivle.project.quarter.support.YearQuarter;
+import com.aivle.project.reference.service.ReferenceDataRegistry;
 import com.aivle.project.report.entity.CompanyReportMetricValuesEntity;
 import com.aivle.project.report.entity.CompanyReportVersionsEntity;
 import com.aivle.project.report.entity.CompanyReportsEntity;
@@ -25,6 +26,7 @@ import com.aivle.project.report.entity.SignalColor;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,7 +41,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanySignalCacheService.class})
+@Import({QuerydslConfig.class, CompanySignalCacheService.class, LatestActualQuarterCache.class, ReferenceDataRegistry.class})
 class CompanySignalCacheServiceTest {
 
 	@Autowired
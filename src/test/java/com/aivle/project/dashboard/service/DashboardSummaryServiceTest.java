@@ -24,6 +24,7 @@ import com.aivle.project.report.entity.CompanyReportsEntity;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import com.aivle.project.user.entity.UserEntity;
 import com.aivle.project.user.entity.UserStatus;
 import com.aivle.project.user.repository.UserRepository;
@@ -45,7 +46,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, DashboardSummaryService.class})
+@Import({QuerydslConfig.class, DashboardSummaryService.class, LatestActualQuarterCache.class})
 class DashboardSummaryServiceTest {
 
 	@Autowired
@@ -0,0 +1,148 @@
+package com.aivle.project.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.dashboard.dto.DashboardSummaryResponse;
+import com.aivle.project.dashboard.dto.KpiCardDto;
+import com.aivle.project.dashboard.dto.MajorSectorDto;
+import com.aivle.project.dashboard.dto.RiskStatusBucketDto;
+import com.aivle.project.dashboard.dto.RiskStatusDistributionDto;
+import com.aivle.project.dashboard.dto.RiskStatusDistributionPercentDto;
+import com.aivle.project.dashboard.repository.DashboardSummarySnapshotJdbcRepository;
+import com.aivle.project.dashboard.repository.DashboardSummarySnapshotJdbcRepository.DashboardSummarySnapshot;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardSummarySnapshotServiceTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 9, 0);
+
+	@Mock
+	private DashboardSummaryService dashboardSummaryService;
+
+	@Mock
+	private DashboardSummarySnapshotJdbcRepository snapshotRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private DashboardSummarySnapshotService service;
+
+	@BeforeEach
+	void setUp() {
+		Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+		service = new DashboardSummarySnapshotService(
+			dashboardSummaryService,
+			snapshotRepository,
+			objectMapper,
+			true,
+			Duration.ofMinutes(5),
+			clock
+		);
+	}
+
+	@Test
+	@DisplayName("허용 지연 이내의 스냅샷이 있으면 실시간 계산 없이 스냅샷을 돌려준다")
+	void getSummary_returnsFreshSnapshot() throws Exception {
+		// given
+		DashboardSummaryResponse stored = sampleSummary("2025Q3");
+		when(snapshotRepository.findByUserId(1L)).thenReturn(Optional.of(new DashboardSummarySnapshot(
+			1L,
+			objectMapper.writeValueAsString(stored),
+			NOW.minusMinutes(1),
+			null
+		)));
+
+		// when
+		DashboardSummaryResponse result = service.getSummary(1L);
+
+		// then
+		assertThat(result).isEqualTo(stored);
+		verify(dashboardSummaryService, never()).getSummary(1L);
+	}
+
+	@Test
+	@DisplayName("계산 이후 무효화된 스냅샷은 실시간 계산 결과로 교체한다")
+	void getSummary_recomputesInvalidatedSnapshot() throws Exception {
+		// given
+		DashboardSummaryResponse live = sampleSummary("2025Q4");
+		when(snapshotRepository.findByUserId(1L)).thenReturn(Optional.of(new DashboardSummarySnapshot(
+			1L,
+			objectMapper.writeValueAsString(sampleSummary("2025Q3")),
+			NOW.minusMinutes(2),
+			NOW.minusMinutes(1)
+		)));
+		when(dashboardSummaryService.getSummary(1L)).thenReturn(live);
+
+		// when
+		DashboardSummaryResponse result = service.getSummary(1L);
+
+		// then
+		assertThat(result).isEqualTo(live);
+		verify(snapshotRepository).upsert(1L, objectMapper.writeValueAsString(live), NOW);
+	}
+
+	@Test
+	@DisplayName("허용 지연을 넘긴 스냅샷은 무효화가 없어도 다시 계산한다")
+	void getSummary_recomputesExpiredSnapshot() throws Exception {
+		// given
+		DashboardSummaryResponse live = sampleSummary("2025Q4");
+		when(snapshotRepository.findByUserId(1L)).thenReturn(Optional.of(new DashboardSummarySnapshot(
+			1L,
+			objectMapper.writeValueAsString(sampleSummary("2025Q3")),
+			NOW.minusMinutes(6),
+			null
+		)));
+		when(dashboardSummaryService.getSummary(1L)).thenReturn(live);
+
+		// when
+		DashboardSummaryResponse result = service.getSummary(1L);
+
+		// then
+		assertThat(result).isEqualTo(live);
+		verify(snapshotRepository).upsert(eq(1L), anyString(), eq(NOW));
+	}
+
+	@Test
+	@DisplayName("실적 적재 이벤트는 해당 기업을 담은 사용자 스냅샷을 무효화한다")
+	void invalidateOnActualMetricsChanged_invalidatesWatchers() {
+		// when
+		service.invalidateOnActualMetricsChanged(new ActualMetricsChangedEvent(Set.of(10L), Set.of("000020")));
+
+		// then
+		verify(snapshotRepository).invalidateByCompanyIds(Set.of(10L), NOW);
+	}
+
+	private DashboardSummaryResponse sampleSummary(String latestQuarter) {
+		return new DashboardSummaryResponse(
+			"최근 4분기",
+			List.of(new KpiCardDto("NETWORK_STATUS", "네트워크 상태", 3, "개", KpiCardDto.KpiTone.GOOD, null, null, null)),
+			latestQuarter,
+			"2026Q1",
+			List.of(latestQuarter),
+			new RiskStatusDistributionDto(2, 1, 0),
+			new RiskStatusDistributionPercentDto(66.7, 33.3, 0.0),
+			1.3,
+			new MajorSectorDto("식품", 0, 2, 0.0, 0.0),
+			List.of(new RiskStatusBucketDto(latestQuarter, RiskStatusBucketDto.DataType.ACTUAL, 2, 1, 0))
+		);
+	}
+}
@@ -1,7 +1,11 @@
 package com.aivle.project.file.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -88,7 +92,75 @@ class FileDownloadControllerTest {
 			.andExpect(status().isOk())
 			.andExpect(header().string("Content-Type", "application/pdf"))
 			.andExpect(header().string("Content-Disposition", "attachment; filename=\"a.pdf\""))
-			.andExpect(header().string("Cache-Control", "private, no-store"));
+			.andExpect(header().string("Cache-Control", "private, no-cache"))
+			.andExpect(header().string("Accept-Ranges", "bytes"))
+			.andExpect(header().exists("ETag"));
+	}
+
+	@Test
+	@DisplayName("Range 요청 시 해당 구간만 206으로 응답한다")
+	void download_shouldServePartialContent() throws Exception {
+		// given
+		FilesEntity file = givenFile();
+		given(fileStreamService.openStream(file, 10L, 20L))
+			.willReturn(new ByteArrayInputStream(new byte[20]));
+
+		// when & then
+		mockMvc.perform(get("/api/files/1").header("Range", "bytes=10-29"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string("Content-Range", "bytes 10-29/100"))
+			.andExpect(header().string("Content-Length", "20"))
+			.andExpect(header().string("Accept-Ranges", "bytes"));
+		verify(fileStreamService, never()).openStream(file);
+	}
+
+	@Test
+	@DisplayName("If-None-Match 가 ETag 와 같으면 본문 없이 304로 응답한다")
+	void download_shouldReturnNotModifiedWhenEtagMatches() throws Exception {
+		// given
+		FilesEntity file = givenFile();
+		given(fileStreamService.openStream(file))
+			.willReturn(new ByteArrayInputStream("data".getBytes(StandardCharsets.UTF_8)));
+		String etag = mockMvc.perform(get("/api/files/1"))
+			.andReturn()
+			.getResponse()
+			.getHeader("ETag");
+
+		// when & then
+		mockMvc.perform(get("/api/files/1").header("If-None-Match", "W/" + etag))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", etag));
+		verify(fileStreamService, times(1)).openStream(file);
+	}
+
+	@Test
+	@DisplayName("If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 응답한다")
+	void download_shouldIgnoreRangeWhenIfRangeMismatches() throws Exception {
+		// given
+		FilesEntity file = givenFile();
+		given(fileStreamService.openStream(file))
+			.willReturn(new ByteArrayInputStream(new byte[100]));
+
+		// when & then
+		mockMvc.perform(get("/api/files/1")
+				.header("Range", "bytes=10-29")
+				.header("If-Range", "\"stale\""))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Length", "100"))
+			.andExpect(header().doesNotExist("Content-Range"));
+		verify(fileStreamService, never()).openStream(any(FilesEntity.class), anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("파일 크기를 넘는 Range 요청은 416으로 응답한다")
+	void download_shouldRejectUnsatisfiableRange() throws Exception {
+		// given
+		givenFile();
+
+		// when & then
+		mockMvc.perform(get("/api/files/1").header("Range", "bytes=100-"))
+			.andExpect(status().isRequestedRangeNotSatisfiable())
+			.andExpect(header().string("Content-Range", "bytes */100"));
 	}
 
 	@Test
@@ -141,6 +213,22 @@ class FileDownloadControllerTest {
 			.andExpect(jsonPath("$.data.url").value("http://localhost/api/files/1"));
 	}
 
+	private FilesEntity givenFile() {
+		UserEntity user = newUser(1L);
+		FilesEntity file = FilesEntity.create(
+			FileUsageType.POST_ATTACHMENT,
+			"https://bucket.s3.ap-northeast-2.amazonaws.com/uploads/a.pdf",
+			"uploads/a.pdf",
+			"a.pdf",
+			100L,
+			"application/pdf"
+		);
+		given(currentUserArgumentResolver.supportsParameter(any())).willReturn(true);
+		given(currentUserArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(user);
+		given(fileService.getFile(any(Long.class), any(UserEntity.class))).willReturn(file);
+		return file;
+	}
+
 	private static UserEntity newUser(Long id) {
 		try {
 			var ctor = UserEntity.class.getDeclaredConstructor();
@@ -41,6 +41,31 @@ class LocalFileStreamServiceTest {
 		}
 	}
 
+	@Test
+	@DisplayName("구간을 지정하면 해당 위치부터 길이만큼만 읽는다")
+	void openStream_shouldReadRequestedRange() throws Exception {
+		// given
+		Path tempFile = Files.createTempFile("local-file-range", ".txt");
+		Files.writeString(tempFile, "hello world", StandardCharsets.UTF_8);
+		LocalFileStreamService service = new LocalFileStreamService();
+		FilesEntity file = FilesEntity.create(
+			FileUsageType.POST_ATTACHMENT,
+			tempFile.toString(),
+			null,
+			"sample.txt",
+			11L,
+			"text/plain"
+		);
+
+		// when
+		try (InputStream inputStream = service.openStream(file, 6L, 3L)) {
+			byte[] bytes = inputStream.readAllBytes();
+
+			// then
+			assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo("wor");
+		}
+	}
+
 	@Test
 	@DisplayName("로컬 파일이 없으면 404 예외를 던진다")
 	void openStream_shouldThrowWhenFileMissing() {
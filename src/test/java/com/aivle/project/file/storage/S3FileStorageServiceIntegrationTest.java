@@ -0,0 +1,180 @@
+package com.aivle.project.file.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.aivle.project.file.config.FileStorageProperties;
+import com.aivle.project.file.exception.FileErrorCode;
+import com.aivle.project.file.exception.FileException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+
+/**
+ * MinIO 컨테이너를 S3 대역으로 써서 스트리밍 업로드를 검증한다.
+ */
+@Testcontainers
+@Tag("integration")
+class S3FileStorageServiceIntegrationTest {
+
+	private static final String BUCKET = "report-test";
+	private static final String ACCESS_KEY = "minioadmin";
+	private static final String SECRET_KEY = "minioadmin";
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	@Container
+	static final GenericContainer<?> minio = new GenericContainer<>(DockerImageName.parse("minio/minio:RELEASE.2024-01-16T16-07-38Z"))
+		.withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+		.withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+		.withCommand("server", "/data")
+		.withExposedPorts(9000)
+		.waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+	private S3Client s3Client;
+	private S3FileStorageService storageService;
+
+	@BeforeEach
+	void setUp() {
+		s3Client = S3Client.builder()
+			.endpointOverride(URI.create("http://" + minio.getHost() + ":" + minio.getMappedPort(9000)))
+			.region(Region.US_EAST_1)
+			.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(ACCESS_KEY, SECRET_KEY)))
+			.forcePathStyle(true)
+			.build();
+		try {
+			s3Client.createBucket(builder -> builder.bucket(BUCKET));
+		} catch (BucketAlreadyOwnedByYouException ignored) {
+			// 테스트 간 버킷을 재사용한다.
+		}
+
+		FileStorageProperties properties = new FileStorageProperties();
+		properties.getS3().setBucket(BUCKET);
+		properties.getS3().setPrefix("uploads");
+		properties.getS3().setMultipartPartSize(PART_SIZE);
+		storageService = new S3FileStorageService(s3Client, properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3Client.close();
+	}
+
+	@Test
+	@DisplayName("파트 크기를 넘는 스트림은 멀티파트로 올리고 내용을 그대로 저장한다")
+	void store_shouldUploadLargeStreamInParts() {
+		// given
+		byte[] content = pdfBytes(PART_SIZE * 2 + 1234);
+
+		// when
+		StoredFile stored = storageService.store(
+			new ByteArrayInputStream(content),
+			"report.pdf",
+			"application/pdf",
+			"reports/005930/2026/1"
+		);
+
+		// then
+		assertThat(stored.fileSize()).isEqualTo(content.length);
+		assertThat(stored.storageKey()).startsWith("uploads/reports/005930/2026/1/").endsWith(".pdf");
+		byte[] uploaded = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+			.bucket(BUCKET)
+			.key(stored.storageKey())
+			.build()).asByteArray();
+		assertThat(uploaded).isEqualTo(content);
+		assertThat(s3Client.headObject(HeadObjectRequest.builder()
+			.bucket(BUCKET)
+			.key(stored.storageKey())
+			.build()).contentType()).isEqualTo("application/pdf");
+	}
+
+	@Test
+	@DisplayName("한 파트 안에 끝나는 스트림은 단일 요청으로 올린다")
+	void store_shouldUploadSmallStreamAtOnce() {
+		// given
+		byte[] content = pdfBytes(1024);
+
+		// when
+		StoredFile stored = storageService.store(new ByteArrayInputStream(content), "small.pdf", "application/pdf", "reports/small");
+
+		// then
+		assertThat(stored.fileSize()).isEqualTo(1024L);
+		byte[] uploaded = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+			.bucket(BUCKET)
+			.key(stored.storageKey())
+			.build()).asByteArray();
+		assertThat(uploaded).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("첫 청크의 시그니처가 PDF 가 아니면 업로드하지 않는다")
+	void store_shouldRejectInvalidSignature() {
+		// given
+		byte[] content = "<html>not a pdf</html>".getBytes(StandardCharsets.UTF_8);
+
+		// when & then
+		assertThatThrownBy(() -> storageService.store(new ByteArrayInputStream(content), "bad.pdf", "application/pdf", "reports/bad"))
+			.isInstanceOf(FileException.class)
+			.extracting(ex -> ((FileException) ex).getErrorCode())
+			.isEqualTo(FileErrorCode.FILE_400_SIGNATURE);
+		assertThat(s3Client.listObjectsV2(ListObjectsV2Request.builder()
+			.bucket(BUCKET)
+			.prefix("uploads/reports/bad/")
+			.build()).contents()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("업로드 도중 원본 스트림이 실패하면 멀티파트 업로드를 중단한다")
+	void store_shouldAbortMultipartUploadWhenSourceFails() {
+		// given
+		InputStream failing = new SequenceInputStream(
+			new ByteArrayInputStream(pdfBytes(PART_SIZE + 10)),
+			new InputStream() {
+				@Override
+				public int read() throws IOException {
+					throw new IOException("upstream closed");
+				}
+			}
+		);
+
+		// when & then
+		assertThatThrownBy(() -> storageService.store(failing, "broken.pdf", "application/pdf", "reports/broken"))
+			.isInstanceOf(FileException.class)
+			.extracting(ex -> ((FileException) ex).getErrorCode())
+			.isEqualTo(FileErrorCode.FILE_500_STORAGE);
+		assertThat(s3Client.listMultipartUploads(ListMultipartUploadsRequest.builder()
+			.bucket(BUCKET)
+			.prefix("uploads/reports/broken/")
+			.build()).uploads()).isEmpty();
+	}
+
+	private static byte[] pdfBytes(int size) {
+		byte[] content = new byte[size];
+		new SplittableRandom(size).nextBytes(content);
+		byte[] header = "%PDF-1.7\n".getBytes(StandardCharsets.US_ASCII);
+		System.arraycopy(header, 0, content, 0, header.length);
+		return content;
+	}
+}
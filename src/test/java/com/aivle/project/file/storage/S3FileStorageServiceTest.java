@@ -3,13 +3,18 @@ package com.aivle.project.file.storage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.aivle.project.file.config.FileStorageProperties;
 import com.aivle.project.file.exception.FileErrorCode;
 import com.aivle.project.file.exception.FileException;
+import java.io.ByteArrayInputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -18,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
@@ -86,4 +92,52 @@ class S3FileStorageServiceTest {
 			.extracting(ex -> ((FileException) ex).getErrorCode())
 			.isEqualTo(FileErrorCode.FILE_400_EMPTY);
 	}
+
+	@Test
+	@DisplayName("스트림 저장 시 첫 바이트 시그니처가 다르면 S3 에 요청하지 않는다")
+	void storeStream_shouldRejectInvalidSignatureBeforeUpload() {
+		// given
+		S3Client s3Client = org.mockito.Mockito.mock(S3Client.class);
+		FileStorageProperties properties = new FileStorageProperties();
+		properties.getS3().setBucket("bucket");
+		S3FileStorageService storageService = new S3FileStorageService(s3Client, properties);
+		ByteArrayInputStream content = new ByteArrayInputStream("not-a-pdf".getBytes(StandardCharsets.UTF_8));
+
+		// when & then
+		assertThatThrownBy(() -> storageService.store(content, "report.pdf", "application/pdf", "reports"))
+			.isInstanceOf(FileException.class)
+			.extracting(ex -> ((FileException) ex).getErrorCode())
+			.isEqualTo(FileErrorCode.FILE_400_SIGNATURE);
+		verifyNoInteractions(s3Client);
+	}
+
+	@Test
+	@DisplayName("파트 크기보다 작은 스트림은 버퍼를 늘려 가며 읽고 단일 요청으로 올린다")
+	void storeStream_shouldUploadBelowPartSizeWithSinglePut() throws Exception {
+		// given
+		S3Client s3Client = org.mockito.Mockito.mock(S3Client.class);
+		S3Utilities utilities = org.mockito.Mockito.mock(S3Utilities.class);
+		FileStorageProperties properties = new FileStorageProperties();
+		properties.getS3().setBucket("bucket");
+		when(s3Client.utilities()).thenReturn(utilities);
+		when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+			.thenReturn(PutObjectResponse.builder().build());
+		when(utilities.getUrl(any(GetUrlRequest.class)))
+			.thenReturn(new URL("https://example.com/report.pdf"));
+		S3FileStorageService storageService = new S3FileStorageService(s3Client, properties);
+		byte[] pdf = new byte[200 * 1024];
+		Arrays.fill(pdf, (byte) 'x');
+		System.arraycopy("%PDF-".getBytes(StandardCharsets.US_ASCII), 0, pdf, 0, 5);
+
+		// when
+		StoredFile stored = storageService.store(new ByteArrayInputStream(pdf), "report.pdf", "application/pdf", "reports");
+
+		// then
+		ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+		verify(s3Client).putObject(any(PutObjectRequest.class), bodyCaptor.capture());
+		verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+		assertThat(stored.fileSize()).isEqualTo(pdf.length);
+		assertThat(bodyCaptor.getValue().optionalContentLength()).contains((long) pdf.length);
+		assertThat(bodyCaptor.getValue().contentStreamProvider().newStream().readAllBytes()).isEqualTo(pdf);
+	}
 }
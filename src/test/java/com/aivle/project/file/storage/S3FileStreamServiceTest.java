@@ -79,4 +79,33 @@ class S3FileStreamServiceTest {
 		verify(s3Client).getObject(captor.capture());
 		assertThat(captor.getValue().key()).isEqualTo("uploads/b.pdf");
 	}
+
+	@Test
+	@DisplayName("구간을 지정하면 Range GetObject 로 해당 바이트만 요청한다")
+	void openStream_shouldRequestByteRange() {
+		// given
+		S3Client s3Client = mock(S3Client.class);
+		FileStorageProperties properties = new FileStorageProperties();
+		properties.getS3().setBucket("test-bucket");
+		S3FileStreamService service = new S3FileStreamService(s3Client, properties);
+		FilesEntity file = FilesEntity.create(
+			FileUsageType.POST_ATTACHMENT,
+			"https://bucket.s3.ap-northeast-2.amazonaws.com/uploads/a.pdf",
+			"uploads/a.pdf",
+			"a.pdf",
+			100L,
+			"application/pdf"
+		);
+
+		ResponseInputStream<GetObjectResponse> responseStream = mock(ResponseInputStream.class);
+		when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(responseStream);
+
+		// when
+		service.openStream(file, 10L, 20L);
+
+		// then
+		ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+		verify(s3Client).getObject(captor.capture());
+		assertThat(captor.getValue().range()).isEqualTo("bytes=10-29");
+	}
 }
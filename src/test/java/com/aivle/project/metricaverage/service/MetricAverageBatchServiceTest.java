@@ -9,6 +9,7 @@ import com.aivle.project.metric.entity.MetricValueType;
 import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.metricaverage.entity.MetricAverageEntity;
+import com.aivle.project.metricaverage.repository.MetricAverageJdbcRepository;
 import com.aivle.project.metricaverage.repository.MetricAverageRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
@@ -31,7 +32,12 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, MetricAverageCalculationService.class, MetricAverageBatchService.class})
+@Import({
+	QuerydslConfig.class,
+	MetricAverageCalculationService.class,
+	MetricAverageJdbcRepository.class,
+	MetricAverageBatchService.class
+})
 class MetricAverageBatchServiceTest {
 
 	@Autowired
@@ -10,6 +10,7 @@ import com.aivle.project.metric.entity.MetricsEntity;
 import com.aivle.project.metric.repository.MetricsRepository;
 import com.aivle.project.metricaverage.dto.MetricAverageResult;
 import com.aivle.project.metricaverage.entity.MetricAverageEntity;
+import com.aivle.project.metricaverage.repository.MetricAverageJdbcRepository;
 import com.aivle.project.metricaverage.repository.MetricAverageRepository;
 import com.aivle.project.quarter.entity.QuartersEntity;
 import com.aivle.project.quarter.repository.QuartersRepository;
@@ -33,7 +34,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, MetricAverageCalculationService.class})
+@Import({QuerydslConfig.class, MetricAverageCalculationService.class, MetricAverageJdbcRepository.class})
 class MetricAverageCalculationServiceTest {
 
 	@Autowired
@@ -0,0 +1,79 @@
+package com.aivle.project.metricaverage.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.metricaverage.dto.MetricAverageResult;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricStatisticsTest {
+
+	@Test
+	@DisplayName("평균/중앙값/최소/최대/모표준편차를 소수 넷째 자리로 계산한다")
+	void compute_shouldReturnScaledStatistics() {
+		// given
+		double[] values = {50.0, 30.0, 10.0, 70.0};
+
+		// when
+		MetricAverageResult result = MetricStatistics.compute(1L, values, values.length);
+
+		// then
+		assertThat(result.companyCount()).isEqualTo(4);
+		assertThat(result.avgValue()).isEqualByComparingTo("40.0000");
+		assertThat(result.medianValue()).isEqualByComparingTo("40.0000");
+		assertThat(result.minValue()).isEqualByComparingTo("10.0000");
+		assertThat(result.maxValue()).isEqualByComparingTo("70.0000");
+		assertThat(result.stddevValue()).isEqualByComparingTo("22.3607");
+		assertThat(result.avgValue().scale()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("quickselect 중앙값은 정렬 기준 중앙값과 같다")
+	void median_shouldMatchSortedMedian() {
+		// given
+		SplittableRandom random = new SplittableRandom(7L);
+		for (int size = 1; size <= 200; size++) {
+			double[] values = new double[size];
+			for (int i = 0; i < size; i++) {
+				// 중복 값이 섞이도록 범위를 좁힌다.
+				values[i] = random.nextInt(-20, 20) / 4.0;
+			}
+			double[] sorted = values.clone();
+			Arrays.sort(sorted);
+			double expected = size % 2 == 1
+				? sorted[size / 2]
+				: (sorted[size / 2 - 1] + sorted[size / 2]) / 2.0;
+
+			// when
+			double median = MetricStatistics.median(values, size);
+
+			// then
+			assertThat(median).as("size=%d", size).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("표본이 없으면 통계 값을 비워 둔다")
+	void compute_shouldReturnEmptyWhenNoSamples() {
+		// when
+		MetricAverageResult result = MetricStatistics.compute(1L, new double[0], 0);
+
+		// then
+		assertThat(result.companyCount()).isZero();
+		assertThat(result.avgValue()).isNull();
+		assertThat(result.stddevValue()).isNull();
+	}
+
+	@Test
+	@DisplayName("표본이 하나면 표준편차는 0이다")
+	void compute_shouldReturnZeroStddevForSingleSample() {
+		// when
+		MetricAverageResult result = MetricStatistics.compute(1L, new double[] {12.3456}, 1);
+
+		// then
+		assertThat(result.medianValue()).isEqualByComparingTo("12.3456");
+		assertThat(result.stddevValue()).isEqualByComparingTo("0.0000");
+	}
+}
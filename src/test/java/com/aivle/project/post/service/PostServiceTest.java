@@ -78,6 +78,9 @@ class PostServiceTest {
 	@Mock
 	private FileMapper fileMapper;
 
+	@Mock
+	private PostViewCounter postViewCounter;
+
 	// User Operations Tests
 
 	@Test
@@ -340,6 +343,30 @@ class PostServiceTest {
 		assertThat(response.files().get(0).downloadable()).isTrue();
 	}
 
+	@Test
+	@DisplayName("게시글 상세 조회 시 조회를 기록하고 아직 반영되지 않은 조회수를 더한다")
+	void get_shouldRecordViewAndMergePendingCount() {
+		// given
+		UserEntity user = newUser(1L);
+		CategoriesEntity category = newCategory(2L, "notices");
+		PostsEntity post = newPost(100L, user, category);
+
+		given(postsRepository.findByIdAndCategoryNameAndDeletedAtIsNull(100L, "notices"))
+			.willReturn(Optional.of(post));
+		given(postMapper.toResponse(post)).willReturn(
+			new PostResponse(100L, "user-1", 2L, "title", "content", 7, false, PostStatus.PUBLISHED, null, null, null)
+		);
+		given(postFilesRepository.findAllActiveByPostIdOrderByCreatedAtAsc(100L)).willReturn(List.of());
+		given(postViewCounter.pendingOf(100L)).willReturn(3L);
+
+		// when
+		PostDetailResponse response = postService.get("notices", 100L, user, "10.0.0.1");
+
+		// then
+		verify(postViewCounter).record(100L, "u:1");
+		assertThat(response.viewCount()).isEqualTo(10);
+	}
+
 	// Helpers
 
 	private UserEntity newUser(Long id) {
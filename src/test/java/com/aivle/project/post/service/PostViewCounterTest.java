@@ -0,0 +1,153 @@
+package com.aivle.project.post.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.post.repository.PostViewCountsJdbcRepository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+	@Mock
+	private PostViewCountsJdbcRepository postViewCountsJdbcRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Test
+	@DisplayName("동시에 기록된 조회를 모아 한 번의 배치로 반영하고 누적분을 비운다")
+	void flush_shouldWriteAccumulatedDeltasOnce() throws Exception {
+		// given
+		PostViewCounter counter = new PostViewCounter(postViewCountsJdbcRepository, null, Duration.ZERO);
+		int threads = 8;
+		int perThread = 1000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			executor.submit(() -> {
+				for (int j = 0; j < perThread; j++) {
+					counter.record(1L, null);
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		counter.record(2L, null);
+
+		// when
+		counter.flush();
+
+		// then
+		verify(postViewCountsJdbcRepository).addViewCounts(Map.of(1L, 8000L, 2L, 1L));
+		assertThat(counter.pendingOf(1L)).isZero();
+	}
+
+	@Test
+	@DisplayName("기록과 정리가 겹쳐도 조회를 잃지 않는다")
+	void flush_shouldNotLoseViewsRecordedDuringCleanup() throws Exception {
+		// given
+		PostViewCounter counter = new PostViewCounter(postViewCountsJdbcRepository, null, Duration.ZERO);
+		AtomicLong flushed = new AtomicLong();
+		willAnswer(invocation -> {
+			Map<Long, Long> deltas = invocation.getArgument(0);
+			flushed.addAndGet(deltas.getOrDefault(1L, 0L));
+			return null;
+		}).given(postViewCountsJdbcRepository).addViewCounts(anyMap());
+		int threads = 4;
+		int perThread = 20000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			executor.submit(() -> {
+				for (int j = 0; j < perThread; j++) {
+					counter.record(1L, null);
+				}
+				done.countDown();
+			});
+		}
+
+		// when
+		while (done.getCount() > 0) {
+			counter.flush();
+		}
+		executor.shutdown();
+		counter.flush();
+
+		// then
+		assertThat(flushed.get() + counter.pendingOf(1L)).isEqualTo((long) threads * perThread);
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 증가분을 되돌려 다음 주기에 다시 반영한다")
+	void flush_shouldRestoreDeltasOnFailure() {
+		// given
+		PostViewCounter counter = new PostViewCounter(postViewCountsJdbcRepository, null, Duration.ZERO);
+		counter.record(1L, null);
+		counter.record(1L, null);
+		willThrow(new DataAccessResourceFailureException("down"))
+			.given(postViewCountsJdbcRepository).addViewCounts(anyMap());
+
+		// when
+		counter.flush();
+
+		// then
+		assertThat(counter.pendingOf(1L)).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("같은 조회자의 반복 조회는 중복 제거 구간 동안 한 번만 센다")
+	void record_shouldSkipDuplicateViewerWithinWindow() {
+		// given
+		PostViewCounter counter = new PostViewCounter(postViewCountsJdbcRepository, redisTemplate, Duration.ofMinutes(10));
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(eq("post-view:1:u:7"), anyString(), any(Duration.class)))
+			.willReturn(true, false);
+
+		// when
+		counter.record(1L, "u:7");
+		counter.record(1L, "u:7");
+
+		// then
+		assertThat(counter.pendingOf(1L)).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("누적분이 없으면 DB 에 쓰지 않는다")
+	void flush_shouldSkipWhenNothingPending() {
+		// given
+		PostViewCounter counter = new PostViewCounter(postViewCountsJdbcRepository, null, Duration.ZERO);
+
+		// when
+		counter.flush();
+
+		// then
+		verify(postViewCountsJdbcRepository, never()).addViewCounts(anyMap());
+	}
+}
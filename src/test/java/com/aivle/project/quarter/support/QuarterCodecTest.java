@@ -0,0 +1,80 @@
+package com.aivle.project.quarter.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuarterCodecTest {
+
+	@Test
+	@DisplayName("분기 인덱스는 연도 경계를 넘어도 연속된다")
+	void toIndex_isContiguousAcrossYears() {
+		// when
+		int q4 = QuarterCodec.toIndex(20244);
+		int q1 = QuarterCodec.toIndex(20251);
+
+		// then
+		assertThat(q4).isEqualTo(2024 * 4 + 4);
+		assertThat(q1 - q4).isEqualTo(1);
+		assertThat(QuarterCodec.toQuarterKey(q1)).isEqualTo(20251);
+		assertThat(QuarterCodec.yearOf(q4)).isEqualTo(2024);
+		assertThat(QuarterCodec.quarterOf(q4)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("분기 이동과 간격은 연도 경계와 큰 음수 이동에서도 맞는 키를 낸다")
+	void offset_crossesYearBoundaries() {
+		// when & then
+		assertThat(QuarterCodec.offset(20253, 0)).isEqualTo(20253);
+		assertThat(QuarterCodec.offset(20253, 1)).isEqualTo(20254);
+		assertThat(QuarterCodec.offset(20253, 2)).isEqualTo(20261);
+		assertThat(QuarterCodec.offset(20253, 9)).isEqualTo(20274);
+		assertThat(QuarterCodec.offset(20253, -3)).isEqualTo(20244);
+		assertThat(QuarterCodec.offset(20253, -7)).isEqualTo(20234);
+		assertThat(QuarterCodec.offset(20253, -9)).isEqualTo(20232);
+		assertThat(QuarterCodec.offset(20244, -40)).isEqualTo(20144);
+		assertThat(QuarterCodec.offset(20253, -8000)).isEqualTo(253);
+		assertThat(QuarterCodec.offset(20251, -8092)).isEqualTo(21);
+		assertThat(QuarterCodec.previous(20251)).isEqualTo(20244);
+		assertThat(QuarterCodec.next(20244)).isEqualTo(20251);
+		assertThat(QuarterCodec.distance(20242, 20253)).isEqualTo(5);
+		assertThat(QuarterCodec.distance(20253, 20242)).isEqualTo(-5);
+	}
+
+	@Test
+	@DisplayName("라벨과 시작/종료일은 미리 만든 값을 재사용하고 범위 밖은 계산한다")
+	void labelAndDates_useCalendar() {
+		// when & then
+		assertThat(QuarterCodec.label(20253)).isEqualTo("2025Q3").isSameAs(QuarterCodec.label(20253));
+		assertThat(QuarterCodec.label(18001)).isEqualTo("1800Q1");
+		assertThat(QuarterCodec.startDate(20244)).isEqualTo(LocalDate.of(2024, 10, 1));
+		assertThat(QuarterCodec.endDate(20241)).isEqualTo(LocalDate.of(2024, 3, 31));
+		assertThat(QuarterCodec.endDate(21502)).isEqualTo(LocalDate.of(2150, 6, 30));
+	}
+
+	@Test
+	@DisplayName("분기 문자열은 공백과 두 자리 분기 표기를 허용한다")
+	void parse_acceptsPaddedForms() {
+		// when & then
+		assertThat(QuarterCodec.parse("20253", "quarterKey")).isEqualTo(20253);
+		assertThat(QuarterCodec.parse(" 202503 ", "quarterKey")).isEqualTo(20253);
+	}
+
+	@Test
+	@DisplayName("숫자가 아니거나 분기 자리가 잘못된 문자열은 예외를 던진다")
+	void parse_rejectsInvalidValues() {
+		// when & then
+		assertThatThrownBy(() -> QuarterCodec.parse("2025Q3", "period"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("period는 숫자 형식이어야 합니다.");
+		assertThatThrownBy(() -> QuarterCodec.parse(null, "quarterKey"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("quarterKey는 숫자 형식이어야 합니다.");
+		assertThatThrownBy(() -> QuarterCodec.parse("20255", "quarterKey"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("quarter_key가 유효하지 않습니다");
+	}
+}
@@ -0,0 +1,174 @@
+package com.aivle.project.reference.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.company.keymetric.repository.KeyMetricDescriptionRepository;
+import com.aivle.project.industry.entity.IndustryRepository;
+import com.aivle.project.metric.entity.MetricsEntity;
+import com.aivle.project.metric.repository.MetricsRepository;
+import com.aivle.project.quarter.entity.QuartersEntity;
+import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.reference.dto.MetricRef;
+import com.aivle.project.reference.dto.QuarterRef;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+	@Mock
+	private MetricsRepository metricsRepository;
+
+	@Mock
+	private QuartersRepository quartersRepository;
+
+	@Mock
+	private KeyMetricDescriptionRepository keyMetricDescriptionRepository;
+
+	@Mock
+	private IndustryRepository industryRepository;
+
+	@Mock
+	private ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("기동 시 적재한 지표는 코드와 영문명 모두 DB 재조회 없이 찾는다")
+	void initialize_servesMetricsFromSnapshot() {
+		// given
+		ReferenceDataRegistry registry = registry(true);
+		when(metricsRepository.findAll()).thenReturn(List.of(MetricsEntity.create("ROA", "총자산이익률", "ROA", false)));
+		registry.initialize();
+
+		// when
+		Map<String, MetricRef> byCode = registry.findMetricsByCode(List.of("ROA"));
+		Map<String, MetricRef> byNameEn = registry.findMetricsByNameEn(List.of("ROA"));
+
+		// then
+		assertThat(byCode.get("ROA").metricNameKo()).isEqualTo("총자산이익률");
+		assertThat(byNameEn).containsKey("ROA");
+		verify(metricsRepository, never()).findAllByMetricCodeIn(any());
+		verify(metricsRepository, never()).findAllByMetricNameEnIn(any());
+		assertThat(countOf("hit")).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("스냅샷에 없는 분기는 DB 에서 읽고 다음 조회부터 메모리에서 찾는다")
+	void findQuarter_mergesMissIntoSnapshot() {
+		// given
+		ReferenceDataRegistry registry = registry(true);
+		registry.initialize();
+		when(quartersRepository.findAllByQuarterKeyIn(List.of(20261))).thenReturn(List.of(QuartersEntity.create(
+			2026, 1, 20261, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 3, 31)
+		)));
+
+		// when
+		Optional<QuarterRef> first = registry.findQuarter(20261);
+		Optional<QuarterRef> second = registry.findQuarter(20261);
+
+		// then
+		assertThat(first).isPresent();
+		assertThat(second).contains(first.get());
+		verify(quartersRepository, times(1)).findAllByQuarterKeyIn(any());
+		assertThat(countOf("miss")).isEqualTo(1.0);
+		assertThat(countOf("hit")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("비활성화면 스냅샷을 만들지 않고 매번 DB 로 조회한다")
+	void disabled_alwaysQueriesDatabase() {
+		// given
+		ReferenceDataRegistry registry = registry(false);
+		registry.initialize();
+		when(metricsRepository.findAllByMetricCodeIn(List.of("ROA")))
+			.thenReturn(List.of(MetricsEntity.create("ROA", "총자산이익률", "ROA", false)));
+
+		// when
+		registry.findMetricByCode("ROA");
+		registry.findMetricByCode("ROA");
+
+		// then
+		verify(metricsRepository, never()).findAll();
+		verify(metricsRepository, times(2)).findAllByMetricCodeIn(any());
+		assertThat(registry.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("Redis 버전이 바뀐 경우에만 다시 적재한다")
+	void checkVersion_reloadsOnlyWhenVersionChanges() {
+		// given
+		ReferenceDataRegistry registry = registry(true);
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.get(ReferenceDataRegistry.VERSION_KEY)).thenReturn("1", "1", "2", "2");
+		registry.initialize();
+
+		// when
+		registry.checkVersion();
+		registry.checkVersion();
+
+		// then
+		verify(metricsRepository, times(2)).findAll();
+		verify(quartersRepository, times(2)).findAll();
+	}
+
+	@Test
+	@DisplayName("변경 표시는 Redis 버전을 올리고 이 인스턴스를 바로 다시 적재한다")
+	void markChanged_bumpsVersionAndReloads() {
+		// given
+		ReferenceDataRegistry registry = registry(true);
+		when(redisTemplateProvider.getIfAvailable()).thenReturn(redisTemplate);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+		// when
+		registry.markChanged();
+
+		// then
+		verify(valueOperations).increment(ReferenceDataRegistry.VERSION_KEY);
+		verify(metricsRepository).findAll();
+		verify(industryRepository).findAll();
+	}
+
+	private ReferenceDataRegistry registry(boolean enabled) {
+		return new ReferenceDataRegistry(
+			metricsRepository,
+			quartersRepository,
+			keyMetricDescriptionRepository,
+			industryRepository,
+			redisTemplateProvider,
+			meterRegistry,
+			enabled
+		);
+	}
+
+	private double countOf(String result) {
+		return meterRegistry.get("cache.gets")
+			.tag("cache", ReferenceDataRegistry.CACHE_NAME)
+			.tag("result", result)
+			.counter()
+			.count();
+	}
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.aivle.project.report.dto.CompanyMetricValueCommand;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -44,6 +45,63 @@ class ExcelMetricParserTest {
 		);
 	}
 
+	@Test
+	@DisplayName("행 단위 청크로 나눠 전달하고 건너뛴 행과 변환 실패를 요약한다")
+	void parseExcelInChunks() throws Exception {
+		// given
+		byte[] bytes = buildLargeExcel(5);
+		List<List<CompanyMetricValueCommand>> chunks = new ArrayList<>();
+
+		// when
+		ExcelMetricParseSummary summary = parser.parse(new ByteArrayInputStream(bytes), 2, chunks::add);
+
+		// then
+		assertThat(chunks).hasSize(2);
+		assertThat(chunks.get(0)).hasSize(4);
+		assertThat(chunks.get(1)).hasSize(4);
+		assertThat(summary.rows()).isEqualTo(5);
+		assertThat(summary.commands()).isEqualTo(8);
+		assertThat(summary.skippedRows()).isEqualTo(1);
+		assertThat(summary.invalidValues()).isEqualTo(1);
+		assertThat(chunks.get(1)).anyMatch(command ->
+			"000050".equals(command.stockCode())
+				&& "ROA".equals(command.metricCode())
+				&& command.metricValue() == null
+		);
+	}
+
+	private byte[] buildLargeExcel(int dataRows) throws Exception {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			workbook.createSheet("memo");
+			Sheet sheet = workbook.createSheet("in");
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("기업코드");
+			header.createCell(1).setCellValue("기업명");
+			header.createCell(2).setCellValue("ROA_현재");
+			header.createCell(3).setCellValue("ROE_분기-1");
+
+			for (int i = 1; i <= dataRows; i++) {
+				Row row = sheet.createRow(i);
+				// 세 번째 데이터 행은 기업코드가 비어 있어 건너뛴다.
+				if (i != 3) {
+					row.createCell(0).setCellValue(String.format("%06d", i * 10));
+				}
+				row.createCell(1).setCellValue("기업" + i);
+				if (i == 5) {
+					row.createCell(2).setCellValue("N/A");
+				} else {
+					row.createCell(2).setCellValue(i * 1.5);
+				}
+				row.createCell(3).setCellValue(i);
+			}
+
+			try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+				workbook.write(outputStream);
+				return outputStream.toByteArray();
+			}
+		}
+	}
+
 	private byte[] buildExcel() throws Exception {
 		try (Workbook workbook = new XSSFWorkbook()) {
 			Sheet sheet = workbook.createSheet("input");
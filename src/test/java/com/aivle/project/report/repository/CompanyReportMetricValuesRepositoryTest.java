@@ -153,4 +153,80 @@ class CompanyReportMetricValuesRepositoryTest {
 		assertThat(rows).extracting(ReportMetricRowProjection::getQuarterKey)
 			.containsExactly(20244, 20253);
 	}
+
+	@Test
+	@DisplayName("지표 값 저장 시 값 유형별 위험/비위험 최신 버전 프로젝션이 갱신된다")
+	void saveMetricValueRaisesLatestReportVersion() {
+		// given
+		CompaniesEntity company = companiesRepository.save(CompaniesEntity.create(
+			"00000002",
+			"프로젝션기업",
+			"PROJECTION_CO",
+			"000030",
+			LocalDate.of(2025, 1, 1)
+		));
+		QuartersEntity quarter = quartersRepository.save(QuartersEntity.create(
+			2025,
+			2,
+			20252,
+			LocalDate.of(2025, 4, 1),
+			LocalDate.of(2025, 6, 30)
+		));
+		MetricsEntity nonRiskMetric = metricsRepository.findByMetricCode("ROA").orElseThrow();
+		MetricsEntity riskMetric = metricsRepository.save(MetricsEntity.create(
+			"TEST_RISK_PROJECTION",
+			"테스트 위험지표",
+			"test_risk_projection",
+			true
+		));
+
+		CompanyReportsEntity report = companyReportsRepository.save(
+			CompanyReportsEntity.create(company, quarter, null)
+		);
+		CompanyReportVersionsEntity riskVersion = companyReportVersionsRepository.save(
+			CompanyReportVersionsEntity.create(report, 1, LocalDateTime.now().minusDays(1), false, null)
+		);
+		CompanyReportVersionsEntity nonRiskVersion = companyReportVersionsRepository.save(
+			CompanyReportVersionsEntity.create(report, 2, LocalDateTime.now(), false, null)
+		);
+
+		// when
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			riskVersion,
+			riskMetric,
+			quarter,
+			new BigDecimal("10.00"),
+			MetricValueType.ACTUAL
+		));
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			nonRiskVersion,
+			nonRiskMetric,
+			quarter,
+			new BigDecimal("1.00"),
+			MetricValueType.ACTUAL
+		));
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			nonRiskVersion,
+			nonRiskMetric,
+			quarter,
+			null,
+			MetricValueType.PREDICTED
+		));
+
+		// then
+		assertThat(findLatestVersionNo(report.getId(), "ACTUAL", "ALL")).containsExactly(2);
+		assertThat(findLatestVersionNo(report.getId(), "ACTUAL", "RISK")).containsExactly(1);
+		assertThat(findLatestVersionNo(report.getId(), "ACTUAL", "NON_RISK")).containsExactly(2);
+		assertThat(findLatestVersionNo(report.getId(), "PREDICTED", "ALL")).isEmpty();
+	}
+
+	private List<Integer> findLatestVersionNo(Long companyReportId, String valueType, String scope) {
+		return jdbcTemplate.queryForList(
+			"SELECT version_no FROM latest_report_versions WHERE company_report_id = ? AND value_type = ? AND version_scope = ?",
+			Integer.class,
+			companyReportId,
+			valueType,
+			scope
+		);
+	}
 }
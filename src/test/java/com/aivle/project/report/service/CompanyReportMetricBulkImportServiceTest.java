@@ -0,0 +1,249 @@
+package com.aivle.project.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.common.config.TestSecurityConfig;
+import com.aivle.project.quarter.entity.QuartersEntity;
+import com.aivle.project.quarter.repository.QuartersRepository;
+import com.aivle.project.report.dto.CompanyMetricValueCommand;
+import com.aivle.project.report.dto.ReportImportResult;
+import com.aivle.project.report.entity.CompanyReportVersionsEntity;
+import com.aivle.project.report.entity.CompanyReportsEntity;
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.repository.CompanyReportVersionsRepository;
+import com.aivle.project.report.repository.CompanyReportsRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+@Transactional
+@RecordApplicationEvents
+class CompanyReportMetricBulkImportServiceTest {
+
+	@Autowired
+	private CompanyReportMetricBulkImportService companyReportMetricBulkImportService;
+
+	@Autowired
+	private CompaniesRepository companiesRepository;
+
+	@Autowired
+	private QuartersRepository quartersRepository;
+
+	@Autowired
+	private CompanyReportsRepository companyReportsRepository;
+
+	@Autowired
+	private CompanyReportVersionsRepository companyReportVersionsRepository;
+
+	@Autowired
+	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Test
+	@DisplayName("JDBC 배치로 분기 보고서 버전과 지표 값을 생성한다")
+	void importMetrics_createsReportVersionAndValues() {
+		// given
+		CompaniesEntity company = companiesRepository.save(CompaniesEntity.create(
+			"00000001",
+			"테스트기업",
+			"TEST_CO",
+			"000020",
+			LocalDate.of(2025, 1, 1)
+		));
+		List<CompanyMetricValueCommand> commands = List.of(
+			new CompanyMetricValueCommand("20", "ROA", 0, new BigDecimal("1.23"), 2, 3, "ROA_현재"),
+			new CompanyMetricValueCommand("000020", "ROE", -1, new BigDecimal("2.34"), 2, 7, "ROE_분기-1")
+		);
+
+		// when
+		ReportImportResult result = companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// then
+		assertThat(result.savedValues()).isEqualTo(2);
+		QuartersEntity baseQuarter = quartersRepository.findByQuarterKey(20253).orElseThrow();
+		QuartersEntity previousQuarter = quartersRepository.findByQuarterKey(20252).orElseThrow();
+		CompanyReportsEntity report = companyReportsRepository.findByCompanyIdAndQuarterId(
+			company.getId(),
+			baseQuarter.getId()
+		).orElseThrow();
+		CompanyReportsEntity previousQuarterReport = companyReportsRepository.findByCompanyIdAndQuarterId(
+			company.getId(),
+			previousQuarter.getId()
+		).orElseThrow();
+		CompanyReportVersionsEntity version = companyReportVersionsRepository
+			.findTopByCompanyReportOrderByVersionNoDesc(report)
+			.orElseThrow();
+		CompanyReportVersionsEntity previousQuarterVersion = companyReportVersionsRepository
+			.findTopByCompanyReportOrderByVersionNoDesc(previousQuarterReport)
+			.orElseThrow();
+
+		assertThat(version.getVersionNo()).isEqualTo(1);
+		assertThat(previousQuarterVersion.getVersionNo()).isEqualTo(1);
+		assertThat(companyReportsRepository.count()).isEqualTo(2);
+		assertThat(companyReportMetricValuesRepository.count()).isEqualTo(2);
+		assertThat(findLatestActualVersionNo(report.getId())).isEqualTo(1);
+		assertThat(findLatestActualVersionNo(previousQuarterReport.getId())).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("ACTUAL 값이 채워진 버전이 있으면 다음 번호로 새 버전을 만든다")
+	void importMetrics_issuesNextVersionWhenFilled() {
+		// given
+		companiesRepository.save(CompaniesEntity.create(
+			"00000004",
+			"네번째기업",
+			"FOURTH_CO",
+			"000050",
+			LocalDate.of(2025, 1, 1)
+		));
+		List<CompanyMetricValueCommand> commands = List.of(
+			new CompanyMetricValueCommand("000050", "ROA", 0, new BigDecimal("1.00"), 2, 3, "ROA_현재"),
+			new CompanyMetricValueCommand("000050", "ROA", 0, new BigDecimal("9.99"), 2, 4, "ROA_현재")
+		);
+		companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// when
+		ReportImportResult result = companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// then
+		assertThat(result.savedValues()).isEqualTo(1);
+		assertThat(companyReportVersionsRepository.count()).isEqualTo(2);
+		assertThat(companyReportMetricValuesRepository.count()).isEqualTo(2);
+		assertThat(companyReportMetricValuesRepository.findAll())
+			.allMatch(value -> value.getMetricValue().compareTo(new BigDecimal("1.00")) == 0);
+	}
+
+	@Test
+	@DisplayName("기업 또는 지표가 없으면 스킵하고 유효 값만 저장한다")
+	void importMetrics_skipsMissingCompanyAndMetric() {
+		// given
+		companiesRepository.save(CompaniesEntity.create(
+			"00000002",
+			"다른기업",
+			"ANOTHER_CO",
+			"000030",
+			LocalDate.of(2025, 1, 1)
+		));
+		List<CompanyMetricValueCommand> commands = List.of(
+			new CompanyMetricValueCommand("000030", "ROA", 0, new BigDecimal("3.21"), 2, 3, "ROA_현재"),
+			new CompanyMetricValueCommand("000030", "UNKNOWN_METRIC", 0, new BigDecimal("4.56"), 2, 4, "UNK_현재"),
+			new CompanyMetricValueCommand("999999", "ROA", 0, new BigDecimal("7.89"), 3, 3, "ROA_현재")
+		);
+
+		// when
+		ReportImportResult result = companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// then
+		assertThat(result.savedValues()).isEqualTo(1);
+		assertThat(result.skippedCompanies()).isEqualTo(1);
+		assertThat(result.skippedMetrics()).isEqualTo(1);
+		assertThat(companyReportMetricValuesRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("미발행 버전에 ACTUAL 값이 없으면 기존 버전에 적재한다")
+	void importMetrics_reusesUnpublishedVersion() {
+		// given
+		CompaniesEntity company = companiesRepository.save(CompaniesEntity.create(
+			"00000003",
+			"세번째기업",
+			"THIRD_CO",
+			"000040",
+			LocalDate.of(2025, 1, 1)
+		));
+		QuartersEntity quarter = quartersRepository.save(QuartersEntity.create(
+			2025,
+			3,
+			20253,
+			com.aivle.project.quarter.support.QuarterCalculator.startDate(
+				com.aivle.project.quarter.support.QuarterCalculator.parseQuarterKey(20253)),
+			com.aivle.project.quarter.support.QuarterCalculator.endDate(
+				com.aivle.project.quarter.support.QuarterCalculator.parseQuarterKey(20253))
+		));
+		CompanyReportsEntity report = companyReportsRepository.save(CompanyReportsEntity.create(company, quarter, null));
+		CompanyReportVersionsEntity existingVersion = companyReportVersionsRepository.save(CompanyReportVersionsEntity.create(
+			report,
+			1,
+			LocalDateTime.now(),
+			false,
+			null
+		));
+		List<CompanyMetricValueCommand> commands = List.of(
+			new CompanyMetricValueCommand("000040", "ROA", 0, new BigDecimal("1.23"), 2, 3, "ROA_현재")
+		);
+
+		// when
+		ReportImportResult result = companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// then
+		assertThat(result.savedValues()).isEqualTo(1);
+		assertThat(companyReportVersionsRepository.count()).isEqualTo(1);
+		assertThat(companyReportMetricValuesRepository.findAll().get(0).getReportVersion().getId())
+			.isEqualTo(existingVersion.getId());
+	}
+
+	@Test
+	@DisplayName("빈 값만 적재된 기업은 실적 변경 이벤트 대상에서 뺀다")
+	void importMetrics_excludesNullOnlyCompaniesFromChangeEvent() {
+		// given
+		CompaniesEntity filled = companiesRepository.save(CompaniesEntity.create(
+			"00000004",
+			"값있는기업",
+			"FILLED_CO",
+			"000050",
+			LocalDate.of(2025, 1, 1)
+		));
+		companiesRepository.save(CompaniesEntity.create(
+			"00000005",
+			"빈값기업",
+			"EMPTY_CO",
+			"000060",
+			LocalDate.of(2025, 1, 1)
+		));
+		List<CompanyMetricValueCommand> commands = List.of(
+			new CompanyMetricValueCommand("000050", "ROA", 0, new BigDecimal("1.23"), 2, 3, "ROA_현재"),
+			new CompanyMetricValueCommand("000060", "ROA", 0, null, 3, 3, "ROA_현재")
+		);
+
+		// when
+		companyReportMetricBulkImportService.importMetrics(20253, commands);
+
+		// then
+		assertThat(applicationEvents.stream(ActualMetricsChangedEvent.class))
+			.singleElement()
+			.satisfies(event -> {
+				assertThat(event.companyIds()).containsExactly(filled.getId());
+				assertThat(event.stockCodes()).containsExactly("000050");
+			});
+	}
+
+	private Integer findLatestActualVersionNo(Long companyReportId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT version_no FROM latest_report_versions WHERE company_report_id = ? AND value_type = 'ACTUAL' AND version_scope = 'ALL'",
+			Integer.class,
+			companyReportId
+		);
+	}
+}
@@ -0,0 +1,136 @@
+package com.aivle.project.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.aivle.project.report.event.ActualMetricsChangedEvent;
+import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LatestActualQuarterCacheTest {
+
+	@Mock
+	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+
+	@Mock
+	private Clock clock;
+
+	private SimpleMeterRegistry meterRegistry;
+	private LatestActualQuarterCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new LatestActualQuarterCache(
+			companyReportMetricValuesRepository,
+			meterRegistry,
+			true,
+			3,
+			Duration.ofMinutes(10),
+			clock
+		);
+	}
+
+	@Test
+	@DisplayName("같은 종목 코드 재조회 시 저장소를 다시 호출하지 않고 hit 로 집계한다")
+	void findByStockCode_cachesResult() {
+		// given
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+			.thenReturn(Optional.of(20253));
+
+		// when
+		Optional<Integer> first = cache.findMaxActualQuarterKeyByStockCode("000020");
+		Optional<Integer> second = cache.findMaxActualQuarterKeyByStockCode("000020");
+
+		// then
+		assertThat(first).contains(20253);
+		assertThat(second).contains(20253);
+		verify(companyReportMetricValuesRepository, times(1)).findMaxActualQuarterKeyByStockCode("000020");
+		assertThat(countOf("hit")).isEqualTo(1.0);
+		assertThat(countOf("miss")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("실적 적재 이벤트를 받으면 해당 기업 항목만 무효화한다")
+	void onActualMetricsChanged_evictsMatchingEntries() {
+		// given
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+			.thenReturn(Optional.of(20253), Optional.of(20254));
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByCompanyId(10L))
+			.thenReturn(Optional.of(20253), Optional.of(20254));
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCodes(List.of("000020", "000030")))
+			.thenReturn(Optional.of(20253), Optional.of(20254));
+		cache.findMaxActualQuarterKeyByStockCode("000020");
+		cache.findMaxActualQuarterKeyByCompanyId(10L);
+		cache.findMaxActualQuarterKeyByStockCodes(List.of("000030", "000020"));
+
+		// when
+		cache.onActualMetricsChanged(new ActualMetricsChangedEvent(Set.of(10L), Set.of("000020")));
+
+		// then
+		assertThat(cache.findMaxActualQuarterKeyByStockCode("000020")).contains(20254);
+		assertThat(cache.findMaxActualQuarterKeyByCompanyId(10L)).contains(20254);
+		assertThat(cache.findMaxActualQuarterKeyByStockCodes(List.of("000020", "000030"))).contains(20254);
+	}
+
+	@Test
+	@DisplayName("TTL 이 지나면 저장소에서 다시 조회한다")
+	void findByStockCode_reloadsAfterTtl() {
+		// given
+		when(clock.millis()).thenReturn(0L, Duration.ofMinutes(11).toMillis());
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+			.thenReturn(Optional.empty(), Optional.of(20253));
+
+		// when
+		Optional<Integer> first = cache.findMaxActualQuarterKeyByStockCode("000020");
+		Optional<Integer> second = cache.findMaxActualQuarterKeyByStockCode("000020");
+
+		// then
+		assertThat(first).isEmpty();
+		assertThat(second).contains(20253);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목을 제거한다")
+	void lookup_evictsEldestWhenFull() {
+		// given
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+			.thenReturn(Optional.of(20253));
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000030"))
+			.thenReturn(Optional.of(20253));
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000040"))
+			.thenReturn(Optional.of(20253));
+		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000050"))
+			.thenReturn(Optional.of(20253));
+
+		// when
+		cache.findMaxActualQuarterKeyByStockCode("000020");
+		cache.findMaxActualQuarterKeyByStockCode("000030");
+		cache.findMaxActualQuarterKeyByStockCode("000040");
+		cache.findMaxActualQuarterKeyByStockCode("000050");
+		cache.findMaxActualQuarterKeyByStockCode("000020");
+
+		// then
+		assertThat(cache.size()).isEqualTo(3);
+		verify(companyReportMetricValuesRepository, times(2)).findMaxActualQuarterKeyByStockCode("000020");
+		assertThat(meterRegistry.get("cache.evictions").counter().count()).isEqualTo(2.0);
+	}
+
+	private double countOf(String result) {
+		return meterRegistry.get("cache.gets").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,127 @@
+package com.aivle.project.report.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.aivle.project.company.entity.CompaniesEntity;
+import com.aivle.project.company.repository.CompaniesRepository;
+import com.aivle.project.report.importer.ExcelMetricParser;
+import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.repository.CompanyReportVersionsRepository;
+import com.aivle.project.report.repository.CompanyReportsRepository;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportMetricExcelImportServiceTest {
+
+	@Autowired
+	private ReportMetricExcelImportService reportMetricExcelImportService;
+
+	@Autowired
+	private CompaniesRepository companiesRepository;
+
+	@Autowired
+	private CompanyReportsRepository companyReportsRepository;
+
+	@Autowired
+	private CompanyReportVersionsRepository companyReportVersionsRepository;
+
+	@Autowired
+	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+
+	@SpyBean
+	private CompanyReportMetricImportService companyReportMetricImportService;
+
+	@SpyBean
+	private LatestActualQuarterCache latestActualQuarterCache;
+
+	private CompaniesEntity company;
+
+	@AfterEach
+	void tearDown() {
+		if (company != null) {
+			companiesRepository.delete(company);
+		}
+	}
+
+	@Test
+	@DisplayName("두 번째 청크가 실패하면 첫 청크 적재도 롤백되고 실적 변경 이벤트는 처리되지 않는다")
+	void importExcel_rollsBackEarlierChunksWhenLaterChunkFails() throws Exception {
+		// given
+		company = companiesRepository.save(CompaniesEntity.create(
+			"00000002",
+			"청크실패기업",
+			"CHUNK_FAIL_CO",
+			"000021",
+			LocalDate.of(2025, 1, 1)
+		));
+		long reportsBefore = companyReportsRepository.count();
+		long versionsBefore = companyReportVersionsRepository.count();
+		long valuesBefore = companyReportMetricValuesRepository.count();
+		doCallRealMethod()
+			.doThrow(new IllegalArgumentException("두 번째 청크 실패"))
+			.when(companyReportMetricImportService).importMetrics(anyInt(), anyList());
+
+		MockMultipartFile file = new MockMultipartFile(
+			"file",
+			"metrics.xlsx",
+			MediaType.APPLICATION_OCTET_STREAM_VALUE,
+			buildExcel(ExcelMetricParser.DEFAULT_CHUNK_ROWS + 1)
+		);
+
+		// when & then
+		assertThatThrownBy(() -> reportMetricExcelImportService.importExcel(20253, file, false))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("두 번째 청크 실패");
+		verify(companyReportMetricImportService, times(2)).importMetrics(anyInt(), anyList());
+		verify(latestActualQuarterCache, never()).onActualMetricsChanged(any());
+		assertThat(companyReportsRepository.count()).isEqualTo(reportsBefore);
+		assertThat(companyReportVersionsRepository.count()).isEqualTo(versionsBefore);
+		assertThat(companyReportMetricValuesRepository.count()).isEqualTo(valuesBefore);
+	}
+
+	/**
+	 * 첫 행만 등록된 기업이고 나머지는 미등록 기업 코드로 채워 청크 경계를 넘긴다.
+	 */
+	private byte[] buildExcel(int rows) throws Exception {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			Sheet sheet = workbook.createSheet("in");
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("기업코드");
+			header.createCell(1).setCellValue("ROA_현재");
+
+			for (int i = 1; i <= rows; i++) {
+				Row row = sheet.createRow(i);
+				row.createCell(0).setCellValue(i == 1 ? "21" : String.valueOf(900000 + i));
+				row.createCell(1).setCellValue(1.23);
+			}
+
+			try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+				workbook.write(outputStream);
+				return outputStream.toByteArray();
+			}
+		}
+	}
+}
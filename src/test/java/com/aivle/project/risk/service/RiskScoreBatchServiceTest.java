@@ -18,6 +18,7 @@ import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.risk.entity.RiskScoreSummaryEntity;
 import com.aivle.project.risk.entity.RiskLevel;
+import com.aivle.project.risk.repository.RiskScoreSummaryJdbcRepository;
 import com.aivle.project.risk.repository.RiskScoreSummaryRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,7 +34,12 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, RiskScoreCalculationService.class, RiskScoreBatchService.class})
+@Import({
+	QuerydslConfig.class,
+	RiskScoreCalculationService.class,
+	RiskScoreSummaryJdbcRepository.class,
+	RiskScoreBatchService.class
+})
 class RiskScoreBatchServiceTest {
 
 	@Autowired
@@ -17,8 +17,10 @@ import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
 import com.aivle.project.risk.dto.RiskAggregationResult;
+import com.aivle.project.risk.dto.RiskScoreBatchTargetProjection;
 import com.aivle.project.risk.entity.RiskLevel;
 import com.aivle.project.risk.entity.RiskScoreSummaryEntity;
+import com.aivle.project.risk.repository.RiskScoreSummaryJdbcRepository;
 import com.aivle.project.risk.repository.RiskScoreSummaryRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,7 +35,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, RiskScoreCalculationService.class})
+@Import({QuerydslConfig.class, RiskScoreCalculationService.class, RiskScoreSummaryJdbcRepository.class})
 class RiskScoreCalculationServiceTest {
 
 	@Autowired
@@ -146,4 +148,77 @@ class RiskScoreCalculationServiceTest {
 		assertThat(result.riskScore()).isNull();
 		assertThat(result.riskLevel()).isEqualTo(RiskLevel.UNDEFINED);
 	}
+
+	@Test
+	@DisplayName("여러 대상을 한 번에 계산하고 기존 요약은 갱신한다")
+	void calculateAndUpsertAll_shouldUpsertPerVersion() {
+		// given
+		QuartersEntity quarter = quartersRepository.save(QuartersEntity.create(
+			2025, 3, 20253, LocalDate.of(2025, 7, 1), LocalDate.of(2025, 9, 30)
+		));
+		MetricsEntity roa = metricsRepository.findByMetricCode("ROA").orElseThrow();
+		MetricsEntity opMargin = metricsRepository.findByMetricCode("OpMargin").orElseThrow();
+		jdbcTemplate.update("UPDATE metrics SET is_risk_indicator = 1 WHERE id IN (?, ?)", roa.getId(), opMargin.getId());
+
+		CompaniesEntity cautionCompany = companiesRepository.save(CompaniesEntity.create(
+			"00000013", "주의기업", "CAUTION", "333333", LocalDate.of(2025, 1, 1)
+		));
+		CompanyReportVersionsEntity cautionVersion = createVersion(cautionCompany, quarter);
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			cautionVersion, roa, quarter, new BigDecimal("30"), MetricValueType.ACTUAL
+		));
+		companyReportMetricValuesRepository.save(CompanyReportMetricValuesEntity.create(
+			cautionVersion, opMargin, quarter, new BigDecimal("50"), MetricValueType.ACTUAL
+		));
+
+		CompaniesEntity emptyCompany = companiesRepository.save(CompaniesEntity.create(
+			"00000014", "미집계기업", "EMPTY", "444444", LocalDate.of(2025, 1, 1)
+		));
+		CompanyReportVersionsEntity emptyVersion = createVersion(emptyCompany, quarter);
+		// 이미 요약이 있는 대상은 새 행을 만들지 않고 갱신돼야 한다.
+		riskScoreCalculationService.calculateAndUpsert(cautionCompany.getId(), quarter.getId(), cautionVersion.getId());
+
+		// when
+		List<RiskAggregationResult> results = riskScoreCalculationService.calculateAndUpsertAll(List.of(
+			new Target(cautionCompany.getId(), quarter.getId(), cautionVersion.getId()),
+			new Target(emptyCompany.getId(), quarter.getId(), emptyVersion.getId())
+		));
+
+		// then
+		assertThat(results)
+			.extracting(RiskAggregationResult::riskLevel)
+			.containsExactly(RiskLevel.CAUTION, RiskLevel.UNDEFINED);
+		assertThat(results.get(0).riskMetricsAvg()).isEqualByComparingTo("40.00");
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM risk_score_summaries WHERE quarter_id = ?", Integer.class, quarter.getId()
+		)).isEqualTo(2);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT risk_level FROM risk_score_summaries WHERE report_version_id = ?", String.class, emptyVersion.getId()
+		)).isEqualTo("UNDEFINED");
+	}
+
+	private CompanyReportVersionsEntity createVersion(CompaniesEntity company, QuartersEntity quarter) {
+		CompanyReportsEntity report = companyReportsRepository.save(CompanyReportsEntity.create(company, quarter, null));
+		return companyReportVersionsRepository.save(
+			CompanyReportVersionsEntity.create(report, 1, LocalDateTime.now(), false, null)
+		);
+	}
+
+	private record Target(Long companyId, Long quarterId, Long reportVersionId) implements RiskScoreBatchTargetProjection {
+
+		@Override
+		public Long getCompanyId() {
+			return companyId;
+		}
+
+		@Override
+		public Long getQuarterId() {
+			return quarterId;
+		}
+
+		@Override
+		public Long getReportVersionId() {
+			return reportVersionId;
+		}
+	}
 }
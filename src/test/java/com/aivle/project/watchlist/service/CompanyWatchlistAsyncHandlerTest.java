@@ -15,7 +15,8 @@ import com.aivle.project.company.service.CompanyPredictionCacheService;
 import com.aivle.project.company.service.CompanyReputationScoreService;
 import com.aivle.project.company.service.CompanySignalCacheService;
 import com.aivle.project.common.error.ExternalAiUnavailableException;
-import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
+import com.aivle.project.watchlist.config.WatchlistWarmupProperties;
 import com.aivle.project.watchlist.event.CompanyWatchlistCreatedEvent;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +35,7 @@ class CompanyWatchlistAsyncHandlerTest {
 	private CompaniesRepository companiesRepository;
 
 	@Mock
-	private CompanyReportMetricValuesRepository companyReportMetricValuesRepository;
+	private LatestActualQuarterCache latestActualQuarterCache;
 
 	@Mock
 	private CompanyHealthScoreCacheService companyHealthScoreCacheService;
@@ -53,6 +55,10 @@ class CompanyWatchlistAsyncHandlerTest {
 	@Mock
 	private AiJobDispatchService aiJobDispatchService;
 
+	@Spy
+	private WatchlistWarmupStageRunner warmupStageRunner =
+		new WatchlistWarmupStageRunner(Runnable::run, new WatchlistWarmupProperties(), null);
+
 	@InjectMocks
 	private CompanyWatchlistAsyncHandler companyWatchlistAsyncHandler;
 
@@ -69,7 +75,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000020"))
+		when(latestActualQuarterCache.findMaxActualQuarterKeyByStockCode("000020"))
 			.thenReturn(Optional.of(20253));
 
 		// when
@@ -96,7 +102,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000030"))
+		when(latestActualQuarterCache.findMaxActualQuarterKeyByStockCode("000030"))
 			.thenReturn(Optional.empty());
 
 		// when
@@ -123,7 +129,7 @@ class CompanyWatchlistAsyncHandlerTest {
 			LocalDate.of(2025, 1, 1)
 		);
 		when(companiesRepository.findById(companyId)).thenReturn(Optional.of(company));
-		when(companyReportMetricValuesRepository.findMaxActualQuarterKeyByStockCode("000040"))
+		when(latestActualQuarterCache.findMaxActualQuarterKeyByStockCode("000040"))
 			.thenReturn(Optional.of(20254));
 		doThrow(new ExternalAiUnavailableException("AI Server connection failed", "AI_TIMEOUT", new RuntimeException("timeout")))
 			.when(companyHealthScoreCacheService).ensureHealthScoreCached(companyId, 20254);
@@ -20,6 +20,7 @@ import com.aivle.project.report.entity.CompanyReportsEntity;
 import com.aivle.project.report.repository.CompanyReportMetricValuesRepository;
 import com.aivle.project.report.repository.CompanyReportVersionsRepository;
 import com.aivle.project.report.repository.CompanyReportsRepository;
+import com.aivle.project.report.service.LatestActualQuarterCache;
 import com.aivle.project.risk.entity.RiskLevel;
 import com.aivle.project.risk.entity.RiskScoreSummaryEntity;
 import com.aivle.project.risk.repository.RiskScoreSummaryRepository;
@@ -48,7 +49,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({QuerydslConfig.class, CompanyWatchlistService.class})
+@Import({QuerydslConfig.class, CompanyWatchlistService.class, LatestActualQuarterCache.class})
 class CompanyWatchlistServiceTest {
 	@Autowired CompanyWatchlistService service;
 	@Autowired UserRepository userRepository;
@@ -0,0 +1,150 @@
+package com.aivle.project.watchlist.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.aivle.project.watchlist.config.WatchlistWarmupProperties;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.Stage;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.StageOutcome;
+import com.aivle.project.watchlist.service.WatchlistWarmupStageRunner.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WatchlistWarmupStageRunnerTest {
+
+	private ExecutorService executor;
+	private WatchlistWarmupProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private WatchlistWarmupStageRunner runner;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(4);
+		properties = new WatchlistWarmupProperties();
+		properties.setDeadline(Duration.ofSeconds(5));
+		properties.setDefaultStageTimeout(Duration.ofSeconds(2));
+		meterRegistry = new SimpleMeterRegistry();
+		runner = new WatchlistWarmupStageRunner(executor, properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("독립 단계는 동시에 실행되어 전체 시간이 가장 느린 단계 수준으로 끝난다")
+	void run_executesStagesConcurrently() {
+		// given
+		List<Stage> stages = List.of(
+			Stage.of("health-score", () -> sleep(300)),
+			Stage.of("prediction", () -> sleep(300)),
+			Stage.of("signals", () -> sleep(300))
+		);
+
+		// when
+		long startedAt = System.nanoTime();
+		List<StageOutcome> outcomes = runner.run(stages);
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+		// then
+		assertThat(outcomes).extracting(StageOutcome::status).containsOnly(Status.SUCCEEDED);
+		assertThat(elapsedMs).isLessThan(800);
+		assertThat(meterRegistry.get("watchlist.warmup.stage").tag("stage", "prediction").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("단계별 제한 시간을 넘긴 단계만 TIMED_OUT 으로 처리한다")
+	void run_appliesStageTimeout() {
+		// given
+		properties.setStageTimeouts(Map.of("signals", Duration.ofMillis(100)));
+		List<Stage> stages = List.of(
+			Stage.of("prediction", () -> sleep(50)),
+			Stage.of("signals", () -> sleep(1_000))
+		);
+
+		// when
+		List<StageOutcome> outcomes = runner.run(stages);
+
+		// then
+		assertThat(outcomes).extracting(StageOutcome::name, StageOutcome::status)
+			.containsExactly(
+				org.assertj.core.groups.Tuple.tuple("prediction", Status.SUCCEEDED),
+				org.assertj.core.groups.Tuple.tuple("signals", Status.TIMED_OUT)
+			);
+	}
+
+	@Test
+	@DisplayName("제한 시간을 넘긴 단계는 지연 시간을 한 번만 기록하고 실행 스레드를 인터럽트한다")
+	void run_recordsTimedOutStageOnceAndInterruptsIt() throws Exception {
+		// given
+		properties.setStageTimeouts(Map.of("signals", Duration.ofMillis(100)));
+		CountDownLatch interrupted = new CountDownLatch(1);
+		List<Stage> stages = List.of(
+			Stage.of("signals", () -> {
+				try {
+					Thread.sleep(1_000);
+				} catch (InterruptedException ex) {
+					interrupted.countDown();
+					Thread.currentThread().interrupt();
+				}
+			})
+		);
+
+		// when
+		List<StageOutcome> outcomes = runner.run(stages);
+
+		// then
+		assertThat(outcomes.get(0).status()).isEqualTo(Status.TIMED_OUT);
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(50);
+		assertThat(meterRegistry.find("watchlist.warmup.stage").tag("stage", "signals").timers())
+			.hasSize(1)
+			.allSatisfy(timer -> assertThat(timer.count()).isEqualTo(1));
+		assertThat(meterRegistry.get("watchlist.warmup.stage").tag("stage", "signals").tag("outcome", "timed_out")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("한 단계의 실패는 다른 단계 실행에 영향을 주지 않고 순차 작업의 뒤 단계는 건너뛴다")
+	void run_isolatesStageFailure() {
+		// given
+		StringBuilder executed = new StringBuilder();
+		List<Stage> stages = List.of(
+			Stage.of(
+				"health-score",
+				() -> {
+					throw new IllegalStateException("boom");
+				},
+				() -> executed.append("reputation")
+			),
+			Stage.of("prediction", () -> executed.append("prediction"))
+		);
+
+		// when
+		List<StageOutcome> outcomes = runner.run(stages);
+
+		// then
+		assertThat(outcomes.get(0).status()).isEqualTo(Status.FAILED);
+		assertThat(outcomes.get(0).error()).isInstanceOf(IllegalStateException.class);
+		assertThat(outcomes.get(1).status()).isEqualTo(Status.SUCCEEDED);
+		assertThat(executed.toString()).isEqualTo("prediction");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}